@@ -80,4 +80,33 @@ class RealmObjectReadBenchmarks {
             val value = readObject.columnDouble
         }
     }
+
+    @Test
+    fun readLongInReadScope() {
+        realm.executeInReadScope {
+            benchmarkRule.measureRepeated {
+                val value = readObject.columnLong
+            }
+        }
+    }
+
+    @Test
+    fun readAllFields() {
+        benchmarkRule.measureRepeated {
+            val string = readObject.columnString
+            val long = readObject.columnLong
+            val double = readObject.columnDouble
+        }
+    }
+
+    @Test
+    fun readAllFieldsInReadScope() {
+        realm.executeInReadScope {
+            benchmarkRule.measureRepeated {
+                val string = readObject.columnString
+                val long = readObject.columnLong
+                val double = readObject.columnDouble
+            }
+        }
+    }
 }
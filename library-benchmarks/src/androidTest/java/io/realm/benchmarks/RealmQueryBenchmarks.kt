@@ -88,4 +88,33 @@ class RealmQueryBenchmarks {
         }
     }
 
+    // Selects the first object with a bounded heap, compare with findAllSortedFirst() which sorts all objects.
+    @Test
+    fun findFirstSorted() {
+        benchmarkRule.measureRepeated {
+            val obj = realm.where(AllTypes::class.java).sort(AllTypes.FIELD_LONG, Sort.DESCENDING).findFirst()
+        }
+    }
+
+    @Test
+    fun findAllSortedFirst() {
+        benchmarkRule.measureRepeated {
+            val obj = realm.where(AllTypes::class.java).sort(AllTypes.FIELD_LONG, Sort.DESCENDING).findAll().first()
+        }
+    }
+
+    @Test
+    fun findFirstSortedWithLimit() {
+        benchmarkRule.measureRepeated {
+            val obj = realm.where(AllTypes::class.java).sort(AllTypes.FIELD_LONG, Sort.DESCENDING).limit(20).findFirst()
+        }
+    }
+
+    @Test
+    fun findAllSortedWithLimit() {
+        benchmarkRule.measureRepeated {
+            val size = realm.where(AllTypes::class.java).sort(AllTypes.FIELD_LONG, Sort.DESCENDING).limit(20).findAll().size
+        }
+    }
+
 }
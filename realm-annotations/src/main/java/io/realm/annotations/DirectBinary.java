@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation marks a {@code byte[]} field as holding large binary values that should also be accessible without
+ * copying them. Besides the regular accessors, the generated proxy class gets a {@code realmGetBuffer$<field>()}
+ * method returning a {@code io.realm.RealmBinaryBuffer} over the value stored in the Realm, and a
+ * {@code realmSetBuffer$<field>(ByteBuffer)} method writing the remaining bytes of a buffer. The same operations are
+ * available for any binary field through {@code RealmObject.getBinaryBuffer(RealmModel, String)} and
+ * {@code RealmObject.setBinaryBuffer(RealmModel, String, ByteBuffer)}.
+ * <p>
+ * A value read this way points directly into the Realm file and is only valid as long as the version of the Realm it
+ * was read from. {@code RealmBinaryBuffer} checks that version on every access and throws once the Realm was
+ * refreshed, written to or closed.
+ * <p>
+ * NOTICE: Only {@code byte[]} fields can be annotated with {@link DirectBinary}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface DirectBinary {
+
+}
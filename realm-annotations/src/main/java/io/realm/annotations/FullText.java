@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation will add a full-text index to a String field. Text written to the field is split into words and
+ * an inverted index from each word to the objects containing it is maintained, so queries using
+ * {@code RealmQuery.textMatches(String, String)} can find objects containing given words without scanning every
+ * object. Like a search index, a full-text index makes the Realm file larger and inserts slower.
+ * <p>
+ * NOTICE: Only String fields can have a full-text index, and it cannot be combined with {@link Index} or
+ * {@link PrimaryKey}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface FullText {
+
+}
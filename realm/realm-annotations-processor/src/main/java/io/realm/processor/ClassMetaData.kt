@@ -35,6 +35,8 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
     val simpleJavaClassName = SimpleClassName(classType.simpleName) // Model class simple name as defined in Java.
     val fields = ArrayList<RealmFieldElement>() // List of all fields in the class except those @Ignored.
     private val indexedFields = ArrayList<RealmFieldElement>() // list of all fields marked @Index.
+    private val fullTextIndexedFields = ArrayList<RealmFieldElement>() // list of all fields marked @FullText.
+    private val directBinaryFields = ArrayList<RealmFieldElement>() // list of all fields marked @DirectBinary.
     private val _objectReferenceFields = ArrayList<RealmFieldElement>() // List of all fields that reference a Realm Object either directly or in a List
     private val basicTypeFields = ArrayList<RealmFieldElement>() // List of all fields that reference basic types, i.e. no references to other Realm Objects
     private val backlinks = LinkedHashSet<Backlink>()
@@ -209,6 +211,14 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
         return "realmSet$$fieldName"
     }
 
+    fun getInternalBufferGetter(fieldName: String): String {
+        return "realmGetBuffer$$fieldName"
+    }
+
+    fun getInternalBufferSetter(fieldName: String): String {
+        return "realmSetBuffer$$fieldName"
+    }
+
     fun hasPrimaryKey(): Boolean {
         return primaryKey != null
     }
@@ -271,6 +281,26 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
         return indexedFields.contains(variableElement)
     }
 
+    /**
+     * Checks if a VariableElement has a full-text index.
+     *
+     * @param variableElement the element/field
+     * @return `true` if a VariableElement is marked @FullText, `false` otherwise.
+     */
+    fun isFullTextIndexed(variableElement: VariableElement): Boolean {
+        return fullTextIndexedFields.contains(variableElement)
+    }
+
+    /**
+     * Checks if a VariableElement should get buffer accessors.
+     *
+     * @param variableElement the element/field
+     * @return `true` if a VariableElement is marked @DirectBinary, `false` otherwise.
+     */
+    fun isDirectBinary(variableElement: VariableElement): Boolean {
+        return directBinaryFields.contains(variableElement)
+    }
+
     /**
      * Checks if a VariableElement is a primary key.
      *
@@ -652,6 +682,20 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
             }
         }
 
+        if (field.getAnnotation(FullText::class.java) != null) {
+            if (!categorizeFullTextField(element, field)) {
+                return false
+            }
+        }
+
+        if (field.getAnnotation(DirectBinary::class.java) != null) {
+            if (!Utils.isByteArray(field)) {
+                Utils.error(String.format(Locale.US, "Field \"%s\" of type \"%s\" cannot be @DirectBinary. Only byte[] fields are supported.", element, element.asType()))
+                return false
+            }
+            directBinaryFields.add(field)
+        }
+
         // @Required annotation of RealmList and RealmDictionary field only affects its value type, not field itself.
         if (Utils.isRealmList(field)) {
             val hasRequiredAnnotation = hasRequiredAnnotation(field)
@@ -850,6 +894,21 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
         return false
     }
 
+    // The field has the @FullText annotation. It's only valid for STRING columns and cannot be combined with
+    // @Index or @PrimaryKey as a column only has a single index.
+    private fun categorizeFullTextField(element: Element, fieldElement: RealmFieldElement): Boolean {
+        if (Constants.JAVA_TO_REALM_TYPES[fieldElement.asType().toString()] != Constants.RealmFieldType.STRING) {
+            Utils.error(String.format(Locale.US, "Field \"%s\" of type \"%s\" cannot be @FullText. Only String fields are supported.", element, element.asType()))
+            return false
+        }
+        if (fieldElement.getAnnotation(Index::class.java) != null || fieldElement.getAnnotation(PrimaryKey::class.java) != null) {
+            Utils.error(String.format(Locale.US, "Field \"%s\" cannot be both @FullText and @Index or @PrimaryKey.", element))
+            return false
+        }
+        fullTextIndexedFields.add(fieldElement)
+        return true
+    }
+
     // The field has the @Required annotation
     // Returns `true` if the field could be correctly validated, `false` if an error was reported.
     private fun checkBasicRequiredAnnotationUsage(field: VariableElement): Boolean {
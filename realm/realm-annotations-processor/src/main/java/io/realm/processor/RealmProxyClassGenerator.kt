@@ -288,7 +288,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
             emitAnnotation("Override")
             emitAnnotation("SuppressWarnings", "\"cast\"")
             beginMethod(fieldTypeCanonicalName, metadata.getInternalGetter(fieldName), EnumSet.of(Modifier.PUBLIC))
-                emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+                emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
 
                 // For String and bytes[], null value will be returned by JNI code. Try to save one JNI call here.
                 if (metadata.isNullable(field) && !Utils.isString(field) && !Utils.isByteArray(field)) {
@@ -329,7 +329,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                     emitStatement("row.getTable().set%s(%s, row.getObjectKey(), value, true)", fieldJavaType, fieldColKeyVariableReference(field))
                     emitStatement("return")
                 }
-                emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+                emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
                 // Although setting null value for String and bytes[] can be handled by the JNI code, we still generate the same code here.
                 // Compared with getter, null value won't trigger more native calls in setter which is relatively cheaper.
                 if (metadata.isPrimaryKey(field)) {
@@ -352,6 +352,37 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
             endMethod()
             // Setter - End
         }
+
+        if (metadata.isDirectBinary(field)) {
+            emitBinaryBufferAccessors(writer, field, fieldName)
+        }
+    }
+
+    /**
+     * Emit Get/Set methods giving access to a @DirectBinary field without copying. The getter returns a
+     * RealmBinaryBuffer, which checks the version of the Realm every time its buffer is accessed.
+     */
+    @Throws(IOException::class)
+    private fun emitBinaryBufferAccessors(writer: JavaWriter, field: VariableElement, fieldName: String) {
+        writer.apply {
+            emitEmptyLine()
+            beginMethod("io.realm.RealmBinaryBuffer", metadata.getInternalBufferGetter(fieldName), EnumSet.of(Modifier.PUBLIC))
+                emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
+                emitStatement("java.nio.ByteBuffer buffer = proxyState.getRow\$realm().getBinaryBuffer(%s)", fieldColKeyVariableReference(field))
+                emitStatement("return (buffer == null) ? null : new io.realm.RealmBinaryBuffer(proxyState.getRealm\$realm(), buffer)")
+            endMethod()
+            emitEmptyLine()
+
+            beginMethod("void", metadata.getInternalBufferSetter(fieldName), EnumSet.of(Modifier.PUBLIC), "java.nio.ByteBuffer", "value")
+                emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
+                if (!metadata.isNullable(field)) {
+                    beginControlFlow("if (value == null)")
+                        emitStatement(Constants.STATEMENT_EXCEPTION_ILLEGAL_NULL_VALUE, fieldName)
+                    endControlFlow()
+                }
+                emitStatement("proxyState.getRow\$realm().setBinaryBuffer(%s, value)", fieldColKeyVariableReference(field))
+            endMethod()
+        }
     }
 
     /**
@@ -362,7 +393,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
         writer.apply {
             emitAnnotation("Override")
             beginMethod(fieldTypeCanonicalName, metadata.getInternalGetter(fieldName), EnumSet.of(Modifier.PUBLIC))
-            emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+            emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
             emitStatement("return this.%s", mutableRealmIntegerFieldName(field))
             endMethod()
         }
@@ -377,7 +408,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
             // Getter - Start
             emitAnnotation("Override")
             beginMethod(fieldTypeCanonicalName, metadata.getInternalGetter(fieldName), EnumSet.of(Modifier.PUBLIC))
-                emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+                emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
                 emitStatement("NativeRealmAny nativeRealmAny = proxyState.getRow\$realm().getNativeRealmAny(%s)", fieldColKeyVariableReference(field))
                 emitStatement("return new RealmAny(RealmAnyOperator.fromNativeRealmAny(proxyState.getRealm\$realm(), nativeRealmAny))")
             endMethod()
@@ -406,7 +437,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
 
             }
             emitEmptyLine()
-            emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+            emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
             emitEmptyLine()
             beginControlFlow("if (value == null)")
                 emitStatement("proxyState.getRow\$realm().setNull(%s)", fieldColKeyVariableReference(field))
@@ -431,7 +462,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
             // Getter - Start
             emitAnnotation("Override")
             beginMethod(fieldTypeCanonicalName, metadata.getInternalGetter(fieldName), EnumSet.of(Modifier.PUBLIC))
-                emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+                emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
                 beginControlFlow("if (proxyState.getRow\$realm().isNullLink(%s))", fieldColKeyVariableReference(field))
                     emitStatement("return null")
                 endControlFlow()
@@ -477,7 +508,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                     emitStatement("row.getTable().setLink(%s, row.getObjectKey(), ((RealmObjectProxy) value).realmGet\$proxyState().getRow\$realm().getObjectKey(), true)", fieldColKeyVariableReference(field))
                     emitStatement("return")
                 }
-                emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+                emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
                 beginControlFlow("if (value == null)")
                     emitStatement("proxyState.getRow\$realm().nullifyLink(%s)", fieldColKeyVariableReference(field))
                     emitStatement("return")
@@ -515,7 +546,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
             // Getter
             emitAnnotation("Override")
             beginMethod(fieldTypeCanonicalName, metadata.getInternalGetter(fieldName), EnumSet.of(Modifier.PUBLIC))
-                emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+                emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
                 emitSingleLineComment("use the cached value if available")
                 beginControlFlow("if (${fieldName}RealmDictionary != null)")
                     emitStatement("return ${fieldName}RealmDictionary")
@@ -586,7 +617,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                     }
                 }
 
-                emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+                emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
 
                 if (forRealmAny) {
                     emitStatement("OsMap osMap = proxyState.getRow\$realm().getRealmAnyMap(%s)", fieldColKeyVariableReference(field))
@@ -644,7 +675,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
             // Getter
             emitAnnotation("Override")
             beginMethod(fieldTypeCanonicalName, metadata.getInternalGetter(fieldName), EnumSet.of(Modifier.PUBLIC))
-                emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+                emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
                 emitSingleLineComment("use the cached value if available")
                 beginControlFlow("if (${fieldName}RealmSet != null)")
                     emitStatement("return ${fieldName}RealmSet")
@@ -703,7 +734,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 }
             }
 
-            emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+            emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
 
             when {
                 forRealmAny -> {
@@ -764,7 +795,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
             // Getter - Start
             emitAnnotation("Override")
             beginMethod(fieldTypeCanonicalName, metadata.getInternalGetter(fieldName), EnumSet.of(Modifier.PUBLIC))
-                emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+                emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
                 emitSingleLineComment("use the cached value if available")
                 beginControlFlow("if (${fieldName}RealmList != null)")
                     emitStatement("return ${fieldName}RealmList")
@@ -817,7 +848,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 // LinkView currently does not support default value feature. Just fallback to normal code.
             }
 
-            emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+            emitStatement("proxyState.getRealm\$realm().checkIfValidForAccessor()")
             if (Utils.isRealmModelList(field)) {
                 emitStatement("OsList osList = proxyState.getRow\$realm().getModelList(%s)", fieldColKeyVariableReference(field))
             } else {
@@ -1076,7 +1107,11 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                             val nullableFlag = (if (metadata.isNullable(field)) "!" else "") + "Property.REQUIRED"
                             val indexedFlag = (if (metadata.isIndexed(field)) "" else "!") + "Property.INDEXED"
                             val primaryKeyFlag = (if (metadata.isPrimaryKey(field)) "" else "!") + "Property.PRIMARY_KEY"
-                            emitStatement("builder.addPersistedProperty(%s, \"%s\", %s, %s, %s, %s)", publicFieldName, internalFieldName, fieldType.realmType, primaryKeyFlag, indexedFlag, nullableFlag)
+                            if (metadata.isFullTextIndexed(field)) {
+                                emitStatement("builder.addPersistedProperty(%s, \"%s\", %s, %s, %s, %s, Property.FULLTEXT_INDEXED)", publicFieldName, internalFieldName, fieldType.realmType, primaryKeyFlag, indexedFlag, nullableFlag)
+                            } else {
+                                emitStatement("builder.addPersistedProperty(%s, \"%s\", %s, %s, %s, %s)", publicFieldName, internalFieldName, fieldType.realmType, primaryKeyFlag, indexedFlag, nullableFlag)
+                            }
                         }
                         Constants.RealmFieldType.STRING_TO_BOOLEAN_MAP,
                         Constants.RealmFieldType.STRING_TO_STRING_MAP,
@@ -1409,7 +1444,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 "org.bson.types.ObjectId" -> {
                     emitStatement("org.bson.types.ObjectId %s = ((%s) object).%s()", getter, interfaceName, getter)
                     beginControlFlow("if (%s != null)", getter)
-                        emitStatement("Table.nativeSetObjectId(tableNativePtr, columnInfo.%sColKey, objKey, %s.toString(), false)", fieldName, getter)
+                        emitStatement("Table.nativeSetObjectId(tableNativePtr, columnInfo.%sColKey, objKey, %s.toByteArray(), false)", fieldName, getter)
                         if (isUpdate) {
                             nextControlFlow("else")
                             emitStatement("Table.nativeSetNull(tableNativePtr, columnInfo.%sColKey, objKey, false)", fieldName)
@@ -1419,7 +1454,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 "java.util.UUID" -> {
                     emitStatement("java.util.UUID %s = ((%s) object).%s()", getter, interfaceName, getter)
                     beginControlFlow("if (%s != null)", getter)
-                        emitStatement("Table.nativeSetUUID(tableNativePtr, columnInfo.%sColKey, objKey, %s.toString(), false)", fieldName, getter)
+                        emitStatement("Table.nativeSetUUID(tableNativePtr, columnInfo.%1\$sColKey, objKey, %2\$s.getMostSignificantBits(), %2\$s.getLeastSignificantBits(), false)", fieldName, getter)
                         if (isUpdate) {
                             nextControlFlow("else")
                             emitStatement("Table.nativeSetNull(tableNativePtr, columnInfo.%sColKey, objKey, false)", fieldName)
@@ -2109,7 +2144,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                         beginControlFlow("if (primaryKeyValue == null)")
                             emitStatement("objKey = Table.nativeFindFirstNull(tableNativePtr, pkColumnKey)")
                         nextControlFlow("else")
-                            emitStatement("objKey = Table.nativeFindFirstObjectId(tableNativePtr, pkColumnKey, primaryKeyValue.toString())")
+                            emitStatement("objKey = Table.nativeFindFirstObjectId(tableNativePtr, pkColumnKey, primaryKeyValue.toByteArray())")
                         endControlFlow()
                     } else if (Utils.isUUID(primaryKeyElement)) {
                         emitStatement("java.util.UUID primaryKeyValue = ((%s) object).%s()", interfaceName, primaryKeyGetter)
@@ -2117,7 +2152,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                         beginControlFlow("if (primaryKeyValue == null)")
                             emitStatement("objKey = Table.nativeFindFirstNull(tableNativePtr, pkColumnKey)")
                         nextControlFlow("else")
-                            emitStatement("objKey = Table.nativeFindFirstUUID(tableNativePtr, pkColumnKey, primaryKeyValue.toString())")
+                            emitStatement("objKey = Table.nativeFindFirstUUID(tableNativePtr, pkColumnKey, primaryKeyValue.getMostSignificantBits(), primaryKeyValue.getLeastSignificantBits())")
                         endControlFlow()
                     } else {
                         emitStatement("Object primaryKeyValue = ((%s) object).%s()", interfaceName, primaryKeyGetter)
@@ -2135,9 +2170,9 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                         if (Utils.isString(metadata.primaryKey)) {
                             emitStatement("objKey = Table.nativeFindFirstString(tableNativePtr, pkColumnKey, (String)primaryKeyValue)")
                         } else if (Utils.isObjectId(metadata.primaryKey)) {
-                            emitStatement("objKey = Table.nativeFindFirstObjectId(tableNativePtr, pkColumnKey, ((org.bson.types.ObjectId)primaryKeyValue).toString())")
+                            emitStatement("objKey = Table.nativeFindFirstObjectId(tableNativePtr, pkColumnKey, ((org.bson.types.ObjectId)primaryKeyValue).toByteArray())")
                         } else if (Utils.isUUID(metadata.primaryKey)) {
-                            emitStatement("objKey = Table.nativeFindFirstUUID(tableNativePtr, pkColumnKey, ((java.util.UUID)primaryKeyValue).toString())")
+                            emitStatement("objKey = Table.nativeFindFirstUUID(tableNativePtr, pkColumnKey, ((java.util.UUID)primaryKeyValue).getMostSignificantBits(), ((java.util.UUID)primaryKeyValue).getLeastSignificantBits())")
                         } else {
                             emitStatement("objKey = Table.nativeFindFirstInt(tableNativePtr, pkColumnKey, ((%s) object).%s())", interfaceName, primaryKeyGetter)
                         }
@@ -314,6 +314,46 @@ public class RealmProcessorTest {
         }
     }
 
+    // Supported "FullText" annotation types
+    @Test
+    public void compileFullTextTypes() throws IOException {
+        RealmSyntheticTestClass javaFileObject =
+                new RealmSyntheticTestClass.Builder().name("ValidFullTextType").field("testField", "String", "FullText").build();
+        assertAbout(javaSource())
+                .that(javaFileObject)
+                .processedWith(new RealmProcessor())
+                .compilesWithoutError();
+    }
+
+    // Unsupported "FullText" annotation types
+    @Test
+    public void compileInvalidFullTextTypes() throws IOException {
+        final String[] invalidFullTextFieldTypes = {"int", "long", "boolean", "byte[]", "java.util.Date", "Integer",
+                "org.bson.types.ObjectId", "java.util.UUID", "Simple", "RealmList<String>"};
+
+        for (String fieldType : invalidFullTextFieldTypes) {
+            RealmSyntheticTestClass javaFileObject =
+                    new RealmSyntheticTestClass.Builder().name("InvalidFullTextType").field("testField", fieldType, "FullText").build();
+            assertAbout(javaSource())
+                    .that(javaFileObject)
+                    .processedWith(new RealmProcessor())
+                    .failsToCompile();
+        }
+    }
+
+    // A field only has a single index, so "FullText" cannot be combined with "Index" or "PrimaryKey"
+    @Test
+    public void compileFullTextWithOtherIndex() throws IOException {
+        for (String otherAnnotation : new String[] {"Index", "PrimaryKey"}) {
+            RealmSyntheticTestClass.Builder builder = new RealmSyntheticTestClass.Builder().name("FullTextWithOtherIndex");
+            builder.field().name("testField").type("String").annotation("FullText").annotation(otherAnnotation);
+            assertAbout(javaSource())
+                    .that(builder.build())
+                    .processedWith(new RealmProcessor())
+                    .failsToCompile();
+        }
+    }
+
     // Supported "PrimaryKey" annotation types
     @Test
     public void compilePrimaryKeyTypes() throws IOException {
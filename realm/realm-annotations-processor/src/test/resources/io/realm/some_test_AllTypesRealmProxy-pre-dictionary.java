@@ -273,7 +273,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
     @Override
     @SuppressWarnings("cast")
     public String realmGet$columnString() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.lang.String) proxyState.getRow$realm().getString(columnInfo.columnStringColKey);
     }
 
@@ -284,14 +284,14 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         throw new io.realm.exceptions.RealmException("Primary key field 'columnString' cannot be changed after object was created.");
     }
 
     @Override
     @SuppressWarnings("cast")
     public long realmGet$columnLong() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (long) proxyState.getRow$realm().getLong(columnInfo.columnLongColKey);
     }
 
@@ -306,14 +306,14 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setLong(columnInfo.columnLongColKey, value);
     }
 
     @Override
     @SuppressWarnings("cast")
     public float realmGet$columnFloat() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (float) proxyState.getRow$realm().getFloat(columnInfo.columnFloatColKey);
     }
 
@@ -328,14 +328,14 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setFloat(columnInfo.columnFloatColKey, value);
     }
 
     @Override
     @SuppressWarnings("cast")
     public double realmGet$columnDouble() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (double) proxyState.getRow$realm().getDouble(columnInfo.columnDoubleColKey);
     }
 
@@ -350,14 +350,14 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setDouble(columnInfo.columnDoubleColKey, value);
     }
 
     @Override
     @SuppressWarnings("cast")
     public boolean realmGet$columnBoolean() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (boolean) proxyState.getRow$realm().getBoolean(columnInfo.columnBooleanColKey);
     }
 
@@ -372,14 +372,14 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setBoolean(columnInfo.columnBooleanColKey, value);
     }
 
     @Override
     @SuppressWarnings("cast")
     public org.bson.types.Decimal128 realmGet$columnDecimal128() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (org.bson.types.Decimal128) proxyState.getRow$realm().getDecimal128(columnInfo.columnDecimal128ColKey);
     }
 
@@ -397,7 +397,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'columnDecimal128' to null.");
         }
@@ -407,7 +407,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
     @Override
     @SuppressWarnings("cast")
     public org.bson.types.ObjectId realmGet$columnObjectId() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (org.bson.types.ObjectId) proxyState.getRow$realm().getObjectId(columnInfo.columnObjectIdColKey);
     }
 
@@ -425,7 +425,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'columnObjectId' to null.");
         }
@@ -435,7 +435,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
     @Override
     @SuppressWarnings("cast")
     public java.util.UUID realmGet$columnUUID() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.util.UUID) proxyState.getRow$realm().getUUID(columnInfo.columnUUIDColKey);
     }
 
@@ -453,7 +453,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'columnUUID' to null.");
         }
@@ -463,7 +463,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
     @Override
     @SuppressWarnings("cast")
     public Date realmGet$columnDate() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.util.Date) proxyState.getRow$realm().getDate(columnInfo.columnDateColKey);
     }
 
@@ -481,7 +481,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'columnDate' to null.");
         }
@@ -490,7 +490,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmAny realmGet$columnRealmAny() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         NativeRealmAny nativeRealmAny = proxyState.getRow$realm().getNativeRealmAny(columnInfo.columnRealmAnyColKey);
         return new RealmAny(RealmAnyOperator.fromNativeRealmAny(proxyState.getRealm$realm(), nativeRealmAny));
     }
@@ -517,7 +517,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         }
 
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
 
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.columnRealmAnyColKey);
@@ -530,7 +530,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
     @Override
     @SuppressWarnings("cast")
     public byte[] realmGet$columnBinary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (byte[]) proxyState.getRow$realm().getBinaryByteArray(columnInfo.columnBinaryColKey);
     }
 
@@ -548,7 +548,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'columnBinary' to null.");
         }
@@ -557,13 +557,13 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public MutableRealmInteger realmGet$columnMutableRealmInteger() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return this.columnMutableRealmIntegerMutableRealmInteger;
     }
 
     @Override
     public some.test.AllTypes realmGet$columnObject() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNullLink(columnInfo.columnObjectColKey)) {
             return null;
         }
@@ -594,7 +594,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().nullifyLink(columnInfo.columnObjectColKey);
             return;
@@ -605,7 +605,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public some.test.Simple realmGet$columnObjectWithoutPk() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNullLink(columnInfo.columnObjectWithoutPkColKey)) {
             return null;
         }
@@ -636,7 +636,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().nullifyLink(columnInfo.columnObjectWithoutPkColKey);
             return;
@@ -647,7 +647,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<some.test.AllTypes> realmGet$columnRealmList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmListRealmList != null) {
             return columnRealmListRealmList;
@@ -682,7 +682,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getModelList(columnInfo.columnRealmListColKey);
         // For lists of equal lengths, we need to set each element directly as clearing the receiver list can be wrong if the input and target list are the same.
         if (value != null && value.size() == osList.size()) {
@@ -708,7 +708,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<some.test.Simple> realmGet$columnRealmListNoPk() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmListNoPkRealmList != null) {
             return columnRealmListNoPkRealmList;
@@ -743,7 +743,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getModelList(columnInfo.columnRealmListNoPkColKey);
         // For lists of equal lengths, we need to set each element directly as clearing the receiver list can be wrong if the input and target list are the same.
         if (value != null && value.size() == osList.size()) {
@@ -769,7 +769,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<some.test.AllTypes> realmGet$columnRealmFinalList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmFinalListRealmList != null) {
             return columnRealmFinalListRealmList;
@@ -804,7 +804,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getModelList(columnInfo.columnRealmFinalListColKey);
         // For lists of equal lengths, we need to set each element directly as clearing the receiver list can be wrong if the input and target list are the same.
         if (value != null && value.size() == osList.size()) {
@@ -830,7 +830,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<some.test.Simple> realmGet$columnRealmFinalListNoPk() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmFinalListNoPkRealmList != null) {
             return columnRealmFinalListNoPkRealmList;
@@ -865,7 +865,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getModelList(columnInfo.columnRealmFinalListNoPkColKey);
         // For lists of equal lengths, we need to set each element directly as clearing the receiver list can be wrong if the input and target list are the same.
         if (value != null && value.size() == osList.size()) {
@@ -891,7 +891,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<String> realmGet$columnStringList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnStringListRealmList != null) {
             return columnStringListRealmList;
@@ -913,7 +913,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnStringListColKey, RealmFieldType.STRING_LIST);
         osList.removeAll();
         if (value == null) {
@@ -930,7 +930,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<byte[]> realmGet$columnBinaryList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnBinaryListRealmList != null) {
             return columnBinaryListRealmList;
@@ -952,7 +952,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnBinaryListColKey, RealmFieldType.BINARY_LIST);
         osList.removeAll();
         if (value == null) {
@@ -969,7 +969,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Boolean> realmGet$columnBooleanList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnBooleanListRealmList != null) {
             return columnBooleanListRealmList;
@@ -991,7 +991,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnBooleanListColKey, RealmFieldType.BOOLEAN_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1008,7 +1008,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Long> realmGet$columnLongList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnLongListRealmList != null) {
             return columnLongListRealmList;
@@ -1030,7 +1030,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnLongListColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1047,7 +1047,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Integer> realmGet$columnIntegerList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnIntegerListRealmList != null) {
             return columnIntegerListRealmList;
@@ -1069,7 +1069,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnIntegerListColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1086,7 +1086,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Short> realmGet$columnShortList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnShortListRealmList != null) {
             return columnShortListRealmList;
@@ -1108,7 +1108,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnShortListColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1125,7 +1125,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Byte> realmGet$columnByteList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnByteListRealmList != null) {
             return columnByteListRealmList;
@@ -1147,7 +1147,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnByteListColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1164,7 +1164,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Double> realmGet$columnDoubleList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDoubleListRealmList != null) {
             return columnDoubleListRealmList;
@@ -1186,7 +1186,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnDoubleListColKey, RealmFieldType.DOUBLE_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1203,7 +1203,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Float> realmGet$columnFloatList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnFloatListRealmList != null) {
             return columnFloatListRealmList;
@@ -1225,7 +1225,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnFloatListColKey, RealmFieldType.FLOAT_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1242,7 +1242,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Date> realmGet$columnDateList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDateListRealmList != null) {
             return columnDateListRealmList;
@@ -1264,7 +1264,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnDateListColKey, RealmFieldType.DATE_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1281,7 +1281,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<org.bson.types.Decimal128> realmGet$columnDecimal128List() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDecimal128ListRealmList != null) {
             return columnDecimal128ListRealmList;
@@ -1303,7 +1303,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnDecimal128ListColKey, RealmFieldType.DECIMAL128_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1320,7 +1320,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<org.bson.types.ObjectId> realmGet$columnObjectIdList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnObjectIdListRealmList != null) {
             return columnObjectIdListRealmList;
@@ -1342,7 +1342,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnObjectIdListColKey, RealmFieldType.OBJECT_ID_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1359,7 +1359,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<java.util.UUID> realmGet$columnUUIDList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnUUIDListRealmList != null) {
             return columnUUIDListRealmList;
@@ -1381,7 +1381,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnUUIDListColKey, RealmFieldType.UUID_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1398,7 +1398,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<RealmAny> realmGet$columnRealmAnyList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmAnyListRealmList != null) {
             return columnRealmAnyListRealmList;
@@ -1420,7 +1420,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnRealmAnyListColKey, RealmFieldType.MIXED_LIST);
         if (value != null && !value.isManaged()) {
             final Realm realm = (Realm) proxyState.getRealm$realm();
@@ -1445,7 +1445,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<some.test.AllTypes> realmGet$columnRealmDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmDictionaryRealmDictionary != null) {
             return columnRealmDictionaryRealmDictionary;
@@ -1482,7 +1482,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getModelMap(columnInfo.columnRealmDictionaryColKey);
         if (value == null) {
             return;
@@ -1501,7 +1501,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Boolean> realmGet$columnBooleanDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnBooleanDictionaryRealmDictionary != null) {
             return columnBooleanDictionaryRealmDictionary;
@@ -1523,7 +1523,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnBooleanDictionaryColKey, RealmFieldType.STRING_TO_BOOLEAN_MAP);
         if (value == null) {
             return;
@@ -1538,7 +1538,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<String> realmGet$columnStringDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnStringDictionaryRealmDictionary != null) {
             return columnStringDictionaryRealmDictionary;
@@ -1560,7 +1560,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnStringDictionaryColKey, RealmFieldType.STRING_TO_STRING_MAP);
         if (value == null) {
             return;
@@ -1575,7 +1575,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Integer> realmGet$columnIntegerDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnIntegerDictionaryRealmDictionary != null) {
             return columnIntegerDictionaryRealmDictionary;
@@ -1597,7 +1597,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnIntegerDictionaryColKey, RealmFieldType.STRING_TO_INTEGER_MAP);
         if (value == null) {
             return;
@@ -1612,7 +1612,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Float> realmGet$columnFloatDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnFloatDictionaryRealmDictionary != null) {
             return columnFloatDictionaryRealmDictionary;
@@ -1634,7 +1634,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnFloatDictionaryColKey, RealmFieldType.STRING_TO_FLOAT_MAP);
         if (value == null) {
             return;
@@ -1649,7 +1649,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Long> realmGet$columnLongDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnLongDictionaryRealmDictionary != null) {
             return columnLongDictionaryRealmDictionary;
@@ -1671,7 +1671,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnLongDictionaryColKey, RealmFieldType.STRING_TO_INTEGER_MAP);
         if (value == null) {
             return;
@@ -1686,7 +1686,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Short> realmGet$columnShortDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnShortDictionaryRealmDictionary != null) {
             return columnShortDictionaryRealmDictionary;
@@ -1708,7 +1708,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnShortDictionaryColKey, RealmFieldType.STRING_TO_INTEGER_MAP);
         if (value == null) {
             return;
@@ -1723,7 +1723,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Double> realmGet$columnDoubleDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDoubleDictionaryRealmDictionary != null) {
             return columnDoubleDictionaryRealmDictionary;
@@ -1745,7 +1745,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnDoubleDictionaryColKey, RealmFieldType.STRING_TO_DOUBLE_MAP);
         if (value == null) {
             return;
@@ -1760,7 +1760,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Byte> realmGet$columnByteDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnByteDictionaryRealmDictionary != null) {
             return columnByteDictionaryRealmDictionary;
@@ -1782,7 +1782,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnByteDictionaryColKey, RealmFieldType.STRING_TO_INTEGER_MAP);
         if (value == null) {
             return;
@@ -1797,7 +1797,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<byte[]> realmGet$columnBinaryDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnBinaryDictionaryRealmDictionary != null) {
             return columnBinaryDictionaryRealmDictionary;
@@ -1819,7 +1819,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnBinaryDictionaryColKey, RealmFieldType.STRING_TO_BINARY_MAP);
         if (value == null) {
             return;
@@ -1834,7 +1834,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Date> realmGet$columnDateDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDateDictionaryRealmDictionary != null) {
             return columnDateDictionaryRealmDictionary;
@@ -1856,7 +1856,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnDateDictionaryColKey, RealmFieldType.STRING_TO_DATE_MAP);
         if (value == null) {
             return;
@@ -1871,7 +1871,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<org.bson.types.ObjectId> realmGet$columnObjectIdDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnObjectIdDictionaryRealmDictionary != null) {
             return columnObjectIdDictionaryRealmDictionary;
@@ -1893,7 +1893,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnObjectIdDictionaryColKey, RealmFieldType.STRING_TO_OBJECT_ID_MAP);
         if (value == null) {
             return;
@@ -1908,7 +1908,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<java.util.UUID> realmGet$columnUUIDDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnUUIDDictionaryRealmDictionary != null) {
             return columnUUIDDictionaryRealmDictionary;
@@ -1930,7 +1930,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnUUIDDictionaryColKey, RealmFieldType.STRING_TO_UUID_MAP);
         if (value == null) {
             return;
@@ -1945,7 +1945,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<org.bson.types.Decimal128> realmGet$columnDecimal128Dictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDecimal128DictionaryRealmDictionary != null) {
             return columnDecimal128DictionaryRealmDictionary;
@@ -1967,7 +1967,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnDecimal128DictionaryColKey, RealmFieldType.STRING_TO_DECIMAL128_MAP);
         if (value == null) {
             return;
@@ -1982,7 +1982,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<RealmAny> realmGet$columnRealmAnyDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmAnyDictionaryRealmDictionary != null) {
             return columnRealmAnyDictionaryRealmDictionary;
@@ -2024,7 +2024,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getRealmAnyMap(columnInfo.columnRealmAnyDictionaryColKey);
         if (value == null) {
             return;
@@ -2944,11 +2944,11 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         }
         org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
         if (realmGet$columnObjectId != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
         }
         java.util.UUID realmGet$columnUUID = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnUUID();
         if (realmGet$columnUUID != null) {
-            Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.toString(), false);
+            Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.getMostSignificantBits(), realmGet$columnUUID.getLeastSignificantBits(), false);
         }
         java.util.Date realmGet$columnDate = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnDate();
         if (realmGet$columnDate != null) {
@@ -3239,11 +3239,11 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
             org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
             if (realmGet$columnObjectId != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
             }
             java.util.UUID realmGet$columnUUID = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnUUID();
             if (realmGet$columnUUID != null) {
-                Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.toString(), false);
+                Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.getMostSignificantBits(), realmGet$columnUUID.getLeastSignificantBits(), false);
             }
             java.util.Date realmGet$columnDate = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnDate();
             if (realmGet$columnDate != null) {
@@ -3527,13 +3527,13 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         }
         org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
         if (realmGet$columnObjectId != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
         } else {
             Table.nativeSetNull(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, false);
         }
         java.util.UUID realmGet$columnUUID = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnUUID();
         if (realmGet$columnUUID != null) {
-            Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.toString(), false);
+            Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.getMostSignificantBits(), realmGet$columnUUID.getLeastSignificantBits(), false);
         } else {
             Table.nativeSetNull(tableNativePtr, columnInfo.columnUUIDColKey, objKey, false);
         }
@@ -3937,13 +3937,13 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
             org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
             if (realmGet$columnObjectId != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
             } else {
                 Table.nativeSetNull(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, false);
             }
             java.util.UUID realmGet$columnUUID = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnUUID();
             if (realmGet$columnUUID != null) {
-                Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.toString(), false);
+                Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.getMostSignificantBits(), realmGet$columnUUID.getLeastSignificantBits(), false);
             } else {
                 Table.nativeSetNull(tableNativePtr, columnInfo.columnUUIDColKey, objKey, false);
             }
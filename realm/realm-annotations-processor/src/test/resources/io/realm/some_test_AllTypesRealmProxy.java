@@ -274,7 +274,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
     @Override
     @SuppressWarnings("cast")
     public String realmGet$columnString() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.lang.String) proxyState.getRow$realm().getString(columnInfo.columnStringColKey);
     }
 
@@ -285,14 +285,14 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         throw new io.realm.exceptions.RealmException("Primary key field 'columnString' cannot be changed after object was created.");
     }
 
     @Override
     @SuppressWarnings("cast")
     public long realmGet$columnLong() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (long) proxyState.getRow$realm().getLong(columnInfo.columnLongColKey);
     }
 
@@ -307,14 +307,14 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setLong(columnInfo.columnLongColKey, value);
     }
 
     @Override
     @SuppressWarnings("cast")
     public float realmGet$columnFloat() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (float) proxyState.getRow$realm().getFloat(columnInfo.columnFloatColKey);
     }
 
@@ -329,14 +329,14 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setFloat(columnInfo.columnFloatColKey, value);
     }
 
     @Override
     @SuppressWarnings("cast")
     public double realmGet$columnDouble() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (double) proxyState.getRow$realm().getDouble(columnInfo.columnDoubleColKey);
     }
 
@@ -351,14 +351,14 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setDouble(columnInfo.columnDoubleColKey, value);
     }
 
     @Override
     @SuppressWarnings("cast")
     public boolean realmGet$columnBoolean() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (boolean) proxyState.getRow$realm().getBoolean(columnInfo.columnBooleanColKey);
     }
 
@@ -373,14 +373,14 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setBoolean(columnInfo.columnBooleanColKey, value);
     }
 
     @Override
     @SuppressWarnings("cast")
     public org.bson.types.Decimal128 realmGet$columnDecimal128() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (org.bson.types.Decimal128) proxyState.getRow$realm().getDecimal128(columnInfo.columnDecimal128ColKey);
     }
 
@@ -398,7 +398,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'columnDecimal128' to null.");
         }
@@ -408,7 +408,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
     @Override
     @SuppressWarnings("cast")
     public org.bson.types.ObjectId realmGet$columnObjectId() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (org.bson.types.ObjectId) proxyState.getRow$realm().getObjectId(columnInfo.columnObjectIdColKey);
     }
 
@@ -426,7 +426,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'columnObjectId' to null.");
         }
@@ -436,7 +436,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
     @Override
     @SuppressWarnings("cast")
     public java.util.UUID realmGet$columnUUID() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.util.UUID) proxyState.getRow$realm().getUUID(columnInfo.columnUUIDColKey);
     }
 
@@ -454,7 +454,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'columnUUID' to null.");
         }
@@ -464,7 +464,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
     @Override
     @SuppressWarnings("cast")
     public Date realmGet$columnDate() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.util.Date) proxyState.getRow$realm().getDate(columnInfo.columnDateColKey);
     }
 
@@ -482,7 +482,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'columnDate' to null.");
         }
@@ -491,7 +491,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmAny realmGet$columnRealmAny() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         NativeRealmAny nativeRealmAny = proxyState.getRow$realm().getNativeRealmAny(columnInfo.columnRealmAnyColKey);
         return new RealmAny(RealmAnyOperator.fromNativeRealmAny(proxyState.getRealm$realm(), nativeRealmAny));
     }
@@ -518,7 +518,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         }
 
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
 
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.columnRealmAnyColKey);
@@ -531,7 +531,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
     @Override
     @SuppressWarnings("cast")
     public byte[] realmGet$columnBinary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (byte[]) proxyState.getRow$realm().getBinaryByteArray(columnInfo.columnBinaryColKey);
     }
 
@@ -549,7 +549,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'columnBinary' to null.");
         }
@@ -558,13 +558,13 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public MutableRealmInteger realmGet$columnMutableRealmInteger() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return this.columnMutableRealmIntegerMutableRealmInteger;
     }
 
     @Override
     public some.test.AllTypes realmGet$columnObject() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNullLink(columnInfo.columnObjectColKey)) {
             return null;
         }
@@ -595,7 +595,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().nullifyLink(columnInfo.columnObjectColKey);
             return;
@@ -606,7 +606,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public some.test.Simple realmGet$columnObjectWithoutPk() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNullLink(columnInfo.columnObjectWithoutPkColKey)) {
             return null;
         }
@@ -637,7 +637,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().nullifyLink(columnInfo.columnObjectWithoutPkColKey);
             return;
@@ -648,7 +648,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<some.test.AllTypes> realmGet$columnRealmList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmListRealmList != null) {
             return columnRealmListRealmList;
@@ -683,7 +683,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getModelList(columnInfo.columnRealmListColKey);
         // For lists of equal lengths, we need to set each element directly as clearing the receiver list can be wrong if the input and target list are the same.
         if (value != null && value.size() == osList.size()) {
@@ -709,7 +709,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<some.test.Simple> realmGet$columnRealmListNoPk() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmListNoPkRealmList != null) {
             return columnRealmListNoPkRealmList;
@@ -744,7 +744,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getModelList(columnInfo.columnRealmListNoPkColKey);
         // For lists of equal lengths, we need to set each element directly as clearing the receiver list can be wrong if the input and target list are the same.
         if (value != null && value.size() == osList.size()) {
@@ -770,7 +770,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<some.test.AllTypes> realmGet$columnRealmFinalList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmFinalListRealmList != null) {
             return columnRealmFinalListRealmList;
@@ -805,7 +805,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getModelList(columnInfo.columnRealmFinalListColKey);
         // For lists of equal lengths, we need to set each element directly as clearing the receiver list can be wrong if the input and target list are the same.
         if (value != null && value.size() == osList.size()) {
@@ -831,7 +831,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<some.test.Simple> realmGet$columnRealmFinalListNoPk() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmFinalListNoPkRealmList != null) {
             return columnRealmFinalListNoPkRealmList;
@@ -866,7 +866,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getModelList(columnInfo.columnRealmFinalListNoPkColKey);
         // For lists of equal lengths, we need to set each element directly as clearing the receiver list can be wrong if the input and target list are the same.
         if (value != null && value.size() == osList.size()) {
@@ -892,7 +892,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<String> realmGet$columnStringList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnStringListRealmList != null) {
             return columnStringListRealmList;
@@ -914,7 +914,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnStringListColKey, RealmFieldType.STRING_LIST);
         osList.removeAll();
         if (value == null) {
@@ -931,7 +931,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<byte[]> realmGet$columnBinaryList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnBinaryListRealmList != null) {
             return columnBinaryListRealmList;
@@ -953,7 +953,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnBinaryListColKey, RealmFieldType.BINARY_LIST);
         osList.removeAll();
         if (value == null) {
@@ -970,7 +970,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Boolean> realmGet$columnBooleanList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnBooleanListRealmList != null) {
             return columnBooleanListRealmList;
@@ -992,7 +992,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnBooleanListColKey, RealmFieldType.BOOLEAN_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1009,7 +1009,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Long> realmGet$columnLongList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnLongListRealmList != null) {
             return columnLongListRealmList;
@@ -1031,7 +1031,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnLongListColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1048,7 +1048,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Integer> realmGet$columnIntegerList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnIntegerListRealmList != null) {
             return columnIntegerListRealmList;
@@ -1070,7 +1070,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnIntegerListColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1087,7 +1087,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Short> realmGet$columnShortList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnShortListRealmList != null) {
             return columnShortListRealmList;
@@ -1109,7 +1109,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnShortListColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1126,7 +1126,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Byte> realmGet$columnByteList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnByteListRealmList != null) {
             return columnByteListRealmList;
@@ -1148,7 +1148,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnByteListColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1165,7 +1165,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Double> realmGet$columnDoubleList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDoubleListRealmList != null) {
             return columnDoubleListRealmList;
@@ -1187,7 +1187,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnDoubleListColKey, RealmFieldType.DOUBLE_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1204,7 +1204,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Float> realmGet$columnFloatList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnFloatListRealmList != null) {
             return columnFloatListRealmList;
@@ -1226,7 +1226,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnFloatListColKey, RealmFieldType.FLOAT_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1243,7 +1243,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<Date> realmGet$columnDateList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDateListRealmList != null) {
             return columnDateListRealmList;
@@ -1265,7 +1265,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnDateListColKey, RealmFieldType.DATE_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1282,7 +1282,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<org.bson.types.Decimal128> realmGet$columnDecimal128List() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDecimal128ListRealmList != null) {
             return columnDecimal128ListRealmList;
@@ -1304,7 +1304,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnDecimal128ListColKey, RealmFieldType.DECIMAL128_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1321,7 +1321,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<org.bson.types.ObjectId> realmGet$columnObjectIdList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnObjectIdListRealmList != null) {
             return columnObjectIdListRealmList;
@@ -1343,7 +1343,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnObjectIdListColKey, RealmFieldType.OBJECT_ID_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1360,7 +1360,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<java.util.UUID> realmGet$columnUUIDList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnUUIDListRealmList != null) {
             return columnUUIDListRealmList;
@@ -1382,7 +1382,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnUUIDListColKey, RealmFieldType.UUID_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1399,7 +1399,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmList<RealmAny> realmGet$columnRealmAnyList() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmAnyListRealmList != null) {
             return columnRealmAnyListRealmList;
@@ -1421,7 +1421,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.columnRealmAnyListColKey, RealmFieldType.MIXED_LIST);
         if (value != null && !value.isManaged()) {
             final Realm realm = (Realm) proxyState.getRealm$realm();
@@ -1446,7 +1446,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<some.test.AllTypes> realmGet$columnRealmDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmDictionaryRealmDictionary != null) {
             return columnRealmDictionaryRealmDictionary;
@@ -1483,7 +1483,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getModelMap(columnInfo.columnRealmDictionaryColKey);
         if (value == null) {
             return;
@@ -1503,7 +1503,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Boolean> realmGet$columnBooleanDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnBooleanDictionaryRealmDictionary != null) {
             return columnBooleanDictionaryRealmDictionary;
@@ -1525,7 +1525,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnBooleanDictionaryColKey, RealmFieldType.STRING_TO_BOOLEAN_MAP);
         if (value == null) {
             return;
@@ -1540,7 +1540,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<String> realmGet$columnStringDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnStringDictionaryRealmDictionary != null) {
             return columnStringDictionaryRealmDictionary;
@@ -1562,7 +1562,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnStringDictionaryColKey, RealmFieldType.STRING_TO_STRING_MAP);
         if (value == null) {
             return;
@@ -1577,7 +1577,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Integer> realmGet$columnIntegerDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnIntegerDictionaryRealmDictionary != null) {
             return columnIntegerDictionaryRealmDictionary;
@@ -1599,7 +1599,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnIntegerDictionaryColKey, RealmFieldType.STRING_TO_INTEGER_MAP);
         if (value == null) {
             return;
@@ -1614,7 +1614,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Float> realmGet$columnFloatDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnFloatDictionaryRealmDictionary != null) {
             return columnFloatDictionaryRealmDictionary;
@@ -1636,7 +1636,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnFloatDictionaryColKey, RealmFieldType.STRING_TO_FLOAT_MAP);
         if (value == null) {
             return;
@@ -1651,7 +1651,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Long> realmGet$columnLongDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnLongDictionaryRealmDictionary != null) {
             return columnLongDictionaryRealmDictionary;
@@ -1673,7 +1673,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnLongDictionaryColKey, RealmFieldType.STRING_TO_INTEGER_MAP);
         if (value == null) {
             return;
@@ -1688,7 +1688,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Short> realmGet$columnShortDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnShortDictionaryRealmDictionary != null) {
             return columnShortDictionaryRealmDictionary;
@@ -1710,7 +1710,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnShortDictionaryColKey, RealmFieldType.STRING_TO_INTEGER_MAP);
         if (value == null) {
             return;
@@ -1725,7 +1725,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Double> realmGet$columnDoubleDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDoubleDictionaryRealmDictionary != null) {
             return columnDoubleDictionaryRealmDictionary;
@@ -1747,7 +1747,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnDoubleDictionaryColKey, RealmFieldType.STRING_TO_DOUBLE_MAP);
         if (value == null) {
             return;
@@ -1762,7 +1762,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Byte> realmGet$columnByteDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnByteDictionaryRealmDictionary != null) {
             return columnByteDictionaryRealmDictionary;
@@ -1784,7 +1784,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnByteDictionaryColKey, RealmFieldType.STRING_TO_INTEGER_MAP);
         if (value == null) {
             return;
@@ -1799,7 +1799,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<byte[]> realmGet$columnBinaryDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnBinaryDictionaryRealmDictionary != null) {
             return columnBinaryDictionaryRealmDictionary;
@@ -1821,7 +1821,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnBinaryDictionaryColKey, RealmFieldType.STRING_TO_BINARY_MAP);
         if (value == null) {
             return;
@@ -1836,7 +1836,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<Date> realmGet$columnDateDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDateDictionaryRealmDictionary != null) {
             return columnDateDictionaryRealmDictionary;
@@ -1858,7 +1858,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnDateDictionaryColKey, RealmFieldType.STRING_TO_DATE_MAP);
         if (value == null) {
             return;
@@ -1873,7 +1873,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<org.bson.types.ObjectId> realmGet$columnObjectIdDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnObjectIdDictionaryRealmDictionary != null) {
             return columnObjectIdDictionaryRealmDictionary;
@@ -1895,7 +1895,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnObjectIdDictionaryColKey, RealmFieldType.STRING_TO_OBJECT_ID_MAP);
         if (value == null) {
             return;
@@ -1910,7 +1910,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<java.util.UUID> realmGet$columnUUIDDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnUUIDDictionaryRealmDictionary != null) {
             return columnUUIDDictionaryRealmDictionary;
@@ -1932,7 +1932,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnUUIDDictionaryColKey, RealmFieldType.STRING_TO_UUID_MAP);
         if (value == null) {
             return;
@@ -1947,7 +1947,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<org.bson.types.Decimal128> realmGet$columnDecimal128Dictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnDecimal128DictionaryRealmDictionary != null) {
             return columnDecimal128DictionaryRealmDictionary;
@@ -1969,7 +1969,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnInfo.columnDecimal128DictionaryColKey, RealmFieldType.STRING_TO_DECIMAL128_MAP);
         if (value == null) {
             return;
@@ -1984,7 +1984,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public RealmDictionary<RealmAny> realmGet$columnRealmAnyDictionary() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (columnRealmAnyDictionaryRealmDictionary != null) {
             return columnRealmAnyDictionaryRealmDictionary;
@@ -2026,7 +2026,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsMap osMap = proxyState.getRow$realm().getRealmAnyMap(columnInfo.columnRealmAnyDictionaryColKey);
         if (value == null) {
             return;
@@ -2412,11 +2412,11 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         }
         org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
         if (realmGet$columnObjectId != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
         }
         java.util.UUID realmGet$columnUUID = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnUUID();
         if (realmGet$columnUUID != null) {
-            Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.toString(), false);
+            Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.getMostSignificantBits(), realmGet$columnUUID.getLeastSignificantBits(), false);
         }
         java.util.Date realmGet$columnDate = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnDate();
         if (realmGet$columnDate != null) {
@@ -2881,11 +2881,11 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
             org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
             if (realmGet$columnObjectId != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
             }
             java.util.UUID realmGet$columnUUID = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnUUID();
             if (realmGet$columnUUID != null) {
-                Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.toString(), false);
+                Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.getMostSignificantBits(), realmGet$columnUUID.getLeastSignificantBits(), false);
             }
             java.util.Date realmGet$columnDate = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnDate();
             if (realmGet$columnDate != null) {
@@ -3343,13 +3343,13 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         }
         org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
         if (realmGet$columnObjectId != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
         } else {
             Table.nativeSetNull(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, false);
         }
         java.util.UUID realmGet$columnUUID = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnUUID();
         if (realmGet$columnUUID != null) {
-            Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.toString(), false);
+            Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.getMostSignificantBits(), realmGet$columnUUID.getLeastSignificantBits(), false);
         } else {
             Table.nativeSetNull(tableNativePtr, columnInfo.columnUUIDColKey, objKey, false);
         }
@@ -3927,13 +3927,13 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
             org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
             if (realmGet$columnObjectId != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
             } else {
                 Table.nativeSetNull(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, false);
             }
             java.util.UUID realmGet$columnUUID = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnUUID();
             if (realmGet$columnUUID != null) {
-                Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.toString(), false);
+                Table.nativeSetUUID(tableNativePtr, columnInfo.columnUUIDColKey, objKey, realmGet$columnUUID.getMostSignificantBits(), realmGet$columnUUID.getLeastSignificantBits(), false);
             } else {
                 Table.nativeSetNull(tableNativePtr, columnInfo.columnUUIDColKey, objKey, false);
             }
@@ -105,7 +105,7 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
     @Override
     @SuppressWarnings("cast")
     public boolean realmGet$done() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (boolean) proxyState.getRow$realm().getBoolean(columnInfo.doneColKey);
     }
 
@@ -120,14 +120,14 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setBoolean(columnInfo.doneColKey, value);
     }
 
     @Override
     @SuppressWarnings("cast")
     public boolean realmGet$isReady() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (boolean) proxyState.getRow$realm().getBoolean(columnInfo.isReadyColKey);
     }
 
@@ -142,14 +142,14 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setBoolean(columnInfo.isReadyColKey, value);
     }
 
     @Override
     @SuppressWarnings("cast")
     public boolean realmGet$mCompleted() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (boolean) proxyState.getRow$realm().getBoolean(columnInfo.mCompletedColKey);
     }
 
@@ -164,14 +164,14 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setBoolean(columnInfo.mCompletedColKey, value);
     }
 
     @Override
     @SuppressWarnings("cast")
     public boolean realmGet$anotherBoolean() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (boolean) proxyState.getRow$realm().getBoolean(columnInfo.anotherBooleanColKey);
     }
 
@@ -186,7 +186,7 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setBoolean(columnInfo.anotherBooleanColKey, value);
     }
 
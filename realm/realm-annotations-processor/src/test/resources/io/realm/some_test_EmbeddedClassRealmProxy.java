@@ -99,7 +99,7 @@ public class some_test_EmbeddedClassRealmProxy extends some.test.EmbeddedClass
     @Override
     @SuppressWarnings("cast")
     public String realmGet$name() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.lang.String) proxyState.getRow$realm().getString(columnInfo.nameColKey);
     }
 
@@ -118,7 +118,7 @@ public class some_test_EmbeddedClassRealmProxy extends some.test.EmbeddedClass
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.nameColKey);
             return;
@@ -129,7 +129,7 @@ public class some_test_EmbeddedClassRealmProxy extends some.test.EmbeddedClass
     @Override
     @SuppressWarnings("cast")
     public int realmGet$age() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (int) proxyState.getRow$realm().getLong(columnInfo.ageColKey);
     }
 
@@ -144,7 +144,7 @@ public class some_test_EmbeddedClassRealmProxy extends some.test.EmbeddedClass
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         proxyState.getRow$realm().setLong(columnInfo.ageColKey, value);
     }
 
@@ -103,7 +103,7 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
     @Override
     @SuppressWarnings("cast")
     public String realmGet$id() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.lang.String) proxyState.getRow$realm().getString(columnInfo.idColKey);
     }
 
@@ -114,13 +114,13 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         throw new io.realm.exceptions.RealmException("Primary key field 'id' cannot be changed after object was created.");
     }
 
     @Override
     public some.test.EmbeddedClass realmGet$child() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNullLink(columnInfo.childColKey)) {
             return null;
         }
@@ -153,7 +153,7 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().nullifyLink(columnInfo.childColKey);
             return;
@@ -167,7 +167,7 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
 
     @Override
     public RealmList<some.test.EmbeddedClass> realmGet$children() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (childrenRealmList != null) {
             return childrenRealmList;
@@ -202,7 +202,7 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getModelList(columnInfo.childrenColKey);
         // For lists of equal lengths, we need to set each element directly as clearing the receiver list can be wrong if the input and target list are the same.
         if (value != null && value.size() == osList.size()) {
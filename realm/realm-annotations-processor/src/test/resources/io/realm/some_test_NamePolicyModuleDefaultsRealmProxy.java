@@ -99,7 +99,7 @@ public class some_test_NamePolicyModuleDefaultsRealmProxy extends some.test.Name
     @Override
     @SuppressWarnings("cast")
     public String realmGet$firstName() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.lang.String) proxyState.getRow$realm().getString(columnInfo.firstNameColKey);
     }
 
@@ -118,7 +118,7 @@ public class some_test_NamePolicyModuleDefaultsRealmProxy extends some.test.Name
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.firstNameColKey);
             return;
@@ -129,7 +129,7 @@ public class some_test_NamePolicyModuleDefaultsRealmProxy extends some.test.Name
     @Override
     @SuppressWarnings("cast")
     public String realmGet$lastName() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.lang.String) proxyState.getRow$realm().getString(columnInfo.lastNameColKey);
     }
 
@@ -148,7 +148,7 @@ public class some_test_NamePolicyModuleDefaultsRealmProxy extends some.test.Name
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.lastNameColKey);
             return;
@@ -264,7 +264,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public String realmGet$fieldStringNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.lang.String) proxyState.getRow$realm().getString(columnInfo.fieldStringNotNullColKey);
     }
 
@@ -282,7 +282,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldStringNotNull' to null.");
         }
@@ -292,7 +292,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public String realmGet$fieldStringNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.lang.String) proxyState.getRow$realm().getString(columnInfo.fieldStringNullColKey);
     }
 
@@ -311,7 +311,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldStringNullColKey);
             return;
@@ -322,7 +322,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Boolean realmGet$fieldBooleanNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (boolean) proxyState.getRow$realm().getBoolean(columnInfo.fieldBooleanNotNullColKey);
     }
 
@@ -340,7 +340,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldBooleanNotNull' to null.");
         }
@@ -350,7 +350,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Boolean realmGet$fieldBooleanNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNull(columnInfo.fieldBooleanNullColKey)) {
             return null;
         }
@@ -372,7 +372,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldBooleanNullColKey);
             return;
@@ -383,7 +383,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public byte[] realmGet$fieldBytesNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (byte[]) proxyState.getRow$realm().getBinaryByteArray(columnInfo.fieldBytesNotNullColKey);
     }
 
@@ -401,7 +401,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldBytesNotNull' to null.");
         }
@@ -411,7 +411,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public byte[] realmGet$fieldBytesNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (byte[]) proxyState.getRow$realm().getBinaryByteArray(columnInfo.fieldBytesNullColKey);
     }
 
@@ -430,7 +430,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldBytesNullColKey);
             return;
@@ -441,7 +441,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Byte realmGet$fieldByteNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (byte) proxyState.getRow$realm().getLong(columnInfo.fieldByteNotNullColKey);
     }
 
@@ -459,7 +459,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldByteNotNull' to null.");
         }
@@ -469,7 +469,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Byte realmGet$fieldByteNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNull(columnInfo.fieldByteNullColKey)) {
             return null;
         }
@@ -491,7 +491,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldByteNullColKey);
             return;
@@ -502,7 +502,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Short realmGet$fieldShortNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (short) proxyState.getRow$realm().getLong(columnInfo.fieldShortNotNullColKey);
     }
 
@@ -520,7 +520,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldShortNotNull' to null.");
         }
@@ -530,7 +530,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Short realmGet$fieldShortNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNull(columnInfo.fieldShortNullColKey)) {
             return null;
         }
@@ -552,7 +552,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldShortNullColKey);
             return;
@@ -563,7 +563,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Integer realmGet$fieldIntegerNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (int) proxyState.getRow$realm().getLong(columnInfo.fieldIntegerNotNullColKey);
     }
 
@@ -581,7 +581,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldIntegerNotNull' to null.");
         }
@@ -591,7 +591,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Integer realmGet$fieldIntegerNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNull(columnInfo.fieldIntegerNullColKey)) {
             return null;
         }
@@ -613,7 +613,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldIntegerNullColKey);
             return;
@@ -624,7 +624,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Long realmGet$fieldLongNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (long) proxyState.getRow$realm().getLong(columnInfo.fieldLongNotNullColKey);
     }
 
@@ -642,7 +642,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldLongNotNull' to null.");
         }
@@ -652,7 +652,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Long realmGet$fieldLongNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNull(columnInfo.fieldLongNullColKey)) {
             return null;
         }
@@ -674,7 +674,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldLongNullColKey);
             return;
@@ -685,7 +685,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Float realmGet$fieldFloatNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (float) proxyState.getRow$realm().getFloat(columnInfo.fieldFloatNotNullColKey);
     }
 
@@ -703,7 +703,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldFloatNotNull' to null.");
         }
@@ -713,7 +713,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Float realmGet$fieldFloatNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNull(columnInfo.fieldFloatNullColKey)) {
             return null;
         }
@@ -735,7 +735,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldFloatNullColKey);
             return;
@@ -746,7 +746,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Double realmGet$fieldDoubleNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (double) proxyState.getRow$realm().getDouble(columnInfo.fieldDoubleNotNullColKey);
     }
 
@@ -764,7 +764,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldDoubleNotNull' to null.");
         }
@@ -774,7 +774,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Double realmGet$fieldDoubleNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNull(columnInfo.fieldDoubleNullColKey)) {
             return null;
         }
@@ -796,7 +796,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldDoubleNullColKey);
             return;
@@ -807,7 +807,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Date realmGet$fieldDateNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (java.util.Date) proxyState.getRow$realm().getDate(columnInfo.fieldDateNotNullColKey);
     }
 
@@ -825,7 +825,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldDateNotNull' to null.");
         }
@@ -835,7 +835,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public Date realmGet$fieldDateNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNull(columnInfo.fieldDateNullColKey)) {
             return null;
         }
@@ -857,7 +857,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldDateNullColKey);
             return;
@@ -868,7 +868,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public org.bson.types.Decimal128 realmGet$fieldDecimal128NotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (org.bson.types.Decimal128) proxyState.getRow$realm().getDecimal128(columnInfo.fieldDecimal128NotNullColKey);
     }
 
@@ -886,7 +886,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldDecimal128NotNull' to null.");
         }
@@ -896,7 +896,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public org.bson.types.Decimal128 realmGet$fieldDecimal128Null() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNull(columnInfo.fieldDecimal128NullColKey)) {
             return null;
         }
@@ -918,7 +918,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldDecimal128NullColKey);
             return;
@@ -929,7 +929,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public org.bson.types.ObjectId realmGet$fieldObjectIdNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         return (org.bson.types.ObjectId) proxyState.getRow$realm().getObjectId(columnInfo.fieldObjectIdNotNullColKey);
     }
 
@@ -947,7 +947,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             throw new IllegalArgumentException("Trying to set non-nullable field 'fieldObjectIdNotNull' to null.");
         }
@@ -957,7 +957,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
     @Override
     @SuppressWarnings("cast")
     public org.bson.types.ObjectId realmGet$fieldObjectIdNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNull(columnInfo.fieldObjectIdNullColKey)) {
             return null;
         }
@@ -979,7 +979,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().setNull(columnInfo.fieldObjectIdNullColKey);
             return;
@@ -989,7 +989,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public some.test.NullTypes realmGet$fieldObjectNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (proxyState.getRow$realm().isNullLink(columnInfo.fieldObjectNullColKey)) {
             return null;
         }
@@ -1020,7 +1020,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             return;
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         if (value == null) {
             proxyState.getRow$realm().nullifyLink(columnInfo.fieldObjectNullColKey);
             return;
@@ -1031,7 +1031,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<String> realmGet$fieldStringListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldStringListNotNullRealmList != null) {
             return fieldStringListNotNullRealmList;
@@ -1053,7 +1053,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldStringListNotNullColKey, RealmFieldType.STRING_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1070,7 +1070,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<String> realmGet$fieldStringListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldStringListNullRealmList != null) {
             return fieldStringListNullRealmList;
@@ -1092,7 +1092,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldStringListNullColKey, RealmFieldType.STRING_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1109,7 +1109,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<byte[]> realmGet$fieldBinaryListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldBinaryListNotNullRealmList != null) {
             return fieldBinaryListNotNullRealmList;
@@ -1131,7 +1131,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldBinaryListNotNullColKey, RealmFieldType.BINARY_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1148,7 +1148,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<byte[]> realmGet$fieldBinaryListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldBinaryListNullRealmList != null) {
             return fieldBinaryListNullRealmList;
@@ -1170,7 +1170,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldBinaryListNullColKey, RealmFieldType.BINARY_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1187,7 +1187,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Boolean> realmGet$fieldBooleanListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldBooleanListNotNullRealmList != null) {
             return fieldBooleanListNotNullRealmList;
@@ -1209,7 +1209,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldBooleanListNotNullColKey, RealmFieldType.BOOLEAN_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1226,7 +1226,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Boolean> realmGet$fieldBooleanListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldBooleanListNullRealmList != null) {
             return fieldBooleanListNullRealmList;
@@ -1248,7 +1248,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldBooleanListNullColKey, RealmFieldType.BOOLEAN_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1265,7 +1265,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Long> realmGet$fieldLongListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldLongListNotNullRealmList != null) {
             return fieldLongListNotNullRealmList;
@@ -1287,7 +1287,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldLongListNotNullColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1304,7 +1304,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Long> realmGet$fieldLongListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldLongListNullRealmList != null) {
             return fieldLongListNullRealmList;
@@ -1326,7 +1326,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldLongListNullColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1343,7 +1343,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Integer> realmGet$fieldIntegerListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldIntegerListNotNullRealmList != null) {
             return fieldIntegerListNotNullRealmList;
@@ -1365,7 +1365,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldIntegerListNotNullColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1382,7 +1382,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Integer> realmGet$fieldIntegerListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldIntegerListNullRealmList != null) {
             return fieldIntegerListNullRealmList;
@@ -1404,7 +1404,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldIntegerListNullColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1421,7 +1421,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Short> realmGet$fieldShortListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldShortListNotNullRealmList != null) {
             return fieldShortListNotNullRealmList;
@@ -1443,7 +1443,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldShortListNotNullColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1460,7 +1460,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Short> realmGet$fieldShortListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldShortListNullRealmList != null) {
             return fieldShortListNullRealmList;
@@ -1482,7 +1482,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldShortListNullColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1499,7 +1499,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Byte> realmGet$fieldByteListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldByteListNotNullRealmList != null) {
             return fieldByteListNotNullRealmList;
@@ -1521,7 +1521,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldByteListNotNullColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1538,7 +1538,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Byte> realmGet$fieldByteListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldByteListNullRealmList != null) {
             return fieldByteListNullRealmList;
@@ -1560,7 +1560,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldByteListNullColKey, RealmFieldType.INTEGER_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1577,7 +1577,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Double> realmGet$fieldDoubleListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldDoubleListNotNullRealmList != null) {
             return fieldDoubleListNotNullRealmList;
@@ -1599,7 +1599,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldDoubleListNotNullColKey, RealmFieldType.DOUBLE_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1616,7 +1616,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Double> realmGet$fieldDoubleListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldDoubleListNullRealmList != null) {
             return fieldDoubleListNullRealmList;
@@ -1638,7 +1638,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldDoubleListNullColKey, RealmFieldType.DOUBLE_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1655,7 +1655,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Float> realmGet$fieldFloatListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldFloatListNotNullRealmList != null) {
             return fieldFloatListNotNullRealmList;
@@ -1677,7 +1677,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldFloatListNotNullColKey, RealmFieldType.FLOAT_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1694,7 +1694,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Float> realmGet$fieldFloatListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldFloatListNullRealmList != null) {
             return fieldFloatListNullRealmList;
@@ -1716,7 +1716,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldFloatListNullColKey, RealmFieldType.FLOAT_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1733,7 +1733,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Date> realmGet$fieldDateListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldDateListNotNullRealmList != null) {
             return fieldDateListNotNullRealmList;
@@ -1755,7 +1755,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldDateListNotNullColKey, RealmFieldType.DATE_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1772,7 +1772,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<Date> realmGet$fieldDateListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldDateListNullRealmList != null) {
             return fieldDateListNullRealmList;
@@ -1794,7 +1794,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldDateListNullColKey, RealmFieldType.DATE_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1811,7 +1811,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<org.bson.types.Decimal128> realmGet$fieldDecimal128ListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldDecimal128ListNotNullRealmList != null) {
             return fieldDecimal128ListNotNullRealmList;
@@ -1833,7 +1833,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldDecimal128ListNotNullColKey, RealmFieldType.DECIMAL128_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1850,7 +1850,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<org.bson.types.Decimal128> realmGet$fieldDecimal128ListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldDecimal128ListNullRealmList != null) {
             return fieldDecimal128ListNullRealmList;
@@ -1872,7 +1872,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldDecimal128ListNullColKey, RealmFieldType.DECIMAL128_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1889,7 +1889,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<org.bson.types.ObjectId> realmGet$fieldObjectIdListNotNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldObjectIdListNotNullRealmList != null) {
             return fieldObjectIdListNotNullRealmList;
@@ -1911,7 +1911,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldObjectIdListNotNullColKey, RealmFieldType.OBJECT_ID_LIST);
         osList.removeAll();
         if (value == null) {
@@ -1928,7 +1928,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public RealmList<org.bson.types.ObjectId> realmGet$fieldObjectIdListNull() {
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         // use the cached value if available
         if (fieldObjectIdListNullRealmList != null) {
             return fieldObjectIdListNullRealmList;
@@ -1950,7 +1950,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
         }
 
-        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRealm$realm().checkIfValidForAccessor();
         OsList osList = proxyState.getRow$realm().getValueList(columnInfo.fieldObjectIdListNullColKey, RealmFieldType.OBJECT_ID_LIST);
         osList.removeAll();
         if (value == null) {
@@ -2828,11 +2828,11 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
         }
         org.bson.types.ObjectId realmGet$fieldObjectIdNotNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNotNull();
         if (realmGet$fieldObjectIdNotNull != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toByteArray(), false);
         }
         org.bson.types.ObjectId realmGet$fieldObjectIdNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNull();
         if (realmGet$fieldObjectIdNull != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toByteArray(), false);
         }
 
         some.test.NullTypes fieldObjectNullObj = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectNull();
@@ -3240,11 +3240,11 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
             org.bson.types.ObjectId realmGet$fieldObjectIdNotNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNotNull();
             if (realmGet$fieldObjectIdNotNull != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toByteArray(), false);
             }
             org.bson.types.ObjectId realmGet$fieldObjectIdNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNull();
             if (realmGet$fieldObjectIdNull != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toByteArray(), false);
             }
 
             some.test.NullTypes fieldObjectNullObj = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectNull();
@@ -3689,13 +3689,13 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
         }
         org.bson.types.ObjectId realmGet$fieldObjectIdNotNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNotNull();
         if (realmGet$fieldObjectIdNotNull != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toByteArray(), false);
         } else {
             Table.nativeSetNull(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, false);
         }
         org.bson.types.ObjectId realmGet$fieldObjectIdNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNull();
         if (realmGet$fieldObjectIdNull != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toByteArray(), false);
         } else {
             Table.nativeSetNull(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, false);
         }
@@ -4199,13 +4199,13 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
             org.bson.types.ObjectId realmGet$fieldObjectIdNotNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNotNull();
             if (realmGet$fieldObjectIdNotNull != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toByteArray(), false);
             } else {
                 Table.nativeSetNull(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, false);
             }
             org.bson.types.ObjectId realmGet$fieldObjectIdNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNull();
             if (realmGet$fieldObjectIdNull != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toByteArray(), false);
             } else {
                 Table.nativeSetNull(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, false);
             }
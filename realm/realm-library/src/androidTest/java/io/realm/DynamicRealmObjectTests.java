@@ -1592,6 +1592,65 @@ public class DynamicRealmObjectTests {
         assertTrue(dObjTyped.hasField(AllJavaTypes.FIELD_STRING));
     }
 
+    @Test
+    public void getColumnKey_accessors() {
+        long stringKey = dObjDynamic.getColumnKey(AllJavaTypes.FIELD_STRING);
+        long longKey = dObjDynamic.getColumnKey(AllJavaTypes.FIELD_LONG);
+        long doubleKey = dObjDynamic.getColumnKey(AllJavaTypes.FIELD_DOUBLE);
+        long floatKey = dObjDynamic.getColumnKey(AllJavaTypes.FIELD_FLOAT);
+        long booleanKey = dObjDynamic.getColumnKey(AllJavaTypes.FIELD_BOOLEAN);
+        long binaryKey = dObjDynamic.getColumnKey(AllJavaTypes.FIELD_BINARY);
+
+        // Keys resolved on one object can be used on all objects of the class.
+        DynamicRealmObject obj = dynamicRealm.where(AllJavaTypes.CLASS_NAME).findFirst();
+        assertEquals(stringKey, obj.getColumnKey(AllJavaTypes.FIELD_STRING));
+        assertEquals("str", obj.getString(stringKey));
+        assertEquals(1, obj.getLong(longKey));
+        assertEquals(1, obj.getInt(longKey));
+        assertEquals(1.234d, obj.getDouble(doubleKey), 0d);
+        assertEquals(1.23f, obj.getFloat(floatKey), 0f);
+        assertTrue(obj.getBoolean(booleanKey));
+        assertArrayEquals(new byte[] {1, 2, 3}, obj.getBlob(binaryKey));
+        assertFalse(obj.isNull(stringKey));
+    }
+
+    @Test
+    public void getColumnKey_wrongTypeThrows() {
+        long stringKey = dObjDynamic.getColumnKey(AllJavaTypes.FIELD_STRING);
+        try {
+            dObjDynamic.getLong(stringKey);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected.getMessage(), Matchers.containsString(AllJavaTypes.FIELD_STRING));
+        }
+    }
+
+    @Test
+    public void getColumnKey_illegalFieldNameThrows() {
+        try {
+            dObjDynamic.getColumnKey("nonExisting");
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void columnKeys_refreshedAfterSchemaChange() {
+        dynamicRealm.beginTransaction();
+        dynamicRealm.getSchema().get(AllJavaTypes.CLASS_NAME)
+                .renameField(AllJavaTypes.FIELD_STRING, "renamedString");
+        try {
+            dObjDynamic.getString(AllJavaTypes.FIELD_STRING);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        assertEquals("str", dObjDynamic.getString("renamedString"));
+
+        dynamicRealm.getSchema().get(AllJavaTypes.CLASS_NAME).setRequired("renamedString", true);
+        assertEquals("str", dObjDynamic.getString("renamedString"));
+        dynamicRealm.cancelTransaction();
+    }
+
     @Test
     public void getFieldType() {
         assertEquals(RealmFieldType.STRING, dObjTyped.getFieldType(AllJavaTypes.FIELD_STRING));
@@ -26,12 +26,14 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import io.realm.entities.AllJavaTypes;
 import io.realm.entities.AllTypes;
 import io.realm.entities.Cat;
 import io.realm.entities.CyclicType;
@@ -42,10 +44,12 @@ import io.realm.internal.RealmObjectProxy;
 import io.realm.rule.RunInLooperThread;
 import io.realm.rule.RunTestInLooperThread;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -1149,4 +1153,181 @@ public class RealmListTests extends CollectionTests {
     public void getRealm_returnsNullForUnmanagedList() {
         assertNull(new RealmList().getRealm());
     }
+
+    @Test
+    public void asLongList() {
+        realm.beginTransaction();
+        AllJavaTypes obj = realm.createObject(AllJavaTypes.class, 1);
+        RealmLongList longs = obj.getFieldLongList().asLongList();
+        longs.addLong(42);
+        longs.addAll(new long[] {1, 2, 3});
+        longs.addAll(new long[] {0, 4, 5, 0}, 1, 2);
+        longs.setLong(0, 0);
+        realm.commitTransaction();
+
+        assertEquals(6, longs.size());
+        assertEquals(6, obj.getFieldLongList().size());
+        assertEquals(3, longs.getLong(3));
+        assertEquals(Long.valueOf(5), obj.getFieldLongList().get(5));
+        assertArrayEquals(new long[] {0, 1, 2, 3, 4, 5}, longs.toArray());
+
+        long[] buffer = new long[10];
+        assertSame(buffer, longs.toArray(buffer));
+        assertEquals(5, buffer[5]);
+        long[] window = new long[2];
+        longs.getLongs(4, window, 0, 2);
+        assertArrayEquals(new long[] {4, 5}, window);
+    }
+
+    @Test
+    public void asLongList_valueOutOfRangeThrows() {
+        realm.beginTransaction();
+        AllJavaTypes obj = realm.createObject(AllJavaTypes.class, 1);
+        RealmLongList ints = obj.getFieldIntegerList().asLongList();
+        ints.addAll(new long[] {Integer.MIN_VALUE, Integer.MAX_VALUE});
+        try {
+            ints.addLong(Integer.MAX_VALUE + 1L);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            ints.setLong(0, Integer.MIN_VALUE - 1L);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            // Nothing is added if any of the values is out of range.
+            ints.addAll(new long[] {1, Long.MAX_VALUE});
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        assertArrayEquals(new long[] {Integer.MIN_VALUE, Integer.MAX_VALUE}, ints.toArray());
+
+        RealmLongList shorts = obj.getFieldShortList().asLongList();
+        shorts.addLong(Short.MAX_VALUE);
+        try {
+            shorts.addLong(Short.MAX_VALUE + 1);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        RealmLongList bytes = obj.getFieldByteList().asLongList();
+        bytes.addLong(Byte.MIN_VALUE);
+        try {
+            bytes.addAll(new long[] {0, 128}, 1, 1);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        realm.cancelTransaction();
+    }
+
+    @Test
+    public void asDoubleList() {
+        realm.beginTransaction();
+        AllJavaTypes obj = realm.createObject(AllJavaTypes.class, 1);
+        RealmDoubleList doubles = obj.getFieldDoubleList().asDoubleList();
+        doubles.addAll(new double[] {1.5, 2.5});
+        doubles.addDouble(3.5);
+        obj.getFieldDoubleList().add(null);
+        doubles.setDouble(0, 0.5);
+        realm.commitTransaction();
+
+        assertEquals(4, doubles.size());
+        assertEquals(2.5, doubles.getDouble(1), 0D);
+        assertTrue(Double.isNaN(doubles.getDouble(3)));
+        double[] values = doubles.toArray(new double[0]);
+        assertEquals(4, values.length);
+        assertEquals(0.5, values[0], 0D);
+        assertEquals(3.5, values[2], 0D);
+    }
+
+    @Test
+    public void asLongList_invalidArgumentsThrows() {
+        try {
+            new RealmList<Long>().asLongList();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        try {
+            collection.asLongList();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+
+        realm.beginTransaction();
+        AllJavaTypes obj = realm.createObject(AllJavaTypes.class, 1);
+        try {
+            obj.getFieldDoubleList().asLongList();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        RealmLongList longs = obj.getFieldLongList().asLongList();
+        longs.addAll(new long[] {1, 2, 3});
+        try {
+            longs.getLongs(2, new long[2], 0, 2);
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+        try {
+            longs.addAll(new long[2], 1, 2);
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+        realm.commitTransaction();
+
+        try {
+            longs.addLong(4);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        assertEquals(3, longs.size());
+    }
+
+    @Test
+    public void addAll_managedMode() {
+        realm.beginTransaction();
+        AllJavaTypes obj = realm.createObject(AllJavaTypes.class, 1);
+        RealmList<Long> longs = obj.getFieldLongList();
+        assertTrue(longs.addAll(Arrays.asList(1L, 2L, null, 5L)));
+        assertTrue(longs.addAll(3, Arrays.asList(3L, 4L)));
+        assertFalse(longs.addAll(Collections.<Long>emptyList()));
+
+        List<Dog> dogs = realm.where(Dog.class).findAll();
+        collection.addAll(0, dogs);
+        collection.addAll(Collections.singletonList(new Dog("Unmanaged")));
+        realm.commitTransaction();
+
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L, null, 5L), longs);
+        assertEquals(TEST_SIZE * 2 + 1, collection.size());
+        assertEquals(dogs.get(0).getName(), collection.get(0).getName());
+        assertEquals("Unmanaged", collection.get(TEST_SIZE * 2).getName());
+        assertEquals(TEST_SIZE + 1, realm.where(Dog.class).count());
+    }
+
+    @Test
+    public void addAll_invalidArgumentsThrows() {
+        realm.beginTransaction();
+        AllJavaTypes obj = realm.createObject(AllJavaTypes.class, 1);
+        //noinspection unchecked
+        RealmList<Object> longs = (RealmList<Object>) (RealmList<?>) obj.getFieldLongList();
+        try {
+            longs.addAll(Arrays.<Object>asList(1L, "2"));
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        assertTrue(longs.isEmpty());
+
+        try {
+            longs.addAll(1, Collections.<Object>singletonList(1L));
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+        realm.cancelTransaction();
+
+        try {
+            collection.addAll(Collections.singletonList(new Dog("Outside transaction")));
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
 }
@@ -1174,6 +1174,44 @@ public class RealmObjectSchemaTests {
         }
     }
 
+    @Test
+    public void addFullTextIndex_andRemove() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            try {
+                schema.addFullTextIndex("test");
+                fail();
+            } catch (UnsupportedOperationException ignore) {
+            }
+            try {
+                schema.removeFullTextIndex("test");
+                fail();
+            } catch (UnsupportedOperationException ignore) {
+            }
+            return;
+        }
+        String fieldName = "foo";
+        schema.addField(fieldName, String.class);
+        schema.addFullTextIndex(fieldName);
+        assertTrue(schema.hasFullTextIndex(fieldName));
+        assertFalse(schema.hasIndex(fieldName));
+        try {
+            schema.addFullTextIndex(fieldName);
+            fail();
+        } catch (IllegalStateException ignore) {
+        }
+        schema.removeFullTextIndex(fieldName);
+        assertFalse(schema.hasFullTextIndex(fieldName));
+        try {
+            schema.removeFullTextIndex(fieldName);
+            fail();
+        } catch (IllegalStateException ignore) {
+        }
+
+        schema.addField("bar", long.class);
+        thrown.expect(IllegalArgumentException.class);
+        schema.addFullTextIndex("bar");
+    }
+
     @Test
     public void removeNonExistingIndexThrows() {
         if (type == ObjectSchemaType.IMMUTABLE) {
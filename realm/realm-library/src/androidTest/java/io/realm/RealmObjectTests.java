@@ -25,6 +25,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 
 import java.io.FileNotFoundException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -120,6 +121,142 @@ public class RealmObjectTests {
         assertEquals(26, row.getColumnCount());     // Update this value when adding new fields to AllTypes
     }
 
+    @Test
+    public void binaryBuffer() {
+        byte[] bytes = new byte[512 * 1024];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31);
+        }
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 2);
+        direct.put(new byte[] {42}).put(bytes).put(new byte[] {42});
+        direct.position(1);
+        direct.limit(1 + bytes.length);
+
+        realm.beginTransaction();
+        AllTypes directObj = realm.createObject(AllTypes.class);
+        RealmObject.setBinaryBuffer(directObj, AllTypes.FIELD_BINARY, direct);
+        AllTypes heapObj = realm.createObject(AllTypes.class);
+        RealmObject.setBinaryBuffer(heapObj, AllTypes.FIELD_BINARY, ByteBuffer.wrap(bytes));
+        AllTypes emptyObj = realm.createObject(AllTypes.class);
+        RealmObject.setBinaryBuffer(emptyObj, AllTypes.FIELD_BINARY, ByteBuffer.allocateDirect(0));
+        realm.commitTransaction();
+
+        // The position of the source buffer is left untouched.
+        assertEquals(1, direct.position());
+        assertArrayEquals(bytes, directObj.getColumnBinary());
+        assertArrayEquals(bytes, heapObj.getColumnBinary());
+
+        RealmBinaryBuffer value = RealmObject.getBinaryBuffer(directObj, AllTypes.FIELD_BINARY);
+        assertNotNull(value);
+        assertEquals(bytes.length, value.size());
+        ByteBuffer buffer = value.getBuffer();
+        assertTrue(buffer.isDirect());
+        assertTrue(buffer.isReadOnly());
+        assertEquals(bytes.length, buffer.remaining());
+        byte[] read = new byte[bytes.length];
+        buffer.get(read);
+        assertArrayEquals(bytes, read);
+
+        RealmBinaryBuffer empty = RealmObject.getBinaryBuffer(emptyObj, AllTypes.FIELD_BINARY);
+        assertNotNull(empty);
+        assertEquals(0, empty.getBuffer().remaining());
+    }
+
+    @Test
+    public void binaryBuffer_invalidAfterVersionChange() {
+        realm.beginTransaction();
+        AllTypes obj = realm.createObject(AllTypes.class);
+        obj.setColumnBinary(new byte[] {1, 2, 3});
+        realm.commitTransaction();
+
+        RealmBinaryBuffer value = RealmObject.getBinaryBuffer(obj, AllTypes.FIELD_BINARY);
+        assertNotNull(value);
+        assertTrue(value.isValid());
+        assertEquals(3, value.getBuffer().remaining());
+
+        realm.beginTransaction();
+        assertFalse(value.isValid());
+        try {
+            value.getBuffer();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        try {
+            RealmObject.getBinaryBuffer(obj, AllTypes.FIELD_BINARY);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        obj.setColumnBinary(new byte[] {4, 5});
+        realm.commitTransaction();
+
+        // The Realm advanced to the version of the write, so the value has to be read again.
+        assertFalse(value.isValid());
+        try {
+            value.getBuffer();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        RealmBinaryBuffer updated = RealmObject.getBinaryBuffer(obj, AllTypes.FIELD_BINARY);
+        assertNotNull(updated);
+        assertEquals(2, updated.getBuffer().remaining());
+    }
+
+    @Test
+    public void binaryBuffer_frozenObjectStaysValid() {
+        realm.beginTransaction();
+        AllTypes obj = realm.createObject(AllTypes.class);
+        obj.setColumnBinary(new byte[] {1, 2, 3});
+        realm.commitTransaction();
+
+        AllTypes frozenObj = obj.freeze();
+        RealmBinaryBuffer value = RealmObject.getBinaryBuffer(frozenObj, AllTypes.FIELD_BINARY);
+        assertNotNull(value);
+
+        realm.beginTransaction();
+        obj.setColumnBinary(new byte[] {4, 5});
+        realm.commitTransaction();
+
+        assertTrue(value.isValid());
+        assertEquals(3, value.getBuffer().remaining());
+
+        frozenObj.getRealm().close();
+        assertFalse(value.isValid());
+        try {
+            value.getBuffer();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void binaryBuffer_invalidArgumentsThrows() {
+        realm.beginTransaction();
+        AllTypes obj = realm.createObject(AllTypes.class);
+        realm.commitTransaction();
+
+        try {
+            RealmObject.getBinaryBuffer(new AllTypes(), AllTypes.FIELD_BINARY);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            RealmObject.getBinaryBuffer(obj, AllTypes.FIELD_STRING);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            RealmObject.getBinaryBuffer(obj, "unknown");
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            RealmObject.setBinaryBuffer(obj, AllTypes.FIELD_BINARY, ByteBuffer.allocateDirect(1));
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
     @Test
     public void stringEncoding() {
         String[] strings = {"ABCD", "ÆØÅ", "Ö∫Ë", "ΠΑΟΚ", "Здравей"};
@@ -32,6 +32,7 @@ import java.math.BigDecimal;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -39,6 +40,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.test.annotation.UiThreadTest;
@@ -66,6 +68,7 @@ import io.realm.entities.embedded.EmbeddedSimpleChild;
 import io.realm.entities.embedded.EmbeddedSimpleParent;
 import io.realm.entities.realmname.ClassWithValueDefinedNames;
 import io.realm.exceptions.RealmException;
+import io.realm.internal.OsResultsCache;
 import io.realm.log.RealmLog;
 import io.realm.rule.RunTestInLooperThread;
 
@@ -73,6 +76,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -1014,6 +1018,49 @@ public class RealmQueryTests extends QueryTests {
         assertTrue(resultList.isEmpty());
     }
 
+    @Test
+    public void in_longArray() {
+        populateTestRealm();
+        long[] values = new long[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 3;
+        }
+        assertEquals(4, realm.where(AllTypes.class).in(AllTypes.FIELD_LONG, values).count());
+        assertEquals(6, realm.where(AllTypes.class).not().in(AllTypes.FIELD_LONG, values).count());
+        assertEquals(0, realm.where(AllTypes.class).in(AllTypes.FIELD_LONG, new long[0]).count());
+        assertEquals(0, realm.where(AllTypes.class).in(AllTypes.FIELD_LONG, (long[]) null).count());
+
+        // Link queries are still supported.
+        assertEquals(2, realm.where(AllTypes.class).in(AllTypes.FIELD_REALMOBJECT + "." + Dog.FIELD_AGE, new long[] {1, 2}).count());
+    }
+
+    @Test
+    public void in_objectIdArray() {
+        populateTestRealm();
+        ObjectId[] values = {
+                new ObjectId(TestHelper.generateObjectIdHexString(2)),
+                new ObjectId(TestHelper.generateObjectIdHexString(7)),
+                new ObjectId(TestHelper.generateObjectIdHexString(42))
+        };
+        assertEquals(2, realm.where(AllTypes.class).in(AllTypes.FIELD_OBJECT_ID, values).count());
+        assertEquals(2, realm.where(AllTypes.class).in(AllTypes.FIELD_OBJECT_ID, new ObjectId[] {values[0], null, values[1]}).count());
+        assertEquals(0, realm.where(AllTypes.class).in(AllTypes.FIELD_OBJECT_ID, new ObjectId[0]).count());
+    }
+
+    @Test
+    public void in_stringCollection() {
+        populateTestRealm();
+        assertEquals(2, realm.where(AllTypes.class).in(AllTypes.FIELD_STRING, Arrays.asList("test data 1", "test data 5", "foo")).count());
+        assertEquals(1, realm.where(AllTypes.class).in(AllTypes.FIELD_STRING, new HashSet<>(Collections.singletonList("test data 9"))).count());
+        assertEquals(0, realm.where(AllTypes.class).in(AllTypes.FIELD_STRING, Collections.<String>emptyList()).count());
+    }
+
+    @Test
+    public void in_longArray_wrongFieldType() {
+        thrown.expect(IllegalArgumentException.class);
+        realm.where(AllTypes.class).in(AllTypes.FIELD_STRING, new long[] {1}).findAll();
+    }
+
     @Test
     public void in_stringNull() {
         doTestForInString(NoPrimaryKeyNullTypes.FIELD_STRING_NULL);
@@ -3886,6 +3933,17 @@ public class RealmQueryTests extends QueryTests {
         assertEquals(2, result.size());
     }
 
+    @Test
+    public void getDescription_typedAndParsedConditionsUseSameOperators() {
+        // Non-null values on direct fields use the typed native conditions, null values go through the query parser.
+        assertEquals(realm.where(AllTypes.class).rawPredicate("columnString ==[c] 'foo'").getDescription(),
+                realm.where(AllTypes.class).equalTo(AllTypes.FIELD_STRING, "foo", Case.INSENSITIVE).getDescription());
+        assertEquals(realm.where(AllTypes.class).rawPredicate("columnString == NULL").getDescription(),
+                realm.where(AllTypes.class).equalTo(AllTypes.FIELD_STRING, (String) null).getDescription());
+        assertEquals(realm.where(AllTypes.class).rawPredicate("columnLong == 42").getDescription(),
+                realm.where(AllTypes.class).equalTo(AllTypes.FIELD_LONG, 42L).getDescription());
+    }
+
     @Test
     public void rawPredicate_rawDescriptors() {
         realm.beginTransaction();
@@ -4192,6 +4250,78 @@ public class RealmQueryTests extends QueryTests {
         }
     }
 
+    @Test
+    public void findAll_queryResultCache() {
+        RealmConfiguration configuration = configFactory.createConfigurationBuilder()
+                .queryResultCacheSize(2)
+                .name("cached_realm")
+                .build();
+        Realm cachedRealm = Realm.getInstance(configuration);
+        try {
+            populateTestRealm(cachedRealm, TEST_DATA_SIZE);
+
+            OsResultsCache cache = cachedRealm.sharedRealm.getResultsCache();
+            RealmResults<AllTypes> first = cachedRealm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, 4).findAll();
+            assertEquals(1, cache.size());
+            RealmResults<AllTypes> second = cachedRealm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, 4).findAll();
+            assertEquals(1, cache.size());
+            // Every caller gets its own copy of the cached results.
+            assertNotSame(first.getOsResults(), second.getOsResults());
+            assertEquals(5, second.size());
+
+            // Different queries are cached separately.
+            RealmResults<AllTypes> other = cachedRealm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, 5).findAll();
+            assertEquals(2, cache.size());
+            assertEquals(4, other.size());
+
+            // A new version invalidates the cache.
+            cachedRealm.beginTransaction();
+            cachedRealm.createObject(AllTypes.class).setColumnLong(42);
+            RealmResults<AllTypes> inTransaction = cachedRealm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, 4).findAll();
+            assertNotSame(first.getOsResults(), inTransaction.getOsResults());
+            assertEquals(6, inTransaction.size());
+            cachedRealm.commitTransaction();
+
+            RealmResults<AllTypes> afterCommit = cachedRealm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, 4).findAll();
+            assertNotSame(first.getOsResults(), afterCommit.getOsResults());
+            assertEquals(6, afterCommit.size());
+        } finally {
+            cachedRealm.close();
+        }
+    }
+
+    @Test
+    @RunTestInLooperThread
+    public void findAll_queryResultCache_listenersAreIndependent() {
+        RealmConfiguration configuration = configFactory.createConfigurationBuilder()
+                .queryResultCacheSize(2)
+                .name("cached_looper_realm")
+                .build();
+        final Realm cachedRealm = Realm.getInstance(configuration);
+        looperThread.closeAfterTest(cachedRealm);
+        populateTestRealm(cachedRealm, TEST_DATA_SIZE);
+
+        RealmResults<AllTypes> first = cachedRealm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, 4).findAll();
+        RealmResults<AllTypes> second = cachedRealm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, 4).findAll();
+        looperThread.keepStrongReference(first);
+        looperThread.keepStrongReference(second);
+        first.addChangeListener(results -> fail("Listeners of the first results were removed."));
+        second.addChangeListener(results -> {
+            assertEquals(6, results.size());
+            looperThread.testComplete();
+        });
+        first.removeAllChangeListeners();
+
+        cachedRealm.executeTransaction(r -> r.createObject(AllTypes.class).setColumnLong(42));
+    }
+
+    @Test
+    public void findAll_queryResultCacheDisabledByDefault() {
+        RealmResults<AllTypes> first = realm.where(AllTypes.class).findAll();
+        RealmResults<AllTypes> second = realm.where(AllTypes.class).findAll();
+        assertNotSame(first.getOsResults(), second.getOsResults());
+    }
+
     @Test
     @UiThreadTest
     public void findAll_runOnMainThreadAllowed() {
@@ -4514,6 +4644,627 @@ public class RealmQueryTests extends QueryTests {
         }
     }
 
+    @Test
+    public void queryTemplate_bind() {
+        populateTestRealm();
+
+        RealmQueryTemplate<AllTypes> template = realm.queryTemplate(AllTypes.class)
+                .greaterThanOrEqualTo(AllTypes.FIELD_LONG)
+                .lessThan(AllTypes.FIELD_LONG)
+                .beginsWith(AllTypes.FIELD_STRING, Case.SENSITIVE);
+        assertEquals(3, template.getArgumentCount());
+
+        assertEquals(5, template.bind(0, 5, "test data").count());
+        assertEquals(2, template.bind(3L, 5L, "test data").count());
+        assertEquals(0, template.bind(0, 5, "foo").count());
+
+        // Bound queries can be refined further.
+        RealmResults<AllTypes> results = template.bind(0, 10, "test").sort(AllTypes.FIELD_LONG, Sort.DESCENDING).findAll();
+        assertEquals(TEST_DATA_SIZE, results.size());
+        assertEquals(TEST_DATA_SIZE - 1, results.first().getColumnLong());
+    }
+
+    @Test
+    public void queryTemplate_groupsAndBetween() {
+        populateTestRealm();
+
+        RealmQueryTemplate<AllTypes> template = realm.queryTemplate(AllTypes.class)
+                .beginGroup()
+                    .equalTo(AllTypes.FIELD_LONG)
+                    .or()
+                    .between(AllTypes.FIELD_FLOAT)
+                .endGroup()
+                .not().equalTo(AllTypes.FIELD_STRING, Case.INSENSITIVE);
+        assertEquals(4, template.getArgumentCount());
+
+        // columnLong == 0 or columnFloat in [2.0, 4.5] matches 4 objects, one of which is excluded again.
+        assertEquals(3, template.bind(0, 2.0f, 4.5f, "TEST DATA 2").count());
+    }
+
+    @Test
+    public void queryTemplate_wrongArgumentCount() {
+        RealmQueryTemplate<AllTypes> template = realm.queryTemplate(AllTypes.class).between(AllTypes.FIELD_LONG);
+
+        thrown.expect(IllegalArgumentException.class);
+        template.bind(1);
+    }
+
+    @Test
+    public void queryTemplate_linkQueriesNotSupported() {
+        thrown.expect(IllegalArgumentException.class);
+        realm.queryTemplate(AllTypes.class).equalTo(AllTypes.FIELD_REALMOBJECT + ".name");
+    }
+
+    @Test
+    public void typedConditions_sameResultsAsQueryParser() {
+        populateTestRealm();
+
+        assertEquals(realm.where(AllTypes.class).rawPredicate("columnLong > 3 AND columnLong <= 7").count(),
+                realm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, 3).lessThanOrEqualTo(AllTypes.FIELD_LONG, 7L).count());
+        // Integers are widened to the floating point type of the column.
+        assertEquals(realm.where(AllTypes.class).rawPredicate("columnDouble >= 3").count(),
+                realm.where(AllTypes.class).greaterThanOrEqualTo(AllTypes.FIELD_DOUBLE, 3).count());
+        assertEquals(realm.where(AllTypes.class).rawPredicate("columnFloat BETWEEN {2, 5}").count(),
+                realm.where(AllTypes.class).between(AllTypes.FIELD_FLOAT, 2f, 5f).count());
+        assertEquals(realm.where(AllTypes.class).rawPredicate("columnString ==[c] 'TEST DATA 3'").count(),
+                realm.where(AllTypes.class).equalTo(AllTypes.FIELD_STRING, "TEST DATA 3", Case.INSENSITIVE).count());
+        assertEquals(realm.where(AllTypes.class).rawPredicate("columnBoolean == true").count(),
+                realm.where(AllTypes.class).equalTo(AllTypes.FIELD_BOOLEAN, true).count());
+        assertEquals(realm.where(AllTypes.class).rawPredicate("columnDate < $0", new Date(0)).count(),
+                realm.where(AllTypes.class).lessThan(AllTypes.FIELD_DATE, new Date(0)).count());
+        assertEquals(realm.where(AllTypes.class).rawPredicate("columnString ENDSWITH '9'").count(),
+                realm.where(AllTypes.class).endsWith(AllTypes.FIELD_STRING, "9").count());
+
+        // Nullable values and link queries still go through the query parser.
+        assertEquals(0, realm.where(AllTypes.class).equalTo(AllTypes.FIELD_LONG, (Long) null).count());
+        assertEquals(TEST_DATA_SIZE, realm.where(AllTypes.class).equalTo(AllTypes.FIELD_REALMOBJECT + ".age", 1).count()
+                + realm.where(AllTypes.class).notEqualTo(AllTypes.FIELD_REALMOBJECT + ".age", 1).count());
+    }
+
+    @Test
+    public void typedConditions_wrongType() {
+        thrown.expect(IllegalArgumentException.class);
+        realm.where(AllTypes.class).equalTo(AllTypes.FIELD_STRING, 42).findAll();
+    }
+
+    @Test
+    public void explain() {
+        populateTestRealm();
+
+        QueryPlan plan = realm.where(Dog.class).equalTo(Dog.FIELD_NAME, "test data 3").explain();
+        assertEquals(TEST_DATA_SIZE, plan.getTableSize());
+        assertEquals(1, plan.getStages().size());
+        assertEquals(QueryPlan.StageType.FILTER, plan.getStages().get(0).getType());
+        assertEquals(1, plan.getResultSize());
+        assertEquals(1, plan.getConditionFields().size());
+        assertTrue(plan.getConditionFields().get(Dog.FIELD_NAME));
+
+        plan = realm.where(AllTypes.class)
+                .greaterThan(AllTypes.FIELD_LONG, 2)
+                .sort(AllTypes.FIELD_LONG, Sort.DESCENDING)
+                .limit(3)
+                .explain();
+        List<QueryPlan.Stage> stages = plan.getStages();
+        assertEquals(3, stages.size());
+        assertEquals(QueryPlan.StageType.FILTER, stages.get(0).getType());
+        assertEquals(TEST_DATA_SIZE, stages.get(0).getInputRows());
+        assertEquals(7, stages.get(0).getOutputRows());
+        assertEquals(QueryPlan.StageType.SORT, stages.get(1).getType());
+        assertEquals(7, stages.get(1).getInputRows());
+        assertEquals(7, stages.get(1).getOutputRows());
+        assertEquals(QueryPlan.StageType.LIMIT, stages.get(2).getType());
+        assertEquals(7, stages.get(2).getInputRows());
+        assertEquals(3, stages.get(2).getOutputRows());
+        assertEquals(3, plan.getResultSize());
+    }
+
+    @Test
+    public void profile_findAll() {
+        populateTestRealm();
+
+        RealmResults<AllTypes> results = realm.where(AllTypes.class).lessThan(AllTypes.FIELD_LONG, 5).profile().findAll();
+        QueryPlan plan = results.getQueryPlan();
+        assertNotNull(plan);
+        assertEquals(5, plan.getResultSize());
+        assertEquals(TEST_DATA_SIZE, plan.getTableSize());
+        assertTrue(plan.getStages().isEmpty());
+        assertTrue(plan.getTotalDurationNanos() > 0);
+        assertEquals(1, plan.getConditionFields().size());
+        assertFalse(plan.getConditionFields().get(AllTypes.FIELD_LONG));
+
+        assertNull(realm.where(AllTypes.class).findAll().getQueryPlan());
+    }
+
+    @Test
+    public void aggregate() {
+        populateTestRealm();
+
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, 2);
+        AggregationResult result = query.aggregate(
+                Aggregation.count(),
+                Aggregation.sum(AllTypes.FIELD_LONG),
+                Aggregation.average(AllTypes.FIELD_DOUBLE),
+                Aggregation.min(AllTypes.FIELD_FLOAT),
+                Aggregation.max(AllTypes.FIELD_DATE),
+                Aggregation.sum(AllTypes.FIELD_DECIMAL128));
+
+        assertEquals(6, result.size());
+        assertEquals(query.count(), result.getNumber(0).longValue());
+        assertEquals(query.sum(AllTypes.FIELD_LONG).longValue(), result.getNumber(1).longValue());
+        assertEquals(query.average(AllTypes.FIELD_DOUBLE), result.getNumber(2).doubleValue(), 0.0000001);
+        assertEquals(query.min(AllTypes.FIELD_FLOAT), result.getNumber(3));
+        assertEquals(query.maximumDate(AllTypes.FIELD_DATE), result.getDate(4));
+        assertEquals(query.sum(AllTypes.FIELD_DECIMAL128), result.get(Aggregation.sum(AllTypes.FIELD_DECIMAL128)));
+    }
+
+    @Test
+    public void aggregate_skipsNullValues() {
+        populateNoPrimaryKeyNullTypesRows();
+
+        RealmQuery<NoPrimaryKeyNullTypes> query = realm.where(NoPrimaryKeyNullTypes.class);
+        AggregationResult result = query.aggregate(
+                Aggregation.count(),
+                Aggregation.sum(NullTypes.FIELD_INTEGER_NULL),
+                Aggregation.average(NullTypes.FIELD_DOUBLE_NULL),
+                Aggregation.min(NullTypes.FIELD_LONG_NULL),
+                Aggregation.max(NullTypes.FIELD_FLOAT_NULL));
+
+        assertEquals(TEST_NO_PRIMARY_KEY_NULL_TYPES_SIZE, result.getNumber(0).longValue());
+        assertEquals(query.sum(NullTypes.FIELD_INTEGER_NULL).longValue(), result.getNumber(1).longValue());
+        assertEquals(query.average(NullTypes.FIELD_DOUBLE_NULL), result.getNumber(2).doubleValue(), 0.0000001);
+        assertEquals(query.min(NullTypes.FIELD_LONG_NULL).longValue(), result.getNumber(3).longValue());
+        assertEquals(query.max(NullTypes.FIELD_FLOAT_NULL), result.getNumber(4));
+    }
+
+    @Test
+    public void aggregate_noMatches() {
+        populateTestRealm();
+
+        AggregationResult result = realm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, TEST_DATA_SIZE)
+                .aggregate(Aggregation.count(), Aggregation.average(AllTypes.FIELD_LONG), Aggregation.min(AllTypes.FIELD_DATE));
+        assertEquals(0L, result.getNumber(0));
+        assertEquals(0.0, result.getNumber(1).doubleValue(), 0.0);
+        assertNull(result.getDate(2));
+    }
+
+    @Test
+    public void aggregate_invalidArguments() {
+        populateTestRealm();
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class);
+
+        try {
+            query.aggregate();
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            query.aggregate(Aggregation.sum(AllTypes.FIELD_STRING));
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            query.aggregate(Aggregation.average(AllTypes.FIELD_DATE));
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            query.aggregate(Aggregation.max("nonExistingField"));
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    private void populateGroupByRealm() {
+        realm.beginTransaction();
+        for (int i = 0; i < 9; i++) {
+            AllTypes obj = realm.createObject(AllTypes.class);
+            obj.setColumnString("group " + (i % 3));
+            obj.setColumnLong(i);
+            obj.setColumnDate(new Date(i * 1000L));
+            if (i % 2 == 0) {
+                Dog dog = realm.createObject(Dog.class);
+                dog.setName("dog " + (i % 4));
+                obj.setColumnRealmObject(dog);
+            }
+        }
+        realm.commitTransaction();
+    }
+
+    @Test
+    public void groupBy_string() {
+        populateGroupByRealm();
+
+        GroupedAggregationResult groups = realm.where(AllTypes.class)
+                .groupBy(AllTypes.FIELD_STRING)
+                .aggregate(Aggregation.count(), Aggregation.sum(AllTypes.FIELD_LONG), Aggregation.max(AllTypes.FIELD_DATE));
+
+        assertEquals(3, groups.size());
+        for (int i = 0; i < 3; i++) {
+            String key = "group " + i;
+            assertEquals(key, groups.getKey(i));
+            RealmQuery<AllTypes> query = realm.where(AllTypes.class).equalTo(AllTypes.FIELD_STRING, key);
+            AggregationResult values = groups.getValues(i);
+            assertEquals(query.count(), values.getNumber(0).longValue());
+            assertEquals(query.sum(AllTypes.FIELD_LONG).longValue(), values.getNumber(1).longValue());
+            assertEquals(query.maximumDate(AllTypes.FIELD_DATE), values.getDate(2));
+        }
+    }
+
+    @Test
+    public void groupBy_dateBuckets() {
+        populateGroupByRealm();
+
+        GroupedAggregationResult groups = realm.where(AllTypes.class)
+                .greaterThan(AllTypes.FIELD_LONG, 0)
+                .groupBy(AllTypes.FIELD_DATE, 3, TimeUnit.SECONDS)
+                .aggregate(Aggregation.count(), Aggregation.min(AllTypes.FIELD_LONG));
+
+        assertEquals(3, groups.size());
+        assertEquals(new Date(0), groups.getKey(0));
+        assertEquals(2L, groups.getValues(0).getNumber(0));
+        assertEquals(1L, groups.getValues(0).getNumber(1));
+        assertEquals(new Date(3000), groups.getKey(1));
+        assertEquals(3L, groups.getValues(1).getNumber(0));
+        assertEquals(new Date(6000), groups.getKey(2));
+        assertEquals(6L, groups.getValues(2).getNumber(1));
+    }
+
+    @Test
+    public void groupBy_linkPath() {
+        populateGroupByRealm();
+
+        GroupedAggregationResult groups = realm.where(AllTypes.class)
+                .groupBy(AllTypes.FIELD_REALMOBJECT + "." + Dog.FIELD_NAME)
+                .aggregate(Aggregation.count());
+
+        // Objects without a dog are grouped under null, which sorts first.
+        assertEquals(3, groups.size());
+        assertNull(groups.getKey(0));
+        assertEquals(4L, groups.getValues(0).getNumber(0));
+        assertEquals("dog 0", groups.getKey(1));
+        assertEquals(3L, groups.getValues(1).getNumber(0));
+        assertEquals("dog 2", groups.getKey(2));
+        assertEquals(2L, groups.getValues(2).getNumber(0));
+    }
+
+    @Test
+    public void groupBy_invalidFields() {
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class);
+
+        try {
+            query.groupBy("nonExistingField");
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            query.groupBy(AllTypes.FIELD_DOUBLE);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            query.groupBy(AllTypes.FIELD_STRING + ".length");
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            query.groupBy(AllTypes.FIELD_STRING, 1, TimeUnit.HOURS);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            query.groupBy(AllTypes.FIELD_DATE, 0, TimeUnit.HOURS);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void findFirst_sorted_selectsFirstRowWithoutFullSort() {
+        populateTestRealm();
+
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class).sort(AllTypes.FIELD_LONG, Sort.DESCENDING);
+        assertEquals(TEST_DATA_SIZE - 1, query.findFirst().getColumnLong());
+
+        query = realm.where(AllTypes.class).lessThan(AllTypes.FIELD_LONG, 5).sort(AllTypes.FIELD_DATE, Sort.DESCENDING).limit(3);
+        assertEquals(query.findAll().first().getColumnLong(), query.findFirst().getColumnLong());
+
+        // Ties are resolved by the sort on the second field.
+        query = realm.where(AllTypes.class).sort(
+                new String[] {AllTypes.FIELD_BOOLEAN, AllTypes.FIELD_LONG},
+                new Sort[] {Sort.DESCENDING, Sort.DESCENDING});
+        assertEquals(9, query.findFirst().getColumnLong());
+
+        // Falls back to the full ordering when other descriptors are involved or the field is not direct.
+        query = realm.where(AllTypes.class).sort(AllTypes.FIELD_LONG, Sort.DESCENDING).distinct(AllTypes.FIELD_BOOLEAN);
+        assertEquals(query.findAll().first().getColumnLong(), query.findFirst().getColumnLong());
+        query = realm.where(AllTypes.class).sort(AllTypes.FIELD_STRING, Sort.DESCENDING);
+        assertEquals(query.findAll().first().getColumnLong(), query.findFirst().getColumnLong());
+        query = realm.where(AllTypes.class).limit(3).sort(AllTypes.FIELD_LONG, Sort.DESCENDING);
+        assertEquals(query.findAll().first().getColumnLong(), query.findFirst().getColumnLong());
+
+        assertNull(realm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, TEST_DATA_SIZE)
+                .sort(AllTypes.FIELD_LONG).findFirst());
+    }
+
+    @Test
+    public void findFirst_sorted_withOrderingFromRawPredicate() {
+        populateTestRealm();
+
+        // Descriptors added by a raw predicate are part of the ordering and must not be ignored.
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class)
+                .rawPredicate(AllTypes.FIELD_LONG + " < 8 SORT(" + AllTypes.FIELD_BOOLEAN + " DESC)")
+                .sort(AllTypes.FIELD_LONG, Sort.DESCENDING);
+        assertEquals(query.findAll().first().getColumnLong(), query.findFirst().getColumnLong());
+
+        query = realm.where(AllTypes.class)
+                .sort(AllTypes.FIELD_BOOLEAN, Sort.DESCENDING)
+                .rawPredicate("TRUEPREDICATE SORT(" + AllTypes.FIELD_LONG + " ASC)");
+        assertEquals(query.findAll().first().getColumnLong(), query.findFirst().getColumnLong());
+
+        query = realm.where(AllTypes.class)
+                .sort(AllTypes.FIELD_LONG, Sort.DESCENDING)
+                .rawPredicate("TRUEPREDICATE LIMIT(2)");
+        assertEquals(TEST_DATA_SIZE - 1, query.findFirst().getColumnLong());
+    }
+
+    @Test
+    public void findFirst_sorted_restoresOrderingOfQuery() {
+        populateTestRealm();
+
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class)
+                .lessThan(AllTypes.FIELD_LONG, 8)
+                .sort(AllTypes.FIELD_LONG, Sort.DESCENDING)
+                .limit(3);
+        String description = query.getDescription();
+        assertTrue(description.contains("SORT("));
+        assertTrue(description.contains("LIMIT(3)"));
+
+        // The heap selection runs the filter without the ordering and must put the ordering back afterwards.
+        assertEquals(7, query.findFirst().getColumnLong());
+        assertEquals(description, query.getDescription());
+        assertEquals(7, query.findFirst().getColumnLong());
+
+        RealmResults<AllTypes> results = query.findAll();
+        assertEquals(3, results.size());
+        assertEquals(7, results.get(0).getColumnLong());
+        assertEquals(5, results.get(2).getColumnLong());
+    }
+
+    @Test
+    public void page() {
+        populateTestRealm();
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class);
+
+        RealmPage<AllTypes> page = query.page(AllTypes.FIELD_LONG, Sort.ASCENDING, 3);
+        List<Long> values = new ArrayList<>();
+        int pages = 1;
+        while (true) {
+            for (AllTypes obj : page.getItems()) {
+                values.add(obj.getColumnLong());
+            }
+            if (!page.hasNext()) {
+                break;
+            }
+            page = realm.where(AllTypes.class).page(AllTypes.FIELD_LONG, Sort.ASCENDING, page.getNextCursor(), 3);
+            pages++;
+        }
+        assertEquals(4, pages);
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), values);
+
+        page = realm.where(AllTypes.class).lessThan(AllTypes.FIELD_LONG, 8)
+                .page(AllTypes.FIELD_LONG, Sort.DESCENDING, RealmPage.Cursor.after(4L), 3);
+        assertEquals(3, page.size());
+        assertEquals(3, page.getItems().get(0).getColumnLong());
+        assertEquals(1, page.getItems().get(2).getColumnLong());
+        assertEquals(1L, page.getNextCursor().getValue());
+    }
+
+    @Test
+    public void page_duplicateSortValues() {
+        populateTestRealm();
+
+        // All objects have the same double value, so they are only ordered by their object key.
+        Set<Long> seen = new HashSet<>();
+        RealmPage.Cursor cursor = null;
+        do {
+            RealmPage<AllTypes> page = realm.where(AllTypes.class).page(AllTypes.FIELD_DOUBLE, Sort.DESCENDING, cursor, 4);
+            for (AllTypes obj : page.getItems()) {
+                assertTrue(seen.add(obj.getColumnLong()));
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(TEST_DATA_SIZE, seen.size());
+    }
+
+    @Test
+    public void page_ignoresOrderingOfQuery() {
+        populateTestRealm();
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class)
+                .sort(AllTypes.FIELD_LONG, Sort.DESCENDING)
+                .distinct(AllTypes.FIELD_BOOLEAN)
+                .limit(1);
+
+        RealmPage<AllTypes> page = query.page(AllTypes.FIELD_LONG, Sort.ASCENDING, 4);
+        assertEquals(4, page.size());
+        assertEquals(0, page.getItems().get(0).getColumnLong());
+        assertEquals(3, page.getItems().get(3).getColumnLong());
+
+        // The descriptors are still applied to the query itself.
+        RealmResults<AllTypes> results = query.findAll();
+        assertEquals(1, results.size());
+        assertEquals(TEST_DATA_SIZE - 1, results.first().getColumnLong());
+    }
+
+    @Test
+    public void page_invalidArguments() {
+        populateTestRealm();
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class);
+
+        try {
+            query.page(AllTypes.FIELD_STRING, Sort.ASCENDING, 10);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            query.page(AllTypes.FIELD_LONG, Sort.ASCENDING, 0);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            query.page(AllTypes.FIELD_LONG, Sort.ASCENDING, RealmPage.Cursor.after("1"), 10);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            query.page("nonExistingField", Sort.ASCENDING, 10);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void exists() {
+        assertFalse(realm.where(AllTypes.class).exists());
+        populateTestRealm();
+
+        assertTrue(realm.where(AllTypes.class).exists());
+        assertTrue(realm.where(AllTypes.class).equalTo(AllTypes.FIELD_LONG, 5).exists());
+        assertFalse(realm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, TEST_DATA_SIZE).exists());
+    }
+
+    @Test
+    public void countUpTo() {
+        populateTestRealm();
+
+        assertEquals(0, realm.where(AllTypes.class).countUpTo(0));
+        assertEquals(3, realm.where(AllTypes.class).countUpTo(3));
+        assertEquals(TEST_DATA_SIZE, realm.where(AllTypes.class).countUpTo(TEST_DATA_SIZE + 10));
+        assertEquals(4, realm.where(AllTypes.class).lessThan(AllTypes.FIELD_LONG, 4).countUpTo(99));
+
+        // Descriptors of the query are respected.
+        assertEquals(2, realm.where(AllTypes.class).limit(2).countUpTo(5));
+        assertEquals(2, realm.where(AllTypes.class).distinct(AllTypes.FIELD_BOOLEAN).countUpTo(5));
+
+        try {
+            realm.where(AllTypes.class).countUpTo(-1);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void textMatches() {
+        DynamicRealm dynamicRealm = DynamicRealm.getInstance(realm.getConfiguration());
+        try {
+            dynamicRealm.beginTransaction();
+            RealmObjectSchema articleSchema = dynamicRealm.getSchema().create("Article")
+                    .addField("text", String.class)
+                    .addField("title", String.class)
+                    .addFullTextIndex("text");
+            String[] texts = {
+                    "The quick brown fox jumps over the lazy dog",
+                    "A lazy afternoon in the sun",
+                    "Foxes are quick and clever",
+                    null
+            };
+            for (String text : texts) {
+                dynamicRealm.createObject("Article").setString("text", text);
+            }
+            dynamicRealm.commitTransaction();
+            assertTrue(articleSchema.hasFullTextIndex("text"));
+
+            assertEquals(2, dynamicRealm.where("Article").textMatches("text", "lazy").count());
+            assertEquals(1, dynamicRealm.where("Article").textMatches("text", "quick lazy").count());
+            assertEquals(1, dynamicRealm.where("Article").textMatches("text", "lazy -dog").count());
+            assertEquals(2, dynamicRealm.where("Article").textMatches("text", "fox*").count());
+            assertEquals(1, dynamicRealm.where("Article").textMatches("text", "LAZY").equalTo("text", "A lazy afternoon in the sun").count());
+            assertEquals(0, dynamicRealm.where("Article").textMatches("text", "cat").count());
+
+            try {
+                dynamicRealm.where("Article").textMatches("title", "lazy");
+                fail();
+            } catch (IllegalArgumentException ignored) {
+            }
+        } finally {
+            if (dynamicRealm.isInTransaction()) {
+                dynamicRealm.cancelTransaction();
+            }
+            dynamicRealm.close();
+        }
+    }
+
+    @Test
+    public void deleteAll() {
+        populateTestRealm();
+
+        realm.beginTransaction();
+        long deleted = realm.where(AllTypes.class).lessThan(AllTypes.FIELD_LONG, 5).deleteAll();
+        realm.commitTransaction();
+
+        assertEquals(5, deleted);
+        assertEquals(TEST_DATA_SIZE - 5, realm.where(AllTypes.class).count());
+        assertEquals(0, realm.where(AllTypes.class).lessThan(AllTypes.FIELD_LONG, 5).count());
+    }
+
+    @Test
+    public void deleteAll_maxRows() {
+        populateTestRealm();
+
+        realm.beginTransaction();
+        assertEquals(0, realm.where(AllTypes.class).deleteAll(0));
+        assertEquals(2, realm.where(AllTypes.class).lessThan(AllTypes.FIELD_LONG, 5).deleteAll(2));
+        assertEquals(3, realm.where(AllTypes.class).lessThan(AllTypes.FIELD_LONG, 5).deleteAll(100));
+        realm.commitTransaction();
+
+        assertEquals(TEST_DATA_SIZE - 5, realm.where(AllTypes.class).count());
+    }
+
+    @Test
+    public void deleteAll_respectsSortAndLimit() {
+        populateTestRealm();
+
+        realm.beginTransaction();
+        long deleted = realm.where(AllTypes.class)
+                .sort(AllTypes.FIELD_LONG, Sort.DESCENDING)
+                .limit(3)
+                .deleteAll();
+        realm.commitTransaction();
+
+        assertEquals(3, deleted);
+        assertEquals(TEST_DATA_SIZE - 3, realm.where(AllTypes.class).count());
+        assertEquals(TEST_DATA_SIZE - 4, realm.where(AllTypes.class).max(AllTypes.FIELD_LONG).longValue());
+    }
+
+    @Test
+    public void deleteAll_invalidArgumentsThrows() {
+        populateTestRealm();
+
+        try {
+            realm.where(AllTypes.class).deleteAll();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+
+        realm.beginTransaction();
+        try {
+            realm.where(AllTypes.class).deleteAll(-1);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        realm.cancelTransaction();
+        assertEquals(TEST_DATA_SIZE, realm.where(AllTypes.class).count());
+    }
+
     // FIXME Maybe move to QueryDescriptor or maybe even to RealmFieldType?
     private boolean supportDistinct(RealmFieldType type) {
         switch (type) {
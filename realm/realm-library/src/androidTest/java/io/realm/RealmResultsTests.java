@@ -32,6 +32,8 @@ import org.mockito.Mockito;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.text.SimpleDateFormat;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
@@ -39,7 +41,9 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
@@ -54,6 +58,7 @@ import io.realm.entities.DictionaryAllTypes;
 import io.realm.entities.Dog;
 import io.realm.entities.MappedAllJavaTypes;
 import io.realm.entities.NonLatinFieldNames;
+import io.realm.entities.NullTypes;
 import io.realm.entities.Owner;
 import io.realm.entities.PrimaryKeyAsLong;
 import io.realm.entities.PrimaryKeyAsString;
@@ -69,6 +74,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -817,6 +823,338 @@ public class RealmResultsTests extends CollectionTests {
         }
     }
 
+    @Test
+    public void getColumn_arrays() {
+        long[] longs = new long[12];
+        collection.getLongColumn(AllTypes.FIELD_LONG, longs, 2, 10, 10);
+        double[] doubles = new double[10];
+        collection.getDoubleColumn(AllTypes.FIELD_DOUBLE, doubles, 0, 10, 10);
+        float[] floats = new float[10];
+        collection.getFloatColumn(AllTypes.FIELD_FLOAT, floats, 0, 10, 10);
+        long[] timestamps = new long[10];
+        collection.getTimestampColumn(AllTypes.FIELD_DATE, timestamps, 0, 10, 10);
+
+        assertEquals(0, longs[0]);
+        assertEquals(0, longs[1]);
+        for (int i = 0; i < 10; i++) {
+            AllTypes object = collection.get(10 + i);
+            assertEquals(object.getColumnLong(), longs[2 + i]);
+            assertEquals(object.getColumnDouble(), doubles[i], 0D);
+            assertEquals(object.getColumnFloat(), floats[i], 0F);
+            assertEquals(object.getColumnDate().getTime(), timestamps[i]);
+        }
+    }
+
+    @Test
+    public void getColumn_directBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8 * TEST_DATA_SIZE).order(ByteOrder.nativeOrder());
+        collection.getDoubleColumn(AllTypes.FIELD_DOUBLE, buffer, 0, TEST_DATA_SIZE);
+        assertEquals(0, buffer.position());
+        for (int i = 0; i < TEST_DATA_SIZE; i++) {
+            assertEquals(collection.get(i).getColumnDouble(), buffer.getDouble(), 0D);
+        }
+
+        buffer.clear();
+        buffer.position(8);
+        collection.getLongColumn(AllTypes.FIELD_LONG, buffer, 0, TEST_DATA_SIZE - 1);
+        for (int i = 0; i < TEST_DATA_SIZE - 1; i++) {
+            assertEquals(collection.get(i).getColumnLong(), buffer.getLong(8 + 8 * i));
+        }
+    }
+
+    @Test
+    public void getColumn_invalidArgumentsThrows() {
+        try {
+            collection.getLongColumn(AllTypes.FIELD_DOUBLE, new long[10], 0, 0, 10);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            collection.getLongColumn(AllTypes.FIELD_LONG, new long[10], 1, 0, 10);
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+        try {
+            collection.getLongColumn(AllTypes.FIELD_LONG, new long[10], 0, TEST_DATA_SIZE - 5, 10);
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+        try {
+            collection.getLongColumn(AllTypes.FIELD_LONG, ByteBuffer.allocate(80), 0, 10);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            collection.getLongColumn(AllTypes.FIELD_LONG, ByteBuffer.allocateDirect(72), 0, 10);
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+    }
+
+    @Test
+    public void setColumn() {
+        int size = collection.size();
+        long[] longs = new long[size];
+        double[] doubles = new double[size];
+        float[] floats = new float[size];
+        boolean[] booleans = new boolean[size];
+        long[] timestamps = new long[size];
+        String[] strings = new String[size];
+        for (int i = 0; i < size; i++) {
+            longs[i] = 1000 + i;
+            doubles[i] = i / 2D;
+            floats[i] = i / 4F;
+            booleans[i] = (i % 3) == 0;
+            timestamps[i] = 1000L * i;
+            strings[i] = "value " + i;
+        }
+        // The collection is sorted by the long field, so updating it must not change which object gets which value.
+        realm.beginTransaction();
+        collection.setLongColumn(AllTypes.FIELD_LONG, longs);
+        collection.setDoubleColumn(AllTypes.FIELD_DOUBLE, doubles);
+        collection.setFloatColumn(AllTypes.FIELD_FLOAT, floats);
+        collection.setBooleanColumn(AllTypes.FIELD_BOOLEAN, booleans);
+        collection.setTimestampColumn(AllTypes.FIELD_DATE, timestamps);
+        collection.setStringColumn(AllTypes.FIELD_STRING, strings);
+        realm.commitTransaction();
+
+        for (int i = 0; i < size; i++) {
+            AllTypes object = collection.get(i);
+            assertEquals(longs[i], object.getColumnLong());
+            assertEquals(doubles[i], object.getColumnDouble(), 0D);
+            assertEquals(floats[i], object.getColumnFloat(), 0F);
+            assertEquals(booleans[i], object.isColumnBoolean());
+            assertEquals(timestamps[i], object.getColumnDate().getTime());
+            assertEquals(strings[i], object.getColumnString());
+        }
+    }
+
+    @Test
+    public void setColumn_invalidArgumentsThrows() {
+        try {
+            collection.setLongColumn(AllTypes.FIELD_LONG, new long[collection.size()]);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+
+        realm.beginTransaction();
+        try {
+            collection.setLongColumn(AllTypes.FIELD_LONG, new long[collection.size() - 1]);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            collection.setDoubleColumn(AllTypes.FIELD_LONG, new double[collection.size()]);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            // AllTypes.columnString is required.
+            collection.setStringColumn(AllTypes.FIELD_STRING, new String[collection.size()]);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        RealmResults<PrimaryKeyAsLong> primaryKeys = realm.where(PrimaryKeyAsLong.class).findAll();
+        try {
+            primaryKeys.setLongColumn(PrimaryKeyAsLong.FIELD_ID, new long[primaryKeys.size()]);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        realm.cancelTransaction();
+    }
+
+    @Test
+    public void update() {
+        int size = collection.size();
+        long before = System.currentTimeMillis();
+        realm.beginTransaction();
+        collection.update(AllTypes.FIELD_LONG, UpdateExpression.increment(10));
+        collection.update(AllTypes.FIELD_DOUBLE, UpdateExpression.multiply(0.5));
+        collection.update(AllTypes.FIELD_FLOAT, UpdateExpression.decrement(1.5));
+        collection.update(AllTypes.FIELD_STRING, UpdateExpression.append("!"));
+        collection.update(AllTypes.FIELD_STRING, UpdateExpression.prepend("> "));
+        collection.update(AllTypes.FIELD_DATE, UpdateExpression.now());
+        collection.update(AllTypes.FIELD_MUTABLEREALMINTEGER, UpdateExpression.copyFrom(AllTypes.FIELD_LONG));
+        realm.commitTransaction();
+        long after = System.currentTimeMillis();
+
+        assertEquals(size, collection.size());
+        long now = collection.first().getColumnDate().getTime();
+        assertTrue(before <= now && now <= after);
+        for (int i = 0; i < size; i++) {
+            AllTypes object = collection.get(i);
+            assertEquals(i + 10, object.getColumnLong());
+            assertEquals((Math.PI + i) * 0.5, object.getColumnDouble(), 0D);
+            assertEquals(1.234567f + i - 1.5f, object.getColumnFloat(), 0.0001F);
+            assertEquals("> test data " + i + "!", object.getColumnString());
+            assertEquals(now, object.getColumnDate().getTime());
+            assertEquals(Long.valueOf(i + 10), object.getColumnRealmInteger().get());
+        }
+    }
+
+    @Test
+    public void update_appendAndPrependSkipNullValues() {
+        realm.beginTransaction();
+        for (int i = 0; i < 4; i++) {
+            NullTypes object = realm.createObject(NullTypes.class, i);
+            object.setFieldStringNull((i % 2 == 0) ? null : "value " + i);
+        }
+        RealmResults<NullTypes> results = realm.where(NullTypes.class).sort(NullTypes.FIELD_ID).findAll();
+        results.update(NullTypes.FIELD_STRING_NULL, UpdateExpression.append("!"));
+        results.update(NullTypes.FIELD_STRING_NULL, UpdateExpression.prepend("> "));
+        realm.commitTransaction();
+
+        for (int i = 0; i < 4; i++) {
+            String value = results.get(i).getFieldStringNull();
+            if (i % 2 == 0) {
+                assertNull(value);
+            } else {
+                assertEquals("> value " + i + "!", value);
+            }
+        }
+    }
+
+    @Test
+    public void update_roundsIntegerFields() {
+        realm.beginTransaction();
+        collection.update(AllTypes.FIELD_LONG, UpdateExpression.multiply(0.9));
+        realm.commitTransaction();
+        for (int i = 0; i < collection.size(); i++) {
+            assertEquals(Math.round(i * 0.9), collection.get(i).getColumnLong());
+        }
+    }
+
+    @Test
+    public void update_invalidArgumentsThrows() {
+        try {
+            collection.update(AllTypes.FIELD_LONG, UpdateExpression.increment(1));
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+
+        realm.beginTransaction();
+        try {
+            collection.update(AllTypes.FIELD_STRING, UpdateExpression.increment(1));
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            collection.update(AllTypes.FIELD_LONG, UpdateExpression.now());
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            collection.update(AllTypes.FIELD_LONG, UpdateExpression.copyFrom(AllTypes.FIELD_DOUBLE));
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            collection.update(AllTypes.FIELD_LONG, UpdateExpression.copyFrom(AllTypes.FIELD_MUTABLEREALMINTEGER));
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        RealmResults<PrimaryKeyAsLong> primaryKeys = realm.where(PrimaryKeyAsLong.class).findAll();
+        try {
+            primaryKeys.update(PrimaryKeyAsLong.FIELD_ID, UpdateExpression.increment(1));
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        realm.cancelTransaction();
+    }
+
+    @Test
+    public void iterator_batched() {
+        RealmResults<AllTypes> results = realm.where(AllTypes.class).sort(AllTypes.FIELD_LONG).findAll();
+        Iterator<AllTypes> it = results.iterator(7);
+        int count = 0;
+        while (it.hasNext()) {
+            assertEquals(count, it.next().getColumnLong());
+            count++;
+        }
+        assertEquals(TEST_DATA_SIZE, count);
+        try {
+            it.next();
+            fail();
+        } catch (NoSuchElementException ignored) {
+        }
+    }
+
+    @Test
+    public void iterator_batched_deleteWhileIterating() {
+        realm.beginTransaction();
+        Iterator<AllTypes> it = collection.iterator(16);
+        int count = 0;
+        while (it.hasNext()) {
+            AllTypes obj = it.next();
+            assertTrue(obj.isValid());
+            obj.deleteFromRealm();
+            count++;
+        }
+        realm.commitTransaction();
+
+        assertEquals(TEST_DATA_SIZE, count);
+        assertEquals(0, realm.where(AllTypes.class).count());
+    }
+
+    @Test
+    public void iterator_batched_invalidBatchSizeThrows() {
+        try {
+            collection.iterator(0);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void cursor() {
+        RealmCursor<AllTypes> cursor = collection.cursor();
+        assertEquals(TEST_DATA_SIZE, cursor.size());
+        assertEquals(-1, cursor.getPosition());
+
+        AllTypes first = null;
+        int count = 0;
+        while (cursor.moveToNext()) {
+            AllTypes obj = cursor.get();
+            if (first == null) {
+                first = obj;
+            }
+            assertSame(first, obj);
+            assertEquals(count, obj.getColumnLong());
+            assertEquals(collection.get(count).getColumnString(), obj.getColumnString());
+            count++;
+        }
+        assertEquals(TEST_DATA_SIZE, count);
+        assertEquals(TEST_DATA_SIZE, cursor.getPosition());
+        try {
+            cursor.get();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void cursor_moveToPosition() {
+        RealmCursor<AllTypes> cursor = collection.cursor();
+        assertTrue(cursor.moveToPosition(42));
+        assertEquals(42, cursor.get().getColumnLong());
+        assertTrue(cursor.moveToPosition(3));
+        assertEquals(3, cursor.get().getColumnLong());
+        assertFalse(cursor.moveToPosition(TEST_DATA_SIZE));
+        assertFalse(cursor.moveToPosition(-1));
+        assertEquals(-1, cursor.getPosition());
+    }
+
+    @Test
+    public void cursor_collectionFieldThrows() {
+        RealmCursor<AllTypes> cursor = collection.cursor();
+        assertTrue(cursor.moveToNext());
+        try {
+            cursor.get().getColumnRealmList();
+            fail();
+        } catch (UnsupportedOperationException ignored) {
+        }
+    }
+
     @Test
     public void setValue() {
         populateAllJavaTypes(5);
@@ -746,6 +746,78 @@ public class RealmTests {
         assertEquals(oldVersion, newVersion);
     }
 
+    @Test
+    public void executeInReadScope() {
+        populateTestRealm();
+        final RealmResults<AllTypes> results = realm.where(AllTypes.class).sort(AllTypes.FIELD_LONG).findAll();
+        final AtomicLong sum = new AtomicLong(0);
+        realm.executeInReadScope(realm -> {
+            for (AllTypes obj : results) {
+                sum.addAndGet(obj.getColumnLong());
+            }
+            // Scopes can be nested
+            realm.executeInReadScope(r -> assertEquals("test data 0", results.first().getColumnString()));
+            assertEquals(0, results.first().getColumnLong());
+        });
+        assertEquals((TEST_DATA_SIZE - 1) * TEST_DATA_SIZE / 2, sum.get());
+    }
+
+    @Test
+    public void executeInReadScope_null() {
+        try {
+            realm.executeInReadScope(null);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void executeInReadScope_closeThrows() {
+        realm.executeInReadScope(realm -> {
+            try {
+                realm.close();
+                fail();
+            } catch (IllegalStateException ignored) {
+            }
+        });
+        assertFalse(realm.isClosed());
+    }
+
+    @Test
+    public void executeInReadScope_frozenRealmThrows() {
+        Realm frozenRealm = realm.freeze();
+        try {
+            frozenRealm.executeInReadScope(realm -> fail());
+            fail();
+        } catch (IllegalStateException ignored) {
+        } finally {
+            frozenRealm.close();
+        }
+    }
+
+    @Test
+    public void executeInReadScope_otherThreadStillValidated() {
+        populateTestRealm();
+        final AllTypes obj = realm.where(AllTypes.class).findFirst();
+        final AtomicBoolean threwOnOtherThread = new AtomicBoolean(false);
+        realm.executeInReadScope(realm -> {
+            Thread thread = new Thread(() -> {
+                try {
+                    obj.getColumnLong();
+                } catch (IllegalStateException ignored) {
+                    threwOnOtherThread.set(true);
+                }
+            });
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                fail(e.getMessage());
+            }
+        });
+        assertTrue(threwOnOtherThread.get());
+    }
+
     @Test
     public void executeTransaction_success() {
         assertEquals(0, realm.where(Owner.class).count());
@@ -257,4 +257,35 @@ class DictionaryMiscTests {
             }
         }
     }
+
+    @Test
+    fun putAll_managedDictionaries() {
+        realm = Realm.getInstance(configFactory.createConfiguration())
+        realm.executeTransaction {
+            val container = it.createObject<DictionaryContainerClass>()
+
+            container.myStringDictionary["B"] = "old"
+            container.myStringDictionary.putAll(mapOf("A" to "a", "B" to "b", "C" to null))
+            assertEquals(3, container.myStringDictionary.size)
+            assertEquals("a", container.myStringDictionary["A"])
+            assertEquals("b", container.myStringDictionary["B"])
+            assertNull(container.myStringDictionary["C"])
+            assertTrue(container.myStringDictionary.containsKey("C"))
+
+            container.myIntDictionary.putAll(mapOf("one" to 1, "two" to 2))
+            assertEquals(2, container.myIntDictionary["two"])
+
+            container.myDateDictionary.putAll(mapOf("epoch" to Date(0)))
+            assertEquals(Date(0), container.myDateDictionary["epoch"])
+
+            container.myRealmAnyDictionary.putAll(mapOf("long" to RealmAny.valueOf(42L), "string" to RealmAny.valueOf("hello")))
+            assertEquals(42L, container.myRealmAnyDictionary["long"]!!.asLong())
+            assertEquals("hello", container.myRealmAnyDictionary["string"]!!.asString())
+
+            // Link dictionaries still copy unmanaged objects
+            container.myRealmModelDictionary.putAll(mapOf("unmanaged" to StringOnly().apply { chars = "chars" }))
+            assertEquals("chars", container.myRealmModelDictionary["unmanaged"]!!.chars)
+            assertEquals(1, it.where<StringOnly>().count())
+        }
+    }
 }
@@ -124,6 +124,36 @@ class UUIDTests {
         assertEquals("Foo", obj.name)
     }
 
+    @Test
+    fun binaryRoundTrip_preservesBitPatterns() {
+        val uuids = listOf(
+                UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"),
+                UUID.fromString("80000000-0000-0000-8000-000000000000"),
+                UUID.fromString("00000000-0000-0001-0000-000000000001"),
+                UUID.fromString("0123abcd-4567-89ef-fedc-ba9876543210"))
+
+        realm.executeTransaction { realm ->
+            for (uuid in uuids) {
+                val obj = realm.createObject<UUIDPrimaryKeyRequired>(uuid)
+                obj.anotherId = uuid
+                realm.createObject<UUIDRequiredRealmList>().ids.add(uuid)
+            }
+        }
+
+        for (uuid in uuids) {
+            val obj = realm.where<UUIDPrimaryKeyRequired>().equalTo("id", uuid).findFirst()!!
+            assertEquals(uuid, obj.id)
+            assertEquals(uuid, obj.anotherId)
+            assertEquals(uuid.toString(), obj.id.toString())
+            assertEquals(1, realm.where<UUIDRequiredRealmList>().equalTo("ids", uuid).count())
+            assertEquals(uuids.size - 1L, realm.where<UUIDPrimaryKeyRequired>().notEqualTo("anotherId", uuid).count())
+        }
+        // UUIDs are compared byte by byte, so no UUID is greater than the one with all bits set.
+        assertEquals(0L, realm.where<UUIDPrimaryKeyRequired>().greaterThan("id", uuids[0]).count())
+        assertEquals(uuids.size - 1L, realm.where<UUIDPrimaryKeyRequired>().lessThan("id", uuids[0]).count())
+        assertEquals(uuids, realm.where<UUIDRequiredRealmList>().findAll().map { it.ids.first() })
+    }
+
     @Test
     fun copyFromRealm() {
         val uuid1 = UUID.randomUUID()
@@ -123,6 +123,17 @@ JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_CheckedRow_nativeGetByteArra
     return Java_io_realm_internal_UncheckedRow_nativeGetByteArray(env, obj, nativeRowPtr, columnKey);
 }
 
+JNIEXPORT jobject JNICALL Java_io_realm_internal_CheckedRow_nativeGetBinaryBuffer(JNIEnv* env, jobject obj,
+                                                                                 jlong nativeRowPtr,
+                                                                                 jlong columnKey)
+{
+    if (!TYPE_VALID(env, OBJ(nativeRowPtr)->get_table(), columnKey, col_type_Binary)) {
+        return nullptr;
+    }
+
+    return Java_io_realm_internal_UncheckedRow_nativeGetBinaryBuffer(env, obj, nativeRowPtr, columnKey);
+}
+
 JNIEXPORT jlong JNICALL Java_io_realm_internal_CheckedRow_nativeGetLink(JNIEnv* env, jobject obj, jlong nativeRowPtr,
                                                                         jlong columnKey)
 {
@@ -216,6 +227,19 @@ JNIEXPORT void JNICALL Java_io_realm_internal_CheckedRow_nativeSetByteArray(JNIE
     Java_io_realm_internal_UncheckedRow_nativeSetByteArray(env, obj, nativeRowPtr, columnKey, value);
 }
 
+JNIEXPORT void JNICALL Java_io_realm_internal_CheckedRow_nativeSetBinaryBuffer(JNIEnv* env, jobject obj,
+                                                                               jlong nativeRowPtr, jlong columnKey,
+                                                                               jobject j_buffer, jint j_position,
+                                                                               jint j_length)
+{
+    if (!TYPE_VALID(env, OBJ(nativeRowPtr)->get_table(), columnKey, col_type_Binary)) {
+        return;
+    }
+
+    Java_io_realm_internal_UncheckedRow_nativeSetBinaryBuffer(env, obj, nativeRowPtr, columnKey, j_buffer, j_position,
+                                                              j_length);
+}
+
 JNIEXPORT void JNICALL Java_io_realm_internal_CheckedRow_nativeSetLink(JNIEnv* env, jobject obj, jlong nativeRowPtr,
                                                                        jlong columnKey, jlong value)
 {
@@ -255,9 +279,9 @@ JNIEXPORT void JNICALL Java_io_realm_internal_CheckedRow_nativeSetDecimal128(JNI
     Java_io_realm_internal_UncheckedRow_nativeSetDecimal128(env, obj, nativeRowPtr, columnKey, low, high);
 }
 
-JNIEXPORT jstring JNICALL Java_io_realm_internal_CheckedRow_nativeGetObjectId(JNIEnv* env, jobject obj,
-                                                                                    jlong nativeRowPtr,
-                                                                                    jlong columnKey)
+JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_CheckedRow_nativeGetObjectId(JNIEnv* env, jobject obj,
+                                                                                 jlong nativeRowPtr,
+                                                                                 jlong columnKey)
 {
     if (!TYPE_VALID(env, OBJ(nativeRowPtr)->get_table(), columnKey, col_type_ObjectId)) {
         return nullptr;
@@ -268,7 +292,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_CheckedRow_nativeGetObjectId(JN
 
 JNIEXPORT void JNICALL Java_io_realm_internal_CheckedRow_nativeSetObjectId(JNIEnv* env, jobject obj,
                                                                               jlong nativeRowPtr, jlong columnKey,
-                                                                              jstring j_value)
+                                                                              jbyteArray j_value)
 {
     if (!TYPE_VALID(env, OBJ(nativeRowPtr)->get_table(), columnKey, col_type_ObjectId)) {
         return;
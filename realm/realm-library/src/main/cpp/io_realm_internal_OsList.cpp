@@ -20,6 +20,9 @@
 #include <realm/object-store/results.hpp>
 #include <realm/object-store/shared_realm.hpp>
 
+#include <limits>
+#include <sstream>
+
 #include "observable_collection_wrapper.hpp"
 #include "java_accessor.hpp"
 #include "java_object_accessor.hpp"
@@ -72,6 +75,30 @@ inline void check_nullable(JNIEnv* env, jlong list_ptr, jobject jobject_ptr = nu
                              "This 'RealmList' is not nullable. A non-null value is expected.");
     }
 }
+
+// Checks that the elements [start, start + count) exist in the list.
+inline bool check_range(JNIEnv* env, const List& list, jlong start, jint count)
+{
+    size_t size = list.size();
+    if (start < 0 || count < 0 || static_cast<size_t>(start) + static_cast<size_t>(count) > size) {
+        std::ostringstream ss;
+        ss << "Elements [" << start << ", " << start + count << ") are out of range. Size: " << size;
+        ThrowException(env, IndexOutOfBounds, ss.str());
+        return false;
+    }
+    return true;
+}
+
+// Null elements are read as 0 and NaN, as there is no way to represent them as a primitive.
+inline jlong list_value_to_long(const Mixed& value)
+{
+    return value.is_null() ? 0 : value.get_int();
+}
+
+inline jdouble list_value_to_double(const Mixed& value)
+{
+    return value.is_null() ? std::numeric_limits<jdouble>::quiet_NaN() : value.get_double();
+}
 } // anonymous namespace
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeGetFinalizerPtr(JNIEnv*, jclass)
@@ -661,3 +688,119 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeFreeze(JNIEnv* env,
     return reinterpret_cast<jlong>(nullptr);
 }
 
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeGetLong(JNIEnv* env, jclass, jlong list_ptr, jlong pos)
+{
+    try {
+        auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
+        return list_value_to_long(wrapper.collection().get_any(static_cast<size_t>(pos)));
+    }
+    CATCH_STD()
+    return 0;
+}
+
+JNIEXPORT jdouble JNICALL Java_io_realm_internal_OsList_nativeGetDouble(JNIEnv* env, jclass, jlong list_ptr,
+                                                                        jlong pos)
+{
+    try {
+        auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
+        return list_value_to_double(wrapper.collection().get_any(static_cast<size_t>(pos)));
+    }
+    CATCH_STD()
+    return 0;
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeGetLongs(JNIEnv* env, jclass, jlong list_ptr, jlong start,
+                                                                    jlongArray j_dest, jint offset, jint count)
+{
+    try {
+        List& list = reinterpret_cast<ListWrapper*>(list_ptr)->collection();
+        if (!check_range(env, list, start, count)) {
+            return;
+        }
+        std::vector<jlong> values(static_cast<size_t>(count));
+        for (jint i = 0; i < count; ++i) {
+            values[i] = list_value_to_long(list.get_any(static_cast<size_t>(start + i)));
+        }
+        env->SetLongArrayRegion(j_dest, offset, count, values.data());
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeGetDoubles(JNIEnv* env, jclass, jlong list_ptr,
+                                                                      jlong start, jdoubleArray j_dest, jint offset,
+                                                                      jint count)
+{
+    try {
+        List& list = reinterpret_cast<ListWrapper*>(list_ptr)->collection();
+        if (!check_range(env, list, start, count)) {
+            return;
+        }
+        std::vector<jdouble> values(static_cast<size_t>(count));
+        for (jint i = 0; i < count; ++i) {
+            values[i] = list_value_to_double(list.get_any(static_cast<size_t>(start + i)));
+        }
+        env->SetDoubleArrayRegion(j_dest, offset, count, values.data());
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddLongs(JNIEnv* env, jclass, jlong list_ptr,
+                                                                    jlongArray j_values, jint offset, jint count)
+{
+    try {
+        List& list = reinterpret_cast<ListWrapper*>(list_ptr)->collection();
+        std::vector<jlong> values(static_cast<size_t>(count));
+        env->GetLongArrayRegion(j_values, offset, count, values.data());
+        if (env->ExceptionCheck()) {
+            return;
+        }
+        size_t pos = list.size();
+        for (jlong value : values) {
+            list.insert_any(pos++, Mixed(static_cast<int64_t>(value)));
+        }
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddDoubles(JNIEnv* env, jclass, jlong list_ptr,
+                                                                      jdoubleArray j_values, jint offset, jint count)
+{
+    try {
+        List& list = reinterpret_cast<ListWrapper*>(list_ptr)->collection();
+        std::vector<jdouble> values(static_cast<size_t>(count));
+        env->GetDoubleArrayRegion(j_values, offset, count, values.data());
+        if (env->ExceptionCheck()) {
+            return;
+        }
+        size_t pos = list.size();
+        for (jdouble value : values) {
+            list.insert_any(pos++, Mixed(static_cast<double>(value)));
+        }
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertAll(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
+                                                                     jlong mixed_collection_ptr)
+{
+    try {
+        List& list = reinterpret_cast<ListWrapper*>(list_ptr)->collection();
+        auto& collection = *reinterpret_cast<std::vector<JavaValue>*>(mixed_collection_ptr);
+        const std::vector<Mixed>& values = to_mixed_vector(collection);
+        // Check all values before inserting any, so a null value cannot leave the list half updated.
+        if (!is_nullable(list.get_type())) {
+            for (const Mixed& value : values) {
+                if (value.is_null()) {
+                    THROW_JAVA_EXCEPTION(env, JavaExceptionDef::IllegalArgument,
+                                         "This 'RealmList' is not nullable. A non-null value is expected.");
+                }
+            }
+        }
+        size_t ndx = static_cast<size_t>(pos);
+        for (const Mixed& value : values) {
+            list.insert_any(ndx++, value);
+        }
+    }
+    CATCH_STD()
+}
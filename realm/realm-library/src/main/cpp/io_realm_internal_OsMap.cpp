@@ -23,6 +23,7 @@
 #include "java_object_accessor.hpp"
 #include "java_exception_def.hpp"
 #include "jni_util/java_exception_thrower.hpp"
+#include "jni_util/java_local_ref.hpp"
 #include "util.hpp"
 #include "observable_collection_wrapper.hpp"
 #include "observable_dictionary_wrapper.hpp"
@@ -786,3 +787,29 @@ Java_io_realm_internal_OsMap_nativeStopListening(JNIEnv* env, jclass, jlong wrap
     }
     CATCH_STD()
 }
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_OsMap_nativePutAll(JNIEnv* env, jclass, jlong wrapper_ptr, jobjectArray j_keys,
+                                          jlong mixed_collection_ptr) {
+    try {
+        auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
+        auto& dictionary = wrapper.collection();
+        auto& collection = *reinterpret_cast<std::vector<JavaValue>*>(mixed_collection_ptr);
+        const std::vector<Mixed>& values = to_mixed_vector(collection);
+        // Check all values before inserting any, so a null value cannot leave the dictionary half updated.
+        if (!is_nullable(dictionary.get_type())) {
+            for (const Mixed& value : values) {
+                if (value.is_null()) {
+                    ThrowException(env, IllegalArgument, "Value cannot be null.");
+                    return;
+                }
+            }
+        }
+        for (size_t i = 0; i < values.size(); ++i) {
+            JavaLocalRef<jstring> j_key(env, static_cast<jstring>(env->GetObjectArrayElement(j_keys, static_cast<jsize>(i))));
+            JStringAccessor key(env, j_key);
+            dictionary.insert(StringData(key), values[i]);
+        }
+    }
+    CATCH_STD()
+}
@@ -16,6 +16,14 @@
 
 #include "io_realm_internal_OsResults.h"
 
+#include <algorithm>
+#include <cmath>
+#include <cstring>
+#include <limits>
+#include <map>
+#include <sstream>
+#include <vector>
+
 #include <realm/object-store/shared_realm.hpp>
 #include <realm/object-store/results.hpp>
 #include <realm/object-store/list.hpp>
@@ -25,6 +33,7 @@
 #include "java_class_global_def.hpp"
 #include "java_object_accessor.hpp"
 #include "java_query_descriptor.hpp"
+#include "jni_util/java_local_ref.hpp"
 #include "observable_collection_wrapper.hpp"
 #include "util.hpp"
 
@@ -79,6 +88,19 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeCreateSnapshot(JN
     return reinterpret_cast<jlong>(nullptr);
 }
 
+JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeCopy(JNIEnv* env, jclass, jlong native_ptr)
+{
+    try {
+        auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
+        // The copy takes over the evaluated table view and is kept up to date on its own afterwards.
+        Results copied_results(wrapper->collection());
+        auto copy_wrapper = new ResultsWrapper(copied_results);
+        return reinterpret_cast<jlong>(copy_wrapper);
+    }
+    CATCH_STD();
+    return reinterpret_cast<jlong>(nullptr);
+}
+
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsResults_nativeContains(JNIEnv* env, jclass, jlong native_ptr,
                                                                             jlong native_obj_ptr)
 {
@@ -104,6 +126,42 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeGetRow(JNIEnv* en
     return reinterpret_cast<jlong>(nullptr);
 }
 
+JNIEXPORT jint JNICALL Java_io_realm_internal_OsResults_nativeGetObjectKeys(JNIEnv* env, jclass, jlong native_ptr,
+                                                                            jint start, jlongArray j_dest)
+{
+    try {
+        Results& results = reinterpret_cast<ResultsWrapper*>(native_ptr)->collection();
+        size_t size = results.size();
+        if (start < 0 || static_cast<size_t>(start) >= size) {
+            std::ostringstream ss;
+            ss << "Requested index " << start << " is out of range. Size: " << size;
+            ThrowException(env, IndexOutOfBounds, ss.str());
+            return 0;
+        }
+        size_t count = std::min(size - static_cast<size_t>(start), static_cast<size_t>(env->GetArrayLength(j_dest)));
+        std::vector<jlong> keys;
+        keys.reserve(count);
+        for (size_t i = 0; i < count; ++i) {
+            keys.push_back(static_cast<jlong>(results.get(static_cast<size_t>(start) + i).get_key().value));
+        }
+        env->SetLongArrayRegion(j_dest, 0, static_cast<jsize>(count), keys.data());
+        return static_cast<jint>(count);
+    }
+    CATCH_STD()
+    return 0;
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeMoveRow(JNIEnv* env, jclass, jlong native_ptr,
+                                                                      jlong row_ptr, jint index)
+{
+    try {
+        auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
+        // The row is reassigned in place, so every Java object wrapping it now points to the new object.
+        *reinterpret_cast<Obj*>(row_ptr) = wrapper->collection().get(static_cast<size_t>(index));
+    }
+    CATCH_STD()
+}
+
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeFirstRow(JNIEnv* env, jclass, jlong native_ptr)
 {
     try {
@@ -150,6 +208,162 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeSize(JNIEnv* env,
     return 0;
 }
 
+static bool check_column_range(JNIEnv* env, Results& results, jint start, jint count)
+{
+    size_t size = results.size();
+    if (start < 0 || count < 0 || static_cast<size_t>(start) + static_cast<size_t>(count) > size) {
+        std::ostringstream ss;
+        ss << "Rows [" << start << ", " << static_cast<jlong>(start) + count << ") are out of range. Size: " << size;
+        ThrowException(env, IndexOutOfBounds, ss.str());
+        return false;
+    }
+    return true;
+}
+
+// Reads the values of a column for the rows [start, start + count) of the results.
+template <typename T, typename Convert>
+static std::vector<T> read_column(Results& results, ColKey col_key, jint start, jint count, Convert convert)
+{
+    std::vector<T> values;
+    values.reserve(static_cast<size_t>(count));
+    for (jint i = 0; i < count; ++i) {
+        Obj obj = results.get(static_cast<size_t>(start + i));
+        values.push_back(convert(obj.get_any(col_key)));
+    }
+    return values;
+}
+
+static jlong column_value_to_long(const Mixed& value)
+{
+    return value.is_null() ? 0 : value.get_int();
+}
+
+static jdouble column_value_to_double(const Mixed& value)
+{
+    return value.is_null() ? std::numeric_limits<jdouble>::quiet_NaN() : value.get_double();
+}
+
+static jfloat column_value_to_float(const Mixed& value)
+{
+    return value.is_null() ? std::numeric_limits<jfloat>::quiet_NaN() : value.get_float();
+}
+
+static jlong column_value_to_millis(const Mixed& value)
+{
+    return value.is_null() ? 0 : to_milliseconds(value.get_timestamp());
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeGetLongColumn(JNIEnv* env, jclass, jlong native_ptr,
+                                                                           jlong column_key, jlongArray j_dest,
+                                                                           jint offset, jint start, jint count)
+{
+    try {
+        Results& results = reinterpret_cast<ResultsWrapper*>(native_ptr)->collection();
+        if (!check_column_range(env, results, start, count)) {
+            return;
+        }
+        auto values = read_column<jlong>(results, ColKey(column_key), start, count, column_value_to_long);
+        env->SetLongArrayRegion(j_dest, offset, count, values.data());
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeGetDoubleColumn(JNIEnv* env, jclass, jlong native_ptr,
+                                                                             jlong column_key, jdoubleArray j_dest,
+                                                                             jint offset, jint start, jint count)
+{
+    try {
+        Results& results = reinterpret_cast<ResultsWrapper*>(native_ptr)->collection();
+        if (!check_column_range(env, results, start, count)) {
+            return;
+        }
+        auto values = read_column<jdouble>(results, ColKey(column_key), start, count, column_value_to_double);
+        env->SetDoubleArrayRegion(j_dest, offset, count, values.data());
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeGetFloatColumn(JNIEnv* env, jclass, jlong native_ptr,
+                                                                            jlong column_key, jfloatArray j_dest,
+                                                                            jint offset, jint start, jint count)
+{
+    try {
+        Results& results = reinterpret_cast<ResultsWrapper*>(native_ptr)->collection();
+        if (!check_column_range(env, results, start, count)) {
+            return;
+        }
+        auto values = read_column<jfloat>(results, ColKey(column_key), start, count, column_value_to_float);
+        env->SetFloatArrayRegion(j_dest, offset, count, values.data());
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeGetTimestampColumn(JNIEnv* env, jclass,
+                                                                                jlong native_ptr, jlong column_key,
+                                                                                jlongArray j_dest, jint offset,
+                                                                                jint start, jint count)
+{
+    try {
+        Results& results = reinterpret_cast<ResultsWrapper*>(native_ptr)->collection();
+        if (!check_column_range(env, results, start, count)) {
+            return;
+        }
+        auto values = read_column<jlong>(results, ColKey(column_key), start, count, column_value_to_millis);
+        env->SetLongArrayRegion(j_dest, offset, count, values.data());
+    }
+    CATCH_STD()
+}
+
+template <typename T>
+static void copy_to_buffer(char* address, const std::vector<T>& values)
+{
+    std::memcpy(address, values.data(), values.size() * sizeof(T));
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeGetColumnIntoBuffer(JNIEnv* env, jclass,
+                                                                                 jlong native_ptr, jlong column_key,
+                                                                                 jbyte value_type, jobject j_dest,
+                                                                                 jint byte_offset, jint start,
+                                                                                 jint count)
+{
+    try {
+        auto address = static_cast<char*>(env->GetDirectBufferAddress(j_dest));
+        if (address == nullptr) {
+            ThrowException(env, IllegalArgument, "Only direct ByteBuffers are supported.");
+            return;
+        }
+        jlong width = (value_type == io_realm_internal_OsResults_COLUMN_VALUE_FLOAT) ? sizeof(jfloat) : sizeof(jlong);
+        if (count < 0 || byte_offset < 0 || byte_offset + width * count > env->GetDirectBufferCapacity(j_dest)) {
+            ThrowException(env, IndexOutOfBounds, "The buffer is too small for the requested rows.");
+            return;
+        }
+
+        Results& results = reinterpret_cast<ResultsWrapper*>(native_ptr)->collection();
+        if (!check_column_range(env, results, start, count)) {
+            return;
+        }
+        ColKey col_key(column_key);
+        address += byte_offset;
+        switch (value_type) {
+            case io_realm_internal_OsResults_COLUMN_VALUE_LONG:
+                copy_to_buffer(address, read_column<jlong>(results, col_key, start, count, column_value_to_long));
+                break;
+            case io_realm_internal_OsResults_COLUMN_VALUE_DOUBLE:
+                copy_to_buffer(address, read_column<jdouble>(results, col_key, start, count, column_value_to_double));
+                break;
+            case io_realm_internal_OsResults_COLUMN_VALUE_FLOAT:
+                copy_to_buffer(address, read_column<jfloat>(results, col_key, start, count, column_value_to_float));
+                break;
+            case io_realm_internal_OsResults_COLUMN_VALUE_TIMESTAMP:
+                copy_to_buffer(address, read_column<jlong>(results, col_key, start, count, column_value_to_millis));
+                break;
+            default:
+                ThrowException(env, IllegalArgument, "Unsupported column value type.");
+        }
+    }
+    CATCH_STD()
+}
+
 JNIEXPORT jobject JNICALL Java_io_realm_internal_OsResults_nativeAggregate(JNIEnv* env, jclass, jlong native_ptr,
                                                                             jlong column_key, jbyte agg_func)
 {
@@ -204,6 +418,249 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_OsResults_nativeAggregate(JNIEn
     return static_cast<jobject>(nullptr);
 }
 
+static jobject group_value_to_java(JNIEnv* env, const Mixed& value)
+{
+    if (value.is_null()) {
+        return static_cast<jobject>(nullptr);
+    }
+    switch (value.get_type()) {
+        case type_Int:
+            return JavaClassGlobalDef::new_long(env, value.get_int());
+        case type_Float:
+            return JavaClassGlobalDef::new_float(env, value.get_float());
+        case type_Double:
+            return JavaClassGlobalDef::new_double(env, value.get_double());
+        case type_Decimal:
+            return JavaClassGlobalDef::new_decimal128(env, value.get_decimal());
+        case type_Timestamp:
+            return JavaClassGlobalDef::new_date(env, value.get_timestamp());
+        case type_String:
+            return to_jstring(env, value.get_string());
+        case type_ObjectId:
+            return JavaClassGlobalDef::new_object_id(env, value.get_object_id());
+        default:
+            throw std::invalid_argument("Unsupported group by type");
+    }
+}
+
+namespace {
+// Running state of one aggregate, fed one row at a time by nativeAggregateMultiple and nativeGroupBy.
+struct GroupAggregate {
+    size_t count = 0; // Number of non-null values
+    int64_t int_sum = 0;
+    double double_sum = 0;
+    Decimal128 decimal_sum = Decimal128(0);
+    Mixed min;
+    Mixed max;
+};
+
+struct Group {
+    size_t count = 0;
+    std::vector<GroupAggregate> aggregates;
+};
+
+void accumulate(GroupAggregate& state, const Mixed& value)
+{
+    if (value.is_null()) {
+        return;
+    }
+    ++state.count;
+    switch (value.get_type()) {
+        case type_Int:
+            state.int_sum += value.get_int();
+            break;
+        case type_Float:
+            state.double_sum += value.get_float();
+            break;
+        case type_Double:
+            state.double_sum += value.get_double();
+            break;
+        case type_Decimal:
+            state.decimal_sum += value.get_decimal();
+            break;
+        default:
+            break;
+    }
+    if (state.min.is_null() || value < state.min) {
+        state.min = value;
+    }
+    if (state.max.is_null() || state.max < value) {
+        state.max = value;
+    }
+}
+
+// The average of no values is 0 and the minimum and maximum are null, like the single aggregates of Results. The
+// average of a Decimal128 column is a Decimal128 to match the type of the column.
+Mixed aggregate_result(const GroupAggregate& state, size_t row_count, DataType type, jbyte agg_func)
+{
+    switch (agg_func) {
+        case io_realm_internal_OsResults_AGGREGATE_FUNCTION_COUNT:
+            return Mixed(static_cast<int64_t>(row_count));
+        case io_realm_internal_OsResults_AGGREGATE_FUNCTION_MINIMUM:
+            return state.min;
+        case io_realm_internal_OsResults_AGGREGATE_FUNCTION_MAXIMUM:
+            return state.max;
+        case io_realm_internal_OsResults_AGGREGATE_FUNCTION_SUM:
+            if (type == type_Int) {
+                return Mixed(state.int_sum);
+            }
+            if (type == type_Decimal) {
+                return Mixed(state.decimal_sum);
+            }
+            return Mixed(state.double_sum);
+        case io_realm_internal_OsResults_AGGREGATE_FUNCTION_AVERAGE:
+            if (type == type_Decimal) {
+                return Mixed(state.count == 0 ? Decimal128(0) :
+                             state.decimal_sum / Decimal128(static_cast<int64_t>(state.count)));
+            }
+            if (state.count == 0) {
+                return Mixed(0.0);
+            }
+            return Mixed(((type == type_Int) ? static_cast<double>(state.int_sum) : state.double_sum) / state.count);
+        default:
+            REALM_UNREACHABLE();
+    }
+}
+
+std::vector<DataType> aggregate_column_types(ConstTableRef table, JLongArrayAccessor& column_keys,
+                                             JByteArrayAccessor& agg_funcs)
+{
+    std::vector<DataType> column_types;
+    for (jsize i = 0; i < column_keys.size(); ++i) {
+        column_types.push_back(agg_funcs[i] == io_realm_internal_OsResults_AGGREGATE_FUNCTION_COUNT
+                                   ? type_Int : table->get_column_type(ColKey(column_keys[i])));
+    }
+    return column_types;
+}
+}
+
+JNIEXPORT jobjectArray JNICALL Java_io_realm_internal_OsResults_nativeAggregateMultiple(JNIEnv* env, jclass,
+                                                                                        jlong native_ptr,
+                                                                                        jlongArray j_column_keys,
+                                                                                        jbyteArray j_agg_funcs)
+{
+    try {
+        auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
+        JLongArrayAccessor column_keys(env, j_column_keys);
+        JByteArrayAccessor agg_funcs(env, j_agg_funcs);
+        const size_t aggregate_count = static_cast<size_t>(column_keys.size());
+
+        TableView table_view = wrapper->collection().get_tableview();
+        std::vector<DataType> column_types = aggregate_column_types(table_view.get_parent(), column_keys, agg_funcs);
+
+        // Every matching row is read once and its values are fed to all aggregates.
+        std::vector<GroupAggregate> aggregates(aggregate_count);
+        for (size_t row = 0; row < table_view.size(); ++row) {
+            Obj obj = table_view.get_object(row);
+            for (size_t i = 0; i < aggregate_count; ++i) {
+                if (agg_funcs[i] != io_realm_internal_OsResults_AGGREGATE_FUNCTION_COUNT) {
+                    accumulate(aggregates[i], obj.get_any(ColKey(column_keys[i])));
+                }
+            }
+        }
+
+        jobjectArray values = env->NewObjectArray(static_cast<jsize>(aggregate_count),
+                                                  JavaClassGlobalDef::java_lang_object(), nullptr);
+        if (values == nullptr) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to return aggregates.");
+            return nullptr;
+        }
+        for (size_t i = 0; i < aggregate_count; ++i) {
+            Mixed value = aggregate_result(aggregates[i], table_view.size(), column_types[i], agg_funcs[i]);
+            jobject java_value = group_value_to_java(env, value);
+            env->SetObjectArrayElement(values, static_cast<jsize>(i), java_value);
+            env->DeleteLocalRef(java_value);
+        }
+        return values;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
+JNIEXPORT jobjectArray JNICALL Java_io_realm_internal_OsResults_nativeGroupBy(JNIEnv* env, jclass, jlong native_ptr,
+                                                                              jlongArray j_key_path,
+                                                                              jlong bucket_millis,
+                                                                              jlongArray j_column_keys,
+                                                                              jbyteArray j_agg_funcs)
+{
+    try {
+        auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
+        JLongArrayAccessor key_path(env, j_key_path);
+        JLongArrayAccessor column_keys(env, j_column_keys);
+        JByteArrayAccessor agg_funcs(env, j_agg_funcs);
+        const size_t aggregate_count = static_cast<size_t>(column_keys.size());
+        const jsize last_link = key_path.size() - 1;
+
+        TableView table_view = wrapper->collection().get_tableview();
+        std::vector<DataType> column_types = aggregate_column_types(table_view.get_parent(), column_keys, agg_funcs);
+
+        // Group keys are ordered by Mixed comparison. String keys point into the Realm file, which does not change
+        // while the read transaction is pinned for the duration of this call.
+        std::map<Mixed, Group> groups;
+        for (size_t row = 0; row < table_view.size(); ++row) {
+            Obj row_obj = table_view.get_object(row);
+            Obj obj = row_obj;
+
+            Mixed key;
+            bool null_link = false;
+            for (jsize i = 0; i < last_link; ++i) {
+                ColKey link_col(key_path[i]);
+                ObjKey link = obj.get<ObjKey>(link_col);
+                if (!link) {
+                    null_link = true;
+                    break;
+                }
+                obj = obj.get_table()->get_link_target(link_col)->get_object(link);
+            }
+            if (!null_link) {
+                key = obj.get_any(ColKey(key_path[last_link]));
+                if (bucket_millis > 0 && !key.is_null()) {
+                    jlong millis = to_milliseconds(key.get_timestamp());
+                    key = Mixed(from_milliseconds(millis - (((millis % bucket_millis) + bucket_millis) % bucket_millis)));
+                }
+            }
+
+            Group& group = groups[key];
+            if (group.aggregates.empty()) {
+                group.aggregates.resize(aggregate_count);
+            }
+            ++group.count;
+
+            for (size_t i = 0; i < aggregate_count; ++i) {
+                if (agg_funcs[i] != io_realm_internal_OsResults_AGGREGATE_FUNCTION_COUNT) {
+                    accumulate(group.aggregates[i], row_obj.get_any(ColKey(column_keys[i])));
+                }
+            }
+        }
+
+        const size_t row_width = aggregate_count + 1;
+        jobjectArray values = env->NewObjectArray(static_cast<jsize>(groups.size() * row_width),
+                                                  JavaClassGlobalDef::java_lang_object(), nullptr);
+        if (values == nullptr) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to return groups.");
+            return nullptr;
+        }
+
+        jsize index = 0;
+        for (auto& entry : groups) {
+            const Group& group = entry.second;
+            jobject key = group_value_to_java(env, entry.first);
+            env->SetObjectArrayElement(values, index++, key);
+            env->DeleteLocalRef(key);
+
+            for (size_t i = 0; i < aggregate_count; ++i) {
+                Mixed value = aggregate_result(group.aggregates[i], group.count, column_types[i], agg_funcs[i]);
+                jobject java_value = group_value_to_java(env, value);
+                env->SetObjectArrayElement(values, index++, java_value);
+                env->DeleteLocalRef(java_value);
+            }
+        }
+        return values;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeStringDescriptor(JNIEnv* env,
                                                                                 jclass,
                                                                                 jlong native_ptr,
@@ -438,6 +895,212 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetList(JNIEnv* en
     update_objects(env, native_ptr, j_field_name, builder.begin()->second);
 }
 
+// Sets value i of a column on row i of the results. The results are snapshotted first so rows leaving the results
+// because of the update don't shift the remaining values.
+template <typename Set>
+static void update_column(JNIEnv* env, jlong results_ptr, jlong column_key, jsize size, Set set)
+{
+    Results& results = reinterpret_cast<ResultsWrapper*>(results_ptr)->collection();
+    results.get_realm()->verify_in_write();
+    Results snapshot = results.snapshot();
+    if (snapshot.size() != static_cast<size_t>(size)) {
+        std::ostringstream ss;
+        ss << "The number of values (" << size << ") doesn't match the number of objects (" << snapshot.size() << ").";
+        ThrowException(env, IllegalArgument, ss.str());
+        return;
+    }
+    ColKey col_key(column_key);
+    if (snapshot.get_table()->get_primary_key_column() == col_key) {
+        ThrowException(env, IllegalArgument, "Primary key fields cannot be changed.");
+        return;
+    }
+    for (jsize i = 0; i < size; ++i) {
+        Obj obj = snapshot.get(static_cast<size_t>(i));
+        set(obj, col_key, i);
+    }
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetLongColumn(JNIEnv* env, jclass, jlong native_ptr,
+                                                                           jlong column_key, jlongArray j_values)
+{
+    try {
+        JLongArrayAccessor values(env, j_values);
+        update_column(env, native_ptr, column_key, values.size(), [&](Obj& obj, ColKey col_key, jsize i) {
+            obj.set(col_key, static_cast<int64_t>(values[i]));
+        });
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetDoubleColumn(JNIEnv* env, jclass, jlong native_ptr,
+                                                                             jlong column_key, jdoubleArray j_values)
+{
+    try {
+        JDoubleArrayAccessor values(env, j_values);
+        update_column(env, native_ptr, column_key, values.size(), [&](Obj& obj, ColKey col_key, jsize i) {
+            obj.set(col_key, static_cast<double>(values[i]));
+        });
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetFloatColumn(JNIEnv* env, jclass, jlong native_ptr,
+                                                                            jlong column_key, jfloatArray j_values)
+{
+    try {
+        JFloatArrayAccessor values(env, j_values);
+        update_column(env, native_ptr, column_key, values.size(), [&](Obj& obj, ColKey col_key, jsize i) {
+            obj.set(col_key, static_cast<float>(values[i]));
+        });
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetBooleanColumn(JNIEnv* env, jclass, jlong native_ptr,
+                                                                              jlong column_key,
+                                                                              jbooleanArray j_values)
+{
+    try {
+        JBooleanArrayAccessor values(env, j_values);
+        update_column(env, native_ptr, column_key, values.size(), [&](Obj& obj, ColKey col_key, jsize i) {
+            obj.set(col_key, to_bool(values[i]));
+        });
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetTimestampColumn(JNIEnv* env, jclass,
+                                                                                jlong native_ptr, jlong column_key,
+                                                                                jlongArray j_values)
+{
+    try {
+        JLongArrayAccessor values(env, j_values);
+        update_column(env, native_ptr, column_key, values.size(), [&](Obj& obj, ColKey col_key, jsize i) {
+            obj.set(col_key, from_milliseconds(values[i]));
+        });
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetStringColumn(JNIEnv* env, jclass, jlong native_ptr,
+                                                                             jlong column_key,
+                                                                             jobjectArray j_values)
+{
+    try {
+        jsize size = env->GetArrayLength(j_values);
+        update_column(env, native_ptr, column_key, size, [&](Obj& obj, ColKey col_key, jsize i) {
+            JavaLocalRef<jstring> j_value(env, static_cast<jstring>(env->GetObjectArrayElement(j_values, i)));
+            JStringAccessor value(env, j_value.get());
+            if (value.is_null()) {
+                obj.set_null(col_key);
+            }
+            else {
+                obj.set(col_key, StringData(value));
+            }
+        });
+    }
+    CATCH_STD()
+}
+
+static void update_object(Obj& obj, ColKey col_key, DataType type, jbyte operation, jlong long_value,
+                          jdouble double_value, const std::string& string_value, ColKey other_col_key)
+{
+    switch (operation) {
+        case io_realm_internal_OsResults_UPDATE_ADD_LONG:
+        case io_realm_internal_OsResults_UPDATE_ADD_DOUBLE:
+        case io_realm_internal_OsResults_UPDATE_MULTIPLY: {
+            Mixed value = obj.get_any(col_key);
+            if (value.is_null()) {
+                return; // Null values stay null.
+            }
+            if (type == type_Int) {
+                int64_t current = value.get_int();
+                int64_t updated;
+                if (operation == io_realm_internal_OsResults_UPDATE_ADD_LONG) {
+                    // Wraps around on overflow like MutableRealmInteger.increment().
+                    updated = static_cast<int64_t>(static_cast<uint64_t>(current) + static_cast<uint64_t>(long_value));
+                }
+                else if (operation == io_realm_internal_OsResults_UPDATE_ADD_DOUBLE) {
+                    updated = std::llround(static_cast<double>(current) + double_value);
+                }
+                else {
+                    updated = std::llround(static_cast<double>(current) * double_value);
+                }
+                obj.set(col_key, updated);
+                return;
+            }
+            double current = (type == type_Float) ? value.get_float() : value.get_double();
+            double updated;
+            if (operation == io_realm_internal_OsResults_UPDATE_ADD_LONG) {
+                updated = current + static_cast<double>(long_value);
+            }
+            else if (operation == io_realm_internal_OsResults_UPDATE_ADD_DOUBLE) {
+                updated = current + double_value;
+            }
+            else {
+                updated = current * double_value;
+            }
+            if (type == type_Float) {
+                obj.set(col_key, static_cast<float>(updated));
+            }
+            else {
+                obj.set(col_key, updated);
+            }
+            return;
+        }
+        case io_realm_internal_OsResults_UPDATE_COPY:
+            obj.set_any(col_key, obj.get_any(other_col_key));
+            return;
+        case io_realm_internal_OsResults_UPDATE_SET_TIMESTAMP:
+            obj.set(col_key, from_milliseconds(long_value));
+            return;
+        case io_realm_internal_OsResults_UPDATE_APPEND:
+        case io_realm_internal_OsResults_UPDATE_PREPEND: {
+            Mixed value = obj.get_any(col_key);
+            if (value.is_null()) {
+                return; // Null values stay null.
+            }
+            std::string current(value.get_string());
+            std::string updated = (operation == io_realm_internal_OsResults_UPDATE_APPEND) ? current + string_value
+                                                                                           : string_value + current;
+            obj.set(col_key, StringData(updated));
+            return;
+        }
+        default:
+            throw std::invalid_argument("Unsupported update operation.");
+    }
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeUpdate(JNIEnv* env, jclass, jlong native_ptr,
+                                                                    jlong column_key, jbyte operation,
+                                                                    jlong long_value, jdouble double_value,
+                                                                    jstring j_string_value, jlong other_column_key)
+{
+    try {
+        JStringAccessor string_accessor(env, j_string_value);
+        std::string string_value = string_accessor.is_null() ? std::string() : std::string(string_accessor);
+
+        Results& results = reinterpret_cast<ResultsWrapper*>(native_ptr)->collection();
+        results.get_realm()->verify_in_write();
+        // Objects may leave the results because of the update, so iterate over a snapshot.
+        Results snapshot = results.snapshot();
+        ColKey col_key(column_key);
+        ConstTableRef table = snapshot.get_table();
+        if (table->get_primary_key_column() == col_key) {
+            ThrowException(env, IllegalArgument, "Primary key fields cannot be changed.");
+            return;
+        }
+        DataType type = table->get_column_type(col_key);
+        ColKey other_col_key(other_column_key);
+        size_t size = snapshot.size();
+        for (size_t i = 0; i < size; ++i) {
+            Obj obj = snapshot.get(i);
+            update_object(obj, col_key, type, operation, long_value, double_value, string_value, other_col_key);
+        }
+    }
+    CATCH_STD()
+}
+
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeDelete(JNIEnv* env, jclass, jlong native_ptr,
                                                                       jlong index)
 {
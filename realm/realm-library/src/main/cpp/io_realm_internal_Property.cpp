@@ -46,7 +46,8 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Property_nativeCreatePersistedPro
                                                                                       jstring j_public_name,
                                                                                       jint type,
                                                                                       jboolean is_primary,
-                                                                                      jboolean is_indexed)
+                                                                                      jboolean is_indexed,
+                                                                                      jboolean is_fulltext_indexed)
 {
     try {
         JStringAccessor public_name(env, j_public_name);
@@ -58,6 +59,15 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Property_nativeCreatePersistedPro
             throw std::invalid_argument(
                 "This field cannot be indexed - Only String/byte/short/int/long/boolean/Date fields are supported.");
         }
+        if (to_bool(is_fulltext_indexed)) {
+            if (p_type != PropertyType::String && p_type != (PropertyType::String | PropertyType::Nullable)) {
+                throw std::invalid_argument("This field cannot have a full-text index - Only String fields are supported.");
+            }
+            if (to_bool(is_indexed) || to_bool(is_primary)) {
+                throw std::invalid_argument("A full-text index cannot be combined with a search index or a primary key.");
+            }
+            property->is_fulltext_indexed = true;
+        }
         if (to_bool(is_primary) && p_type != PropertyType::Int && p_type != PropertyType::String && p_type != PropertyType::ObjectId && p_type != PropertyType::UUID) {
             std::string typ = property->type_string();
             throw std::invalid_argument("Invalid primary key type: " + typ);
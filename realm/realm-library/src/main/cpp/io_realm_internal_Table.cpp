@@ -472,15 +472,16 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_Table_nativeGetDecimal128(JN
     return nullptr;
 }
 
-JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetObjectId(JNIEnv* env, jobject, jlong nativeTableRefPtr,
-                                                                       jlong columnKey, jlong rowKey)
+JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_Table_nativeGetObjectId(JNIEnv* env, jobject,
+                                                                          jlong nativeTableRefPtr, jlong columnKey,
+                                                                          jlong rowKey)
 {
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_ObjectId)) {
         return nullptr;
     }
     try {
-        return to_jstring(env, table->get_object(ObjKey(rowKey)).get<ObjectId>(ColKey(columnKey)).to_string().data());
+        return to_jbytearray(env, table->get_object(ObjKey(rowKey)).get<ObjectId>(ColKey(columnKey)));
     }
     CATCH_STD()
     return nullptr;
@@ -705,7 +706,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetDecimal128(JNIEnv*
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetObjectId(JNIEnv* env, jclass, jlong nativeTableRefPtr,
-                                                                      jlong columnKey, jlong rowKey, jstring j_value,
+                                                                      jlong columnKey, jlong rowKey, jbyteArray j_value,
                                                                       jboolean isDefault)
 {
     TableRef table = TBL_REF(nativeTableRefPtr);
@@ -713,14 +714,14 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetObjectId(JNIEnv* en
         return;
     }
     try {
-        JStringAccessor value(env, j_value);
-        table->get_object(ObjKey(rowKey)).set(ColKey(columnKey), ObjectId(StringData(value).data()), B(isDefault));
+        table->get_object(ObjKey(rowKey)).set(ColKey(columnKey), to_object_id(env, j_value), B(isDefault));
     }
     CATCH_STD()
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetUUID(JNIEnv* env, jclass, jlong nativeTableRefPtr,
-                                                                      jlong columnKey, jlong rowKey, jstring j_value,
+                                                                      jlong columnKey, jlong rowKey,
+                                                                      jlong j_most_sig_bits, jlong j_least_sig_bits,
                                                                       jboolean isDefault)
 {
     TableRef table = TBL_REF(nativeTableRefPtr);
@@ -728,8 +729,8 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetUUID(JNIEnv* env, j
         return;
     }
     try {
-        JStringAccessor value(env, j_value);
-        table->get_object(ObjKey(rowKey)).set(ColKey(columnKey), UUID(StringData(value).data()), B(isDefault));
+        table->get_object(ObjKey(rowKey)).set(ColKey(columnKey), to_uuid(j_most_sig_bits, j_least_sig_bits),
+                                              B(isDefault));
     }
     CATCH_STD()
 }
@@ -806,6 +807,30 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeHasSearchIndex(JNI
     return JNI_FALSE;
 }
 
+JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeAddFullTextIndex(JNIEnv* env, jobject,
+                                                                           jlong nativeTableRefPtr, jlong columnKey)
+{
+    TableRef table = TBL_REF(nativeTableRefPtr);
+    if (!TYPE_VALID(env, table, columnKey, col_type_String)) {
+        return;
+    }
+    try {
+        table->add_fulltext_index(ColKey(columnKey));
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeHasFullTextIndex(JNIEnv* env, jobject,
+                                                                               jlong nativeTableRefPtr, jlong columnKey)
+{
+    try {
+        TableRef table = TBL_REF(nativeTableRefPtr);
+        return to_jbool(table->search_index_type(ColKey(columnKey)) == IndexType::Fulltext);
+    }
+    CATCH_STD()
+    return JNI_FALSE;
+}
+
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeIsNullLink(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                          jlong columnKey, jlong rowKey)
 {
@@ -1008,7 +1033,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstDecimal128(J
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstObjectId(JNIEnv* env, jclass, jlong nativeTableRefPtr,
-                                                                             jlong columnKey, jstring j_value)
+                                                                             jlong columnKey, jbyteArray j_value)
 {
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_ObjectId)) {
@@ -1016,8 +1041,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstObjectId(JNI
     }
 
     try {
-        JStringAccessor value(env, j_value); // throws
-        ObjectId id = ObjectId(StringData(value).data());
+        ObjectId id = to_object_id(env, j_value);
         return to_jlong_or_not_found(table->find_first_object_id(ColKey(columnKey), id));
     }
     CATCH_STD()
@@ -1025,7 +1049,8 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstObjectId(JNI
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstUUID(JNIEnv* env, jclass, jlong nativeTableRefPtr,
-                                                                             jlong columnKey, jstring j_value)
+                                                                             jlong columnKey, jlong j_most_sig_bits,
+                                                                             jlong j_least_sig_bits)
 {
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_UUID)) {
@@ -1033,8 +1058,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstUUID(JNIEnv*
     }
 
     try {
-        JStringAccessor value(env, j_value); // throws
-        UUID uuid = UUID(StringData(value).data());
+        UUID uuid = to_uuid(j_most_sig_bits, j_least_sig_bits);
         return to_jlong_or_not_found(table->find_first_uuid(ColKey(columnKey), uuid));
     }
     CATCH_STD()
@@ -16,6 +16,9 @@
 
 #include "io_realm_internal_TableQuery.h"
 
+#include <algorithm>
+#include <chrono>
+
 #include <realm.hpp>
 #include <realm/query_expression.hpp>
 #include <realm/table.hpp>
@@ -60,6 +63,264 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeFind(JNIEnv *env
     return -1;
 }
 
+// Top-K ------------------------------------
+
+static void add_condition(Query& query, jlong condition, ColKey col_key, Mixed value);
+
+namespace {
+struct TopKEntry {
+    std::vector<Mixed> values;
+    int64_t tiebreak; // Position in the view or object key, makes the order total
+    ObjKey key;
+};
+
+struct TopKOrder {
+    std::vector<ColKey> columns;
+    std::vector<bool> ascending;
+    bool tiebreak_ascending = true;
+
+    // Returns true if a is ordered before b.
+    bool operator()(const TopKEntry& a, const TopKEntry& b) const
+    {
+        for (size_t i = 0; i < columns.size(); ++i) {
+            int cmp = a.values[i].compare(b.values[i]);
+            if (cmp != 0) {
+                return ascending[i] ? cmp < 0 : cmp > 0;
+            }
+        }
+        return tiebreak_ascending ? a.tiebreak < b.tiebreak : a.tiebreak > b.tiebreak;
+    }
+};
+}
+
+// Returns the keys of the first `limit` rows of the view in the given order, using a max-heap of `limit` rows whose
+// top is the last row kept so far. If `after` is set, only rows ordered after it are considered. If `tiebreak_on_key`
+// rows with equal values are ordered by object key, otherwise by their position in the view.
+static std::vector<jlong> select_first_rows(TableView& view, const TopKOrder& order, size_t limit,
+                                            const TopKEntry* after, bool tiebreak_on_key)
+{
+    std::vector<TopKEntry> heap;
+    heap.reserve(std::min(limit, view.size()));
+
+    TopKEntry candidate;
+    candidate.values.resize(order.columns.size());
+    for (size_t row = 0; row < view.size() && limit > 0; ++row) {
+        Obj obj = view.get_object(row);
+        for (size_t i = 0; i < order.columns.size(); ++i) {
+            candidate.values[i] = obj.get_any(order.columns[i]);
+        }
+        candidate.key = obj.get_key();
+        candidate.tiebreak = tiebreak_on_key ? candidate.key.value : static_cast<int64_t>(row);
+
+        if (after && !order(*after, candidate)) {
+            continue;
+        }
+        if (heap.size() < limit) {
+            heap.push_back(candidate);
+            std::push_heap(heap.begin(), heap.end(), order);
+        }
+        else if (order(candidate, heap.front())) {
+            std::pop_heap(heap.begin(), heap.end(), order);
+            heap.back() = candidate;
+            std::push_heap(heap.begin(), heap.end(), order);
+        }
+    }
+    std::sort_heap(heap.begin(), heap.end(), order);
+
+    std::vector<jlong> keys;
+    keys.reserve(heap.size());
+    for (const TopKEntry& entry : heap) {
+        keys.push_back(entry.key.value);
+    }
+    return keys;
+}
+
+static jlongArray to_jlong_array(JNIEnv* env, const std::vector<jlong>& values)
+{
+    jlongArray array = env->NewLongArray(static_cast<jsize>(values.size()));
+    if (array == nullptr) {
+        ThrowException(env, OutOfMemory, "Could not allocate memory to return the object keys.");
+        return nullptr;
+    }
+    env->SetLongArrayRegion(array, 0, static_cast<jsize>(values.size()), values.data());
+    return array;
+}
+
+// Query::get_ordering() moves the ordering out of the query. Returns a copy of the query without its ordering, so
+// find_all() only runs the filter, and puts the ordering back on the original query. If `ordering` is given, the
+// descriptors of the query are copied into it.
+static Query unordered_copy(Query& query, DescriptorOrdering* ordering = nullptr)
+{
+    auto original_ordering = query.get_ordering();
+    Query unordered(query);
+    if (original_ordering) {
+        if (ordering) {
+            *ordering = DescriptorOrdering(*original_ordering);
+        }
+        query.set_ordering(std::make_unique<DescriptorOrdering>(*original_ordering));
+    }
+    return unordered;
+}
+
+// Selects the first k rows of a query ordered by direct columns with a bounded heap of k rows, instead of sorting
+// all matches. This is only valid if the ordering of the query consists of a single sort on exactly the given
+// columns, optionally followed by a limit. Core merges consecutive sorts, e.g. one from a raw predicate with one
+// added later, so the sort is compared with the given columns. Any other ordering returns null and the caller has
+// to fall back to the full ordering.
+JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeFindTopK(JNIEnv *env, jobject,
+                                                                             jlong nativeQueryPtr,
+                                                                             jlongArray j_column_keys,
+                                                                             jbooleanArray j_ascending, jlong k) {
+    try {
+        Query *pQuery = Q(nativeQueryPtr);
+        DescriptorOrdering original_ordering;
+        Query unordered = unordered_copy(*pQuery, &original_ordering);
+
+        const size_t descriptor_count = original_ordering.size();
+        if (descriptor_count == 0 || descriptor_count > 2 ||
+            original_ordering.get_type(0) != DescriptorType::Sort ||
+            (descriptor_count == 2 && original_ordering.get_type(1) != DescriptorType::Limit)) {
+            return nullptr;
+        }
+
+        JLongArrayAccessor column_keys(env, j_column_keys);
+        JBooleanArrayAccessor ascending(env, j_ascending);
+        TopKOrder order;
+        std::vector<std::vector<ColKey>> sort_columns;
+        for (jsize i = 0; i < column_keys.size(); ++i) {
+            order.columns.push_back(ColKey(column_keys[i]));
+            order.ascending.push_back(ascending[i]);
+            sort_columns.push_back({ColKey(column_keys[i])});
+        }
+        ConstTableRef table = pQuery->get_table();
+        SortDescriptor expected_sort(sort_columns, order.ascending);
+        if (original_ordering[0]->get_description(table) != expected_sort.get_description(table)) {
+            return nullptr;
+        }
+
+        size_t rows = static_cast<size_t>(k);
+        if (descriptor_count == 2) {
+            rows = std::min(rows, static_cast<const LimitDescriptor*>(original_ordering[1])->get_limit());
+        }
+
+        // Only the filter runs here, the heap replaces the sort and limit of the query.
+        TableView view = unordered.find_all();
+        return to_jlong_array(env, select_first_rows(view, order, rows, nullptr, false));
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
+// Returns the keys of the next page of a keyset pagination ordered by a single column and the object key. Rows
+// at or before the cursor (after_value, after_key) are skipped; the comparison on the column is also added to the
+// query, so core rejects most of them before they reach the heap. The ordering of the query itself is ignored.
+JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeFindPage(JNIEnv *env, jobject,
+                                                                             jlong nativeQueryPtr,
+                                                                             jlong column_key,
+                                                                             jboolean ascending,
+                                                                             jlong after_value_ptr,
+                                                                             jlong after_key,
+                                                                             jlong page_size) {
+    try {
+        Query *pQuery = Q(nativeQueryPtr);
+        ColKey col_key(column_key);
+        TopKOrder order;
+        order.columns.push_back(col_key);
+        order.ascending.push_back(ascending);
+        order.tiebreak_ascending = ascending;
+
+        Query seek = unordered_copy(*pQuery);
+        TopKEntry after;
+        bool has_after = after_value_ptr != 0;
+        if (has_after) {
+            after.values.push_back(reinterpret_cast<JavaValue*>(after_value_ptr)->to_mixed());
+            after.tiebreak = after_key;
+            // Nulls are ordered first, so they only follow a non-null cursor in descending order.
+            const Mixed& value = after.values[0];
+            if (!value.is_null() && (ascending || !pQuery->get_table()->is_nullable(col_key))) {
+                Query bound = pQuery->get_table()->where();
+                add_condition(bound, ascending ? io_realm_internal_TableQuery_CONDITION_GREATER_EQUAL
+                                               : io_realm_internal_TableQuery_CONDITION_LESS_EQUAL,
+                              col_key, value);
+                seek.and_query(bound);
+            }
+        }
+
+        TableView view = seek.find_all();
+        return to_jlong_array(env, select_first_rows(view, order, static_cast<size_t>(page_size),
+                                                     has_after ? &after : nullptr, true));
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
+// Explain ------------------------------------
+
+// Runs the query one stage at a time and returns the table size followed by (stage type, input rows, output rows,
+// duration in nanoseconds) for the filter and every descriptor of the query ordering.
+JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeExplain(JNIEnv *env, jobject,
+                                                                             jlong nativeQueryPtr) {
+    try {
+        Query *pQuery = Q(nativeQueryPtr);
+        DescriptorOrdering original_ordering;
+        Query unordered = unordered_copy(*pQuery, &original_ordering);
+
+        std::vector<jlong> plan;
+        size_t table_size = pQuery->get_table()->size();
+        plan.push_back(static_cast<jlong>(table_size));
+
+        auto add_stage = [&](jlong type, size_t input_rows, size_t output_rows,
+                             std::chrono::steady_clock::time_point start) {
+            auto duration = std::chrono::steady_clock::now() - start;
+            plan.push_back(type);
+            plan.push_back(static_cast<jlong>(input_rows));
+            plan.push_back(static_cast<jlong>(output_rows));
+            plan.push_back(static_cast<jlong>(std::chrono::duration_cast<std::chrono::nanoseconds>(duration).count()));
+        };
+
+        auto start = std::chrono::steady_clock::now();
+        TableView view = unordered.find_all();
+        add_stage(io_realm_internal_TableQuery_EXPLAIN_STAGE_FILTER, table_size, view.size(), start);
+
+        for (size_t i = 0; i < original_ordering.size(); ++i) {
+            DescriptorOrdering stage;
+            jlong stage_type;
+            const BaseDescriptor* descriptor = original_ordering[i];
+            switch (original_ordering.get_type(i)) {
+                case DescriptorType::Sort:
+                    stage.append_sort(*static_cast<const SortDescriptor*>(descriptor));
+                    stage_type = io_realm_internal_TableQuery_EXPLAIN_STAGE_SORT;
+                    break;
+                case DescriptorType::Distinct:
+                    stage.append_distinct(*static_cast<const DistinctDescriptor*>(descriptor));
+                    stage_type = io_realm_internal_TableQuery_EXPLAIN_STAGE_DISTINCT;
+                    break;
+                case DescriptorType::Limit:
+                    stage.append_limit(*static_cast<const LimitDescriptor*>(descriptor));
+                    stage_type = io_realm_internal_TableQuery_EXPLAIN_STAGE_LIMIT;
+                    break;
+                default:
+                    // Descriptors not created by the Java API, like includes, are not part of the plan.
+                    continue;
+            }
+            size_t input_rows = view.size();
+            start = std::chrono::steady_clock::now();
+            view.apply_descriptor_ordering(stage);
+            add_stage(stage_type, input_rows, view.size(), start);
+        }
+
+        jlongArray ret_array = env->NewLongArray(static_cast<jsize>(plan.size()));
+        if (!ret_array) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to explain the query.");
+            return nullptr;
+        }
+        env->SetLongArrayRegion(ret_array, 0, static_cast<jsize>(plan.size()), plan.data());
+        return ret_array;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
 // Integer Aggregates
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeSumInt(JNIEnv *env, jobject, jlong nativeQueryPtr,
@@ -468,10 +729,50 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeCount(JNIEnv *en
     return 0;
 }
 
-JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeRemove(JNIEnv *env, jobject, jlong nativeQueryPtr) {
+// Counts the matches of the query including its ordering, but stops as soon as max objects are found. Without a
+// distinct descriptor the limit is pushed down into the query engine, which then stops scanning at the max'th match.
+JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeCountUpTo(JNIEnv *env, jobject, jlong nativeQueryPtr,
+                                                                         jlong max) {
     Query *pQuery = Q(nativeQueryPtr);
     try {
-        return static_cast<jlong>(pQuery->remove());
+        auto ordering = pQuery->get_ordering();
+        DescriptorOrdering original_ordering = ordering ? DescriptorOrdering(*ordering) : DescriptorOrdering();
+        pQuery->set_ordering(std::make_unique<DescriptorOrdering>(original_ordering));
+
+        DescriptorOrdering bounded_ordering(original_ordering);
+        bounded_ordering.append_limit(LimitDescriptor(static_cast<size_t>(max)));
+        return static_cast<jlong>(pQuery->count(bounded_ordering));
+    }
+    CATCH_STD()
+    return 0;
+}
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeRemove(JNIEnv *env, jobject, jlong nativeQueryPtr,
+                                                                      jlong maxRows) {
+    Query *pQuery = Q(nativeQueryPtr);
+    try {
+        size_t limit = (maxRows < 0) ? size_t(-1) : static_cast<size_t>(maxRows);
+        // get_ordering() moves the ordering out of the query, so it is put back on both paths.
+        auto ordering = pQuery->get_ordering();
+        DescriptorOrdering original_ordering = ordering ? DescriptorOrdering(*ordering) : DescriptorOrdering();
+        pQuery->set_ordering(std::make_unique<DescriptorOrdering>(original_ordering));
+
+        TableView view;
+        if (!original_ordering.is_empty()) {
+            // The descriptors decide which objects match, e.g. sort + limit, so they must be applied first.
+            DescriptorOrdering bounded_ordering(original_ordering);
+            if (maxRows >= 0) {
+                bounded_ordering.append_limit(LimitDescriptor(limit));
+            }
+            view = pQuery->find_all(bounded_ordering);
+        }
+        else {
+            // The query engine stops as soon as maxRows matches are found.
+            view = pQuery->find_all(limit);
+        }
+        size_t count = view.size();
+        view.clear();
+        return static_cast<jlong>(count);
     }
     CATCH_STD()
     return 0;
@@ -534,6 +835,397 @@ Java_io_realm_internal_TableQuery_nativeRawPredicate(JNIEnv *env,
     CATCH_STD()
 }
 
+static const char* condition_operator(jlong condition)
+{
+    switch (condition) {
+        case io_realm_internal_TableQuery_CONDITION_EQUAL: return "==";
+        case io_realm_internal_TableQuery_CONDITION_EQUAL_INSENSITIVE: return "==[c]";
+        case io_realm_internal_TableQuery_CONDITION_NOT_EQUAL: return "!=";
+        case io_realm_internal_TableQuery_CONDITION_NOT_EQUAL_INSENSITIVE: return "!=[c]";
+        case io_realm_internal_TableQuery_CONDITION_GREATER: return ">";
+        case io_realm_internal_TableQuery_CONDITION_GREATER_EQUAL: return ">=";
+        case io_realm_internal_TableQuery_CONDITION_LESS: return "<";
+        case io_realm_internal_TableQuery_CONDITION_LESS_EQUAL: return "<=";
+        case io_realm_internal_TableQuery_CONDITION_BEGINS_WITH: return "BEGINSWITH";
+        case io_realm_internal_TableQuery_CONDITION_BEGINS_WITH_INSENSITIVE: return "BEGINSWITH[c]";
+        case io_realm_internal_TableQuery_CONDITION_ENDS_WITH: return "ENDSWITH";
+        case io_realm_internal_TableQuery_CONDITION_ENDS_WITH_INSENSITIVE: return "ENDSWITH[c]";
+        case io_realm_internal_TableQuery_CONDITION_CONTAINS: return "CONTAINS";
+        case io_realm_internal_TableQuery_CONDITION_CONTAINS_INSENSITIVE: return "CONTAINS[c]";
+        case io_realm_internal_TableQuery_CONDITION_LIKE: return "LIKE";
+        case io_realm_internal_TableQuery_CONDITION_LIKE_INSENSITIVE: return "LIKE[c]";
+        default:
+            throw std::logic_error(util::format("Unknown query condition: %1", condition));
+    }
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeCondition(JNIEnv *env,
+                                                  jobject,
+                                                  jlong j_query_ptr,
+                                                  jlong j_condition,
+                                                  jstring j_field_name,
+                                                  jlong j_arg_ptr,
+                                                  jlong j_mapping_ptr) {
+    try {
+        JStringAccessor field_name(env, j_field_name); // throws
+        auto &value = *reinterpret_cast<JavaValue *>(j_arg_ptr);
+        std::vector<Mixed> args = {value.to_mixed()};
+
+        rawQuery(j_query_ptr, std::string(field_name) + " " + condition_operator(j_condition) + " $0", args, j_mapping_ptr);
+    }
+    CATCH_STD()
+}
+
+// The typed Query API only compares values of the same type as the column, so integers are widened to the
+// floating point type of the column like the query parser does. Returns false if the typed API cannot be used.
+static bool prepare_typed_value(jlong condition, ColKey col_key, Mixed& value)
+{
+    if (col_key.is_collection() || value.is_null()) {
+        return false;
+    }
+
+    ColumnType col_type = col_key.get_type();
+    switch (condition) {
+        case io_realm_internal_TableQuery_CONDITION_EQUAL:
+        case io_realm_internal_TableQuery_CONDITION_NOT_EQUAL:
+        case io_realm_internal_TableQuery_CONDITION_GREATER:
+        case io_realm_internal_TableQuery_CONDITION_GREATER_EQUAL:
+        case io_realm_internal_TableQuery_CONDITION_LESS:
+        case io_realm_internal_TableQuery_CONDITION_LESS_EQUAL:
+            if (col_type == col_type_Mixed) {
+                return true;
+            }
+            break;
+        default:
+            // String operators and case insensitive comparisons are only handled natively on string columns.
+            return col_type == col_type_String && value.get_type() == type_String;
+    }
+
+    switch (value.get_type()) {
+        case type_Int:
+            if (col_type == col_type_Double) {
+                value = Mixed(static_cast<double>(value.get_int()));
+                return true;
+            }
+            if (col_type == col_type_Float) {
+                value = Mixed(static_cast<float>(value.get_int()));
+                return true;
+            }
+            return col_type == col_type_Int;
+        case type_Bool:
+            return col_type == col_type_Bool;
+        case type_String:
+            return col_type == col_type_String;
+        case type_Binary:
+            return col_type == col_type_Binary;
+        case type_Timestamp:
+            return col_type == col_type_Timestamp;
+        case type_Float:
+            return col_type == col_type_Float;
+        case type_Double:
+            return col_type == col_type_Double;
+        case type_Decimal:
+            return col_type == col_type_Decimal;
+        case type_ObjectId:
+            return col_type == col_type_ObjectId;
+        case type_UUID:
+            return col_type == col_type_UUID;
+        default:
+            return false;
+    }
+}
+
+// Adds a single condition on an already resolved column. Conditions the typed Query API cannot express, like
+// comparisons on collections or between different types, are handed to the query parser instead.
+static void add_condition(Query& query, jlong condition, ColKey col_key, Mixed value)
+{
+    if (!prepare_typed_value(condition, col_key, value)) {
+        std::string column_name = query.get_table()->get_column_name(col_key);
+        std::string escaped_name;
+        for (char c : column_name) {
+            if (c == ' ') {
+                escaped_name += '\\';
+            }
+            escaped_name += c;
+        }
+        std::vector<Mixed> args = {value};
+        query.and_query(query.get_table()->query(escaped_name + " " + condition_operator(condition) + " $0", args));
+        return;
+    }
+
+    switch (condition) {
+        case io_realm_internal_TableQuery_CONDITION_EQUAL:
+            query.equal(col_key, value);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_EQUAL_INSENSITIVE:
+            query.equal(col_key, value, false);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_NOT_EQUAL:
+            query.not_equal(col_key, value);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_NOT_EQUAL_INSENSITIVE:
+            query.not_equal(col_key, value, false);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_GREATER:
+            query.greater(col_key, value);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_GREATER_EQUAL:
+            query.greater_equal(col_key, value);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_LESS:
+            query.less(col_key, value);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_LESS_EQUAL:
+            query.less_equal(col_key, value);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_BEGINS_WITH:
+            query.begins_with(col_key, value);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_BEGINS_WITH_INSENSITIVE:
+            query.begins_with(col_key, value, false);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_ENDS_WITH:
+            query.ends_with(col_key, value);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_ENDS_WITH_INSENSITIVE:
+            query.ends_with(col_key, value, false);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_CONTAINS:
+            query.contains(col_key, value);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_CONTAINS_INSENSITIVE:
+            query.contains(col_key, value, false);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_LIKE:
+            query.like(col_key, value);
+            break;
+        case io_realm_internal_TableQuery_CONDITION_LIKE_INSENSITIVE:
+            query.like(col_key, value, false);
+            break;
+        default:
+            throw std::logic_error(util::format("Unknown query condition: %1", condition));
+    }
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeApplyConditions(JNIEnv *env,
+                                                        jobject,
+                                                        jlong j_query_ptr,
+                                                        jlongArray j_conditions,
+                                                        jlongArray j_args) {
+    try {
+        auto &query = *Q(j_query_ptr);
+        JLongArrayAccessor conditions(env, j_conditions);
+        JLongArrayAccessor arguments(env, j_args);
+
+        std::vector<Mixed> args;
+        args.reserve(arguments.size());
+        for (jsize i = 0; i < arguments.size(); ++i) {
+            auto &value = *reinterpret_cast<JavaValue *>(arguments[i]);
+            args.push_back(value.to_mixed());
+        }
+
+        size_t arg_index = 0;
+        auto next_arg = [&]() -> Mixed {
+            if (arg_index >= args.size()) {
+                throw std::invalid_argument(util::format("Missing argument at index %1.", arg_index));
+            }
+            return args[arg_index++];
+        };
+
+        for (jsize i = 0; i + 1 < conditions.size(); i += 2) {
+            jlong condition = conditions[i];
+            ColKey col_key(conditions[i + 1]);
+            switch (condition) {
+                case io_realm_internal_TableQuery_CONDITION_BETWEEN: {
+                    Mixed from = next_arg();
+                    Mixed to = next_arg();
+                    query.group();
+                    add_condition(query, io_realm_internal_TableQuery_CONDITION_GREATER_EQUAL, col_key, from);
+                    add_condition(query, io_realm_internal_TableQuery_CONDITION_LESS_EQUAL, col_key, to);
+                    query.end_group();
+                    break;
+                }
+                case io_realm_internal_TableQuery_CONDITION_IS_NULL:
+                    query.equal(col_key, realm::null());
+                    break;
+                case io_realm_internal_TableQuery_CONDITION_IS_NOT_NULL:
+                    query.not_equal(col_key, realm::null());
+                    break;
+                case io_realm_internal_TableQuery_CONDITION_BEGIN_GROUP:
+                    query.group();
+                    break;
+                case io_realm_internal_TableQuery_CONDITION_END_GROUP:
+                    query.end_group();
+                    break;
+                case io_realm_internal_TableQuery_CONDITION_OR:
+                    query.Or();
+                    break;
+                case io_realm_internal_TableQuery_CONDITION_NOT:
+                    query.Not();
+                    break;
+                default:
+                    add_condition(query, condition, col_key, next_arg());
+                    break;
+            }
+        }
+    }
+    CATCH_STD()
+}
+
+// Typed conditions. These take their argument directly instead of a pointer to a native RealmAny.
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeLongCondition(JNIEnv *env, jobject, jlong j_query_ptr, jlong j_condition,
+                                                      jlong j_column_key, jlong j_value) {
+    try {
+        add_condition(*Q(j_query_ptr), j_condition, ColKey(j_column_key), Mixed(static_cast<int64_t>(j_value)));
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeDoubleCondition(JNIEnv *env, jobject, jlong j_query_ptr, jlong j_condition,
+                                                        jlong j_column_key, jdouble j_value) {
+    try {
+        add_condition(*Q(j_query_ptr), j_condition, ColKey(j_column_key), Mixed(static_cast<double>(j_value)));
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeFloatCondition(JNIEnv *env, jobject, jlong j_query_ptr, jlong j_condition,
+                                                       jlong j_column_key, jfloat j_value) {
+    try {
+        add_condition(*Q(j_query_ptr), j_condition, ColKey(j_column_key), Mixed(static_cast<float>(j_value)));
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeBooleanCondition(JNIEnv *env, jobject, jlong j_query_ptr, jlong j_condition,
+                                                         jlong j_column_key, jboolean j_value) {
+    try {
+        add_condition(*Q(j_query_ptr), j_condition, ColKey(j_column_key), Mixed(B(j_value)));
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeTimestampCondition(JNIEnv *env, jobject, jlong j_query_ptr, jlong j_condition,
+                                                           jlong j_column_key, jlong j_value) {
+    try {
+        add_condition(*Q(j_query_ptr), j_condition, ColKey(j_column_key), Mixed(from_milliseconds(j_value)));
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeStringCondition(JNIEnv *env, jobject, jlong j_query_ptr, jlong j_condition,
+                                                        jlong j_column_key, jstring j_value) {
+    try {
+        JStringAccessor value(env, j_value); // throws
+        add_condition(*Q(j_query_ptr), j_condition, ColKey(j_column_key), Mixed(StringData(value)));
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeObjectIdCondition(JNIEnv *env, jobject, jlong j_query_ptr, jlong j_condition,
+                                                          jlong j_column_key, jbyteArray j_value) {
+    try {
+        add_condition(*Q(j_query_ptr), j_condition, ColKey(j_column_key), Mixed(to_object_id(env, j_value)));
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeUUIDCondition(JNIEnv *env, jobject, jlong j_query_ptr, jlong j_condition,
+                                                      jlong j_column_key, jlong j_most_sig_bits,
+                                                      jlong j_least_sig_bits) {
+    try {
+        add_condition(*Q(j_query_ptr), j_condition, ColKey(j_column_key),
+                      Mixed(to_uuid(j_most_sig_bits, j_least_sig_bits)));
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeDecimal128Condition(JNIEnv *env, jobject, jlong j_query_ptr,
+                                                            jlong j_condition, jlong j_column_key, jlong j_low,
+                                                            jlong j_high) {
+    try {
+        Decimal128::Bid128 raw = {static_cast<uint64_t>(j_low), static_cast<uint64_t>(j_high)};
+        add_condition(*Q(j_query_ptr), j_condition, ColKey(j_column_key), Mixed(Decimal128(raw)));
+    }
+    CATCH_STD()
+}
+
+// Set membership. The values are passed in a single array and matched with one IN condition instead of a chain of
+// equality conditions.
+
+static void add_in_condition(Query& query, ColKey col_key, const std::vector<Mixed>& values)
+{
+    query.in(col_key, values.data(), values.data() + values.size());
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeInLong(JNIEnv *env, jobject, jlong j_query_ptr, jlong j_column_key,
+                                               jlongArray j_values) {
+    try {
+        JLongArrayAccessor values(env, j_values);
+        std::vector<Mixed> mixed_values;
+        mixed_values.reserve(values.size());
+        for (jsize i = 0; i < values.size(); ++i) {
+            mixed_values.emplace_back(static_cast<int64_t>(values[i]));
+        }
+        add_in_condition(*Q(j_query_ptr), ColKey(j_column_key), mixed_values);
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeInObjectId(JNIEnv *env, jobject, jlong j_query_ptr, jlong j_column_key,
+                                                   jbyteArray j_values) {
+    try {
+        // ObjectIds are packed back to back as 12 byte big endian values.
+        JByteArrayAccessor bytes(env, j_values);
+        size_t count = bytes.size() / sizeof(ObjectId::ObjectIdBytes);
+        const jbyte* data = bytes.data();
+        std::vector<Mixed> mixed_values;
+        mixed_values.reserve(count);
+        for (size_t i = 0; i < count; ++i) {
+            ObjectId::ObjectIdBytes object_id_bytes;
+            std::memcpy(object_id_bytes.data(), data + i * object_id_bytes.size(), object_id_bytes.size());
+            mixed_values.emplace_back(ObjectId(object_id_bytes));
+        }
+        add_in_condition(*Q(j_query_ptr), ColKey(j_column_key), mixed_values);
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeInString(JNIEnv *env, jobject, jlong j_query_ptr, jlong j_column_key,
+                                                 jobjectArray j_values) {
+    try {
+        JObjectArrayAccessor<JStringAccessor, jstring> values(env, j_values);
+        // The accessors own the string data referenced by the Mixed values until the condition has been added.
+        std::vector<JStringAccessor> strings;
+        strings.reserve(values.size());
+        for (jsize i = 0; i < values.size(); ++i) {
+            strings.push_back(values[i]);
+        }
+        std::vector<Mixed> mixed_values;
+        mixed_values.reserve(strings.size());
+        for (auto& string : strings) {
+            mixed_values.emplace_back(StringData(string));
+        }
+        add_in_condition(*Q(j_query_ptr), ColKey(j_column_key), mixed_values);
+    }
+    CATCH_STD()
+}
+
 JNIEXPORT void JNICALL
 Java_io_realm_internal_TableQuery_nativeRawDescriptor(JNIEnv *env,
                                                       jobject,
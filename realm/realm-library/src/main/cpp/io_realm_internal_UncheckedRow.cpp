@@ -195,6 +195,29 @@ JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetByteAr
     return nullptr;
 }
 
+JNIEXPORT jobject JNICALL Java_io_realm_internal_UncheckedRow_nativeGetBinaryBuffer(JNIEnv* env, jobject,
+                                                                                   jlong nativeRowPtr,
+                                                                                   jlong columnKey)
+{
+    if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
+        return nullptr;
+    }
+
+    try {
+        BinaryData bin = OBJ(nativeRowPtr)->get<BinaryData>(ColKey(columnKey));
+        if (bin.is_null()) {
+            return nullptr;
+        }
+        // The buffer wraps the memory of the current version of the Realm file without copying it. An empty value
+        // may not have an address, but a direct buffer needs one.
+        static char empty_binary = 0;
+        void* address = (bin.size() == 0) ? &empty_binary : const_cast<char*>(bin.data());
+        return env->NewDirectByteBuffer(address, static_cast<jlong>(bin.size()));
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
 JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetLink(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                           jlong columnKey)
 {
@@ -342,6 +365,28 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetByteArray(JN
     CATCH_STD()
 }
 
+JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetBinaryBuffer(JNIEnv* env, jobject,
+                                                                                 jlong nativeRowPtr, jlong columnKey,
+                                                                                 jobject j_buffer, jint j_position,
+                                                                                 jint j_length)
+{
+    if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
+        return;
+    }
+
+    try {
+        auto address = static_cast<const char*>(env->GetDirectBufferAddress(j_buffer));
+        if (!address && j_length > 0) {
+            ThrowException(env, IllegalArgument, "Only direct ByteBuffers are supported.");
+            return;
+        }
+        BinaryData value = (j_length > 0) ? BinaryData(address + j_position, static_cast<size_t>(j_length))
+                                          : BinaryData("", 0);
+        OBJ(nativeRowPtr)->set(ColKey(columnKey), value);
+    }
+    CATCH_STD()
+}
+
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetLink(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                          jlong columnKey, jlong valueObjKey)
 {
@@ -466,9 +511,9 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetDecimal128(J
     CATCH_STD()
 }
 
-JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetObjectId(JNIEnv* env, jobject,
-                                                                                jlong nativeRowPtr,
-                                                                                jlong columnKey)
+JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetObjectId(JNIEnv* env, jobject,
+                                                                                   jlong nativeRowPtr,
+                                                                                   jlong columnKey)
 {
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return nullptr;
@@ -476,7 +521,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetObjectId(
 
     try {
         ObjectId objectId = OBJ(nativeRowPtr)->get<ObjectId>(ColKey(columnKey));
-        return to_jstring(env, objectId.to_string().data());
+        return to_jbytearray(env, objectId);
     }
     CATCH_STD()
     return nullptr;
@@ -484,22 +529,21 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetObjectId(
 
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetObjectId(JNIEnv* env, jobject,
                                                                               jlong nativeRowPtr, jlong columnKey,
-                                                                              jstring j_value)
+                                                                              jbyteArray j_value)
 {
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
 
     try {
-        JStringAccessor value(env, j_value);
-        OBJ(nativeRowPtr)->set(ColKey(columnKey), ObjectId(StringData(value).data()));
+        OBJ(nativeRowPtr)->set(ColKey(columnKey), to_object_id(env, j_value));
     }
     CATCH_STD()
 }
 
-JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetUUID(JNIEnv* env, jobject,
-                                                                            jlong nativeRowPtr,
-                                                                            jlong columnKey)
+JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetUUID(JNIEnv* env, jobject,
+                                                                               jlong nativeRowPtr,
+                                                                               jlong columnKey)
 {
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return nullptr;
@@ -507,7 +551,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetUUID(JNIE
 
     try {
         UUID uuid = OBJ(nativeRowPtr)->get<UUID>(ColKey(columnKey));
-        return to_jstring(env, uuid.to_string().data());
+        return to_jbytearray(env, uuid);
     }
     CATCH_STD()
     return nullptr;
@@ -531,15 +575,15 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetRealmAny(JN
 
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetUUID(JNIEnv* env, jobject,
                                                                              jlong nativeRowPtr, jlong columnKey,
-                                                                             jstring j_value)
+                                                                             jlong j_most_sig_bits,
+                                                                             jlong j_least_sig_bits)
 {
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
 
     try {
-        JStringAccessor value(env, j_value);
-        OBJ(nativeRowPtr)->set(ColKey(columnKey), UUID(StringData(value).data()));
+        OBJ(nativeRowPtr)->set(ColKey(columnKey), to_uuid(j_most_sig_bits, j_least_sig_bits));
     }
     CATCH_STD()
 }
@@ -178,20 +178,19 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsDate(JNIEnv *env, jclass, jlo
 }
 
 JNIEXPORT jlong JNICALL
-Java_io_realm_internal_core_NativeRealmAny_nativeCreateObjectId(JNIEnv *env, jclass, jstring j_value) {
+Java_io_realm_internal_core_NativeRealmAny_nativeCreateObjectId(JNIEnv *env, jclass, jbyteArray j_value) {
     try {
-        JStringAccessor string_accessor(env, j_value); // throws
-        return reinterpret_cast<jlong>(new JavaValue(ObjectId(StringData(string_accessor).data())));
+        return reinterpret_cast<jlong>(new JavaValue(to_object_id(env, j_value)));
     } CATCH_STD()
 
     return reinterpret_cast<jlong>(nullptr);
 }
 
-JNIEXPORT jstring JNICALL
+JNIEXPORT jbyteArray JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsObjectId(JNIEnv *env, jclass, jlong native_ptr) {
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
-        return to_jstring(env, java_value.get_object_id().to_string().data());
+        return to_jbytearray(env, java_value.get_object_id());
     } CATCH_STD()
 
     return nullptr;
@@ -219,20 +218,19 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsDecimal128(JNIEnv *env, jclas
 }
 
 JNIEXPORT jlong JNICALL
-Java_io_realm_internal_core_NativeRealmAny_nativeCreateUUID(JNIEnv *env, jclass, jstring j_value) {
+Java_io_realm_internal_core_NativeRealmAny_nativeCreateUUID(JNIEnv *env, jclass, jlong j_most_sig_bits, jlong j_least_sig_bits) {
     try {
-        JStringAccessor string_accessor(env, j_value); // throws
-        return reinterpret_cast<jlong>(new JavaValue(UUID(StringData(string_accessor).data())));
+        return reinterpret_cast<jlong>(new JavaValue(to_uuid(j_most_sig_bits, j_least_sig_bits)));
     } CATCH_STD()
 
     return reinterpret_cast<jlong>(nullptr);
 }
 
-JNIEXPORT jstring JNICALL
+JNIEXPORT jbyteArray JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsUUID(JNIEnv *env, jclass, jlong native_ptr) {
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
-        return to_jstring(env, java_value.get_uuid().to_string().data());
+        return to_jbytearray(env, java_value.get_uuid());
     } CATCH_STD()
 
     return nullptr;
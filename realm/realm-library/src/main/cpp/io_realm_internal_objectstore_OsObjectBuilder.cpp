@@ -144,11 +144,10 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectId
-        (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jstring j_data)
+        (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jbyteArray j_data)
 {
     try {
-        JStringAccessor data(env, j_data);
-        ObjectId objectId = ObjectId(StringData(data).data());
+        ObjectId objectId = to_object_id(env, j_data);
         const JavaValue value(objectId);
         add_property(data_ptr, column_key, value);
     }
@@ -156,11 +155,10 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddUUID
-        (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jstring j_data)
+        (JNIEnv*, jclass, jlong data_ptr, jlong column_key, jlong j_most_sig_bits, jlong j_least_sig_bits)
 {
     try {
-        JStringAccessor data(env, j_data);
-        UUID uuid = UUID(StringData(data).data());
+        UUID uuid = to_uuid(j_most_sig_bits, j_least_sig_bits);
         const JavaValue value(uuid);
         add_property(data_ptr, column_key, value);
     }
@@ -409,11 +407,10 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectIdListItem
-        (JNIEnv* env, jclass, jlong list_ptr, jstring j_data)
+        (JNIEnv* env, jclass, jlong list_ptr, jbyteArray j_data)
 {
     try {
-        JStringAccessor data(env, j_data);
-        ObjectId objectId = ObjectId(StringData(data).data());
+        ObjectId objectId = to_object_id(env, j_data);
         const JavaValue value(objectId);
         add_list_element(list_ptr, value);
     }
@@ -421,11 +418,10 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddUUIDListItem
-        (JNIEnv* env, jclass, jlong list_ptr, jstring j_data)
+        (JNIEnv*, jclass, jlong list_ptr, jlong j_most_sig_bits, jlong j_least_sig_bits)
 {
     try {
-        JStringAccessor data(env, j_data);
-        UUID uuid = UUID(StringData(data).data());
+        UUID uuid = to_uuid(j_most_sig_bits, j_least_sig_bits);
         const JavaValue value(uuid);
         add_list_element(list_ptr, value);
     }
@@ -614,14 +610,13 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectIdDictionaryEn
                                                                                     jclass,
                                                                                     jlong dictionary_ptr,
                                                                                     jstring j_key,
-                                                                                    jstring j_value) {
+                                                                                    jbyteArray j_value) {
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
 
         JStringAccessor key(env, j_key);
-        JStringAccessor data(env, j_value);
 
-        const ObjectId object_id = ObjectId(StringData(data).data());
+        const ObjectId object_id = to_object_id(env, j_value);
         const JavaValue object_id_value(object_id);
 
         dictionary->insert(std::make_pair(key, object_id_value));
@@ -634,14 +629,14 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddUUIDDictionaryEntry(
                                                                                 jclass,
                                                                                 jlong dictionary_ptr,
                                                                                 jstring j_key,
-                                                                                jstring j_value) {
+                                                                                jlong j_most_sig_bits,
+                                                                                jlong j_least_sig_bits) {
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
 
         JStringAccessor key(env, j_key);
-        JStringAccessor data(env, j_value);
 
-        const UUID uuid = UUID(StringData(data).data());
+        const UUID uuid = to_uuid(j_most_sig_bits, j_least_sig_bits);
         const JavaValue uuid_value(uuid);
 
         dictionary->insert(std::make_pair(key, uuid_value));
@@ -825,10 +820,9 @@ JNIEXPORT void JNICALL
 Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectIdSetItem(JNIEnv* env,
                                                                             jclass,
                                                                             jlong set_ptr,
-                                                                            jstring j_value) {
+                                                                            jbyteArray j_value) {
     try {
-        JStringAccessor data(env, j_value);
-        ObjectId objectId = ObjectId(StringData(data).data());
+        ObjectId objectId = to_object_id(env, j_value);
         const JavaValue value(objectId);
         add_list_element(set_ptr, value);
     }
@@ -836,13 +830,13 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectIdSetItem(JNIE
 }
 
 JNIEXPORT void JNICALL
-Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddUUIDSetItem(JNIEnv* env,
+Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddUUIDSetItem(JNIEnv*,
                                                                         jclass,
                                                                         jlong set_ptr,
-                                                                        jstring j_value) {
+                                                                        jlong j_most_sig_bits,
+                                                                        jlong j_least_sig_bits) {
     try {
-        JStringAccessor data(env, j_value);
-        UUID uuid = UUID(StringData(data).data());
+        UUID uuid = to_uuid(j_most_sig_bits, j_least_sig_bits);
         const JavaValue value(uuid);
         add_list_element(set_ptr, value);
     }
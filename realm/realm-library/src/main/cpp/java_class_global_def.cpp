@@ -20,6 +20,7 @@
 #include "java_class_global_def.hpp"
 #include "java_exception_def.hpp"
 #include "jni_util/java_exception_thrower.hpp"
+#include "jni_util/java_local_ref.hpp"
 
 using namespace realm;
 using namespace realm::_impl;
@@ -56,14 +57,23 @@ jobject JavaClassGlobalDef::new_decimal128(JNIEnv* env, const Decimal128& decima
 
 jobject JavaClassGlobalDef::new_object_id(JNIEnv* env, const ObjectId& objectId)
 {
-    static jni_util::JavaMethod init(env, instance()->m_bson_object_id, "<init>", "(Ljava/lang/String;)V");
-    return env->NewObject(instance()->m_bson_object_id, init, to_jstring(env, objectId.to_string().data()));
+    static jni_util::JavaMethod init(env, instance()->m_bson_object_id, "<init>", "([B)V");
+    JavaLocalRef<jbyteArray> bytes(env, to_jbytearray(env, objectId));
+    return env->NewObject(instance()->m_bson_object_id, init, bytes.get());
 }
 
 jobject JavaClassGlobalDef::new_uuid(JNIEnv* env, const UUID& uuid)
 {
-    static jni_util::JavaMethod from_string(env, instance()->m_java_util_uuid, "fromString", "(Ljava/lang/String;)Ljava/util/UUID;", true);
-    return env->CallStaticObjectMethod(instance()->m_java_util_uuid, from_string, to_jstring(env, uuid.to_string().data()));
+    static jni_util::JavaMethod init(env, instance()->m_java_util_uuid, "<init>", "(JJ)V");
+    UUID::UUIDBytes bytes = uuid.to_bytes();
+    uint64_t most_sig_bits = 0;
+    uint64_t least_sig_bits = 0;
+    for (size_t i = 0; i < 8; ++i) {
+        most_sig_bits = (most_sig_bits << 8) | bytes[i];
+        least_sig_bits = (least_sig_bits << 8) | bytes[i + 8];
+    }
+    return env->NewObject(instance()->m_java_util_uuid, init, static_cast<jlong>(most_sig_bits),
+                          static_cast<jlong>(least_sig_bits));
 }
 
 jobject JavaClassGlobalDef::new_mixed(JNIEnv* env, const Mixed& mixed)
@@ -17,6 +17,7 @@
 #ifndef REALM_JAVA_UTIL_HPP
 #define REALM_JAVA_UTIL_HPP
 
+#include <array>
 #include <string>
 #include <string_view>
 #include <sstream>
@@ -386,6 +387,47 @@ inline realm::Timestamp from_milliseconds(jlong milliseconds)
     return realm::Timestamp(seconds, nanoseconds);
 }
 
+// ObjectIds cross JNI as their 12 bytes and UUIDs as their two 64 bit halves (big endian, as in java.util.UUID),
+// which avoids formatting and parsing their textual representation.
+inline realm::ObjectId to_object_id(JNIEnv* env, jbyteArray j_bytes)
+{
+    realm::ObjectId::ObjectIdBytes bytes;
+    env->GetByteArrayRegion(j_bytes, 0, static_cast<jsize>(bytes.size()), reinterpret_cast<jbyte*>(bytes.data()));
+    return realm::ObjectId(bytes);
+}
+
+inline realm::UUID to_uuid(jlong most_sig_bits, jlong least_sig_bits)
+{
+    realm::UUID::UUIDBytes bytes;
+    for (size_t i = 0; i < 8; ++i) {
+        bytes[i] = static_cast<uint8_t>(static_cast<uint64_t>(most_sig_bits) >> (56 - 8 * i));
+        bytes[8 + i] = static_cast<uint8_t>(static_cast<uint64_t>(least_sig_bits) >> (56 - 8 * i));
+    }
+    return realm::UUID(bytes);
+}
+
+template <size_t N>
+inline jbyteArray to_jbytearray(JNIEnv* env, const std::array<uint8_t, N>& bytes)
+{
+    jbyteArray j_bytes = env->NewByteArray(static_cast<jsize>(N));
+    if (!j_bytes) {
+        ThrowException(env, OutOfMemory, "Could not allocate memory to return value.");
+        return nullptr;
+    }
+    env->SetByteArrayRegion(j_bytes, 0, static_cast<jsize>(N), reinterpret_cast<const jbyte*>(bytes.data()));
+    return j_bytes;
+}
+
+inline jbyteArray to_jbytearray(JNIEnv* env, const realm::ObjectId& object_id)
+{
+    return to_jbytearray(env, object_id.to_bytes());
+}
+
+inline jbyteArray to_jbytearray(JNIEnv* env, const realm::UUID& uuid)
+{
+    return to_jbytearray(env, uuid.to_bytes());
+}
+
 extern const std::string TABLE_PREFIX;
 
 static inline bool to_bool(jboolean b)
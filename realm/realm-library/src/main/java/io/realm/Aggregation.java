@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.OsResults;
+
+
+/**
+ * An aggregate function to compute with {@link RealmQuery#aggregate(Aggregation...)}.
+ * <p>
+ * Passing multiple aggregations to {@link RealmQuery#aggregate(Aggregation...)} only evaluates the query once, which is
+ * considerably faster than calling {@link RealmQuery#sum(String)}, {@link RealmQuery#min(String)} etc. one by one on
+ * large tables:
+ *
+ * <pre>
+ * {@code
+ * AggregationResult result = realm.where(Person.class)
+ *     .greaterThan("age", 18)
+ *     .aggregate(Aggregation.count(), Aggregation.average("age"), Aggregation.max("birthday"));
+ * long adults = result.getNumber(0).longValue();
+ * }
+ * </pre>
+ *
+ * Aggregations do not support dotted field notation.
+ *
+ * @see AggregationResult
+ */
+public final class Aggregation {
+
+    /**
+     * The aggregate function to compute.
+     */
+    public enum Type {
+        /**
+         * The number of objects, returned as a {@code Long}.
+         */
+        COUNT(OsResults.AGGREGATE_FUNCTION_COUNT),
+        /**
+         * The sum of a number field. Objects with {@code null} values are ignored.
+         */
+        SUM(OsResults.AGGREGATE_FUNCTION_SUM),
+        /**
+         * The average of a number field. Objects with {@code null} values are ignored.
+         */
+        AVERAGE(OsResults.AGGREGATE_FUNCTION_AVERAGE),
+        /**
+         * The minimum value of a number or date field. Objects with {@code null} values are ignored.
+         */
+        MIN(OsResults.AGGREGATE_FUNCTION_MINIMUM),
+        /**
+         * The maximum value of a number or date field. Objects with {@code null} values are ignored.
+         */
+        MAX(OsResults.AGGREGATE_FUNCTION_MAXIMUM);
+
+        private final byte nativeValue;
+
+        Type(byte nativeValue) {
+            this.nativeValue = nativeValue;
+        }
+
+        byte getNativeValue() {
+            return nativeValue;
+        }
+    }
+
+    private static final Aggregation COUNT = new Aggregation(Type.COUNT, null);
+
+    /**
+     * Counts the objects matching the query.
+     */
+    public static Aggregation count() {
+        return COUNT;
+    }
+
+    /**
+     * Computes the sum of a field. Only int, float, double and Decimal128 fields are supported. The sum of int fields
+     * is returned as a {@code Long}, the sum of float and double fields as a {@code Double}.
+     *
+     * @param fieldName the field to compute the sum of.
+     */
+    public static Aggregation sum(String fieldName) {
+        return new Aggregation(Type.SUM, checkFieldName(fieldName));
+    }
+
+    /**
+     * Computes the average of a field. Only int, float, double and Decimal128 fields are supported. The average is
+     * returned as a {@code Double} or as a {@code Decimal128} for Decimal128 fields. If no objects exist or they all
+     * have {@code null} as the value for the given field, {@code 0} will be returned.
+     *
+     * @param fieldName the field to compute the average of.
+     */
+    public static Aggregation average(String fieldName) {
+        return new Aggregation(Type.AVERAGE, checkFieldName(fieldName));
+    }
+
+    /**
+     * Finds the minimum value of a field. Only int, float, double, Decimal128 and Date fields are supported. If no
+     * objects exist or they all have {@code null} as the value for the given field, {@code null} will be returned.
+     *
+     * @param fieldName the field to find the minimum of.
+     */
+    public static Aggregation min(String fieldName) {
+        return new Aggregation(Type.MIN, checkFieldName(fieldName));
+    }
+
+    /**
+     * Finds the maximum value of a field. Only int, float, double, Decimal128 and Date fields are supported. If no
+     * objects exist or they all have {@code null} as the value for the given field, {@code null} will be returned.
+     *
+     * @param fieldName the field to find the maximum of.
+     */
+    public static Aggregation max(String fieldName) {
+        return new Aggregation(Type.MAX, checkFieldName(fieldName));
+    }
+
+    private static String checkFieldName(String fieldName) {
+        //noinspection ConstantConditions
+        if (fieldName == null || fieldName.isEmpty()) {
+            throw new IllegalArgumentException("Non-empty 'fieldName' required.");
+        }
+        return fieldName;
+    }
+
+    private final Type type;
+    @Nullable
+    private final String fieldName;
+
+    private Aggregation(Type type, @Nullable String fieldName) {
+        this.type = type;
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * Returns the aggregate function.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the aggregated field or {@code null} for {@link Type#COUNT}.
+     */
+    @Nullable
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        Aggregation that = (Aggregation) o;
+        return type == that.type && (fieldName != null ? fieldName.equals(that.fieldName) : that.fieldName == null);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = type.hashCode();
+        result = 31 * result + (fieldName != null ? fieldName.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return (fieldName == null) ? type.name() : String.format(Locale.US, "%s(%s)", type.name(), fieldName);
+    }
+}
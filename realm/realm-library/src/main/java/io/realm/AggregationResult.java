@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * The values computed by {@link RealmQuery#aggregate(Aggregation...)}, one per requested {@link Aggregation} and in the
+ * same order.
+ * <p>
+ * The result is a snapshot, it is not updated when the Realm changes.
+ */
+public final class AggregationResult {
+
+    private final List<Aggregation> aggregations;
+    private final Object[] values;
+
+    AggregationResult(Aggregation[] aggregations, Object[] values) {
+        this(Collections.unmodifiableList(Arrays.asList(aggregations.clone())), values);
+    }
+
+    AggregationResult(List<Aggregation> aggregations, Object[] values) {
+        this.aggregations = aggregations;
+        this.values = values;
+    }
+
+    /**
+     * Returns the number of computed values.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the aggregations this result was computed for.
+     */
+    public List<Aggregation> getAggregations() {
+        return aggregations;
+    }
+
+    /**
+     * Returns the value of the aggregation at the given position. This is a {@code Long}, {@code Float},
+     * {@code Double}, {@code Decimal128} or {@code Date} depending on the aggregate function and field type.
+     *
+     * @param index the position of the aggregation in the call to {@link RealmQuery#aggregate(Aggregation...)}.
+     * @throws IndexOutOfBoundsException if the index is not valid.
+     */
+    @Nullable
+    public Object get(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException(String.format(Locale.US, "Index %d is out of bounds, size is %d.", index, values.length));
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns the value of the given aggregation.
+     *
+     * @param aggregation an aggregation passed to {@link RealmQuery#aggregate(Aggregation...)}.
+     * @throws IllegalArgumentException if the aggregation was not part of this result.
+     */
+    @Nullable
+    public Object get(Aggregation aggregation) {
+        int index = aggregations.indexOf(aggregation);
+        if (index == -1) {
+            throw new IllegalArgumentException("Aggregation was not computed: " + aggregation);
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns the numeric value of the aggregation at the given position.
+     *
+     * @throws IllegalStateException if the value is a {@code Date}.
+     * @see #get(int)
+     */
+    @Nullable
+    public Number getNumber(int index) {
+        Object value = get(index);
+        if (value != null && !(value instanceof Number)) {
+            throw new IllegalStateException(String.format(Locale.US, "'%s' is not a number.", aggregations.get(index)));
+        }
+        return (Number) value;
+    }
+
+    /**
+     * Returns the date value of the aggregation at the given position.
+     *
+     * @throws IllegalStateException if the value is not a {@code Date}.
+     * @see #get(int)
+     */
+    @Nullable
+    public Date getDate(int index) {
+        Object value = get(index);
+        if (value != null && !(value instanceof Date)) {
+            throw new IllegalStateException(String.format(Locale.US, "'%s' is not a date.", aggregations.get(index)));
+        }
+        return (Date) value;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("AggregationResult[");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(aggregations.get(i)).append(" = ").append(values[i]);
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -91,6 +91,10 @@ abstract class BaseRealm implements Closeable {
     private RealmCache realmCache;
     public OsSharedRealm sharedRealm;
     private boolean shouldCloseSharedRealm;
+    // Id of the thread inside a read scope, or -1. Accessors called from that thread don't validate the Realm again.
+    // Read scopes are only allowed on live Realms, so these are only ever written from the thread of the Realm.
+    private long readScopeThreadId = -1;
+    private int readScopeDepth = 0;
     private OsSharedRealm.SchemaChangedCallback schemaChangedCallback = new OsSharedRealm.SchemaChangedCallback() {
         @Override
         public void onSchemaChanged() {
@@ -531,6 +535,41 @@ abstract class BaseRealm implements Closeable {
         }
     }
 
+    /**
+     * Checks if the Realm is valid like {@link #checkIfValid()}, unless called from inside a read scope on the thread
+     * which started it, where the Realm was already checked when the scope was entered and cannot be closed.
+     * Called from Proxy classes.
+     */
+    void checkIfValidForAccessor() {
+        if (readScopeDepth == 0 || readScopeThreadId != Thread.currentThread().getId()) {
+            checkIfValid();
+        }
+    }
+
+    /**
+     * Enters a read scope on the current thread. Scopes can be nested, and each call must be paired with a call to
+     * {@link #endReadScope()}.
+     *
+     * @throws IllegalStateException if the Realm is closed, frozen or accessed from the wrong thread.
+     */
+    protected void beginReadScope() {
+        checkIfValid();
+        if (frozen) {
+            throw new IllegalStateException("Read scopes are not supported on frozen Realms.");
+        }
+        readScopeThreadId = Thread.currentThread().getId();
+        readScopeDepth++;
+    }
+
+    /**
+     * Leaves the read scope entered by the matching call to {@link #beginReadScope()}.
+     */
+    protected void endReadScope() {
+        if (--readScopeDepth == 0) {
+            readScopeThreadId = -1;
+        }
+    }
+
     /**
      * Checks whether queries are allowed from the UI thread in the current RealmConfiguration.
      */
@@ -658,6 +697,9 @@ abstract class BaseRealm implements Closeable {
         if (!frozen && this.threadId != Thread.currentThread().getId()) {
             throw new IllegalStateException(INCORRECT_THREAD_CLOSE_MESSAGE);
         }
+        if (readScopeDepth > 0) {
+            throw new IllegalStateException("A Realm cannot be closed inside a read scope.");
+        }
 
         if (realmCache != null) {
             realmCache.release(this);
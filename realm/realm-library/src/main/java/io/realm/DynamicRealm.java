@@ -230,6 +230,23 @@ public class DynamicRealm extends BaseRealm {
         return RealmQuery.createDynamicQuery(this, className);
     }
 
+    /**
+     * Returns a {@link RealmQueryTemplate} for the provided class. Templates are useful for queries that are run over
+     * and over with the same conditions but different values, as the conditions are only resolved once.
+     *
+     * @param className the class of the object which is to be queried.
+     * @return a template which can be bound to values to create a {@link RealmQuery}.
+     * @throws IllegalArgumentException if the class doesn't exist.
+     * @see io.realm.RealmQueryTemplate
+     */
+    public RealmQueryTemplate<DynamicRealmObject> queryTemplate(String className) {
+        checkIfValid();
+        if (!sharedRealm.hasTable(Table.getTableNameForClass(className))) {
+            throw new IllegalArgumentException("Class does not exist in the Realm and cannot be queried: " + className);
+        }
+        return RealmQueryTemplate.createDynamicTemplate(this, className);
+    }
+
 
     /**
      * Adds a change listener to the Realm.
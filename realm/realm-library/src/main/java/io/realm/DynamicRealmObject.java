@@ -30,6 +30,7 @@ import javax.annotation.Nullable;
 
 import io.realm.exceptions.RealmException;
 import io.realm.internal.CheckedRow;
+import io.realm.internal.ColumnInfo;
 import io.realm.internal.OsList;
 import io.realm.internal.OsMap;
 import io.realm.internal.OsSet;
@@ -54,6 +55,9 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     static final String MSG_LINK_QUERY_NOT_SUPPORTED = "Queries across relationships are not supported";
 
     private final ProxyState<DynamicRealmObject> proxyState = new ProxyState<>(this);
+    // Column details of the fields of this object's class, shared with all dynamic objects of the class in the Realm.
+    @Nullable
+    private Map<String, ColumnInfo.ColumnDetails> columnDetailsCache;
 
     /**
      * Creates a dynamic Realm object based on an existing object.
@@ -105,11 +109,12 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public <E> E get(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        ColumnInfo.ColumnDetails columnDetails = getColumnDetails(fieldName);
+        long columnKey = columnDetails.columnKey;
         if (proxyState.getRow$realm().isNull(columnKey)) {
             return null;
         }
-        RealmFieldType type = proxyState.getRow$realm().getColumnType(columnKey);
+        RealmFieldType type = columnDetails.columnType;
         switch (type) {
             case BOOLEAN:
                 return (E) Boolean.valueOf(proxyState.getRow$realm().getBoolean(columnKey));
@@ -204,11 +209,31 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public boolean getBoolean(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        try {
+            return proxyState.getRow$realm().getBoolean(columnKey);
+        } catch (IllegalArgumentException e) {
+            checkFieldType(fieldName, RealmFieldType.BOOLEAN);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the {@code boolean} value of the field with the given column key.
+     *
+     * @param columnKey the column key of the field, as returned by {@link #getColumnKey(String)}.
+     * @return the boolean value.
+     * @throws IllegalArgumentException           if the field doesn't contain booleans.
+     * @throws io.realm.exceptions.RealmException if the return value would be {@code null}.
+     * @see #getColumnKey(String)
+     */
+    public boolean getBoolean(long columnKey) {
+        proxyState.getRealm$realm().checkIfValid();
+
         try {
             return proxyState.getRow$realm().getBoolean(columnKey);
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, RealmFieldType.BOOLEAN);
+            checkFieldType(columnKey, RealmFieldType.BOOLEAN);
             throw e;
         }
     }
@@ -228,6 +253,19 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         return (int) getLong(fieldName);
     }
 
+    /**
+     * Returns the {@code int} value of the field with the given column key.
+     *
+     * @param columnKey the column key of the field, as returned by {@link #getColumnKey(String)}.
+     * @return the int value. Integer values exceeding {@code Integer.MAX_VALUE} will wrap.
+     * @throws IllegalArgumentException           if the field doesn't contain integers.
+     * @throws io.realm.exceptions.RealmException if the return value would be {@code null}.
+     * @see #getColumnKey(String)
+     */
+    public int getInt(long columnKey) {
+        return (int) getLong(columnKey);
+    }
+
     /**
      * Returns the {@code short} value for a given field.
      * <p>
@@ -257,11 +295,31 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public long getLong(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        try {
+            return proxyState.getRow$realm().getLong(columnKey);
+        } catch (IllegalArgumentException e) {
+            checkFieldType(fieldName, RealmFieldType.INTEGER);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the {@code long} value of the field with the given column key.
+     *
+     * @param columnKey the column key of the field, as returned by {@link #getColumnKey(String)}.
+     * @return the long value. Integer values exceeding {@code Long.MAX_VALUE} will wrap.
+     * @throws IllegalArgumentException           if the field doesn't contain integers.
+     * @throws io.realm.exceptions.RealmException if the return value would be {@code null}.
+     * @see #getColumnKey(String)
+     */
+    public long getLong(long columnKey) {
+        proxyState.getRealm$realm().checkIfValid();
+
         try {
             return proxyState.getRow$realm().getLong(columnKey);
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, RealmFieldType.INTEGER);
+            checkFieldType(columnKey, RealmFieldType.INTEGER);
             throw e;
         }
     }
@@ -295,11 +353,31 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public float getFloat(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        try {
+            return proxyState.getRow$realm().getFloat(columnKey);
+        } catch (IllegalArgumentException e) {
+            checkFieldType(fieldName, RealmFieldType.FLOAT);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the {@code float} value of the field with the given column key.
+     *
+     * @param columnKey the column key of the field, as returned by {@link #getColumnKey(String)}.
+     * @return the float value.
+     * @throws IllegalArgumentException           if the field doesn't contain floats.
+     * @throws io.realm.exceptions.RealmException if the return value would be {@code null}.
+     * @see #getColumnKey(String)
+     */
+    public float getFloat(long columnKey) {
+        proxyState.getRealm$realm().checkIfValid();
+
         try {
             return proxyState.getRow$realm().getFloat(columnKey);
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, RealmFieldType.FLOAT);
+            checkFieldType(columnKey, RealmFieldType.FLOAT);
             throw e;
         }
     }
@@ -318,11 +396,31 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public double getDouble(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        try {
+            return proxyState.getRow$realm().getDouble(columnKey);
+        } catch (IllegalArgumentException e) {
+            checkFieldType(fieldName, RealmFieldType.DOUBLE);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the {@code double} value of the field with the given column key.
+     *
+     * @param columnKey the column key of the field, as returned by {@link #getColumnKey(String)}.
+     * @return the double value.
+     * @throws IllegalArgumentException           if the field doesn't contain doubles.
+     * @throws io.realm.exceptions.RealmException if the return value would be {@code null}.
+     * @see #getColumnKey(String)
+     */
+    public double getDouble(long columnKey) {
+        proxyState.getRealm$realm().checkIfValid();
+
         try {
             return proxyState.getRow$realm().getDouble(columnKey);
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, RealmFieldType.DOUBLE);
+            checkFieldType(columnKey, RealmFieldType.DOUBLE);
             throw e;
         }
     }
@@ -337,11 +435,30 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public byte[] getBlob(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        try {
+            return proxyState.getRow$realm().getBinaryByteArray(columnKey);
+        } catch (IllegalArgumentException e) {
+            checkFieldType(fieldName, RealmFieldType.BINARY);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the {@code byte[]} value of the field with the given column key.
+     *
+     * @param columnKey the column key of the field, as returned by {@link #getColumnKey(String)}.
+     * @return the byte[] value.
+     * @throws IllegalArgumentException if the field doesn't contain binary data.
+     * @see #getColumnKey(String)
+     */
+    public byte[] getBlob(long columnKey) {
+        proxyState.getRealm$realm().checkIfValid();
+
         try {
             return proxyState.getRow$realm().getBinaryByteArray(columnKey);
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, RealmFieldType.BINARY);
+            checkFieldType(columnKey, RealmFieldType.BINARY);
             throw e;
         }
     }
@@ -356,11 +473,30 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public String getString(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        try {
+            return proxyState.getRow$realm().getString(columnKey);
+        } catch (IllegalArgumentException e) {
+            checkFieldType(fieldName, RealmFieldType.STRING);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the {@code String} value of the field with the given column key.
+     *
+     * @param columnKey the column key of the field, as returned by {@link #getColumnKey(String)}.
+     * @return the String value.
+     * @throws IllegalArgumentException if the field doesn't contain Strings.
+     * @see #getColumnKey(String)
+     */
+    public String getString(long columnKey) {
+        proxyState.getRealm$realm().checkIfValid();
+
         try {
             return proxyState.getRow$realm().getString(columnKey);
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, RealmFieldType.STRING);
+            checkFieldType(columnKey, RealmFieldType.STRING);
             throw e;
         }
     }
@@ -375,8 +511,8 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public Date getDate(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        checkFieldType(fieldName, columnKey, RealmFieldType.DATE);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        checkFieldType(fieldName, RealmFieldType.DATE);
         if (proxyState.getRow$realm().isNull(columnKey)) {
             return null;
         } else {
@@ -394,8 +530,8 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public Decimal128 getDecimal128(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        checkFieldType(fieldName, columnKey, RealmFieldType.DECIMAL128);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        checkFieldType(fieldName, RealmFieldType.DECIMAL128);
         if (proxyState.getRow$realm().isNull(columnKey)) {
             return null;
         } else {
@@ -413,8 +549,8 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public ObjectId getObjectId(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        checkFieldType(fieldName, columnKey, RealmFieldType.OBJECT_ID);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        checkFieldType(fieldName, RealmFieldType.OBJECT_ID);
         if (proxyState.getRow$realm().isNull(columnKey)) {
             return null;
         } else {
@@ -432,8 +568,8 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public RealmAny getRealmAny(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        checkFieldType(fieldName, columnKey, RealmFieldType.MIXED);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        checkFieldType(fieldName, RealmFieldType.MIXED);
 
         return getRealmAny(columnKey);
     }
@@ -448,8 +584,8 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public UUID getUUID(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        checkFieldType(fieldName, columnKey, RealmFieldType.UUID);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        checkFieldType(fieldName, RealmFieldType.UUID);
         if (proxyState.getRow$realm().isNull(columnKey)) {
             return null;
         } else {
@@ -468,8 +604,8 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public DynamicRealmObject getObject(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        checkFieldType(fieldName, columnKey, RealmFieldType.OBJECT);
+        long columnKey = getColumnDetails(fieldName).columnKey;
+        checkFieldType(fieldName, RealmFieldType.OBJECT);
         if (proxyState.getRow$realm().isNullLink(columnKey)) {
             return null;
         } else {
@@ -491,7 +627,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public RealmList<DynamicRealmObject> getList(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         try {
             OsList osList = proxyState.getRow$realm().getModelList(columnKey);
             //noinspection ConstantConditions
@@ -499,7 +635,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
             String className = osList.getTargetTable().getClassName();
             return new RealmList<>(className, osList, proxyState.getRealm$realm());
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, RealmFieldType.LIST);
+            checkFieldType(fieldName, RealmFieldType.LIST);
             throw e;
         }
     }
@@ -521,13 +657,13 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         if (primitiveType == null) {
             throw new IllegalArgumentException("Non-null 'primitiveType' required.");
         }
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         RealmFieldType realmType = primitiveTypeToRealmFieldType(CollectionType.LIST, primitiveType);
         try {
             OsList osList = proxyState.getRow$realm().getValueList(columnKey, realmType);
             return new RealmList<>(primitiveType, osList, proxyState.getRealm$realm());
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, realmType);
+            checkFieldType(fieldName, realmType);
             throw e;
         }
     }
@@ -544,7 +680,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public RealmDictionary<DynamicRealmObject> getDictionary(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         try {
             OsMap osMap = proxyState.getRow$realm().getModelMap(columnKey);
             //noinspection ConstantConditions
@@ -552,7 +688,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
             String className = osMap.getTargetTable().getClassName();
             return new RealmDictionary<>(proxyState.getRealm$realm(), osMap, className);
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, RealmFieldType.STRING_TO_LINK_MAP);
+            checkFieldType(fieldName, RealmFieldType.STRING_TO_LINK_MAP);
             throw e;
         }
     }
@@ -574,13 +710,13 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         if (primitiveType == null) {
             throw new IllegalArgumentException("Non-null 'primitiveType' required.");
         }
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         RealmFieldType realmType = primitiveTypeToRealmFieldType(CollectionType.DICTIONARY, primitiveType);
         try {
             OsMap osMap = proxyState.getRow$realm().getValueMap(columnKey, realmType);
             return new RealmDictionary<>(proxyState.getRealm$realm(), osMap, primitiveType);
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, realmType);
+            checkFieldType(fieldName, realmType);
             throw e;
         }
     }
@@ -597,7 +733,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public RealmSet<DynamicRealmObject> getRealmSet(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         try {
             OsSet osSet = proxyState.getRow$realm().getModelSet(columnKey);
             //noinspection ConstantConditions
@@ -605,7 +741,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
             String className = osSet.getTargetTable().getClassName();
             return new RealmSet<>(proxyState.getRealm$realm(), osSet, className);
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, RealmFieldType.LINK_SET);
+            checkFieldType(fieldName, RealmFieldType.LINK_SET);
             throw e;
         }
     }
@@ -627,13 +763,13 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         if (primitiveType == null) {
             throw new IllegalArgumentException("Non-null 'primitiveType' required.");
         }
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         RealmFieldType realmType = primitiveTypeToRealmFieldType(CollectionType.SET, primitiveType);
         try {
             OsSet osSet = proxyState.getRow$realm().getValueSet(columnKey, realmType);
             return new RealmSet<>(proxyState.getRealm$realm(), osSet, primitiveType);
         } catch (IllegalArgumentException e) {
-            checkFieldType(fieldName, columnKey, realmType);
+            checkFieldType(fieldName, realmType);
             throw e;
         }
     }
@@ -705,8 +841,9 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public boolean isNull(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        RealmFieldType type = proxyState.getRow$realm().getColumnType(columnKey);
+        ColumnInfo.ColumnDetails columnDetails = getColumnDetails(fieldName);
+        long columnKey = columnDetails.columnKey;
+        RealmFieldType type = columnDetails.columnType;
         switch (type) {
             case OBJECT:
                 return proxyState.getRow$realm().isNullLink(columnKey);
@@ -741,6 +878,20 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         }
     }
 
+    /**
+     * Checks if the value of the field with the given column key is {@code null}. The field must not be a
+     * collection.
+     *
+     * @param columnKey the column key of the field, as returned by {@link #getColumnKey(String)}.
+     * @return {@code true} if field value is null, {@code false} otherwise.
+     * @see #getColumnKey(String)
+     */
+    public boolean isNull(long columnKey) {
+        proxyState.getRealm$realm().checkIfValid();
+
+        return proxyState.getRow$realm().isNull(columnKey);
+    }
+
     /**
      * Checks whether an object has the given field or not.
      *
@@ -787,8 +938,9 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         String strValue = isString ? (String) value : null;
 
         // Does implicit conversion if needed.
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        RealmFieldType type = proxyState.getRow$realm().getColumnType(columnKey);
+        ColumnInfo.ColumnDetails columnDetails = getColumnDetails(fieldName);
+        long columnKey = columnDetails.columnKey;
+        RealmFieldType type = columnDetails.columnType;
         if (isString && type != RealmFieldType.STRING) {
             switch (type) {
                 case BOOLEAN:
@@ -884,7 +1036,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public void setBoolean(String fieldName, boolean value) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         proxyState.getRow$realm().setBoolean(columnKey, value);
     }
 
@@ -900,7 +1052,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         proxyState.getRealm$realm().checkIfValid();
 
         checkIsPrimaryKey(fieldName);
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         proxyState.getRow$realm().setLong(columnKey, value);
     }
 
@@ -916,7 +1068,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         proxyState.getRealm$realm().checkIfValid();
 
         checkIsPrimaryKey(fieldName);
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         proxyState.getRow$realm().setLong(columnKey, value);
     }
 
@@ -932,7 +1084,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         proxyState.getRealm$realm().checkIfValid();
 
         checkIsPrimaryKey(fieldName);
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         proxyState.getRow$realm().setLong(columnKey, value);
     }
 
@@ -948,7 +1100,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         proxyState.getRealm$realm().checkIfValid();
 
         checkIsPrimaryKey(fieldName);
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         proxyState.getRow$realm().setLong(columnKey, value);
     }
 
@@ -962,7 +1114,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public void setFloat(String fieldName, float value) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         proxyState.getRow$realm().setFloat(columnKey, value);
     }
 
@@ -976,7 +1128,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public void setDouble(String fieldName, double value) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         proxyState.getRow$realm().setDouble(columnKey, value);
     }
 
@@ -992,7 +1144,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         proxyState.getRealm$realm().checkIfValid();
 
         checkIsPrimaryKey(fieldName);
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         proxyState.getRow$realm().setString(columnKey, value);
     }
 
@@ -1006,7 +1158,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public void setBlob(String fieldName, @Nullable byte[] value) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         proxyState.getRow$realm().setBinaryByteArray(columnKey, value);
     }
 
@@ -1020,7 +1172,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public void setDate(String fieldName, @Nullable Date value) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         if (value == null) {
             proxyState.getRow$realm().setNull(columnKey);
         } else {
@@ -1038,7 +1190,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public void setDecimal128(String fieldName, @Nullable Decimal128 value) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         if (value == null) {
             proxyState.getRow$realm().setNull(columnKey);
         } else {
@@ -1056,7 +1208,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public void setObjectId(String fieldName, @Nullable ObjectId value) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         if (value == null) {
             proxyState.getRow$realm().setNull(columnKey);
         } else {
@@ -1074,7 +1226,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public void setRealmAny(String fieldName, @Nullable RealmAny value) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         if (value == null) {
             proxyState.getRow$realm().setNull(columnKey);
         } else {
@@ -1092,7 +1244,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public void setUUID(String fieldName, @Nullable UUID value) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         if (value == null) {
             proxyState.getRow$realm().setNull(columnKey);
         } else {
@@ -1111,7 +1263,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public void setObject(String fieldName, @Nullable DynamicRealmObject value) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         if (value == null) {
             proxyState.getRow$realm().nullifyLink(columnKey);
         } else {
@@ -1153,8 +1305,9 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         }
 
         // Find type of list in Realm
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        final RealmFieldType columnType = proxyState.getRow$realm().getColumnType(columnKey);
+        ColumnInfo.ColumnDetails columnDetails = getColumnDetails(fieldName);
+        long columnKey = columnDetails.columnKey;
+        final RealmFieldType columnType = columnDetails.columnType;
 
         switch (columnType) {
             case LIST:
@@ -1190,7 +1343,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     }
 
     private void setModelList(String fieldName, RealmList<DynamicRealmObject> list) {
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         OsList osList = proxyState.getRow$realm().getModelList(columnKey);
         Table linkTargetTable = osList.getTargetTable();
         //noinspection ConstantConditions
@@ -1239,7 +1392,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
 
     @SuppressWarnings("unchecked")
     private <E> void setValueList(String fieldName, RealmList<E> list, RealmFieldType primitiveType) {
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         OsList osList = proxyState.getRow$realm().getValueList(columnKey, primitiveType);
 
         Class<E> elementClass;
@@ -1346,8 +1499,9 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         }
 
         // Find type of list in Realm
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        final RealmFieldType columnType = proxyState.getRow$realm().getColumnType(columnKey);
+        ColumnInfo.ColumnDetails columnDetails = getColumnDetails(fieldName);
+        long columnKey = columnDetails.columnKey;
+        final RealmFieldType columnType = columnDetails.columnType;
 
         switch (columnType) {
             case STRING_TO_INTEGER_MAP:
@@ -1373,7 +1527,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     }
 
     private void setModelDictionary(String fieldName, RealmDictionary<DynamicRealmObject> sourceDictionary) {
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         OsMap osMap = proxyState.getRow$realm().getModelMap(columnKey);
         Table linkTargetTable = osMap.getTargetTable();
         //noinspection ConstantConditions
@@ -1423,7 +1577,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
 
     @SuppressWarnings("unchecked")
     private <E> void setValueDictionary(String fieldName, RealmDictionary<E> sourceDictionary, RealmFieldType primitiveType) {
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         OsMap osMap = proxyState.getRow$realm().getValueMap(columnKey, primitiveType);
 
         Class<E> elementClass;
@@ -1484,8 +1638,9 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         }
 
         // Find type of list in Realm
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        final RealmFieldType columnType = proxyState.getRow$realm().getColumnType(columnKey);
+        ColumnInfo.ColumnDetails columnDetails = getColumnDetails(fieldName);
+        long columnKey = columnDetails.columnKey;
+        final RealmFieldType columnType = columnDetails.columnType;
 
         switch (columnType) {
             case INTEGER_SET:
@@ -1511,7 +1666,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     }
 
     private void setModelSet(String fieldName, RealmSet<DynamicRealmObject> sourceSet) {
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         OsSet osSet = proxyState.getRow$realm().getModelSet(columnKey);
         Table linkTargetTable = osSet.getTargetTable();
         //noinspection ConstantConditions
@@ -1559,7 +1714,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
 
     @SuppressWarnings("unchecked")
     private <E> void setValueSet(String fieldName, RealmSet<E> sourceSet, RealmFieldType primitiveType) {
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
+        long columnKey = getColumnDetails(fieldName).columnKey;
         OsSet osSet = proxyState.getRow$realm().getValueSet(columnKey, primitiveType);
 
         Class<E> elementClass;
@@ -1604,8 +1759,9 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public void setNull(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        RealmFieldType type = proxyState.getRow$realm().getColumnType(columnKey);
+        ColumnInfo.ColumnDetails columnDetails = getColumnDetails(fieldName);
+        long columnKey = columnDetails.columnKey;
+        RealmFieldType type = columnDetails.columnType;
         if (type == RealmFieldType.OBJECT) {
             proxyState.getRow$realm().nullifyLink(columnKey);
         } else {
@@ -1626,6 +1782,22 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         return proxyState.getRow$realm().getTable().getClassName();
     }
 
+    /**
+     * Returns the key of the column holding the given field. The key can be passed to the accessors taking a column
+     * key, like {@link #getLong(long)} or {@link #getString(long)}, to read the field of any object of the same class
+     * in this Realm without looking up the field by its name. Renaming the field keeps its column key, while removing
+     * the field or changing its nullability gives it a new one.
+     *
+     * @param fieldName the name of the field.
+     * @return the column key of the field.
+     * @throws IllegalArgumentException if field name doesn't exist.
+     */
+    public long getColumnKey(String fieldName) {
+        proxyState.getRealm$realm().checkIfValid();
+
+        return getColumnDetails(fieldName).columnKey;
+    }
+
     /**
      * Returns the type used by the underlying storage engine to represent this field.
      *
@@ -1634,12 +1806,48 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     public RealmFieldType getFieldType(String fieldName) {
         proxyState.getRealm$realm().checkIfValid();
 
-        long columnKey = proxyState.getRow$realm().getColumnKey(fieldName);
-        return proxyState.getRow$realm().getColumnType(columnKey);
+        return getColumnDetails(fieldName).columnType;
+    }
+
+    /**
+     * Returns the column key and type of a field. These are cached per class in the {@link RealmSchema}, so a field
+     * is only looked up by name the first time it is accessed on an object of the class.
+     */
+    private ColumnInfo.ColumnDetails getColumnDetails(String fieldName) {
+        Map<String, ColumnInfo.ColumnDetails> cache = columnDetailsCache;
+        if (cache == null) {
+            String className = proxyState.getRow$realm().getTable().getClassName();
+            cache = proxyState.getRealm$realm().getSchema().getDynamicColumnDetails(className);
+            columnDetailsCache = cache;
+        }
+
+        //noinspection ConstantConditions
+        ColumnInfo.ColumnDetails columnDetails = (fieldName != null) ? cache.get(fieldName) : null;
+        if (columnDetails == null) {
+            // Throws if the field doesn't exist, so only existing fields are cached.
+            Row row = proxyState.getRow$realm();
+            long columnKey = row.getColumnKey(fieldName);
+            RealmFieldType columnType = row.getColumnType(columnKey);
+            String linkedClassName = null;
+            if (columnType == RealmFieldType.OBJECT || columnType == RealmFieldType.LIST) {
+                linkedClassName = row.getTable().getLinkTarget(columnKey).getClassName();
+            }
+            columnDetails = new ColumnInfo.ColumnDetails(columnKey, columnType, linkedClassName);
+            cache.put(fieldName, columnDetails);
+        }
+        return columnDetails;
+    }
+
+    private void checkFieldType(String fieldName, RealmFieldType expectedType) {
+        checkFieldType(fieldName, getColumnDetails(fieldName).columnType, expectedType);
+    }
+
+    private void checkFieldType(long columnKey, RealmFieldType expectedType) {
+        Row row = proxyState.getRow$realm();
+        checkFieldType(row.getTable().getColumnName(columnKey), row.getColumnType(columnKey), expectedType);
     }
 
-    private void checkFieldType(String fieldName, long columnIndex, RealmFieldType expectedType) {
-        RealmFieldType columnType = proxyState.getRow$realm().getColumnType(columnIndex);
+    private static void checkFieldType(String fieldName, RealmFieldType columnType, RealmFieldType expectedType) {
         if (columnType != expectedType) {
             String expectedIndefiniteVowel = "";
             if (expectedType == RealmFieldType.INTEGER || expectedType == RealmFieldType.OBJECT) {
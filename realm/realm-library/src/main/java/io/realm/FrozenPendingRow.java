@@ -18,6 +18,7 @@ package io.realm;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.UUID;
 
@@ -106,6 +107,11 @@ public enum FrozenPendingRow implements Row {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
     }
 
+    @Override
+    public ByteBuffer getBinaryBuffer(long columnKey) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
     @Override
     public Decimal128 getDecimal128(long columnKey) {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
@@ -216,6 +222,11 @@ public enum FrozenPendingRow implements Row {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
     }
 
+    @Override
+    public void setBinaryBuffer(long columnKey, ByteBuffer data) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
     @Override
     public void setLink(long columnKey, long value) {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
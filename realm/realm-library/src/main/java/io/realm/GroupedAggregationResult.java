@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * The groups computed by {@link RealmGroupBy#aggregate(Aggregation...)}. Each group consists of its key and one value
+ * per requested {@link Aggregation}. Groups are ordered by their key.
+ * <p>
+ * The result is a snapshot, it is not updated when the Realm changes.
+ */
+public final class GroupedAggregationResult {
+
+    private final List<Aggregation> aggregations;
+    // Groups stored back to back as [key, value_0, ..., value_n-1].
+    private final Object[] rows;
+    private final int rowWidth;
+
+    GroupedAggregationResult(Aggregation[] aggregations, Object[] rows) {
+        this.aggregations = Collections.unmodifiableList(Arrays.asList(aggregations.clone()));
+        this.rows = rows;
+        this.rowWidth = aggregations.length + 1;
+    }
+
+    /**
+     * Returns the number of groups.
+     */
+    public int size() {
+        return rows.length / rowWidth;
+    }
+
+    /**
+     * Returns the aggregations computed for each group.
+     */
+    public List<Aggregation> getAggregations() {
+        return aggregations;
+    }
+
+    /**
+     * Returns the key of a group. This is a {@code String}, {@code Long}, {@code Date} or {@code ObjectId} depending
+     * on the type of the grouped field, or {@code null} for the group of objects without a value.
+     *
+     * @param groupIndex the index of the group.
+     * @throws IndexOutOfBoundsException if the index is not valid.
+     */
+    @Nullable
+    public Object getKey(int groupIndex) {
+        return rows[getRowOffset(groupIndex)];
+    }
+
+    /**
+     * Returns the aggregated values of a group.
+     *
+     * @param groupIndex the index of the group.
+     * @throws IndexOutOfBoundsException if the index is not valid.
+     */
+    public AggregationResult getValues(int groupIndex) {
+        int offset = getRowOffset(groupIndex) + 1;
+        return new AggregationResult(aggregations, Arrays.copyOfRange(rows, offset, offset + aggregations.size()));
+    }
+
+    private int getRowOffset(int groupIndex) {
+        if (groupIndex < 0 || groupIndex >= size()) {
+            throw new IndexOutOfBoundsException(String.format(Locale.US, "Index %d is out of bounds, size is %d.", groupIndex, size()));
+        }
+        return groupIndex * rowWidth;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("GroupedAggregationResult[");
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(getKey(i)).append(": ").append(getValues(i));
+        }
+        return sb.append("]").toString();
+    }
+}
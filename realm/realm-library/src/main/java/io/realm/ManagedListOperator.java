@@ -19,7 +19,10 @@ package io.realm;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -29,6 +32,7 @@ import io.realm.internal.OsList;
 import io.realm.internal.RealmObjectProxy;
 
 import io.realm.internal.core.NativeRealmAny;
+import io.realm.internal.core.NativeRealmAnyCollection;
 
 import static io.realm.CollectionUtils.LIST_TYPE;
 
@@ -122,6 +126,41 @@ abstract class ManagedListOperator<T> {
 
     protected abstract void insertValue(int index, Object value);
 
+    /**
+     * Inserts all values at the given position. Operators that can marshal their values into a
+     * {@link NativeRealmAnyCollection} insert them with a single JNI call, the others one at a time.
+     */
+    public final void insertAll(int index, Collection<?> values) {
+        checkInsertIndex(index);
+        for (Object value : values) {
+            checkValidValue(value);
+        }
+
+        NativeRealmAnyCollection collection = toNativeCollection(values);
+        if (collection != null) {
+            osList.insertAll(index, collection);
+            return;
+        }
+        int pos = index;
+        for (Object value : values) {
+            if (value == null) {
+                insertNull(pos);
+            } else {
+                insertValue(pos, value);
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * Converts already validated values into a {@link NativeRealmAnyCollection}, or returns {@code null} if they
+     * have to be inserted one at a time.
+     */
+    @Nullable
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        return null;
+    }
+
     @Nullable
     public final T set(int index, @Nullable Object value) {
         checkValidValue(value);
@@ -205,6 +244,21 @@ final class RealmModelListOperator<T> extends ManagedListOperator<T> {
         }
     }
 
+    @Nullable
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        for (Object value : values) {
+            RealmModel realmObject = (RealmModel) value;
+            // Unmanaged and embedded objects have to be created one at a time.
+            if (CollectionUtils.checkCanObjectBeCopied(realm, realmObject, className, LIST_TYPE) ||
+                    CollectionUtils.isEmbedded(realm, realmObject)) {
+                return null;
+            }
+        }
+        //noinspection unchecked
+        return NativeRealmAnyCollection.newRealmModelCollection((Collection<? extends RealmModel>) values);
+    }
+
     @Override
     public void appendValue(Object value) {
         RealmModel realmObject = (RealmModel) value;
@@ -300,6 +354,12 @@ final class StringListOperator extends ManagedListOperator<String> {
         }
     }
 
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        //noinspection unchecked
+        return NativeRealmAnyCollection.newStringCollection((Collection<String>) values);
+    }
+
     @Override
     public void appendValue(Object value) {
         osList.addString((String) value);
@@ -371,6 +431,12 @@ final class LongListOperator<T> extends ManagedListOperator<T> {
         }
     }
 
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        //noinspection unchecked
+        return NativeRealmAnyCollection.newIntegerCollection((Collection<? extends Number>) values);
+    }
+
     @Override
     public void appendValue(Object value) {
         osList.addLong(((Number) value).longValue());
@@ -421,6 +487,12 @@ final class BooleanListOperator extends ManagedListOperator<Boolean> {
         }
     }
 
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        //noinspection unchecked
+        return NativeRealmAnyCollection.newBooleanCollection((Collection<Boolean>) values);
+    }
+
     @Override
     public void appendValue(Object value) {
         osList.addBoolean((Boolean) value);
@@ -471,6 +543,12 @@ final class BinaryListOperator extends ManagedListOperator<byte[]> {
         }
     }
 
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        //noinspection unchecked
+        return NativeRealmAnyCollection.newBinaryCollection((Collection<? extends byte[]>) values);
+    }
+
     @Override
     public void appendValue(Object value) {
         osList.addBinary((byte[]) value);
@@ -521,6 +599,20 @@ final class DoubleListOperator extends ManagedListOperator<Double> {
         }
     }
 
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        // Any Number is accepted, so the values might have to be converted first.
+        List<Double> doubles = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value == null || value instanceof Double) {
+                doubles.add((Double) value);
+            } else {
+                doubles.add(((Number) value).doubleValue());
+            }
+        }
+        return NativeRealmAnyCollection.newDoubleCollection(doubles);
+    }
+
     @Override
     public void appendValue(Object value) {
         osList.addDouble(((Number) value).doubleValue());
@@ -571,6 +663,20 @@ final class FloatListOperator extends ManagedListOperator<Float> {
         }
     }
 
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        // Any Number is accepted, so the values might have to be converted first.
+        List<Float> floats = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value == null || value instanceof Float) {
+                floats.add((Float) value);
+            } else {
+                floats.add(((Number) value).floatValue());
+            }
+        }
+        return NativeRealmAnyCollection.newFloatCollection(floats);
+    }
+
     @Override
     public void appendValue(Object value) {
         osList.addFloat(((Number) value).floatValue());
@@ -621,6 +727,12 @@ final class DateListOperator extends ManagedListOperator<Date> {
         }
     }
 
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        //noinspection unchecked
+        return NativeRealmAnyCollection.newDateCollection((Collection<? extends Date>) values);
+    }
+
     @Override
     public void appendValue(Object value) {
         osList.addDate((Date) value);
@@ -671,6 +783,12 @@ final class Decimal128ListOperator extends ManagedListOperator<Decimal128> {
         }
     }
 
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        //noinspection unchecked
+        return NativeRealmAnyCollection.newDecimal128Collection((Collection<? extends Decimal128>) values);
+    }
+
     @Override
     public void appendValue(Object value) {
         osList.addDecimal128((Decimal128) value);
@@ -721,6 +839,12 @@ final class ObjectIdListOperator extends ManagedListOperator<ObjectId> {
         }
     }
 
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        //noinspection unchecked
+        return NativeRealmAnyCollection.newObjectIdCollection((Collection<? extends ObjectId>) values);
+    }
+
     @Override
     public void appendValue(Object value) {
         osList.addObjectId((ObjectId) value);
@@ -771,6 +895,12 @@ final class UUIDListOperator extends ManagedListOperator<UUID> {
         }
     }
 
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        //noinspection unchecked
+        return NativeRealmAnyCollection.newUUIDCollection((Collection<? extends UUID>) values);
+    }
+
     @Override
     public void appendValue(Object value) {
         osList.addUUID((UUID) value);
@@ -822,6 +952,23 @@ final class RealmAnyListOperator extends ManagedListOperator<RealmAny> {
         }
     }
 
+    @Override
+    protected NativeRealmAnyCollection toNativeCollection(Collection<?> values) {
+        long[] realmAnyPtrs = new long[values.size()];
+        boolean[] notNull = new boolean[values.size()];
+
+        int i = 0;
+        for (Object value : values) {
+            if (value != null) {
+                RealmAny realmAny = CollectionUtils.copyToRealmIfNeeded(realm, (RealmAny) value);
+                realmAnyPtrs[i] = realmAny.getNativePtr();
+                notNull[i] = true;
+            }
+            i++;
+        }
+        return NativeRealmAnyCollection.newRealmAnyCollection(realmAnyPtrs, notNull);
+    }
+
     @Override
     public void appendValue(Object value) {
         RealmAny realmAny = (RealmAny) value;
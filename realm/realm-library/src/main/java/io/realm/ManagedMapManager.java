@@ -16,10 +16,17 @@
 
 package io.realm;
 
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 
 import javax.annotation.Nullable;
 
@@ -31,6 +38,7 @@ import io.realm.internal.OsMap;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.Row;
 import io.realm.internal.core.NativeRealmAny;
+import io.realm.internal.core.NativeRealmAnyCollection;
 import io.realm.internal.util.Pair;
 
 /**
@@ -370,13 +378,33 @@ abstract class MapValueOperator<K, V> {
     }
 
     void putAll(Map<? extends K, ? extends V> map) {
-        // TODO: inefficient, pass array of keys and array of values to JNI instead,
-        //  which requires operators to implement it as it varies from type to type
+        String[] keys = new String[map.size()];
+        List<V> values = new ArrayList<>(map.size());
+        int i = 0;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            keys[i++] = (String) entry.getKey();
+            values.add(entry.getValue());
+        }
+
+        NativeRealmAnyCollection collection = toNativeCollection(values);
+        if (collection != null) {
+            osMap.putAll(keys, collection);
+            return;
+        }
         for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
             put(entry.getKey(), entry.getValue());
         }
     }
 
+    /**
+     * Converts values into a {@link NativeRealmAnyCollection} so they can be put with a single JNI call, or returns
+     * {@code null} if they have to be put one at a time.
+     */
+    @Nullable
+    NativeRealmAnyCollection toNativeCollection(Collection<? extends V> values) {
+        return null;
+    }
+
     Set<K> keySet() {
         return typeSelectorForMap.keySet();
     }
@@ -434,6 +462,22 @@ class RealmAnyValueOperator<K> extends MapValueOperator<K, RealmAny> {
         return original;
     }
 
+    @Override
+    NativeRealmAnyCollection toNativeCollection(Collection<? extends RealmAny> values) {
+        long[] realmAnyPtrs = new long[values.size()];
+        boolean[] notNull = new boolean[values.size()];
+
+        int i = 0;
+        for (RealmAny value : values) {
+            if (value != null) {
+                realmAnyPtrs[i] = CollectionUtils.copyToRealmIfNeeded(baseRealm, value).getNativePtr();
+                notNull[i] = true;
+            }
+            i++;
+        }
+        return NativeRealmAnyCollection.newRealmAnyCollection(realmAnyPtrs, notNull);
+    }
+
     @Override
     Set<Map.Entry<K, RealmAny>> entrySet() {
         return new RealmMapEntrySet<>(baseRealm, osMap, RealmMapEntrySet.IteratorType.MIXED, null);
@@ -495,6 +539,35 @@ class GenericPrimitiveValueOperator<K, V> extends MapValueOperator<K, V> {
         return original;
     }
 
+    @SuppressWarnings("unchecked")
+    @Nullable
+    @Override
+    NativeRealmAnyCollection toNativeCollection(Collection<? extends V> values) {
+        if (valueClass == Long.class || valueClass == Integer.class ||
+                valueClass == Short.class || valueClass == Byte.class) {
+            return NativeRealmAnyCollection.newIntegerCollection((Collection<? extends Number>) values);
+        } else if (valueClass == Float.class) {
+            return NativeRealmAnyCollection.newFloatCollection((Collection<? extends Float>) values);
+        } else if (valueClass == Double.class) {
+            return NativeRealmAnyCollection.newDoubleCollection((Collection<? extends Double>) values);
+        } else if (valueClass == String.class) {
+            return NativeRealmAnyCollection.newStringCollection((Collection<String>) values);
+        } else if (valueClass == Boolean.class) {
+            return NativeRealmAnyCollection.newBooleanCollection((Collection<Boolean>) values);
+        } else if (valueClass == Date.class) {
+            return NativeRealmAnyCollection.newDateCollection((Collection<? extends Date>) values);
+        } else if (valueClass == Decimal128.class) {
+            return NativeRealmAnyCollection.newDecimal128Collection((Collection<? extends Decimal128>) values);
+        } else if (valueClass == byte[].class) {
+            return NativeRealmAnyCollection.newBinaryCollection((Collection<? extends byte[]>) values);
+        } else if (valueClass == ObjectId.class) {
+            return NativeRealmAnyCollection.newObjectIdCollection((Collection<? extends ObjectId>) values);
+        } else if (valueClass == UUID.class) {
+            return NativeRealmAnyCollection.newUUIDCollection((Collection<? extends UUID>) values);
+        }
+        return null;
+    }
+
     @Override
     Set<Map.Entry<K, V>> entrySet() {
         return new RealmMapEntrySet<>(baseRealm, osMap, iteratorType, equalsHelper, null);
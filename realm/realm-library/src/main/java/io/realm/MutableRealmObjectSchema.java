@@ -226,6 +226,7 @@ class MutableRealmObjectSchema extends RealmObjectSchema {
         if (fieldName.equals(OsObjectStore.getPrimaryKeyForObject(realm.sharedRealm, className))) {
             OsObjectStore.setPrimaryKeyForObject(realm.sharedRealm, className, fieldName);
         }
+        schema.clearDynamicColumnDetails();
         table.removeColumn(columnKey);
         return this;
     }
@@ -238,6 +239,7 @@ class MutableRealmObjectSchema extends RealmObjectSchema {
         checkLegalName(newFieldName);
         checkFieldNameIsAvailable(newFieldName);
         long columnKey = getColumnKey(currentFieldName);
+        schema.clearDynamicColumnDetails();
         table.renameColumn(columnKey, newFieldName);
 
         // ATTENTION: We don't need to re-set the PK table here since the column key won't be changed when renaming.
@@ -270,6 +272,34 @@ class MutableRealmObjectSchema extends RealmObjectSchema {
         return this;
     }
 
+    @Override
+    public RealmObjectSchema addFullTextIndex(String fieldName) {
+        checkLegalName(fieldName);
+        checkFieldExists(fieldName);
+        long columnKey = getColumnKey(fieldName);
+        if (table.getColumnType(columnKey) != RealmFieldType.STRING) {
+            throw new IllegalArgumentException("Only String fields can have a full-text index: " + fieldName);
+        }
+        if (table.hasSearchIndex(columnKey) || table.hasFullTextIndex(columnKey)) {
+            throw new IllegalStateException(fieldName + " already has an index.");
+        }
+        table.addFullTextIndex(columnKey);
+        return this;
+    }
+
+    @Override
+    public RealmObjectSchema removeFullTextIndex(String fieldName) {
+        realm.checkNotInSync(); // Destructive modifications are not permitted.
+        checkLegalName(fieldName);
+        checkFieldExists(fieldName);
+        long columnKey = getColumnKey(fieldName);
+        if (!table.hasFullTextIndex(columnKey)) {
+            throw new IllegalStateException("Field doesn't have a full-text index: " + fieldName);
+        }
+        table.removeSearchIndex(columnKey);
+        return this;
+    }
+
     @Override
     public RealmObjectSchema addPrimaryKey(String fieldName) {
         checkAddPrimaryKeyForSync();
@@ -326,6 +356,8 @@ class MutableRealmObjectSchema extends RealmObjectSchema {
             throw new IllegalStateException("Field is already nullable: " + fieldName);
         }
 
+        // Converting the column gives it a new column key.
+        schema.clearDynamicColumnDetails();
         if (required) {
             try {
                 table.convertColumnToNotNullable(columnKey);
@@ -111,6 +111,7 @@ class MutableRealmSchema extends RealmSchema {
             throw new IllegalArgumentException("Cannot remove class because it is not in this Realm: " + className);
         }
         removeFromClassNameToSchemaMap(internalTableName);
+        clearDynamicColumnDetails();
     }
 
     @Override
@@ -126,6 +127,7 @@ class MutableRealmSchema extends RealmSchema {
         }
 
         realm.getSharedRealm().renameTable(oldInternalName, newInternalName);
+        clearDynamicColumnDetails();
         Table table = realm.getSharedRealm().getTable(newInternalName);
         RealmObjectSchema objectSchema = removeFromClassNameToSchemaMap(oldInternalName);
         if (objectSchema == null || !objectSchema.getTable().isValid() || !objectSchema.getClassName().equals(newClassName)) {
@@ -218,7 +218,28 @@ abstract class OrderedRealmCollectionImpl<E> extends AbstractList<E> implements
     @SuppressWarnings("NullableProblems")
     @Override
     public Iterator<E> iterator() {
-        return new RealmCollectionIterator();
+        return new RealmCollectionIterator(0);
+    }
+
+    /**
+     * Returns an iterator for the results of a query which fetches the objects from the Realm in batches. The keys of
+     * up to {@code batchSize} objects are fetched with a single native call into an array reused for every batch, so
+     * the results are not accessed once per object. The objects are still only created from their keys when they are
+     * returned by {@link Iterator#next()}. Collections of primitive values are iterated one value at a time.
+     * <p>
+     * Any change to Realm while iterating will cause this iterator to throw a {@link ConcurrentModificationException}
+     * if accessed.
+     *
+     * @param batchSize the maximum number of objects fetched at once.
+     * @return an iterator on the elements of this collection.
+     * @throws IllegalArgumentException if {@code batchSize} is not positive.
+     * @see #iterator()
+     */
+    public Iterator<E> iterator(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' must be positive: " + batchSize);
+        }
+        return new RealmCollectionIterator((operator instanceof ModelCollectionOperator) ? batchSize : 0);
     }
 
     /**
@@ -527,8 +548,8 @@ abstract class OrderedRealmCollectionImpl<E> extends AbstractList<E> implements
 
     // Custom RealmResults iterator. It ensures that we only iterate on a Realm that hasn't changed.
     private class RealmCollectionIterator extends OsResults.Iterator<E> {
-        RealmCollectionIterator() {
-            super(OrderedRealmCollectionImpl.this.osResults);
+        RealmCollectionIterator(int batchSize) {
+            super(OrderedRealmCollectionImpl.this.osResults, batchSize);
         }
 
         @Override
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import io.realm.internal.Table;
+
+import io.realm.internal.TableQuery;
+
+
+/**
+ * A QueryPlan describes how a query was executed: how many rows it produced, how much time it took and whether the
+ * fields of its conditions have a search index.
+ * <p>
+ * Plans returned by {@link RealmQuery#explain()} run the query one stage at a time: first the filter, followed by the
+ * sort, distinct and limit descriptors in the order they were added to the query. Each stage reports the number of
+ * rows it received, the number of rows it produced and how long it took. Plans recorded through
+ * {@link RealmQuery#profile()} time the actual evaluation of {@link RealmQuery#findAll()}, which runs all stages at
+ * once, so they have no stages.
+ * <p>
+ * Timings are measured on the calling thread and are only indicative, running the same query again will often be
+ * faster due to caching.
+ *
+ * @see RealmQuery#explain()
+ * @see RealmQuery#profile()
+ * @see RealmResults#getQueryPlan()
+ */
+public final class QueryPlan {
+
+    /**
+     * The type of a stage in a query plan.
+     */
+    public enum StageType {
+        FILTER,
+        SORT,
+        DISTINCT,
+        LIMIT
+    }
+
+    /**
+     * A single stage of a query plan.
+     */
+    public static final class Stage {
+        private final StageType type;
+        private final long inputRows;
+        private final long outputRows;
+        private final long durationNanos;
+
+        Stage(StageType type, long inputRows, long outputRows, long durationNanos) {
+            this.type = type;
+            this.inputRows = inputRows;
+            this.outputRows = outputRows;
+            this.durationNanos = durationNanos;
+        }
+
+        /**
+         * Returns the type of this stage.
+         */
+        public StageType getType() {
+            return type;
+        }
+
+        /**
+         * Returns the number of rows this stage received. For the filter stage this is the size of the table.
+         */
+        public long getInputRows() {
+            return inputRows;
+        }
+
+        /**
+         * Returns the number of rows produced by this stage.
+         */
+        public long getOutputRows() {
+            return outputRows;
+        }
+
+        /**
+         * Returns the time spent in this stage in nanoseconds.
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "%s: %d -> %d rows in %d ns", type, inputRows, outputRows, durationNanos);
+        }
+    }
+
+    private final String description;
+    private final long tableSize;
+    private final List<Stage> stages;
+    private final long resultSize;
+    private final long totalDurationNanos;
+    private final Map<String, Boolean> conditionFields;
+
+    /**
+     * Creates a plan from the array returned by {@link TableQuery#explain()}.
+     */
+    static QueryPlan fromNative(TableQuery query, String description, long[] plan) {
+        List<Stage> stages = new ArrayList<>();
+        long totalDurationNanos = 0;
+        for (int i = 1; i + 3 < plan.length; i += 4) {
+            stages.add(new Stage(getStageType(plan[i]), plan[i + 1], plan[i + 2], plan[i + 3]));
+            totalDurationNanos += plan[i + 3];
+        }
+        long resultSize = stages.isEmpty() ? 0 : stages.get(stages.size() - 1).getOutputRows();
+        return new QueryPlan(description, plan[0], stages, resultSize, totalDurationNanos, getConditionFields(query));
+    }
+
+    /**
+     * Creates a plan for a query whose results were evaluated in the given time.
+     */
+    static QueryPlan fromEvaluation(TableQuery query, String description, long resultSize, long durationNanos) {
+        return new QueryPlan(description, query.getTable().size(), Collections.<Stage>emptyList(), resultSize,
+                durationNanos, getConditionFields(query));
+    }
+
+    private static StageType getStageType(long nativeType) {
+        if (nativeType == TableQuery.EXPLAIN_STAGE_FILTER) { return StageType.FILTER; }
+        if (nativeType == TableQuery.EXPLAIN_STAGE_SORT) { return StageType.SORT; }
+        if (nativeType == TableQuery.EXPLAIN_STAGE_DISTINCT) { return StageType.DISTINCT; }
+        if (nativeType == TableQuery.EXPLAIN_STAGE_LIMIT) { return StageType.LIMIT; }
+        throw new IllegalArgumentException("Unknown stage type: " + nativeType);
+    }
+
+    private static Map<String, Boolean> getConditionFields(TableQuery query) {
+        Table table = query.getTable();
+        Map<String, Boolean> fields = new LinkedHashMap<>();
+        for (long columnKey : query.getConditionColumnKeys()) {
+            fields.put(table.getColumnName(columnKey), table.hasSearchIndex(columnKey));
+        }
+        return fields;
+    }
+
+    private QueryPlan(String description, long tableSize, List<Stage> stages, long resultSize,
+            long totalDurationNanos, Map<String, Boolean> conditionFields) {
+        this.description = description;
+        this.tableSize = tableSize;
+        this.stages = Collections.unmodifiableList(stages);
+        this.resultSize = resultSize;
+        this.totalDurationNanos = totalDurationNanos;
+        this.conditionFields = Collections.unmodifiableMap(conditionFields);
+    }
+
+    /**
+     * Returns the textual description of the query, as returned by {@link RealmQuery#getDescription()}.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the number of rows in the queried table.
+     */
+    public long getTableSize() {
+        return tableSize;
+    }
+
+    /**
+     * Returns the stages of the query in the order they were executed. The first stage is always the filter. Plans
+     * recorded through {@link RealmQuery#profile()} have no stages.
+     */
+    public List<Stage> getStages() {
+        return stages;
+    }
+
+    /**
+     * Returns the number of rows in the final result.
+     */
+    public long getResultSize() {
+        return resultSize;
+    }
+
+    /**
+     * Returns the total time spent evaluating the query in nanoseconds.
+     */
+    public long getTotalDurationNanos() {
+        return totalDurationNanos;
+    }
+
+    /**
+     * Returns the fields of the queried class used by the conditions of the query, mapped to whether they have a
+     * search index. The query engine uses the search index of a field for equality and {@code in()} conditions, all
+     * other conditions scan the rows.
+     * <p>
+     * Only conditions on fields of the queried class are included. Conditions on linked fields and conditions added
+     * with {@link RealmQuery#rawPredicate(String, Object...)} are resolved by the query parser and are not listed.
+     *
+     * @return the condition fields and whether each has a search index, in the order they were first used.
+     */
+    public Map<String, Boolean> getConditionFields() {
+        return conditionFields;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("QueryPlan[");
+        sb.append(description);
+        sb.append(", table size: ").append(tableSize);
+        for (Stage stage : stages) {
+            sb.append(", ").append(stage);
+        }
+        sb.append(", result size: ").append(resultSize);
+        sb.append(", total: ").append(totalDurationNanos).append(" ns");
+        for (Map.Entry<String, Boolean> field : conditionFields.entrySet()) {
+            sb.append(", ").append(field.getKey()).append(field.getValue() ? ": indexed" : ": not indexed");
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -1564,6 +1564,19 @@ public class Realm extends BaseRealm {
         return RealmQuery.createQuery(this, clazz);
     }
 
+    /**
+     * Returns a {@link RealmQueryTemplate} for the given class. Templates are useful for queries that are run over
+     * and over with the same conditions but different values, as the conditions are only resolved once.
+     *
+     * @param clazz the class of the object which is to be queried for.
+     * @return a template which can be bound to values to create a {@link RealmQuery}.
+     * @see io.realm.RealmQueryTemplate
+     */
+    public <E extends RealmModel> RealmQueryTemplate<E> queryTemplate(Class<E> clazz) {
+        checkIfValid();
+        return RealmQueryTemplate.createTemplate(this, clazz);
+    }
+
     /**
      * Adds a change listener to the Realm.
      * <p>
@@ -1642,6 +1655,34 @@ public class Realm extends BaseRealm {
         }
     }
 
+    /**
+     * Executes the given block in a read scope. The Realm is validated once when the scope is entered, after which
+     * the accessors of the Realm objects called from the block on this thread no longer check that the Realm is open
+     * and accessed from the right thread. This avoids the overhead of validating the Realm on every field access when
+     * reading many objects in a tight loop.
+     * <p>
+     * The Realm cannot be closed inside the scope. Objects can still be written to if a transaction is active. Read
+     * scopes can be nested. Read scopes are not supported on frozen Realms, as these can be used from several threads
+     * at once.
+     *
+     * @param scope the {@link io.realm.Realm.ReadScope} to execute.
+     * @throws IllegalArgumentException if the {@code scope} is {@code null}.
+     * @throws IllegalStateException if the Realm is closed, frozen or the method is called from the wrong thread.
+     */
+    public void executeInReadScope(ReadScope scope) {
+        //noinspection ConstantConditions
+        if (scope == null) {
+            throw new IllegalArgumentException("ReadScope should not be null");
+        }
+
+        beginReadScope();
+        try {
+            scope.execute(this);
+        } finally {
+            endReadScope();
+        }
+    }
+
     /**
      * Similar to {@link #executeTransaction(Transaction)} but runs asynchronously on a worker thread.
      *
@@ -2074,6 +2115,13 @@ public class Realm extends BaseRealm {
         }
     }
 
+    /**
+     * Encapsulates a block of reads executed by {@link io.realm.Realm#executeInReadScope(ReadScope)}.
+     */
+    public interface ReadScope {
+        void execute(Realm realm);
+    }
+
     /**
      * {@inheritDoc}
      */
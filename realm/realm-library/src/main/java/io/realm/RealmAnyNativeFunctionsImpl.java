@@ -51,4 +51,18 @@ public class RealmAnyNativeFunctionsImpl implements RealmAnyNativeFunctions {
 
         query.rawPredicateWithPointers(mapping, predicate, args);
     }
+
+    @Override
+    public void callCondition(TableQuery query, @Nullable OsKeyPathMapping mapping, long condition, String fieldName, RealmAny argument) {
+        long arg;
+
+        try {
+            arg = argument.getNativePtr();
+        } catch (IllegalStateException cause) {
+            // This might happen if a query is constructed with a RealmAny value containing an unmanaged Realm object.
+            throw new IllegalArgumentException("Unmanaged Realm objects are not valid query arguments", cause);
+        }
+
+        query.conditionWithPointer(mapping, condition, fieldName, arg);
+    }
 }
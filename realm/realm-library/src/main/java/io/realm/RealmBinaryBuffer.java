@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.nio.ByteBuffer;
+
+import io.realm.internal.OsSharedRealm;
+
+
+/**
+ * A binary value read from a Realm without copying it. The bytes are not copied out of the Realm file, but read
+ * through a direct {@link ByteBuffer} pointing into the memory the file is mapped to.
+ * <p>
+ * That memory only holds the value for the version of the Realm the value was read from, so a binary buffer is tied to
+ * that version. Once the Realm advances to another version, e.g. because it is refreshed or a write transaction is
+ * committed, starts a write transaction, or is closed, the buffer is no longer valid and {@link #getBuffer()} throws
+ * an {@link IllegalStateException} instead of handing out memory that may have been reused. Buffers read from a
+ * frozen object stay valid until the frozen Realm is closed.
+ * <p>
+ * The {@link ByteBuffer} returned by {@link #getBuffer()} cannot be checked by the Realm, so it should be used right
+ * away and not be kept. Call {@link #getBuffer()} again for every access instead. Instances are obtained through
+ * {@link RealmObject#getBinaryBuffer(RealmModel, String)} and have the same thread confinement as the object they
+ * were read from.
+ */
+public final class RealmBinaryBuffer {
+
+    private final BaseRealm realm;
+    private final OsSharedRealm.VersionID versionID;
+    private final ByteBuffer buffer;
+
+    RealmBinaryBuffer(BaseRealm realm, ByteBuffer buffer) {
+        if (realm.isInTransaction()) {
+            throw new IllegalStateException("Binary values cannot be read as buffers inside a write transaction, " +
+                    "since the transaction may reuse their memory.");
+        }
+        this.realm = realm;
+        this.versionID = realm.sharedRealm.getVersionID();
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns the size of the value in bytes.
+     */
+    public int size() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Checks if the buffer can still be read, i.e. the Realm is neither closed nor in a write transaction and is still
+     * at the version the value was read from.
+     *
+     * @return {@code true} if {@link #getBuffer()} can be called, {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return !realm.isClosed() && !realm.isInTransaction() && versionID.equals(realm.sharedRealm.getVersionID());
+    }
+
+    /**
+     * Returns a read-only direct buffer over the value. Every call returns a new buffer positioned at the start of the
+     * value, so the position and limit of buffers returned earlier are independent.
+     *
+     * @return a read-only buffer over the value.
+     * @throws IllegalStateException if the Realm is closed, accessed from the wrong thread, in a write transaction,
+     * or has advanced to another version since the value was read.
+     */
+    public ByteBuffer getBuffer() {
+        realm.checkIfValid();
+        if (realm.isInTransaction()) {
+            throw new IllegalStateException("Binary buffers cannot be read inside a write transaction.");
+        }
+        OsSharedRealm.VersionID currentVersionID = realm.sharedRealm.getVersionID();
+        if (!versionID.equals(currentVersionID)) {
+            throw new IllegalStateException("The binary value was read from " + versionID + " of the Realm, which " +
+                    "is now at " + currentVersionID + ". Read the value again.");
+        }
+        return buffer.duplicate();
+    }
+}
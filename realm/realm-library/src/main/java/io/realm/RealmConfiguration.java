@@ -105,6 +105,7 @@ public class RealmConfiguration {
     private final long maxNumberOfActiveVersions;
     private final boolean allowWritesOnUiThread;
     private final boolean allowQueriesOnUiThread;
+    private final int queryResultCacheSize;
 
     /**
      * Whether this RealmConfiguration is intended to open a
@@ -130,7 +131,8 @@ public class RealmConfiguration {
             boolean isRecoveryConfiguration,
             long maxNumberOfActiveVersions,
             boolean allowWritesOnUiThread,
-            boolean allowQueriesOnUiThread) {
+            boolean allowQueriesOnUiThread,
+            int queryResultCacheSize) {
         this.realmDirectory = realmPath.getParentFile();
         this.realmFileName = realmPath.getName();
         this.canonicalPath = realmPath.getAbsolutePath();
@@ -150,6 +152,7 @@ public class RealmConfiguration {
         this.maxNumberOfActiveVersions = maxNumberOfActiveVersions;
         this.allowWritesOnUiThread = allowWritesOnUiThread;
         this.allowQueriesOnUiThread = allowQueriesOnUiThread;
+        this.queryResultCacheSize = queryResultCacheSize;
     }
 
     public File getRealmDirectory() {
@@ -340,6 +343,16 @@ public class RealmConfiguration {
         return allowQueriesOnUiThread;
     }
 
+    /**
+     * Returns the maximum number of query results each Realm instance keeps for reuse by identical queries.
+     *
+     * @return the size of the query result cache, {@code 0} if the cache is disabled.
+     * @see Builder#queryResultCacheSize(int)
+     */
+    public int getQueryResultCacheSize() {
+        return queryResultCacheSize;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) { return true; }
@@ -376,6 +389,7 @@ public class RealmConfiguration {
         if (compactOnLaunch != null ? !compactOnLaunch.equals(that.compactOnLaunch) : that.compactOnLaunch != null) {
             return false;
         }
+        if (queryResultCacheSize != that.queryResultCacheSize) { return false; }
         return maxNumberOfActiveVersions == that.maxNumberOfActiveVersions;
     }
 
@@ -401,6 +415,7 @@ public class RealmConfiguration {
         result = 31 * result + (compactOnLaunch != null ? compactOnLaunch.hashCode() : 0);
         result = 31 * result + (isRecoveryConfiguration ? 1 : 0);
         result = 31 * result + (int) (maxNumberOfActiveVersions ^ (maxNumberOfActiveVersions >>> 32));
+        result = 31 * result + queryResultCacheSize;
         return result;
     }
 
@@ -478,6 +493,8 @@ public class RealmConfiguration {
         stringBuilder.append("compactOnLaunch: ").append(compactOnLaunch);
         stringBuilder.append("\n");
         stringBuilder.append("maxNumberOfActiveVersions: ").append(maxNumberOfActiveVersions);
+        stringBuilder.append("\n");
+        stringBuilder.append("queryResultCacheSize: ").append(queryResultCacheSize);
 
         return stringBuilder.toString();
     }
@@ -488,7 +505,7 @@ public class RealmConfiguration {
     }
 
     protected static RealmConfiguration forRecovery(String canonicalPath, @Nullable byte[] encryptionKey, RealmProxyMediator schemaMediator) {
-        return new RealmConfiguration(new File(canonicalPath),null, encryptionKey, 0, null, false, OsRealmConfig.Durability.FULL, schemaMediator, null, null, null, true, null, true, Long.MAX_VALUE, false, true);
+        return new RealmConfiguration(new File(canonicalPath),null, encryptionKey, 0, null, false, OsRealmConfig.Durability.FULL, schemaMediator, null, null, null, true, null, true, Long.MAX_VALUE, false, true, 0);
     }
 
     /**
@@ -517,6 +534,7 @@ public class RealmConfiguration {
         private long maxNumberOfActiveVersions = Long.MAX_VALUE;
         private boolean allowWritesOnUiThread;
         private boolean allowQueriesOnUiThread;
+        private int queryResultCacheSize = 0;
 
         /**
          * Creates an instance of the Builder for the RealmConfiguration.
@@ -912,6 +930,28 @@ public class RealmConfiguration {
             return this;
         }
 
+        /**
+         * Enables a cache of query results on each Realm instance. When enabled, {@link RealmQuery#findAll()} returns
+         * a copy of the already evaluated results of an identical query that was run against the same version of the
+         * Realm, instead of running the query again. Each copy is independent, listeners added to one of them are not
+         * shared with the others.
+         * <p>
+         * The cache is cleared whenever the Realm advances to a new version, and holds at most {@code size} results,
+         * evicting the least recently used ones first. Only queries created directly from a Realm with
+         * {@code where()} are cached.
+         *
+         * @param size the maximum number of cached results per Realm instance. {@code 0}, the default, disables the
+         * cache.
+         * @throws IllegalArgumentException if the size is negative.
+         */
+        public Builder queryResultCacheSize(int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("Only positive numbers or 0 are allowed. Yours was: " + size);
+            }
+            this.queryResultCacheSize = size;
+            return this;
+        }
+
         /**
          * Creates the RealmConfiguration based on the builder parameters.
          *
@@ -959,7 +999,8 @@ public class RealmConfiguration {
                     false,
                     maxNumberOfActiveVersions,
                     allowWritesOnUiThread,
-                    allowQueriesOnUiThread
+                    allowQueriesOnUiThread,
+                    queryResultCacheSize
             );
         }
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.realm;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.CursorRow;
+import io.realm.internal.OsResults;
+
+
+/**
+ * A cursor reading the objects of a {@link RealmResults} through a single reusable object. Moving the cursor
+ * repositions that object on another object in the Realm instead of creating a new one, so scanning a collection of
+ * any size allocates only one object. This makes it suitable for exports and other read-only scans of large
+ * collections.
+ * <p>
+ * The object returned by {@link #get()} is the same instance for the whole lifetime of the cursor and always reflects
+ * the object the cursor is positioned on. It should not be kept after moving the cursor. Collection fields
+ * ({@link RealmList}, {@link RealmDictionary}, {@link RealmSet}) and fields annotated with
+ * {@link io.realm.annotations.LinkingObjects} cannot be read through it and throw an
+ * {@link UnsupportedOperationException}; use {@link RealmResults#get(int)} for objects whose collections are needed.
+ * <p>
+ * The cursor iterates a snapshot of the collection taken when it is created. Objects deleted after that are still
+ * part of the snapshot, but are no longer valid. Instances are obtained through {@link RealmResults#cursor()} and
+ * have the same thread confinement as the collection.
+ *
+ * @param <E> the class of the objects in the collection.
+ */
+public final class RealmCursor<E> {
+
+    private final BaseRealm realm;
+    private final OsResults osResults;
+    @Nullable
+    private final Class<E> classSpec;
+    @Nullable
+    private final String className;
+    private final int size;
+    private int position = -1;
+
+    // Created when the cursor is first positioned on an object and then moved along with the cursor.
+    @Nullable
+    private CursorRow row;
+    @Nullable
+    private E object;
+
+    RealmCursor(BaseRealm realm, OsResults osResults, @Nullable Class<E> classSpec, @Nullable String className) {
+        this.realm = realm;
+        this.osResults = osResults;
+        this.classSpec = classSpec;
+        this.className = className;
+        long size = osResults.size();
+        this.size = size < Integer.MAX_VALUE ? (int) size : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of objects the cursor iterates.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the cursor, which is {@code -1} before the first object and {@link #size()} after
+     * the last object.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Moves the cursor to the next object.
+     *
+     * @return {@code true} if the cursor is positioned on an object, {@code false} if it moved past the last object.
+     * @throws IllegalStateException if the Realm is closed or the method is called from the wrong thread.
+     */
+    public boolean moveToNext() {
+        return moveToPosition(position + 1);
+    }
+
+    /**
+     * Moves the cursor to the object at the given position.
+     *
+     * @param position the position to move to.
+     * @return {@code true} if the cursor is positioned on an object, {@code false} if the position is before the first
+     * or after the last object.
+     * @throws IllegalStateException if the Realm is closed or the method is called from the wrong thread.
+     */
+    public boolean moveToPosition(int position) {
+        realm.checkIfValid();
+        if (position < 0) {
+            this.position = -1;
+            return false;
+        }
+        if (position >= size) {
+            this.position = size;
+            return false;
+        }
+
+        if (row == null) {
+            row = osResults.getCursorRow(position);
+            //noinspection unchecked
+            object = (E) realm.get((Class<? extends RealmModel>) classSpec, className, row);
+        } else {
+            osResults.moveCursorRow(row, position);
+        }
+        this.position = position;
+        return true;
+    }
+
+    /**
+     * Returns the reusable object positioned on the current object of the cursor.
+     *
+     * @return the same instance for every position of the cursor.
+     * @throws IllegalStateException if the cursor isn't positioned on an object.
+     */
+    public E get() {
+        if (object == null || position < 0 || position >= size) {
+            throw new IllegalStateException("The cursor is not positioned on an object. Call moveToNext() first.");
+        }
+        return object;
+    }
+}
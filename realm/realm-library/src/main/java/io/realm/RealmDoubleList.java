@@ -0,0 +1,164 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.realm;
+
+import io.realm.internal.OsList;
+
+
+/**
+ * A view of a managed {@link RealmList} of doubles that reads and writes its elements as {@code double} without
+ * boxing them. All reads go straight to the Realm, so the view always reflects the current content of the list, and the bulk
+ * methods {@link #toArray(double[])} and {@link #addAll(double[])} cross JNI once regardless of the number of elements.
+ * <p>
+ * Because a {@code double} cannot represent {@code null}, {@code null} elements of a nullable list are read as
+ * {@link Double#NaN}.
+ * <p>
+ * Instances are obtained through {@link RealmList#asDoubleList()} and have the same thread confinement as the list.
+ */
+public final class RealmDoubleList {
+
+    private final BaseRealm realm;
+    private final OsList osList;
+
+    RealmDoubleList(BaseRealm realm, OsList osList) {
+        this.realm = realm;
+        this.osList = osList;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @throws IllegalStateException if the Realm has been closed or the parent object has been deleted.
+     */
+    public int size() {
+        realm.checkIfValid();
+        long size = osList.size();
+        return size < Integer.MAX_VALUE ? (int) size : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the element at the given position.
+     *
+     * @param index the position of the element.
+     * @return the element, or {@link Double#NaN} if it is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= size()}.
+     * @throws IllegalStateException if the Realm has been closed or the parent object has been deleted.
+     */
+    public double getDouble(int index) {
+        realm.checkIfValid();
+        return osList.getDouble(index);
+    }
+
+    /**
+     * Replaces the element at the given position.
+     *
+     * @param index the position of the element.
+     * @param value the new value.
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= size()}.
+     * @throws IllegalStateException if not in a write transaction.
+     */
+    public void setDouble(int index, double value) {
+        realm.checkIfValid();
+        osList.setDouble(index, value);
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value the value to append.
+     * @throws IllegalStateException if not in a write transaction.
+     */
+    public void addDouble(double value) {
+        realm.checkIfValid();
+        osList.addDouble(value);
+    }
+
+    /**
+     * Appends all values to the end of the list.
+     *
+     * @param values the values to append.
+     * @throws IllegalStateException if not in a write transaction.
+     */
+    public void addAll(double[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Appends {@code count} values, starting at {@code offset}, to the end of the list.
+     *
+     * @param values the values to append.
+     * @param offset the position in {@code values} of the first value to append.
+     * @param count the number of values to append.
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code count} are outside {@code values}.
+     * @throws IllegalStateException if not in a write transaction.
+     */
+    public void addAll(double[] values, int offset, int count) {
+        realm.checkIfValid();
+        RealmLongList.checkArrayRange(values.length, offset, count);
+        osList.addDoubles(values, offset, count);
+    }
+
+    /**
+     * Returns all elements of the list in a new array.
+     *
+     * @throws IllegalStateException if the Realm has been closed or the parent object has been deleted.
+     */
+    public double[] toArray() {
+        return toArray(new double[size()]);
+    }
+
+    /**
+     * Copies all elements of the list into {@code dest} if it is large enough, otherwise into a new array. Reusing
+     * the same array for repeated reads avoids all allocations.
+     *
+     * @param dest the array to copy the elements into.
+     * @return {@code dest} if it was large enough, otherwise the new array.
+     * @throws IllegalStateException if the Realm has been closed or the parent object has been deleted.
+     */
+    public double[] toArray(double[] dest) {
+        int size = size();
+        double[] result = (dest.length >= size) ? dest : new double[size];
+        osList.getDoubles(0, result, 0, size);
+        return result;
+    }
+
+    /**
+     * Copies {@code count} elements, starting at {@code start}, into {@code dest} at {@code offset}.
+     *
+     * @param start the position of the first element to copy.
+     * @param dest the array to copy the elements into.
+     * @param offset the position in {@code dest} of the first copied element.
+     * @param count the number of elements to copy.
+     * @throws IndexOutOfBoundsException if the elements or the positions in {@code dest} are out of range.
+     * @throws IllegalStateException if the Realm has been closed or the parent object has been deleted.
+     */
+    public void getDoubles(int start, double[] dest, int offset, int count) {
+        realm.checkIfValid();
+        RealmLongList.checkArrayRange(dest.length, offset, count);
+        osList.getDoubles(start, dest, offset, count);
+    }
+
+    /**
+     * Checks if the underlying list is still valid to use.
+     *
+     * @return {@code true} if the list is still valid to use, {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return !realm.isClosed() && osList.isValid();
+    }
+}
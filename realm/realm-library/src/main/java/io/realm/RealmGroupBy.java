@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+/**
+ * A query grouped by the value of a field, created with {@link RealmQuery#groupBy(String)}. Calling
+ * {@link #aggregate(Aggregation...)} evaluates the query and computes the aggregates of every group in native code,
+ * without creating objects for the matching rows.
+ *
+ * <pre>
+ * {@code
+ * GroupedAggregationResult perCategory = realm.where(Product.class)
+ *     .groupBy("category.name")
+ *     .aggregate(Aggregation.count(), Aggregation.sum("price"));
+ * for (int i = 0; i < perCategory.size(); i++) {
+ *     String category = (String) perCategory.getKey(i);
+ *     AggregationResult values = perCategory.getValues(i);
+ * }
+ * }
+ * </pre>
+ *
+ * @param <E> the class of the objects being queried.
+ * @see RealmQuery#groupBy(String)
+ * @see RealmQuery#groupBy(String, long, java.util.concurrent.TimeUnit)
+ */
+public final class RealmGroupBy<E> {
+
+    private final RealmQuery<E> query;
+    private final String keyFieldName;
+    private final long[] keyPath;
+    private final long bucketMillis;
+
+    RealmGroupBy(RealmQuery<E> query, String keyFieldName, long[] keyPath, long bucketMillis) {
+        this.query = query;
+        this.keyFieldName = keyFieldName;
+        this.keyPath = keyPath;
+        this.bucketMillis = bucketMillis;
+    }
+
+    /**
+     * Returns the field the query is grouped by.
+     */
+    public String getKeyFieldName() {
+        return keyFieldName;
+    }
+
+    /**
+     * Computes the aggregates for every group. Aggregated fields are resolved on the queried class and do not support
+     * dotted field notation.
+     *
+     * @param aggregations the aggregations to compute per group.
+     * @return the groups ordered by their key. Objects with a {@code null} key, or a {@code null} link on the way to
+     * the key, form a group with a {@code null} key.
+     * @throws IllegalArgumentException if no aggregations are given or an aggregated field does not exist or does not
+     * have a type supported by its aggregation.
+     * @see RealmQuery#aggregate(Aggregation...)
+     */
+    public GroupedAggregationResult aggregate(Aggregation... aggregations) {
+        return query.groupByAggregate(keyPath, bucketMillis, aggregations);
+    }
+}
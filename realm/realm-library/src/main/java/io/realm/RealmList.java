@@ -258,6 +258,49 @@ public class RealmList<E> extends AbstractList<E> implements OrderedRealmCollect
         return true;
     }
 
+    /**
+     * Adds all objects of the collection at the end of this list, in the order they are returned by the collection's
+     * iterator. Managed lists of values and of managed objects marshal the whole collection at once and insert it
+     * with a single native call, which is considerably faster than adding the objects one at a time.
+     * <p>
+     * The same rules as for {@link #add(Object)} apply to each object.
+     *
+     * @param collection the objects to add.
+     * @return {@code true} if the list changed.
+     * @throws IllegalStateException if Realm instance has been closed or parent object has been removed.
+     * @throws IllegalArgumentException if any object has an invalid type, or is {@code null} and the list is not
+     * nullable. In that case no object is added to a list of values.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        return addAll(size(), collection);
+    }
+
+    /**
+     * Inserts all objects of the collection into this list at the specified location, in the order they are returned
+     * by the collection's iterator.
+     *
+     * @param location the index at which to insert the first object.
+     * @param collection the objects to insert.
+     * @return {@code true} if the list changed.
+     * @throws IllegalStateException if Realm instance has been closed or parent object has been removed.
+     * @throws IndexOutOfBoundsException if {@code location < 0 || location > size()}.
+     * @throws IllegalArgumentException if any object has an invalid type, or is {@code null} and the list is not
+     * nullable. In that case no object is added to a list of values.
+     * @see #addAll(Collection)
+     */
+    @Override
+    public boolean addAll(int location, Collection<? extends E> collection) {
+        if (isManaged()) {
+            checkValidRealm();
+            osListOperator.insertAll(location, collection);
+        } else {
+            unmanagedList.addAll(location, collection);
+        }
+        modCount++;
+        return !collection.isEmpty();
+    }
+
     /**
      * Replaces the element at the specified location in this list with the specified object.
      * <ol>
@@ -601,6 +644,43 @@ public class RealmList<E> extends AbstractList<E> implements OrderedRealmCollect
         }
     }
 
+    /**
+     * Returns a view of this list that reads and writes the elements as {@code long} without boxing them. This is
+     * useful for large lists of numbers, e.g. time series, where boxing every element would put pressure on the
+     * garbage collector. The view is backed by this list, so changes made through either are visible in both.
+     *
+     * @return a {@link RealmLongList} backed by this list.
+     * @throws IllegalStateException if the list is not managed or its elements are not {@code Long}, {@code Integer},
+     * {@code Short} or {@code Byte}.
+     */
+    public RealmLongList asLongList() {
+        checkPrimitiveView(osListOperator instanceof LongListOperator, "Long, Integer, Short or Byte");
+        return new RealmLongList(baseRealm, getOsList(), clazz);
+    }
+
+    /**
+     * Returns a view of this list that reads and writes the elements as {@code double} without boxing them. The view
+     * is backed by this list, so changes made through either are visible in both.
+     *
+     * @return a {@link RealmDoubleList} backed by this list.
+     * @throws IllegalStateException if the list is not managed or its elements are not {@code Double}.
+     * @see #asLongList()
+     */
+    public RealmDoubleList asDoubleList() {
+        checkPrimitiveView(osListOperator instanceof DoubleListOperator, "Double");
+        return new RealmDoubleList(baseRealm, getOsList());
+    }
+
+    private void checkPrimitiveView(boolean supported, String elementTypes) {
+        if (!isManaged()) {
+            throw new IllegalStateException(ONLY_IN_MANAGED_MODE_MESSAGE);
+        }
+        checkValidRealm();
+        if (!supported) {
+            throw new IllegalStateException("This view is only available for lists of " + elementTypes + ".");
+        }
+    }
+
     /**
      * Returns a RealmQuery, which can be used to query for specific objects of this class.
      *
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.realm;
+
+import io.realm.internal.OsList;
+
+
+/**
+ * A view of a managed {@link RealmList} of integers that reads and writes its elements as {@code long} without boxing
+ * them. All reads go straight to the Realm, so the view always reflects the current content of the list, and the bulk
+ * methods {@link #toArray(long[])} and {@link #addAll(long[])} cross JNI once regardless of the number of elements.
+ * <p>
+ * Because a {@code long} cannot represent {@code null}, {@code null} elements of a nullable list are read as {@code 0}.
+ * Values written to a list of {@code Integer}, {@code Short} or {@code Byte} must fit in the element type.
+ * <p>
+ * Instances are obtained through {@link RealmList#asLongList()} and have the same thread confinement as the list.
+ */
+public final class RealmLongList {
+
+    private final BaseRealm realm;
+    private final OsList osList;
+    private final Class<?> elementType;
+    private final long minValue;
+    private final long maxValue;
+
+    RealmLongList(BaseRealm realm, OsList osList, Class<?> elementType) {
+        this.realm = realm;
+        this.osList = osList;
+        this.elementType = elementType;
+        if (elementType == Integer.class) {
+            minValue = Integer.MIN_VALUE;
+            maxValue = Integer.MAX_VALUE;
+        } else if (elementType == Short.class) {
+            minValue = Short.MIN_VALUE;
+            maxValue = Short.MAX_VALUE;
+        } else if (elementType == Byte.class) {
+            minValue = Byte.MIN_VALUE;
+            maxValue = Byte.MAX_VALUE;
+        } else {
+            minValue = Long.MIN_VALUE;
+            maxValue = Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @throws IllegalStateException if the Realm has been closed or the parent object has been deleted.
+     */
+    public int size() {
+        realm.checkIfValid();
+        long size = osList.size();
+        return size < Integer.MAX_VALUE ? (int) size : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the element at the given position.
+     *
+     * @param index the position of the element.
+     * @return the element, or {@code 0} if it is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= size()}.
+     * @throws IllegalStateException if the Realm has been closed or the parent object has been deleted.
+     */
+    public long getLong(int index) {
+        realm.checkIfValid();
+        return osList.getLong(index);
+    }
+
+    /**
+     * Replaces the element at the given position.
+     *
+     * @param index the position of the element.
+     * @param value the new value.
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= size()}.
+     * @throws IllegalArgumentException if the value does not fit in the element type of the list.
+     * @throws IllegalStateException if not in a write transaction.
+     */
+    public void setLong(int index, long value) {
+        realm.checkIfValid();
+        checkValue(value);
+        osList.setLong(index, value);
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value the value to append.
+     * @throws IllegalArgumentException if the value does not fit in the element type of the list.
+     * @throws IllegalStateException if not in a write transaction.
+     */
+    public void addLong(long value) {
+        realm.checkIfValid();
+        checkValue(value);
+        osList.addLong(value);
+    }
+
+    /**
+     * Appends all values to the end of the list.
+     *
+     * @param values the values to append.
+     * @throws IllegalArgumentException if a value does not fit in the element type of the list.
+     * @throws IllegalStateException if not in a write transaction.
+     */
+    public void addAll(long[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Appends {@code count} values, starting at {@code offset}, to the end of the list.
+     *
+     * @param values the values to append.
+     * @param offset the position in {@code values} of the first value to append.
+     * @param count the number of values to append.
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code count} are outside {@code values}.
+     * @throws IllegalArgumentException if a value does not fit in the element type of the list. No value is appended
+     * in that case.
+     * @throws IllegalStateException if not in a write transaction.
+     */
+    public void addAll(long[] values, int offset, int count) {
+        realm.checkIfValid();
+        checkArrayRange(values.length, offset, count);
+        if (elementType != Long.class) {
+            for (int i = offset; i < offset + count; i++) {
+                checkValue(values[i]);
+            }
+        }
+        osList.addLongs(values, offset, count);
+    }
+
+    /**
+     * Returns all elements of the list in a new array.
+     *
+     * @throws IllegalStateException if the Realm has been closed or the parent object has been deleted.
+     */
+    public long[] toArray() {
+        return toArray(new long[size()]);
+    }
+
+    /**
+     * Copies all elements of the list into {@code dest} if it is large enough, otherwise into a new array. Reusing
+     * the same array for repeated reads avoids all allocations.
+     *
+     * @param dest the array to copy the elements into.
+     * @return {@code dest} if it was large enough, otherwise the new array.
+     * @throws IllegalStateException if the Realm has been closed or the parent object has been deleted.
+     */
+    public long[] toArray(long[] dest) {
+        int size = size();
+        long[] result = (dest.length >= size) ? dest : new long[size];
+        osList.getLongs(0, result, 0, size);
+        return result;
+    }
+
+    /**
+     * Copies {@code count} elements, starting at {@code start}, into {@code dest} at {@code offset}.
+     *
+     * @param start the position of the first element to copy.
+     * @param dest the array to copy the elements into.
+     * @param offset the position in {@code dest} of the first copied element.
+     * @param count the number of elements to copy.
+     * @throws IndexOutOfBoundsException if the elements or the positions in {@code dest} are out of range.
+     * @throws IllegalStateException if the Realm has been closed or the parent object has been deleted.
+     */
+    public void getLongs(int start, long[] dest, int offset, int count) {
+        realm.checkIfValid();
+        checkArrayRange(dest.length, offset, count);
+        osList.getLongs(start, dest, offset, count);
+    }
+
+    /**
+     * Checks if the underlying list is still valid to use.
+     *
+     * @return {@code true} if the list is still valid to use, {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return !realm.isClosed() && osList.isValid();
+    }
+
+    private void checkValue(long value) {
+        if (value < minValue || value > maxValue) {
+            throw new IllegalArgumentException(
+                    "Value " + value + " does not fit in a list of " + elementType.getSimpleName() + ".");
+        }
+    }
+
+    static void checkArrayRange(int length, int offset, int count) {
+        if (offset < 0 || count < 0 || offset > length - count) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + count + ") out of bounds for length " + length);
+        }
+    }
+}
@@ -18,7 +18,9 @@ package io.realm;
 
 import android.app.IntentService;
 
+import java.nio.ByteBuffer;
 import java.util.Collections;
+import java.util.Locale;
 
 import javax.annotation.Nullable;
 
@@ -124,6 +126,69 @@ public abstract class RealmObject implements RealmModel, ManageableObject {
         proxy.realmGet$proxyState().setRow$realm(InvalidRow.INSTANCE);
     }
 
+    /**
+     * Returns the value of a binary field of a managed object without copying it. The value points into the Realm
+     * file, so it is tied to the version of the Realm the object is read at: the returned {@link RealmBinaryBuffer}
+     * checks that version every time its buffer is accessed and throws once the Realm was refreshed, written to or
+     * closed. Frozen objects keep their version until the frozen Realm is closed.
+     *
+     * @param object the managed object to read from.
+     * @param fieldName the name of the {@code byte[]} field.
+     * @return the value or {@code null} if the value is {@code null}.
+     * @throws IllegalArgumentException if the object isn't managed or the field doesn't exist or isn't a binary field.
+     * @throws IllegalStateException if the corresponding Realm is closed, in an incorrect thread or in a write
+     * transaction.
+     * @see io.realm.annotations.DirectBinary
+     */
+    @Nullable
+    public static <E extends RealmModel> RealmBinaryBuffer getBinaryBuffer(E object, String fieldName) {
+        Row row = getBinaryFieldRow(object);
+        ByteBuffer buffer = row.getBinaryBuffer(getBinaryColumnKey(row, fieldName));
+        if (buffer == null) {
+            return null;
+        }
+        return new RealmBinaryBuffer(((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm(), buffer);
+    }
+
+    /**
+     * Sets a binary field of a managed object to the bytes between the position and the limit of a buffer. Direct
+     * buffers are read by native code without an intermediate copy. The position of the buffer is not changed.
+     *
+     * @param object the managed object to modify.
+     * @param fieldName the name of the {@code byte[]} field.
+     * @param value the new value or {@code null}.
+     * @throws IllegalArgumentException if the object isn't managed, the field doesn't exist or isn't a binary field, or
+     * {@code null} is set on a required field.
+     * @throws IllegalStateException if the corresponding Realm is closed, in an incorrect thread or not in a write
+     * transaction.
+     * @see io.realm.annotations.DirectBinary
+     */
+    public static <E extends RealmModel> void setBinaryBuffer(E object, String fieldName, @Nullable ByteBuffer value) {
+        Row row = getBinaryFieldRow(object);
+        row.setBinaryBuffer(getBinaryColumnKey(row, fieldName), value);
+    }
+
+    private static Row getBinaryFieldRow(RealmModel object) {
+        if (!(object instanceof RealmObjectProxy)) {
+            throw new IllegalArgumentException("Object not managed by Realm, so its binary fields cannot be accessed as buffers.");
+        }
+        ProxyState<?> proxyState = ((RealmObjectProxy) object).realmGet$proxyState();
+        proxyState.getRealm$realm().checkIfValid();
+        return proxyState.getRow$realm();
+    }
+
+    private static long getBinaryColumnKey(Row row, String fieldName) {
+        if (!row.hasColumn(fieldName)) {
+            throw new IllegalArgumentException("Field does not exist: " + fieldName);
+        }
+        long columnKey = row.getColumnKey(fieldName);
+        if (row.getColumnType(columnKey) != RealmFieldType.BINARY) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Field '%s' is not a binary field.", fieldName));
+        }
+        return columnKey;
+    }
+
 
     /**
      * Checks if the RealmObject is still valid to use i.e., the RealmObject hasn't been deleted nor has the
@@ -403,6 +403,45 @@ public abstract class RealmObjectSchema {
      */
     public abstract RealmObjectSchema removeIndex(String fieldName);
 
+    /**
+     * Adds a full-text index to a given field. This is the equivalent of adding the
+     * {@link io.realm.annotations.FullText} annotation on the field.
+     *
+     * @param fieldName field to add the full-text index to.
+     * @return the updated schema.
+     * @throws IllegalArgumentException if field name doesn't exist or the field is not a {@code String}.
+     * @throws IllegalStateException if the field already has an index.
+     * @throws UnsupportedOperationException if this {@link RealmObjectSchema} is immutable.
+     * @see RealmQuery#textMatches(String, String)
+     */
+    public abstract RealmObjectSchema addFullTextIndex(String fieldName);
+
+    /**
+     * Checks if a given field has a full-text index defined.
+     *
+     * @param fieldName existing field name to check.
+     * @return {@code true} if field has a full-text index, {@code false} otherwise.
+     * @throws IllegalArgumentException if field name doesn't exist.
+     * @see io.realm.annotations.FullText
+     */
+    public boolean hasFullTextIndex(String fieldName) {
+        checkLegalName(fieldName);
+        checkFieldExists(fieldName);
+        return table.hasFullTextIndex(table.getColumnKey(fieldName));
+    }
+
+    /**
+     * Removes a full-text index from a given field. This is the same as removing the {@code @FullText} annotation on
+     * the field.
+     *
+     * @param fieldName field to remove the full-text index from.
+     * @return the updated schema.
+     * @throws IllegalArgumentException if field name doesn't exist.
+     * @throws IllegalStateException if the field doesn't have a full-text index.
+     * @throws UnsupportedOperationException if this {@link RealmObjectSchema} is immutable or of a synced Realm.
+     */
+    public abstract RealmObjectSchema removeFullTextIndex(String fieldName);
+
     /**
      * Adds a primary key to a given field. This is the same as adding the {@link io.realm.annotations.PrimaryKey}
      * annotation on the field. Further, this implicitly adds {@link io.realm.annotations.Index} annotation to the field
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * A page of objects returned by {@link RealmQuery#page(String, Sort, RealmPage.Cursor, int)}.
+ * <p>
+ * Pages are found by keyset (seek) pagination: instead of skipping a number of objects, the next page starts right
+ * after the sort value and object key of the last object on the current page. Finding a page only looks at objects
+ * ordered after the cursor and does not sort all matching objects, so deep pages are as cheap as the first one and
+ * pages stay consistent when objects are inserted or deleted in between.
+ *
+ * <pre>
+ * {@code
+ * RealmPage<Message> page = realm.where(Message.class).page("timestamp", Sort.DESCENDING, 20);
+ * while (page.hasNext()) {
+ *     show(page.getItems());
+ *     page = realm.where(Message.class).page("timestamp", Sort.DESCENDING, page.getNextCursor(), 20);
+ * }
+ * }
+ * </pre>
+ *
+ * The objects of a page are managed, but the page itself is a snapshot: it does not update when the Realm changes.
+ *
+ * @param <E> the class of the objects on the page.
+ */
+public final class RealmPage<E> {
+
+    /**
+     * The position after which a page starts: a sort value and, for cursors returned by {@link #getNextCursor()}, the
+     * key of the last object with that value.
+     */
+    public static final class Cursor {
+        @Nullable
+        private final Object value;
+        private final long objectKey;
+        private final boolean hasObjectKey;
+
+        Cursor(@Nullable Object value, long objectKey, boolean hasObjectKey) {
+            this.value = value;
+            this.objectKey = objectKey;
+            this.hasObjectKey = hasObjectKey;
+        }
+
+        /**
+         * Creates a cursor for a page starting after all objects with the given sort value.
+         *
+         * @param value the sort value, must match the type of the sort field. {@code null} is ordered before all
+         * other values.
+         */
+        public static Cursor after(@Nullable Object value) {
+            return new Cursor(value, 0, false);
+        }
+
+        /**
+         * Returns the sort value of the cursor.
+         */
+        @Nullable
+        public Object getValue() {
+            return value;
+        }
+
+        long getObjectKey() {
+            return objectKey;
+        }
+
+        boolean hasObjectKey() {
+            return hasObjectKey;
+        }
+
+        @Override
+        public String toString() {
+            return "Cursor[" + value + (hasObjectKey ? ", " + objectKey : "") + "]";
+        }
+    }
+
+    private final List<E> items;
+    @Nullable
+    private final Cursor nextCursor;
+
+    RealmPage(List<E> items, @Nullable Cursor nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Returns the objects on this page in sort order. The list cannot be modified.
+     */
+    public List<E> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the number of objects on this page.
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Returns {@code true} if this page is full, so more objects might follow. The last page is the first page with
+     * fewer objects than requested, which can be empty.
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Returns the cursor to pass to {@link RealmQuery#page(String, Sort, Cursor, int)} for the next page, or
+     * {@code null} if this is the last page.
+     */
+    @Nullable
+    public Cursor getNextCursor() {
+        return nextCursor;
+    }
+}
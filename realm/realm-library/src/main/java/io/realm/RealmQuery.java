@@ -20,25 +20,33 @@ package io.realm;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
 import io.realm.annotations.Required;
 import io.realm.exceptions.RealmException;
+import io.realm.internal.ColumnInfo;
 import io.realm.internal.OsCollection;
 import io.realm.internal.OsList;
 import io.realm.internal.OsResults;
+import io.realm.internal.OsResultsCache;
+import io.realm.internal.OsSharedRealm;
 import io.realm.internal.OsSet;
 import io.realm.internal.PendingRow;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.Row;
 import io.realm.internal.Table;
 import io.realm.internal.TableQuery;
+import io.realm.internal.UncheckedRow;
 import io.realm.internal.Util;
 
 
@@ -75,6 +83,9 @@ public class RealmQuery<E> {
     private Class<E> clazz;
     private String className;
     private final boolean forValues;
+    private boolean profiling = false;
+    // Only queries on a full table are fully described by their description and can use the result cache.
+    private boolean cacheable = false;
     private final OsCollection osCollection;
 
     private static final String PRIMITIVE_LISTS_NOT_SUPPORTED_ERROR_MESSAGE = "Queries on primitive lists are not yet supported";
@@ -152,6 +163,7 @@ public class RealmQuery<E> {
             this.table = schema.getTable();
             this.osCollection = null;
             this.query = table.where();
+            this.cacheable = true;
         }
     }
 
@@ -208,6 +220,7 @@ public class RealmQuery<E> {
         this.table = schema.getTable();
         this.query = table.where();
         this.osCollection = null;
+        this.cacheable = true;
     }
 
     private RealmQuery(RealmResults<DynamicRealmObject> queryResults, String className) {
@@ -303,7 +316,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable String value, Case casing) {
         realm.checkIfValid();
-        equalTo(fieldName, RealmAny.valueOf(value), casing);
+        stringCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_EQUAL : TableQuery.CONDITION_EQUAL_INSENSITIVE, fieldName, value);
         return this;
     }
 
@@ -336,7 +349,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable Decimal128 value) {
         realm.checkIfValid();
-        this.query.equalTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        decimal128Condition(TableQuery.CONDITION_EQUAL, fieldName, value);
         return this;
     }
 
@@ -350,7 +363,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable ObjectId value) {
         realm.checkIfValid();
-        this.query.equalTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        objectIdCondition(TableQuery.CONDITION_EQUAL, fieldName, value);
         return this;
     }
 
@@ -364,7 +377,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable UUID value) {
         realm.checkIfValid();
-        this.query.equalTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        uuidCondition(TableQuery.CONDITION_EQUAL, fieldName, value);
         return this;
     }
 
@@ -378,7 +391,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable Byte value) {
         realm.checkIfValid();
-        this.query.equalTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_EQUAL, fieldName, value);
         return this;
     }
 
@@ -406,7 +419,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable Short value) {
         realm.checkIfValid();
-        this.query.equalTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_EQUAL, fieldName, value);
         return this;
     }
 
@@ -420,7 +433,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable Integer value) {
         realm.checkIfValid();
-        this.query.equalTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_EQUAL, fieldName, value);
         return this;
     }
 
@@ -435,7 +448,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable Long value) {
         realm.checkIfValid();
-        this.query.equalTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_EQUAL, fieldName, value);
         return this;
     }
 
@@ -449,7 +462,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable Double value) {
         realm.checkIfValid();
-        this.query.equalTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        doubleCondition(TableQuery.CONDITION_EQUAL, fieldName, value);
         return this;
     }
 
@@ -463,7 +476,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable Float value) {
         realm.checkIfValid();
-        this.query.equalTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        floatCondition(TableQuery.CONDITION_EQUAL, fieldName, value);
         return this;
     }
 
@@ -477,7 +490,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable Boolean value) {
         realm.checkIfValid();
-        this.query.equalTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        booleanCondition(TableQuery.CONDITION_EQUAL, fieldName, value);
         return this;
     }
 
@@ -491,7 +504,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> equalTo(String fieldName, @Nullable Date value) {
         realm.checkIfValid();
-        this.query.equalTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        dateCondition(TableQuery.CONDITION_EQUAL, fieldName, value);
         return this;
     }
 
@@ -776,6 +789,103 @@ public class RealmQuery<E> {
         return this;
     }
 
+    /**
+     * In comparison. This allows you to test if objects match any value in an array of values.
+     * <p>
+     * The values are passed to the storage engine in a single batch and matched as a set, which makes this overload
+     * suitable for large numbers of values, like a list of ids.
+     *
+     * @param fieldName the field to compare.
+     * @param values    array of values to compare with. If {@code null} or the empty array is provided the query will never
+     *                  match any results.
+     * @return the query object.
+     * @throws java.lang.IllegalArgumentException if the field isn't a Long field.
+     */
+    public RealmQuery<E> in(String fieldName, @Nullable long[] values) {
+        realm.checkIfValid();
+
+        if ((values == null) || (values.length == 0)) {
+            alwaysFalse();
+        } else {
+            long columnKey = getDirectColumnKey(fieldName, RealmFieldType.INTEGER);
+            if (columnKey != Table.NO_MATCH) {
+                query.in(columnKey, values);
+            } else {
+                RealmAny[] realmAnyValues = new RealmAny[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    realmAnyValues[i] = RealmAny.valueOf(values[i]);
+                }
+                query.in(realm.getSchema().getKeyPathMapping(), fieldName, realmAnyValues);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * In comparison. This allows you to test if objects match any value in an array of values.
+     * <p>
+     * The values are passed to the storage engine in a single batch and matched as a set, which makes this overload
+     * suitable for large numbers of values, like a list of ids.
+     *
+     * @param fieldName the field to compare.
+     * @param values    array of values to compare with. If {@code null} or the empty array is provided the query will never
+     *                  match any results.
+     * @return the query object.
+     * @throws java.lang.IllegalArgumentException if the field isn't an ObjectId field.
+     */
+    public RealmQuery<E> in(String fieldName, @Nullable ObjectId[] values) {
+        realm.checkIfValid();
+
+        if ((values == null) || (values.length == 0)) {
+            alwaysFalse();
+        } else {
+            long columnKey = getDirectColumnKey(fieldName, RealmFieldType.OBJECT_ID);
+            if (columnKey != Table.NO_MATCH && !containsNull(values)) {
+                query.in(columnKey, values);
+            } else {
+                RealmAny[] realmAnyValues = new RealmAny[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    realmAnyValues[i] = RealmAny.valueOf(values[i]);
+                }
+                query.in(realm.getSchema().getKeyPathMapping(), fieldName, realmAnyValues);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * In comparison. This allows you to test if objects match any value in a collection of values.
+     * <p>
+     * The values are passed to the storage engine in a single batch and matched as a set, which makes this overload
+     * suitable for large numbers of values, like a list of ids.
+     *
+     * @param fieldName the field to compare.
+     * @param values    collection of values to compare with. If {@code null} or the empty collection is provided the
+     *                  query will never match any results.
+     * @return the query object.
+     * @throws java.lang.IllegalArgumentException if the field isn't a String field.
+     */
+    public RealmQuery<E> in(String fieldName, @Nullable Collection<String> values) {
+        realm.checkIfValid();
+
+        if ((values == null) || values.isEmpty()) {
+            alwaysFalse();
+        } else {
+            String[] stringValues = values.toArray(new String[0]);
+            long columnKey = getDirectColumnKey(fieldName, RealmFieldType.STRING);
+            if (columnKey != Table.NO_MATCH) {
+                query.in(columnKey, stringValues);
+            } else {
+                RealmAny[] realmAnyValues = new RealmAny[stringValues.length];
+                for (int i = 0; i < stringValues.length; i++) {
+                    realmAnyValues[i] = RealmAny.valueOf(stringValues[i]);
+                }
+                query.in(realm.getSchema().getKeyPathMapping(), fieldName, realmAnyValues);
+            }
+        }
+        return this;
+    }
+
     /**
      * Not-equal-to comparison.
      *
@@ -799,7 +909,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable String value, Case casing) {
         realm.checkIfValid();
-        notEqualTo(fieldName, RealmAny.valueOf(value), casing);
+        stringCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_NOT_EQUAL : TableQuery.CONDITION_NOT_EQUAL_INSENSITIVE, fieldName, value);
         return this;
     }
 
@@ -832,7 +942,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, Decimal128 value) {
         realm.checkIfValid();
-        this.query.notEqualTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        decimal128Condition(TableQuery.CONDITION_NOT_EQUAL, fieldName, value);
         return this;
     }
 
@@ -846,7 +956,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, ObjectId value) {
         realm.checkIfValid();
-        this.query.notEqualTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        objectIdCondition(TableQuery.CONDITION_NOT_EQUAL, fieldName, value);
         return this;
     }
 
@@ -860,7 +970,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, UUID value) {
         realm.checkIfValid();
-        this.query.notEqualTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        uuidCondition(TableQuery.CONDITION_NOT_EQUAL, fieldName, value);
         return this;
     }
 
@@ -888,7 +998,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Byte value) {
         realm.checkIfValid();
-        this.query.notEqualTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_NOT_EQUAL, fieldName, value);
         return this;
     }
 
@@ -916,7 +1026,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Short value) {
         realm.checkIfValid();
-        this.query.notEqualTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_NOT_EQUAL, fieldName, value);
         return this;
     }
 
@@ -930,7 +1040,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Integer value) {
         realm.checkIfValid();
-        this.query.notEqualTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_NOT_EQUAL, fieldName, value);
         return this;
     }
 
@@ -944,7 +1054,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Long value) {
         realm.checkIfValid();
-        this.query.notEqualTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_NOT_EQUAL, fieldName, value);
         return this;
     }
 
@@ -958,7 +1068,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Double value) {
         realm.checkIfValid();
-        this.query.notEqualTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        doubleCondition(TableQuery.CONDITION_NOT_EQUAL, fieldName, value);
         return this;
     }
 
@@ -972,7 +1082,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Float value) {
         realm.checkIfValid();
-        this.query.notEqualTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        floatCondition(TableQuery.CONDITION_NOT_EQUAL, fieldName, value);
         return this;
     }
 
@@ -986,7 +1096,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Boolean value) {
         realm.checkIfValid();
-        this.query.notEqualTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        booleanCondition(TableQuery.CONDITION_NOT_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1000,7 +1110,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Date value) {
         realm.checkIfValid();
-        this.query.notEqualTo(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        dateCondition(TableQuery.CONDITION_NOT_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1014,7 +1124,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThan(String fieldName, int value) {
         realm.checkIfValid();
-        this.query.greaterThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_GREATER, fieldName, value);
         return this;
     }
 
@@ -1028,7 +1138,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThan(String fieldName, long value) {
         realm.checkIfValid();
-        this.query.greaterThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_GREATER, fieldName, value);
         return this;
     }
 
@@ -1042,7 +1152,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThan(String fieldName, double value) {
         realm.checkIfValid();
-        this.query.greaterThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        doubleCondition(TableQuery.CONDITION_GREATER, fieldName, value);
         return this;
     }
 
@@ -1056,7 +1166,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThan(String fieldName, float value) {
         realm.checkIfValid();
-        this.query.greaterThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        floatCondition(TableQuery.CONDITION_GREATER, fieldName, value);
         return this;
     }
 
@@ -1070,7 +1180,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThan(String fieldName, Date value) {
         realm.checkIfValid();
-        this.query.greaterThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        dateCondition(TableQuery.CONDITION_GREATER, fieldName, value);
         return this;
     }
 
@@ -1098,7 +1208,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThan(String fieldName, Decimal128 value) {
         realm.checkIfValid();
-        this.query.greaterThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        decimal128Condition(TableQuery.CONDITION_GREATER, fieldName, value);
         return this;
     }
 
@@ -1112,7 +1222,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThan(String fieldName, ObjectId value) {
         realm.checkIfValid();
-        this.query.greaterThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        objectIdCondition(TableQuery.CONDITION_GREATER, fieldName, value);
         return this;
     }
 
@@ -1126,7 +1236,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThan(String fieldName, UUID value) {
         realm.checkIfValid();
-        this.query.greaterThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        uuidCondition(TableQuery.CONDITION_GREATER, fieldName, value);
         return this;
     }
 
@@ -1140,7 +1250,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, int value) {
         realm.checkIfValid();
-        this.query.greaterThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_GREATER_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1154,7 +1264,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, long value) {
         realm.checkIfValid();
-        this.query.greaterThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_GREATER_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1168,7 +1278,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, double value) {
         realm.checkIfValid();
-        this.query.greaterThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        doubleCondition(TableQuery.CONDITION_GREATER_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1182,7 +1292,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, float value) {
         realm.checkIfValid();
-        this.query.greaterThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        floatCondition(TableQuery.CONDITION_GREATER_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1196,7 +1306,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, Date value) {
         realm.checkIfValid();
-        this.query.greaterThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        dateCondition(TableQuery.CONDITION_GREATER_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1210,7 +1320,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, Decimal128 value) {
         realm.checkIfValid();
-        this.query.greaterThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        decimal128Condition(TableQuery.CONDITION_GREATER_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1224,7 +1334,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, ObjectId value) {
         realm.checkIfValid();
-        this.query.greaterThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        objectIdCondition(TableQuery.CONDITION_GREATER_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1238,7 +1348,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, UUID value) {
         realm.checkIfValid();
-        this.query.greaterThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        uuidCondition(TableQuery.CONDITION_GREATER_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1266,7 +1376,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThan(String fieldName, int value) {
         realm.checkIfValid();
-        this.query.lessThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_LESS, fieldName, value);
         return this;
     }
 
@@ -1280,7 +1390,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThan(String fieldName, long value) {
         realm.checkIfValid();
-        this.query.lessThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_LESS, fieldName, value);
         return this;
     }
 
@@ -1294,7 +1404,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThan(String fieldName, Decimal128 value) {
         realm.checkIfValid();
-        this.query.lessThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        decimal128Condition(TableQuery.CONDITION_LESS, fieldName, value);
         return this;
     }
 
@@ -1308,7 +1418,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThan(String fieldName, ObjectId value) {
         realm.checkIfValid();
-        this.query.lessThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        objectIdCondition(TableQuery.CONDITION_LESS, fieldName, value);
         return this;
     }
 
@@ -1322,7 +1432,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThan(String fieldName, UUID value) {
         realm.checkIfValid();
-        this.query.lessThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        uuidCondition(TableQuery.CONDITION_LESS, fieldName, value);
         return this;
     }
 
@@ -1336,7 +1446,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThan(String fieldName, double value) {
         realm.checkIfValid();
-        this.query.lessThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        doubleCondition(TableQuery.CONDITION_LESS, fieldName, value);
         return this;
     }
 
@@ -1350,7 +1460,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThan(String fieldName, float value) {
         realm.checkIfValid();
-        this.query.lessThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        floatCondition(TableQuery.CONDITION_LESS, fieldName, value);
         return this;
     }
 
@@ -1364,7 +1474,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThan(String fieldName, Date value) {
         realm.checkIfValid();
-        this.query.lessThan(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        dateCondition(TableQuery.CONDITION_LESS, fieldName, value);
         return this;
     }
 
@@ -1392,7 +1502,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, int value) {
         realm.checkIfValid();
-        this.query.lessThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_LESS_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1406,7 +1516,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, long value) {
         realm.checkIfValid();
-        this.query.lessThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        longCondition(TableQuery.CONDITION_LESS_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1420,7 +1530,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, Decimal128 value) {
         realm.checkIfValid();
-        this.query.lessThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        decimal128Condition(TableQuery.CONDITION_LESS_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1434,7 +1544,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, ObjectId value) {
         realm.checkIfValid();
-        this.query.lessThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        objectIdCondition(TableQuery.CONDITION_LESS_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1448,7 +1558,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, UUID value) {
         realm.checkIfValid();
-        this.query.lessThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        uuidCondition(TableQuery.CONDITION_LESS_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1462,7 +1572,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, double value) {
         realm.checkIfValid();
-        this.query.lessThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        doubleCondition(TableQuery.CONDITION_LESS_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1476,7 +1586,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, float value) {
         realm.checkIfValid();
-        this.query.lessThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        floatCondition(TableQuery.CONDITION_LESS_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1490,7 +1600,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, Date value) {
         realm.checkIfValid();
-        this.query.lessThanOrEqual(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(value));
+        dateCondition(TableQuery.CONDITION_LESS_EQUAL, fieldName, value);
         return this;
     }
 
@@ -1519,7 +1629,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> between(String fieldName, int from, int to) {
         realm.checkIfValid();
-        this.query.between(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(from), RealmAny.valueOf(to));
+        longBetween(fieldName, from, to);
         return this;
     }
 
@@ -1534,7 +1644,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> between(String fieldName, long from, long to) {
         realm.checkIfValid();
-        this.query.between(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(from), RealmAny.valueOf(to));
+        longBetween(fieldName, from, to);
         return this;
     }
 
@@ -1549,7 +1659,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> between(String fieldName, double from, double to) {
         realm.checkIfValid();
-        this.query.between(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(from), RealmAny.valueOf(to));
+        doubleBetween(fieldName, from, to);
         return this;
     }
 
@@ -1564,7 +1674,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> between(String fieldName, float from, float to) {
         realm.checkIfValid();
-        this.query.between(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(from), RealmAny.valueOf(to));
+        floatBetween(fieldName, from, to);
         return this;
     }
 
@@ -1579,7 +1689,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> between(String fieldName, Date from, Date to) {
         realm.checkIfValid();
-        this.query.between(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(from), RealmAny.valueOf(to));
+        dateBetween(fieldName, from, to);
         return this;
     }
 
@@ -1609,7 +1719,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> between(String fieldName, Decimal128 from, Decimal128 to) {
         realm.checkIfValid();
-        this.query.between(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(from), RealmAny.valueOf(to));
+        decimal128Between(fieldName, from, to);
         return this;
     }
 
@@ -1649,7 +1759,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> contains(String fieldName, String value, Case casing) {
         Util.checkNull(value, "value");
         realm.checkIfValid();
-        contains(fieldName, RealmAny.valueOf(value), casing);
+        stringCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_CONTAINS : TableQuery.CONDITION_CONTAINS_INSENSITIVE, fieldName, value);
         return this;
     }
 
@@ -1708,7 +1818,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> beginsWith(String fieldName, String value, Case casing) {
         Util.checkNull(value, "value");
         realm.checkIfValid();
-        beginsWith(fieldName, RealmAny.valueOf(value), casing);
+        stringCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_BEGINS_WITH : TableQuery.CONDITION_BEGINS_WITH_INSENSITIVE, fieldName, value);
         return this;
     }
 
@@ -1767,7 +1877,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> endsWith(String fieldName, String value, Case casing) {
         Util.checkNull(value, "value");
         realm.checkIfValid();
-        endsWith(fieldName, RealmAny.valueOf(value), casing);
+        stringCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_ENDS_WITH : TableQuery.CONDITION_ENDS_WITH_INSENSITIVE, fieldName, value);
         return this;
     }
 
@@ -1838,7 +1948,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> like(String fieldName, String value, Case casing) {
         Util.checkNull(value, "value");
         realm.checkIfValid();
-        like(fieldName, RealmAny.valueOf(value), casing);
+        stringCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_LIKE : TableQuery.CONDITION_LIKE_INSENSITIVE, fieldName, value);
         return this;
     }
 
@@ -1865,6 +1975,36 @@ public class RealmQuery<E> {
         return this;
     }
 
+    /**
+     * Condition that the value of a field with a full-text index contains the given terms. The terms are split into
+     * words which are all looked up in the index, so the condition doesn't scan the table:
+     * <ul>
+     * <li>{@code "cat dog"} matches text containing both "cat" and "dog".</li>
+     * <li>{@code "cat -dog"} matches text containing "cat" but not "dog".</li>
+     * <li>{@code "cat*"} matches text containing a word starting with "cat".</li>
+     * </ul>
+     * Matching is case and diacritics insensitive.
+     *
+     * @param fieldName the field to search. It must have a full-text index.
+     * @param terms the words to look for.
+     * @return the query object.
+     * @throws java.lang.IllegalArgumentException if the field doesn't exist, is not a {@code String} field or doesn't
+     * have a full-text index.
+     * @see io.realm.annotations.FullText
+     * @see RealmObjectSchema#addFullTextIndex(String)
+     */
+    public RealmQuery<E> textMatches(String fieldName, String terms) {
+        Util.checkNull(terms, "terms");
+        realm.checkIfValid();
+        long columnKey = getDirectColumnKey(fieldName);
+        if (columnKey != Table.NO_MATCH && !table.hasFullTextIndex(columnKey)) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Field '%s' does not have a full-text index.", fieldName));
+        }
+        this.query.textMatches(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(terms));
+        return this;
+    }
+
     /**
      * Begin grouping of conditions ("left parenthesis"). A group must be closed with a call to {@code endGroup()}.
      *
@@ -2424,6 +2564,258 @@ public class RealmQuery<E> {
         return new RealmAny(RealmAnyOperator.fromNativeRealmAny(realm, this.query.maximumRealmAny(columnIndex)));
     }
 
+    /**
+     * Computes multiple aggregates over the objects matching the query. The query is only evaluated once and all
+     * aggregates are computed in a single pass over the matching rows, which is faster than calling
+     * {@link #sum(String)}, {@link #average(String)}, {@link #min(String)} and {@link #max(String)} one after the
+     * other.
+     * <p>
+     * The aggregates are computed over the objects {@link #findAll()} would return, so any sort, distinct and limit
+     * applied to the query are respected.
+     * Does not support dotted field notation.
+     *
+     * @param aggregations the aggregations to compute.
+     * @return the computed values in the same order as the {@code aggregations}.
+     * @throws IllegalArgumentException if no aggregations are given or a field does not exist or does not have a type
+     * supported by its aggregation.
+     * @throws RealmException if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     * @see Aggregation
+     */
+    public AggregationResult aggregate(Aggregation... aggregations) {
+        realm.checkIfValid();
+        realm.checkAllowQueriesOnUiThread();
+
+        long[] columnKeys = getAggregateColumnKeys(aggregations);
+        byte[] functions = getAggregateFunctions(aggregations);
+
+        OsResults osResults = OsResults.createFromQuery(realm.sharedRealm, query);
+        return new AggregationResult(aggregations, osResults.aggregate(columnKeys, functions));
+    }
+
+    /**
+     * Groups the objects matching the query by the value of a field. The groups and their aggregates are computed
+     * natively by {@link RealmGroupBy#aggregate(Aggregation...)}.
+     * <p>
+     * Only String, integer, Date and ObjectId fields can be used as group key. The field can be on a linked object,
+     * e.g. {@code "owner.name"}, but cannot go through lists or other collections.
+     *
+     * @param fieldName the field to group by.
+     * @return the grouped query.
+     * @throws IllegalArgumentException if the field does not exist or its type is not supported as group key.
+     * @see #groupBy(String, long, TimeUnit)
+     */
+    public RealmGroupBy<E> groupBy(String fieldName) {
+        realm.checkIfValid();
+        return new RealmGroupBy<>(this, fieldName, getGroupKeyPath(fieldName, false), 0);
+    }
+
+    /**
+     * Groups the objects matching the query by the value of a Date field truncated to buckets of the given size,
+     * e.g. {@code groupBy("timestamp", 1, TimeUnit.HOURS)} creates a group per hour. Buckets are aligned to the
+     * epoch in UTC.
+     *
+     * @param fieldName the Date field to group by, can be on a linked object.
+     * @param bucketSize the size of the buckets.
+     * @param unit the unit of {@code bucketSize}.
+     * @return the grouped query.
+     * @throws IllegalArgumentException if the field does not exist or is not a Date field, or the bucket is not at
+     * least one millisecond.
+     * @see #groupBy(String)
+     */
+    public RealmGroupBy<E> groupBy(String fieldName, long bucketSize, TimeUnit unit) {
+        realm.checkIfValid();
+        long bucketMillis = unit.toMillis(bucketSize);
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("Bucket size must be at least 1 millisecond: " + bucketSize + " " + unit);
+        }
+        return new RealmGroupBy<>(this, fieldName, getGroupKeyPath(fieldName, true), bucketMillis);
+    }
+
+    GroupedAggregationResult groupByAggregate(long[] keyPath, long bucketMillis, Aggregation... aggregations) {
+        realm.checkIfValid();
+        realm.checkAllowQueriesOnUiThread();
+
+        long[] columnKeys = getAggregateColumnKeys(aggregations);
+        byte[] functions = getAggregateFunctions(aggregations);
+
+        OsResults osResults = OsResults.createFromQuery(realm.sharedRealm, query);
+        return new GroupedAggregationResult(aggregations, osResults.groupBy(keyPath, bucketMillis, columnKeys, functions));
+    }
+
+    /**
+     * Resolves the column keys of a group key, following links for dotted field names. Typed Realms use the
+     * {@link ColumnInfo} of each class to map public field names to columns, the same mapping the query parser
+     * receives through {@link io.realm.internal.objectstore.OsKeyPathMapping}.
+     */
+    private long[] getGroupKeyPath(String fieldName, boolean dateBucket) {
+        //noinspection ConstantConditions
+        if (fieldName == null || fieldName.isEmpty()) {
+            throw new IllegalArgumentException("Non-empty 'fieldName' required.");
+        }
+        String[] names = fieldName.split("\\.");
+        long[] keyPath = new long[names.length];
+        Table currentTable = table;
+        ColumnInfo columnInfo = (realm instanceof DynamicRealm) ? null : schema.columnInfo;
+        for (int i = 0; i < names.length; i++) {
+            long columnKey;
+            if (columnInfo == null) {
+                columnKey = currentTable.getColumnKey(names[i]);
+            } else {
+                ColumnInfo.ColumnDetails details = columnInfo.getColumnDetails(names[i]);
+                columnKey = (details == null) ? Table.NO_MATCH : details.columnKey;
+            }
+            if (columnKey == Table.NO_MATCH) {
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        "Field '%s' does not exist in '%s'.", names[i], currentTable.getClassName()));
+            }
+            keyPath[i] = columnKey;
+
+            RealmFieldType type = currentTable.getColumnType(columnKey);
+            if (i < names.length - 1) {
+                if (type != RealmFieldType.OBJECT) {
+                    throw new IllegalArgumentException(String.format(Locale.US,
+                            "Field '%s' in '%s' is not an object link.", names[i], fieldName));
+                }
+                currentTable = currentTable.getLinkTarget(columnKey);
+                if (columnInfo != null) {
+                    columnInfo = realm.getSchema().getColumnInfo(currentTable.getClassName());
+                }
+            } else if (dateBucket ? type != RealmFieldType.DATE : (type != RealmFieldType.STRING
+                    && type != RealmFieldType.INTEGER && type != RealmFieldType.DATE && type != RealmFieldType.OBJECT_ID)) {
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        TYPE_MISMATCH, fieldName, dateBucket ? "Date" : "String, int, Date or ObjectId"));
+            }
+        }
+        return keyPath;
+    }
+
+    private long[] getAggregateColumnKeys(Aggregation[] aggregations) {
+        //noinspection ConstantConditions
+        if (aggregations == null || aggregations.length == 0) {
+            throw new IllegalArgumentException("At least one aggregation is required.");
+        }
+        long[] columnKeys = new long[aggregations.length];
+        for (int i = 0; i < aggregations.length; i++) {
+            Aggregation aggregation = aggregations[i];
+            //noinspection ConstantConditions
+            if (aggregation == null) {
+                throw new IllegalArgumentException("Aggregations cannot be null.");
+            }
+            columnKeys[i] = (aggregation.getType() == Aggregation.Type.COUNT) ? Table.NO_MATCH :
+                    getAggregateColumnKey(aggregation);
+        }
+        return columnKeys;
+    }
+
+    private static byte[] getAggregateFunctions(Aggregation[] aggregations) {
+        byte[] functions = new byte[aggregations.length];
+        for (int i = 0; i < aggregations.length; i++) {
+            functions[i] = aggregations[i].getType().getNativeValue();
+        }
+        return functions;
+    }
+
+    private long getAggregateColumnKey(Aggregation aggregation) {
+        String fieldName = aggregation.getFieldName();
+        long columnKey = schema.getAndCheckFieldColumnKey(fieldName);
+        switch (table.getColumnType(columnKey)) {
+            case INTEGER:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL128:
+                return columnKey;
+            case DATE:
+                if (aggregation.getType() == Aggregation.Type.MIN || aggregation.getType() == Aggregation.Type.MAX) {
+                    return columnKey;
+                }
+                // fall through
+            default:
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        TYPE_MISMATCH, fieldName, "int, float, double or Decimal128 (or Date for min and max)"));
+        }
+    }
+
+    /**
+     * Checks if any object fulfills the query conditions. The query stops at the first match instead of counting all
+     * of them.
+     *
+     * @return {@code true} if at least one object matches the query, {@code false} otherwise.
+     * @throws java.lang.UnsupportedOperationException if the query is not valid ("syntax error").
+     * @throws RealmException                          if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     */
+    public boolean exists() {
+        return countUpTo(1) > 0;
+    }
+
+    /**
+     * Counts the number of objects that fulfill the query conditions, but stops counting once {@code max} objects
+     * have been found, e.g. to show "99+" without scanning all matching objects.
+     *
+     * @param max the maximum count to return, must be {@code >= 0}.
+     * @return the number of matching objects or {@code max}, whichever is smaller.
+     * @throws IllegalArgumentException                if {@code max} is negative.
+     * @throws java.lang.UnsupportedOperationException if the query is not valid ("syntax error").
+     * @throws RealmException                          if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     */
+    public long countUpTo(long max) {
+        realm.checkIfValid();
+        realm.checkAllowQueriesOnUiThread();
+
+        if (max < 0) {
+            throw new IllegalArgumentException("'max' must be >= 0: " + max);
+        }
+        if (max == 0) {
+            return 0;
+        }
+        return query.countUpTo(max);
+    }
+
+    /**
+     * Deletes all objects matching the query directly in the query engine, without creating a {@link RealmResults}
+     * first. The sort, distinct and limit of the query are respected, so e.g. {@code sort("date").limit(100)} deletes
+     * the 100 oldest matching objects.
+     *
+     * @return the number of deleted objects.
+     * @throws IllegalStateException if the Realm is not in a write transaction.
+     * @see #deleteAll(long)
+     */
+    public long deleteAll() {
+        realm.checkIfValidAndInTransaction();
+        return query.remove();
+    }
+
+    /**
+     * Deletes at most {@code maxRows} objects matching the query directly in the query engine, without creating a
+     * {@link RealmResults} first. The query engine stops searching as soon as {@code maxRows} matches are found, so
+     * large purges can be split across several shorter write transactions:
+     *
+     * <pre>
+     * {@code
+     * long deleted;
+     * do {
+     *     realm.beginTransaction();
+     *     deleted = realm.where(Event.class).lessThan("date", cutoff).deleteAll(10_000);
+     *     realm.commitTransaction();
+     * } while (deleted > 0);
+     * }
+     * </pre>
+     *
+     * @param maxRows the maximum number of objects to delete.
+     * @return the number of deleted objects.
+     * @throws IllegalArgumentException if {@code maxRows} is negative.
+     * @throws IllegalStateException if the Realm is not in a write transaction.
+     */
+    public long deleteAll(long maxRows) {
+        realm.checkIfValidAndInTransaction();
+        if (maxRows < 0) {
+            throw new IllegalArgumentException("'maxRows' must be >= 0: " + maxRows);
+        }
+        if (maxRows == 0) {
+            return 0;
+        }
+        return query.remove(maxRows);
+    }
+
     /**
      * Counts the number of objects that fulfill the query conditions.
      *
@@ -2462,7 +2854,24 @@ public class RealmQuery<E> {
     public RealmResults<E> findAll() {
         realm.checkIfValid();
         realm.checkAllowQueriesOnUiThread();
-        return createRealmResults(query, true);
+        if (profiling) {
+            return findAllProfiled();
+        }
+        return (cacheable && realm.sharedRealm.getResultsCache().isEnabled())
+                ? findAllCached()
+                : createRealmResults(query, true);
+    }
+
+    /**
+     * Evaluates the query like {@link #findAll()}, bypassing the results cache, and records the time the evaluation
+     * took in a {@link QueryPlan}.
+     */
+    private RealmResults<E> findAllProfiled() {
+        RealmResults<E> results = createRealmResults(query, false);
+        long durationNanos = results.osResults.loadAndMeasure();
+        results.setQueryPlan(QueryPlan.fromEvaluation(query, nativeSerializeQuery(query.getNativePtr()),
+                results.osResults.size(), durationNanos));
+        return results;
     }
 
     /**
@@ -2565,10 +2974,173 @@ public class RealmQuery<E> {
 
         realm.checkIfValid();
 
-        this.query.sort(realm.getSchema().getKeyPathMapping(), fieldNames, sortOrders);
+        this.query.sort(realm.getSchema().getKeyPathMapping(), fieldNames, sortOrders, getSortColumnKeys(fieldNames));
         return this;
     }
 
+    /**
+     * Returns the column keys of the sorted fields if they can be compared natively without the query parser's
+     * sort descriptor, e.g. to select the first objects of a sorted query without sorting all of them. Returns
+     * {@code null} for link paths and strings, which are sorted with the collation of the descriptor.
+     */
+    @Nullable
+    private long[] getSortColumnKeys(String[] fieldNames) {
+        long[] columnKeys = new long[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            long columnKey = getDirectColumnKey(fieldNames[i]);
+            if (columnKey == Table.NO_MATCH) {
+                return null;
+            }
+            switch (table.getColumnType(columnKey)) {
+                case INTEGER:
+                case BOOLEAN:
+                case FLOAT:
+                case DOUBLE:
+                case DATE:
+                case DECIMAL128:
+                case OBJECT_ID:
+                    columnKeys[i] = columnKey;
+                    break;
+                default:
+                    return null;
+            }
+        }
+        return columnKeys;
+    }
+
+    /**
+     * Returns the first page of the objects matching the query ordered by {@code sortField}.
+     *
+     * @see #page(String, Sort, RealmPage.Cursor, int)
+     */
+    public RealmPage<E> page(String sortField, Sort sortOrder, int pageSize) {
+        return page(sortField, sortOrder, null, pageSize);
+    }
+
+    /**
+     * Returns a page of the objects matching the query, ordered by {@code sortField} and then by an internal object
+     * key to order objects with the same value, both in {@code sortOrder}. The page starts after {@code after},
+     * usually the {@link RealmPage#getNextCursor()} of the previous page.
+     * <p>
+     * Unlike paging through {@link RealmResults} by index, this does not sort all matching objects: objects before
+     * the cursor are filtered out by the query and the page is selected with a heap of {@code pageSize} objects, so
+     * every page costs about the same. Any sort, distinct or limit set on this query is ignored.
+     * <p>
+     * Only integer, float, double, Date and ObjectId fields of the queried class can be used as sort field.
+     *
+     * @param sortField the field to order by.
+     * @param sortOrder the order of the pages.
+     * @param after the position to start after, or {@code null} for the first page.
+     * @param pageSize the maximum number of objects on the page, must be {@code >= 1}.
+     * @return the page.
+     * @throws IllegalArgumentException if the field does not exist or has an unsupported type, the cursor value does
+     * not match the type of the field or the page size is less than 1.
+     * @throws RealmException if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     * @see RealmPage
+     */
+    public RealmPage<E> page(String sortField, Sort sortOrder, @Nullable RealmPage.Cursor after, int pageSize) {
+        realm.checkIfValid();
+        realm.checkAllowQueriesOnUiThread();
+
+        if (forValues) {
+            throw new UnsupportedOperationException("page() available only when type parameter 'E' is implementing RealmModel.");
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1: " + pageSize);
+        }
+        long columnKey = getDirectColumnKey(sortField);
+        if (columnKey == Table.NO_MATCH) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Field '%s' does not exist or is not a field of '%s'.", sortField, table.getClassName()));
+        }
+        RealmFieldType type = table.getColumnType(columnKey);
+        if (type != RealmFieldType.INTEGER && type != RealmFieldType.FLOAT && type != RealmFieldType.DOUBLE
+                && type != RealmFieldType.DATE && type != RealmFieldType.OBJECT_ID) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    TYPE_MISMATCH, sortField, "int, float, double, Date or ObjectId"));
+        }
+        boolean ascending = (sortOrder == Sort.ASCENDING);
+
+        long[] keys;
+        if (after == null) {
+            keys = query.findPage(columnKey, ascending, 0, 0, pageSize);
+        } else {
+            RealmAny afterValue = getPageValue(sortField, type, after.getValue());
+            long afterKey = after.hasObjectKey() ? after.getObjectKey() : (ascending ? Long.MAX_VALUE : Long.MIN_VALUE);
+            keys = query.findPage(columnKey, ascending, afterValue.getNativePtr(), afterKey, pageSize);
+        }
+
+        List<E> items = new ArrayList<>(keys.length);
+        for (long key : keys) {
+            //noinspection unchecked
+            items.add((E) realm.get((Class<? extends RealmModel>) clazz, className, key));
+        }
+        RealmPage.Cursor nextCursor = null;
+        if (keys.length == pageSize) {
+            long lastKey = keys[keys.length - 1];
+            nextCursor = new RealmPage.Cursor(readPageValue(table.getUncheckedRow(lastKey), columnKey, type), lastKey, true);
+        }
+        return new RealmPage<>(Collections.unmodifiableList(items), nextCursor);
+    }
+
+    private static RealmAny getPageValue(String sortField, RealmFieldType type, @Nullable Object value) {
+        if (value == null) {
+            return RealmAny.nullValue();
+        }
+        switch (type) {
+            case INTEGER:
+                if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    return RealmAny.valueOf(((Number) value).longValue());
+                }
+                break;
+            case FLOAT:
+                if (value instanceof Number) {
+                    return RealmAny.valueOf(((Number) value).floatValue());
+                }
+                break;
+            case DOUBLE:
+                if (value instanceof Number) {
+                    return RealmAny.valueOf(((Number) value).doubleValue());
+                }
+                break;
+            case DATE:
+                if (value instanceof Date) {
+                    return RealmAny.valueOf((Date) value);
+                }
+                break;
+            case OBJECT_ID:
+                if (value instanceof ObjectId) {
+                    return RealmAny.valueOf((ObjectId) value);
+                }
+                break;
+            default:
+                break;
+        }
+        throw new IllegalArgumentException(String.format(Locale.US,
+                "Cursor value '%s' does not match the type of field '%s': %s", value, sortField, type));
+    }
+
+    @Nullable
+    private static Object readPageValue(UncheckedRow row, long columnKey, RealmFieldType type) {
+        if (row.isNull(columnKey)) {
+            return null;
+        }
+        switch (type) {
+            case INTEGER:
+                return row.getLong(columnKey);
+            case FLOAT:
+                return row.getFloat(columnKey);
+            case DOUBLE:
+                return row.getDouble(columnKey);
+            case DATE:
+                return row.getDate(columnKey);
+            case OBJECT_ID:
+                return row.getObjectId(columnKey);
+            default:
+                throw new IllegalStateException("Unsupported page sort type: " + type);
+        }
+    }
+
     /**
      * Selects a distinct set of objects of a specific class. When multiple distinct fields are
      * given, all unique combinations of values in the fields will be returned. In case of multiple
@@ -2723,6 +3295,42 @@ public class RealmQuery<E> {
         return (Realm) realm;
     }
 
+    /**
+     * Runs this query one stage at a time and returns a {@link QueryPlan} describing how many rows and how much
+     * time each stage of the query took, and which fields of the conditions have a search index.
+     * <p>
+     * The query is fully executed, so this is meant for diagnosing slow queries, not for regular use. Running the
+     * stages separately is slower than {@link #findAll()}, which evaluates them together, use {@link #profile()} to
+     * time the actual evaluation.
+     *
+     * @return the plan of this query.
+     * @throws java.lang.UnsupportedOperationException if the query is not valid ("syntax error").
+     * @see #profile()
+     */
+    public QueryPlan explain() {
+        realm.checkIfValid();
+        realm.checkAllowQueriesOnUiThread();
+        return QueryPlan.fromNative(query, nativeSerializeQuery(query.getNativePtr()), query.explain());
+    }
+
+    /**
+     * Enables profiling for the results of this query. {@link RealmResults} returned by {@link #findAll()} record a
+     * {@link QueryPlan} with the time the evaluation of the query took, the number of results and which fields of
+     * the conditions have a search index. The plan can be read with {@link RealmResults#getQueryPlan()}.
+     * <p>
+     * Profiled queries bypass the results cache so the plan always describes a real evaluation. Results returned by
+     * {@link #findAllAsync()} are evaluated on a background thread and are not profiled.
+     *
+     * @return the query object.
+     * @see #explain()
+     */
+    public RealmQuery<E> profile() {
+        realm.checkIfValid();
+        profiling = true;
+        return this;
+    }
+
+
     /**
      * Returns a textual description of this query.
      *
@@ -2755,6 +3363,203 @@ public class RealmQuery<E> {
         return query.getNativePtr();
     }
 
+    /**
+     * Applies pre-resolved conditions from a {@link RealmQueryTemplate} to this query.
+     *
+     * @param conditions   pairs of condition code and column key, see {@link TableQuery#applyConditions(long[], long[])}.
+     * @param argumentPtrs native pointers to the {@link RealmAny} arguments of the conditions.
+     */
+    RealmQuery<E> applyConditions(long[] conditions, long[] argumentPtrs) {
+        realm.checkIfValid();
+        this.query.applyConditions(conditions, argumentPtrs);
+        return this;
+    }
+
+    /**
+     * Returns the column key for a field on the queried table, or {@link Table#NO_MATCH} if the field cannot be
+     * resolved directly, e.g. link queries, computed properties or unknown fields. Conditions on such fields are
+     * left to the query parser.
+     */
+    private long getDirectColumnKey(@Nullable String fieldName) {
+        if (fieldName == null || schema == null || fieldName.contains(".")) {
+            return Table.NO_MATCH;
+        }
+        if (realm instanceof DynamicRealm) {
+            return table.getColumnKey(fieldName);
+        }
+        ColumnInfo.ColumnDetails details = schema.columnInfo.getColumnDetails(fieldName);
+        if (details == null || details.columnType == RealmFieldType.LINKING_OBJECTS) {
+            return Table.NO_MATCH;
+        }
+        return details.columnKey;
+    }
+
+    /**
+     * Returns the column key for a field on the queried table if it has the given type, otherwise
+     * {@link Table#NO_MATCH}.
+     */
+    private long getDirectColumnKey(@Nullable String fieldName, RealmFieldType type) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (columnKey == Table.NO_MATCH || table.getColumnType(columnKey) != type) {
+            return Table.NO_MATCH;
+        }
+        return columnKey;
+    }
+
+    private static boolean containsNull(Object[] values) {
+        for (Object value : values) {
+            if (value == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Typed conditions. Non-null values on direct fields are passed to JNI as is, everything else is
+    // boxed in a RealmAny and handled by the query parser.
+
+    private void longCondition(long condition, String fieldName, @Nullable Number value) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (value == null || columnKey == Table.NO_MATCH) {
+            this.query.condition(realm.getSchema().getKeyPathMapping(), condition, fieldName,
+                    (value == null) ? RealmAny.nullValue() : RealmAny.valueOf(value.longValue()));
+        } else {
+            this.query.longCondition(condition, columnKey, value.longValue());
+        }
+    }
+
+    private void doubleCondition(long condition, String fieldName, @Nullable Double value) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (value == null || columnKey == Table.NO_MATCH) {
+            this.query.condition(realm.getSchema().getKeyPathMapping(), condition, fieldName, RealmAny.valueOf(value));
+        } else {
+            this.query.doubleCondition(condition, columnKey, value);
+        }
+    }
+
+    private void floatCondition(long condition, String fieldName, @Nullable Float value) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (value == null || columnKey == Table.NO_MATCH) {
+            this.query.condition(realm.getSchema().getKeyPathMapping(), condition, fieldName, RealmAny.valueOf(value));
+        } else {
+            this.query.floatCondition(condition, columnKey, value);
+        }
+    }
+
+    private void booleanCondition(long condition, String fieldName, @Nullable Boolean value) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (value == null || columnKey == Table.NO_MATCH) {
+            this.query.condition(realm.getSchema().getKeyPathMapping(), condition, fieldName, RealmAny.valueOf(value));
+        } else {
+            this.query.booleanCondition(condition, columnKey, value);
+        }
+    }
+
+    private void dateCondition(long condition, String fieldName, @Nullable Date value) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (value == null || columnKey == Table.NO_MATCH) {
+            this.query.condition(realm.getSchema().getKeyPathMapping(), condition, fieldName, RealmAny.valueOf(value));
+        } else {
+            this.query.dateCondition(condition, columnKey, value);
+        }
+    }
+
+    private void stringCondition(long condition, String fieldName, @Nullable String value) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (value == null || columnKey == Table.NO_MATCH) {
+            this.query.condition(realm.getSchema().getKeyPathMapping(), condition, fieldName, RealmAny.valueOf(value));
+        } else {
+            this.query.stringCondition(condition, columnKey, value);
+        }
+    }
+
+    private void objectIdCondition(long condition, String fieldName, @Nullable ObjectId value) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (value == null || columnKey == Table.NO_MATCH) {
+            this.query.condition(realm.getSchema().getKeyPathMapping(), condition, fieldName, RealmAny.valueOf(value));
+        } else {
+            this.query.objectIdCondition(condition, columnKey, value);
+        }
+    }
+
+    private void uuidCondition(long condition, String fieldName, @Nullable UUID value) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (value == null || columnKey == Table.NO_MATCH) {
+            this.query.condition(realm.getSchema().getKeyPathMapping(), condition, fieldName, RealmAny.valueOf(value));
+        } else {
+            this.query.uuidCondition(condition, columnKey, value);
+        }
+    }
+
+    private void decimal128Condition(long condition, String fieldName, @Nullable Decimal128 value) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (value == null || columnKey == Table.NO_MATCH) {
+            this.query.condition(realm.getSchema().getKeyPathMapping(), condition, fieldName, RealmAny.valueOf(value));
+        } else {
+            this.query.decimal128Condition(condition, columnKey, value);
+        }
+    }
+
+    private void longBetween(String fieldName, long from, long to) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (columnKey == Table.NO_MATCH) {
+            this.query.between(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(from), RealmAny.valueOf(to));
+        } else {
+            this.query.beginGroup()
+                    .longCondition(TableQuery.CONDITION_GREATER_EQUAL, columnKey, from)
+                    .longCondition(TableQuery.CONDITION_LESS_EQUAL, columnKey, to)
+                    .endGroup();
+        }
+    }
+
+    private void doubleBetween(String fieldName, double from, double to) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (columnKey == Table.NO_MATCH) {
+            this.query.between(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(from), RealmAny.valueOf(to));
+        } else {
+            this.query.beginGroup()
+                    .doubleCondition(TableQuery.CONDITION_GREATER_EQUAL, columnKey, from)
+                    .doubleCondition(TableQuery.CONDITION_LESS_EQUAL, columnKey, to)
+                    .endGroup();
+        }
+    }
+
+    private void floatBetween(String fieldName, float from, float to) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (columnKey == Table.NO_MATCH) {
+            this.query.between(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(from), RealmAny.valueOf(to));
+        } else {
+            this.query.beginGroup()
+                    .floatCondition(TableQuery.CONDITION_GREATER_EQUAL, columnKey, from)
+                    .floatCondition(TableQuery.CONDITION_LESS_EQUAL, columnKey, to)
+                    .endGroup();
+        }
+    }
+
+    private void dateBetween(String fieldName, @Nullable Date from, @Nullable Date to) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (from == null || to == null || columnKey == Table.NO_MATCH) {
+            this.query.between(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(from), RealmAny.valueOf(to));
+        } else {
+            this.query.beginGroup()
+                    .dateCondition(TableQuery.CONDITION_GREATER_EQUAL, columnKey, from)
+                    .dateCondition(TableQuery.CONDITION_LESS_EQUAL, columnKey, to)
+                    .endGroup();
+        }
+    }
+
+    private void decimal128Between(String fieldName, @Nullable Decimal128 from, @Nullable Decimal128 to) {
+        long columnKey = getDirectColumnKey(fieldName);
+        if (from == null || to == null || columnKey == Table.NO_MATCH) {
+            this.query.between(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(from), RealmAny.valueOf(to));
+        } else {
+            this.query.beginGroup()
+                    .decimal128Condition(TableQuery.CONDITION_GREATER_EQUAL, columnKey, from)
+                    .decimal128Condition(TableQuery.CONDITION_LESS_EQUAL, columnKey, to)
+                    .endGroup();
+        }
+    }
+
     private boolean isDynamicQuery() {
         return className != null;
     }
@@ -2842,11 +3647,39 @@ public class RealmQuery<E> {
     }
 
 
+    /**
+     * Returns results copied from the evaluated results of an identical query at the current version, or runs the
+     * query and caches its results. Queries inside a write transaction are never cached, as the data can change
+     * without the version changing.
+     * <p>
+     * The cached results are never handed out. Every caller gets its own copy, so listeners added to, or the
+     * freezing or closing of, one result don't affect the others.
+     */
+    private RealmResults<E> findAllCached() {
+        if (realm.isInTransaction()) {
+            return createRealmResults(query, true);
+        }
+        query.validateQuery();
+        OsResultsCache cache = realm.sharedRealm.getResultsCache();
+        String key = table.getName() + " " + nativeSerializeQuery(query.getNativePtr());
+        OsSharedRealm.VersionID version = realm.sharedRealm.getVersionID();
+        OsResults osResults = cache.get(key, version);
+        if (osResults == null) {
+            osResults = OsResults.createFromQuery(realm.sharedRealm, query);
+            osResults.load();
+            cache.put(key, version, osResults);
+        }
+        return createRealmResults(osResults.copy(), true);
+    }
+
     private RealmResults<E> createRealmResults(TableQuery query,
             boolean loadResults) {
+        return createRealmResults(OsResults.createFromQuery(realm.sharedRealm, query), loadResults);
+    }
+
+    private RealmResults<E> createRealmResults(OsResults osResults,
+            boolean loadResults) {
         RealmResults<E> results;
-        OsResults osResults;
-        osResults = OsResults.createFromQuery(realm.sharedRealm, query);
 
         if (isDynamicQuery()) {
             results = new RealmResults<>(realm, osResults, className);
@@ -0,0 +1,410 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.Table;
+import io.realm.internal.TableQuery;
+
+
+/**
+ * A RealmQueryTemplate describes the shape of a query whose values are only known when it is run, e.g. a list
+ * screen that re-runs the same set of conditions every time a filter changes.
+ * <p>
+ * Typed conditions on {@link RealmQuery} are translated to the Realm Query Language and parsed by the query engine
+ * every time they are added. A template resolves its fields once per schema version and hands the conditions
+ * directly to the query engine when it is bound, so no predicate strings are built or parsed per query.
+ * <p>
+ * Each condition consumes one or more arguments, in the order the conditions were added. {@link #between(String)}
+ * consumes two arguments, {@link #isNull(String)} and {@link #isNotNull(String)} consume none.
+ * <p>
+ * <pre>
+ * {@code
+ * RealmQueryTemplate<Person> template = realm.queryTemplate(Person.class)
+ *         .equalTo("city")
+ *         .between("age");
+ *
+ * RealmResults<Person> result = template.bind("Copenhagen", 18, 30).sort("name").findAll();
+ * }
+ * </pre>
+ * <p>
+ * Only fields on the queried class are supported, link queries must still be expressed through {@link RealmQuery}.
+ * Like {@link RealmQuery}, a template is confined to the thread of the Realm it was created from.
+ *
+ * @param <E> the class of the objects to be queried.
+ * @see Realm#queryTemplate(Class)
+ * @see DynamicRealm#queryTemplate(String)
+ */
+public class RealmQueryTemplate<E> {
+
+    private final BaseRealm realm;
+    private final RealmObjectSchema schema;
+    @Nullable private final Class<E> clazz;
+    @Nullable private final String className;
+
+    private final List<Long> operations = new ArrayList<>();
+    private final List<String> fieldNames = new ArrayList<>();
+    private int argumentCount = 0;
+
+    // Field resolution is cached for the schema version it was done against.
+    private long compiledSchemaVersion = -1;
+    @Nullable private long[] compiledConditions;
+    @Nullable private RealmFieldType[] compiledArgumentTypes;
+
+    static <E extends RealmModel> RealmQueryTemplate<E> createTemplate(Realm realm, Class<E> clazz) {
+        return new RealmQueryTemplate<>(realm, realm.getSchema().getSchemaForClass(clazz), clazz, null);
+    }
+
+    static RealmQueryTemplate<DynamicRealmObject> createDynamicTemplate(DynamicRealm realm, String className) {
+        return new RealmQueryTemplate<>(realm, realm.getSchema().getSchemaForClass(className), null, className);
+    }
+
+    private RealmQueryTemplate(BaseRealm realm, RealmObjectSchema schema, @Nullable Class<E> clazz, @Nullable String className) {
+        this.realm = realm;
+        this.schema = schema;
+        this.clazz = clazz;
+        this.className = className;
+    }
+
+    /**
+     * Equal-to comparison. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> equalTo(String fieldName) {
+        return equalTo(fieldName, Case.SENSITIVE);
+    }
+
+    /**
+     * Equal-to comparison. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @param casing    how to handle casing. Setting this to {@link Case#INSENSITIVE} only works for Latin-1 characters.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> equalTo(String fieldName, Case casing) {
+        return addCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_EQUAL : TableQuery.CONDITION_EQUAL_INSENSITIVE, fieldName, 1);
+    }
+
+    /**
+     * Not-equal-to comparison. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> notEqualTo(String fieldName) {
+        return notEqualTo(fieldName, Case.SENSITIVE);
+    }
+
+    /**
+     * Not-equal-to comparison. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @param casing    how to handle casing. Setting this to {@link Case#INSENSITIVE} only works for Latin-1 characters.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> notEqualTo(String fieldName, Case casing) {
+        return addCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_NOT_EQUAL : TableQuery.CONDITION_NOT_EQUAL_INSENSITIVE, fieldName, 1);
+    }
+
+    /**
+     * Greater-than comparison. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> greaterThan(String fieldName) {
+        return addCondition(TableQuery.CONDITION_GREATER, fieldName, 1);
+    }
+
+    /**
+     * Greater-than-or-equal-to comparison. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> greaterThanOrEqualTo(String fieldName) {
+        return addCondition(TableQuery.CONDITION_GREATER_EQUAL, fieldName, 1);
+    }
+
+    /**
+     * Less-than comparison. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> lessThan(String fieldName) {
+        return addCondition(TableQuery.CONDITION_LESS, fieldName, 1);
+    }
+
+    /**
+     * Less-than-or-equal-to comparison. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> lessThanOrEqualTo(String fieldName) {
+        return addCondition(TableQuery.CONDITION_LESS_EQUAL, fieldName, 1);
+    }
+
+    /**
+     * Between condition. Consumes two arguments, the inclusive lower and upper bound.
+     *
+     * @param fieldName the field to compare.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> between(String fieldName) {
+        return addCondition(TableQuery.CONDITION_BETWEEN, fieldName, 2);
+    }
+
+    /**
+     * Condition that the value of field begins with the specified string. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @param casing    how to handle casing. Setting this to {@link Case#INSENSITIVE} only works for Latin-1 characters.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> beginsWith(String fieldName, Case casing) {
+        return addCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_BEGINS_WITH : TableQuery.CONDITION_BEGINS_WITH_INSENSITIVE, fieldName, 1);
+    }
+
+    /**
+     * Condition that the value of field ends with the specified string. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @param casing    how to handle casing. Setting this to {@link Case#INSENSITIVE} only works for Latin-1 characters.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> endsWith(String fieldName, Case casing) {
+        return addCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_ENDS_WITH : TableQuery.CONDITION_ENDS_WITH_INSENSITIVE, fieldName, 1);
+    }
+
+    /**
+     * Condition that value of field contains the specified substring. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @param casing    how to handle casing. Setting this to {@link Case#INSENSITIVE} only works for Latin-1 characters.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> contains(String fieldName, Case casing) {
+        return addCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_CONTAINS : TableQuery.CONDITION_CONTAINS_INSENSITIVE, fieldName, 1);
+    }
+
+    /**
+     * Condition that the value of field matches with the specified wildcard pattern. Consumes one argument.
+     *
+     * @param fieldName the field to compare.
+     * @param casing    how to handle casing. Setting this to {@link Case#INSENSITIVE} only works for Latin-1 characters.
+     * @return the template.
+     * @see RealmQuery#like(String, String, Case)
+     */
+    public RealmQueryTemplate<E> like(String fieldName, Case casing) {
+        return addCondition((casing == Case.SENSITIVE) ? TableQuery.CONDITION_LIKE : TableQuery.CONDITION_LIKE_INSENSITIVE, fieldName, 1);
+    }
+
+    /**
+     * Tests if a field is {@code null}. Does not consume any arguments.
+     *
+     * @param fieldName the field name.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> isNull(String fieldName) {
+        return addCondition(TableQuery.CONDITION_IS_NULL, fieldName, 0);
+    }
+
+    /**
+     * Tests if a field is not {@code null}. Does not consume any arguments.
+     *
+     * @param fieldName the field name.
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> isNotNull(String fieldName) {
+        return addCondition(TableQuery.CONDITION_IS_NOT_NULL, fieldName, 0);
+    }
+
+    /**
+     * Begin grouping of conditions ("left parenthesis"). A group must be closed with a call to {@link #endGroup()}.
+     *
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> beginGroup() {
+        return addCondition(TableQuery.CONDITION_BEGIN_GROUP, null, 0);
+    }
+
+    /**
+     * End grouping of conditions ("right parenthesis") which was opened by a call to {@link #beginGroup()}.
+     *
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> endGroup() {
+        return addCondition(TableQuery.CONDITION_END_GROUP, null, 0);
+    }
+
+    /**
+     * Logical-or two conditions.
+     *
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> or() {
+        return addCondition(TableQuery.CONDITION_OR, null, 0);
+    }
+
+    /**
+     * Negate condition.
+     *
+     * @return the template.
+     */
+    public RealmQueryTemplate<E> not() {
+        return addCondition(TableQuery.CONDITION_NOT, null, 0);
+    }
+
+    /**
+     * Returns the number of arguments {@link #bind(Object...)} expects.
+     *
+     * @return the number of arguments consumed by the conditions of this template.
+     */
+    public int getArgumentCount() {
+        return argumentCount;
+    }
+
+    /**
+     * Creates a new {@link RealmQuery} with the conditions of this template applied to the given arguments. The
+     * returned query can be further refined, sorted or limited before it is run.
+     *
+     * @param arguments the values of the conditions, in the order the conditions were added.
+     * @return a new {@link RealmQuery} with the template conditions applied.
+     * @throws IllegalArgumentException if the number of arguments does not match {@link #getArgumentCount()} or an
+     *                                  argument does not match the type of its field.
+     */
+    public RealmQuery<E> bind(Object... arguments) {
+        realm.checkIfValid();
+
+        if (arguments.length != argumentCount) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "This template expects %d arguments, but %d were provided.", argumentCount, arguments.length));
+        }
+
+        compileIfNeeded();
+
+        RealmAny[] values = new RealmAny[arguments.length];
+        long[] argumentPtrs = new long[arguments.length];
+        try {
+            for (int i = 0; i < arguments.length; i++) {
+                //noinspection ConstantConditions
+                values[i] = toArgument(compiledArgumentTypes[i], arguments[i]);
+                argumentPtrs[i] = values[i].getNativePtr();
+            }
+        } catch (IllegalStateException cause) {
+            // This might happen if a template is bound with an unmanaged Realm object.
+            throw new IllegalArgumentException("Unmanaged Realm objects are not valid query arguments", cause);
+        }
+
+        RealmQuery<E> query = newQuery();
+        //noinspection ConstantConditions
+        query.applyConditions(compiledConditions, argumentPtrs);
+        return query;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RealmQuery<E> newQuery() {
+        if (className != null) {
+            return (RealmQuery<E>) RealmQuery.createDynamicQuery((DynamicRealm) realm, className);
+        }
+        //noinspection ConstantConditions
+        return (RealmQuery<E>) RealmQuery.createQuery((Realm) realm, (Class<? extends RealmModel>) clazz);
+    }
+
+    private RealmQueryTemplate<E> addCondition(long operation, @Nullable String fieldName, int arguments) {
+        realm.checkIfValid();
+        if (fieldName != null && fieldName.contains(".")) {
+            throw new IllegalArgumentException("Query templates do not support link queries: " + fieldName);
+        }
+        operations.add(operation);
+        fieldNames.add(fieldName);
+        argumentCount += arguments;
+        compiledConditions = null;
+        return this;
+    }
+
+    // Resolves field names to column keys. This only needs to happen once per schema version.
+    private void compileIfNeeded() {
+        long schemaVersion = realm.getVersion();
+        if (compiledConditions != null && compiledSchemaVersion == schemaVersion) {
+            return;
+        }
+
+        Table table = schema.getTable();
+        long[] conditions = new long[operations.size() * 2];
+        RealmFieldType[] argumentTypes = new RealmFieldType[argumentCount];
+        int argument = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            long operation = operations.get(i);
+            String fieldName = fieldNames.get(i);
+            long columnKey = 0;
+            if (fieldName != null) {
+                columnKey = schema.getAndCheckFieldColumnKey(fieldName);
+                RealmFieldType type = table.getColumnType(columnKey);
+                if (operation == TableQuery.CONDITION_BETWEEN) {
+                    argumentTypes[argument++] = type;
+                    argumentTypes[argument++] = type;
+                } else if (operation != TableQuery.CONDITION_IS_NULL && operation != TableQuery.CONDITION_IS_NOT_NULL) {
+                    argumentTypes[argument++] = type;
+                }
+            }
+            conditions[i * 2] = operation;
+            conditions[i * 2 + 1] = columnKey;
+        }
+
+        compiledConditions = conditions;
+        compiledArgumentTypes = argumentTypes;
+        compiledSchemaVersion = schemaVersion;
+    }
+
+    // The query engine compares typed columns against values of the same type, so numbers are widened or narrowed
+    // to the type of the column. The query language parser does the same when a predicate is parsed.
+    private static RealmAny toArgument(RealmFieldType columnType, @Nullable Object value) {
+        if (value == null) {
+            return RealmAny.nullValue();
+        }
+        if (value instanceof RealmAny) {
+            return (RealmAny) value;
+        }
+        if (value instanceof Number) {
+            Number number = (Number) value;
+            switch (columnType) {
+                case INTEGER:
+                    if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long) {
+                        return RealmAny.valueOf(number.longValue());
+                    }
+                    break;
+                case FLOAT:
+                    return RealmAny.valueOf(number.floatValue());
+                case DOUBLE:
+                    return RealmAny.valueOf(number.doubleValue());
+                default:
+                    break;
+            }
+        }
+        return RealmAny.valueOf(value);
+    }
+}
@@ -22,6 +22,7 @@ import android.os.Looper;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.Locale;
 import java.util.UUID;
@@ -30,6 +31,7 @@ import javax.annotation.Nullable;
 
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.realm.internal.CursorRow;
 import io.realm.internal.Freezable;
 import io.realm.internal.OsResults;
 import io.realm.internal.RealmObjectProxy;
@@ -70,9 +72,16 @@ import io.realm.rx.CollectionChange;
  */
 public class RealmResults<E> extends OrderedRealmCollectionImpl<E> {
 
+    // Set if the results were created by a query with profiling enabled, see RealmQuery#profile().
+    @Nullable private QueryPlan queryPlan;
+
     // Called from Realm Proxy classes
     @SuppressLint("unused")
     static <T extends RealmModel> RealmResults<T> createBacklinkResults(BaseRealm realm, Row row, Class<T> srcTableType, String srcFieldName) {
+        if (row instanceof CursorRow) {
+            // The proxy would cache the results of the object the cursor is currently positioned on.
+            throw new UnsupportedOperationException(CursorRow.COLLECTIONS_NOT_SUPPORTED_MESSAGE);
+        }
         UncheckedRow uncheckedRow = (UncheckedRow) row;
         Table srcTable = realm.getSchema().getTable(srcTableType);
         return new RealmResults<>(
@@ -153,6 +162,25 @@ public class RealmResults<E> extends OrderedRealmCollectionImpl<E> {
         return true;
     }
 
+    /**
+     * Returns the {@link QueryPlan} recorded for these results if they were returned by {@link RealmQuery#findAll()}
+     * on a query with profiling enabled through {@link RealmQuery#profile()}.
+     * <p>
+     * The plan describes the evaluation that produced these results. Results returned by
+     * {@link RealmQuery#findAllAsync()} are evaluated on a background thread and have no plan.
+     *
+     * @return the query plan, or {@code null} if profiling was not enabled.
+     */
+    @Nullable
+    public QueryPlan getQueryPlan() {
+        baseRealm.checkIfValid();
+        return queryPlan;
+    }
+
+    void setQueryPlan(QueryPlan queryPlan) {
+        this.queryPlan = queryPlan;
+    }
+
 
     /**
      * Updates the field given by {@code fieldName} in all objects inside the query result.
@@ -613,6 +641,338 @@ public class RealmResults<E> extends OrderedRealmCollectionImpl<E> {
         }
     }
 
+    /**
+     * Copies the values of an integer field of the objects {@code [start, start + count)} into an array using a
+     * single native call. Unlike reading the objects one by one, no object is created and native code is only entered
+     * once, which makes it suitable for e.g. rendering charts over many objects. {@code null} values are copied as
+     * {@code 0}.
+     *
+     * @param fieldName name of the field to read. Linked fields are not supported.
+     * @param dest the array to copy the values to.
+     * @param offset the index in {@code dest} of the first value.
+     * @param start the index of the first object to read.
+     * @param count the number of objects to read.
+     * @throws IllegalArgumentException if the field doesn't exist or isn't an integer field.
+     * @throws IndexOutOfBoundsException if the objects or the range in {@code dest} are out of bounds.
+     */
+    public void getLongColumn(String fieldName, long[] dest, int offset, int start, int count) {
+        long columnKey = getColumnKeyForBulkRead(fieldName, RealmFieldType.INTEGER);
+        checkBulkReadRange(dest.length, offset, count);
+        osResults.getLongColumn(columnKey, dest, offset, start, count);
+    }
+
+    /**
+     * Copies the values of an integer field of the objects {@code [start, start + count)} into a direct buffer
+     * starting at its current position. The values are written in native byte order, so the buffer should use
+     * {@link java.nio.ByteOrder#nativeOrder()}. The position of the buffer is not changed.
+     *
+     * @param fieldName name of the field to read. Linked fields are not supported.
+     * @param dest the direct buffer to copy the values to.
+     * @param start the index of the first object to read.
+     * @param count the number of objects to read.
+     * @throws IllegalArgumentException if the field doesn't exist or isn't an integer field, or the buffer isn't
+     * direct.
+     * @throws IndexOutOfBoundsException if the objects are out of bounds or the buffer has too little space remaining.
+     * @see #getLongColumn(String, long[], int, int, int)
+     */
+    public void getLongColumn(String fieldName, ByteBuffer dest, int start, int count) {
+        long columnKey = getColumnKeyForBulkRead(fieldName, RealmFieldType.INTEGER);
+        checkBulkReadBuffer(dest, count, 8);
+        osResults.getColumn(columnKey, OsResults.COLUMN_VALUE_LONG, dest, start, count);
+    }
+
+    /**
+     * Copies the values of a double field of the objects {@code [start, start + count)} into an array using a single
+     * native call. {@code null} values are copied as {@link Double#NaN}.
+     *
+     * @see #getLongColumn(String, long[], int, int, int)
+     */
+    public void getDoubleColumn(String fieldName, double[] dest, int offset, int start, int count) {
+        long columnKey = getColumnKeyForBulkRead(fieldName, RealmFieldType.DOUBLE);
+        checkBulkReadRange(dest.length, offset, count);
+        osResults.getDoubleColumn(columnKey, dest, offset, start, count);
+    }
+
+    /**
+     * Copies the values of a double field of the objects {@code [start, start + count)} into a direct buffer.
+     *
+     * @see #getLongColumn(String, ByteBuffer, int, int)
+     */
+    public void getDoubleColumn(String fieldName, ByteBuffer dest, int start, int count) {
+        long columnKey = getColumnKeyForBulkRead(fieldName, RealmFieldType.DOUBLE);
+        checkBulkReadBuffer(dest, count, 8);
+        osResults.getColumn(columnKey, OsResults.COLUMN_VALUE_DOUBLE, dest, start, count);
+    }
+
+    /**
+     * Copies the values of a float field of the objects {@code [start, start + count)} into an array using a single
+     * native call. {@code null} values are copied as {@link Float#NaN}.
+     *
+     * @see #getLongColumn(String, long[], int, int, int)
+     */
+    public void getFloatColumn(String fieldName, float[] dest, int offset, int start, int count) {
+        long columnKey = getColumnKeyForBulkRead(fieldName, RealmFieldType.FLOAT);
+        checkBulkReadRange(dest.length, offset, count);
+        osResults.getFloatColumn(columnKey, dest, offset, start, count);
+    }
+
+    /**
+     * Copies the values of a float field of the objects {@code [start, start + count)} into a direct buffer.
+     *
+     * @see #getLongColumn(String, ByteBuffer, int, int)
+     */
+    public void getFloatColumn(String fieldName, ByteBuffer dest, int start, int count) {
+        long columnKey = getColumnKeyForBulkRead(fieldName, RealmFieldType.FLOAT);
+        checkBulkReadBuffer(dest, count, 4);
+        osResults.getColumn(columnKey, OsResults.COLUMN_VALUE_FLOAT, dest, start, count);
+    }
+
+    /**
+     * Copies the values of a {@link Date} field of the objects {@code [start, start + count)} into an array as
+     * milliseconds since the epoch, using a single native call. {@code null} values are copied as {@code 0}.
+     *
+     * @see #getLongColumn(String, long[], int, int, int)
+     */
+    public void getTimestampColumn(String fieldName, long[] dest, int offset, int start, int count) {
+        long columnKey = getColumnKeyForBulkRead(fieldName, RealmFieldType.DATE);
+        checkBulkReadRange(dest.length, offset, count);
+        osResults.getTimestampColumn(columnKey, dest, offset, start, count);
+    }
+
+    /**
+     * Copies the values of a {@link Date} field of the objects {@code [start, start + count)} into a direct buffer as
+     * milliseconds since the epoch.
+     *
+     * @see #getLongColumn(String, ByteBuffer, int, int)
+     */
+    public void getTimestampColumn(String fieldName, ByteBuffer dest, int start, int count) {
+        long columnKey = getColumnKeyForBulkRead(fieldName, RealmFieldType.DATE);
+        checkBulkReadBuffer(dest, count, 8);
+        osResults.getColumn(columnKey, OsResults.COLUMN_VALUE_TIMESTAMP, dest, start, count);
+    }
+
+    /**
+     * Sets the value of an integer field on every object in the collection, {@code values[i]} on the object at index
+     * {@code i}, using a single native call. This avoids calling a setter and entering native code once per object.
+     *
+     * @param fieldName name of the field to update. Linked fields are not supported.
+     * @param values the new values, one per object in the collection.
+     * @throws IllegalArgumentException if the field doesn't exist, is a primary key or isn't an integer field, or if
+     * the number of values doesn't match the size of the collection.
+     * @throws IllegalStateException if not inside a write transaction.
+     */
+    public void setLongColumn(String fieldName, long[] values) {
+        long columnKey = getColumnKeyForBulkWrite(fieldName, RealmFieldType.INTEGER, values.length);
+        osResults.setLongColumn(columnKey, values);
+    }
+
+    /**
+     * Sets the value of a double field on every object in the collection, {@code values[i]} on the object at index
+     * {@code i}, using a single native call.
+     *
+     * @see #setLongColumn(String, long[])
+     */
+    public void setDoubleColumn(String fieldName, double[] values) {
+        long columnKey = getColumnKeyForBulkWrite(fieldName, RealmFieldType.DOUBLE, values.length);
+        osResults.setDoubleColumn(columnKey, values);
+    }
+
+    /**
+     * Sets the value of a float field on every object in the collection, {@code values[i]} on the object at index
+     * {@code i}, using a single native call.
+     *
+     * @see #setLongColumn(String, long[])
+     */
+    public void setFloatColumn(String fieldName, float[] values) {
+        long columnKey = getColumnKeyForBulkWrite(fieldName, RealmFieldType.FLOAT, values.length);
+        osResults.setFloatColumn(columnKey, values);
+    }
+
+    /**
+     * Sets the value of a boolean field on every object in the collection, {@code values[i]} on the object at index
+     * {@code i}, using a single native call.
+     *
+     * @see #setLongColumn(String, long[])
+     */
+    public void setBooleanColumn(String fieldName, boolean[] values) {
+        long columnKey = getColumnKeyForBulkWrite(fieldName, RealmFieldType.BOOLEAN, values.length);
+        osResults.setBooleanColumn(columnKey, values);
+    }
+
+    /**
+     * Sets the value of a {@link Date} field on every object in the collection, {@code values[i]} milliseconds since
+     * the epoch on the object at index {@code i}, using a single native call.
+     *
+     * @see #setLongColumn(String, long[])
+     */
+    public void setTimestampColumn(String fieldName, long[] values) {
+        long columnKey = getColumnKeyForBulkWrite(fieldName, RealmFieldType.DATE, values.length);
+        osResults.setTimestampColumn(columnKey, values);
+    }
+
+    /**
+     * Sets the value of a String field on every object in the collection, {@code values[i]} on the object at index
+     * {@code i}, using a single native call.
+     *
+     * @throws IllegalArgumentException if the field is required and {@code values} contains {@code null}.
+     * @see #setLongColumn(String, long[])
+     */
+    public void setStringColumn(String fieldName, String[] values) {
+        long columnKey = getColumnKeyForBulkWrite(fieldName, RealmFieldType.STRING, values.length);
+        if (!osResults.getTable().isColumnNullable(columnKey) && containsNull(values)) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Field '%s' is required and cannot be set to null.", fieldName));
+        }
+        osResults.setStringColumn(columnKey, values);
+    }
+
+    /**
+     * Updates a field of every object in the collection with a single native call, e.g. to increment a counter or set
+     * a flag on all objects without calling a setter per object.
+     *
+     * @param fieldName name of the field to update. Linked fields are not supported.
+     * @param expression the update to apply.
+     * @throws IllegalArgumentException if the field doesn't exist, is a primary key or its type isn't supported by the
+     * expression.
+     * @throws IllegalStateException if not inside a write transaction.
+     * @see UpdateExpression
+     */
+    public void update(String fieldName, UpdateExpression expression) {
+        checkNonEmptyFieldName(fieldName);
+        //noinspection ConstantConditions
+        if (expression == null) {
+            throw new IllegalArgumentException("Non-null 'expression' required.");
+        }
+        baseRealm.checkIfValidAndInTransaction();
+        fieldName = mapFieldNameToInternalName(fieldName);
+        Table table = osResults.getTable();
+        RealmFieldType fieldType = baseRealm.getSchema().get(table.getClassName()).getFieldType(fieldName);
+        long columnKey = table.getColumnKey(fieldName);
+        long otherColumnKey = Table.NO_MATCH;
+        byte operation;
+        long longValue = expression.getLongValue();
+        switch (expression.getType()) {
+            case INCREMENT:
+                checkUpdateType(expression, fieldName, fieldType, RealmFieldType.INTEGER, RealmFieldType.FLOAT, RealmFieldType.DOUBLE);
+                operation = expression.isDouble() ? OsResults.UPDATE_ADD_DOUBLE : OsResults.UPDATE_ADD_LONG;
+                break;
+            case MULTIPLY:
+                checkUpdateType(expression, fieldName, fieldType, RealmFieldType.INTEGER, RealmFieldType.FLOAT, RealmFieldType.DOUBLE);
+                operation = OsResults.UPDATE_MULTIPLY;
+                break;
+            case COPY_FROM:
+                checkUpdateType(expression, fieldName, fieldType, RealmFieldType.INTEGER, RealmFieldType.BOOLEAN,
+                        RealmFieldType.STRING, RealmFieldType.BINARY, RealmFieldType.DATE, RealmFieldType.FLOAT,
+                        RealmFieldType.DOUBLE, RealmFieldType.DECIMAL128, RealmFieldType.OBJECT_ID,
+                        RealmFieldType.UUID, RealmFieldType.MIXED);
+                //noinspection ConstantConditions
+                String otherFieldName = mapFieldNameToInternalName(expression.getStringValue());
+                otherColumnKey = table.getColumnKey(otherFieldName);
+                if (otherColumnKey == Table.NO_MATCH || table.getColumnType(otherColumnKey) != fieldType) {
+                    throw new IllegalArgumentException(String.format(Locale.US,
+                            "Field '%s' must have the same type as '%s'.", otherFieldName, fieldName));
+                }
+                if (!table.isColumnNullable(columnKey) && table.isColumnNullable(otherColumnKey)) {
+                    throw new IllegalArgumentException(String.format(Locale.US,
+                            "Nullable field '%s' cannot be copied to required field '%s'.", otherFieldName, fieldName));
+                }
+                operation = OsResults.UPDATE_COPY;
+                break;
+            case NOW:
+                checkUpdateType(expression, fieldName, fieldType, RealmFieldType.DATE);
+                operation = OsResults.UPDATE_SET_TIMESTAMP;
+                longValue = System.currentTimeMillis();
+                break;
+            case APPEND:
+                checkUpdateType(expression, fieldName, fieldType, RealmFieldType.STRING);
+                operation = OsResults.UPDATE_APPEND;
+                break;
+            case PREPEND:
+                checkUpdateType(expression, fieldName, fieldType, RealmFieldType.STRING);
+                operation = OsResults.UPDATE_PREPEND;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported expression: " + expression);
+        }
+        osResults.update(columnKey, operation, longValue, expression.getDoubleValue(), expression.getStringValue(),
+                otherColumnKey);
+    }
+
+    private static void checkUpdateType(UpdateExpression expression, String fieldName, RealmFieldType fieldType,
+            RealmFieldType... supportedTypes) {
+        for (RealmFieldType supportedType : supportedTypes) {
+            if (fieldType == supportedType) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException(String.format(Locale.US,
+                "%s is not supported for field '%s' of type %s.", expression, fieldName, fieldType));
+    }
+
+    private long getColumnKeyForBulkWrite(String fieldName, RealmFieldType expectedFieldType, int valueCount) {
+        checkNonEmptyFieldName(fieldName);
+        baseRealm.checkIfValidAndInTransaction();
+        fieldName = mapFieldNameToInternalName(fieldName);
+        checkType(fieldName, expectedFieldType);
+        if (valueCount != size()) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "The number of values (%d) doesn't match the number of objects (%d).", valueCount, size()));
+        }
+        return osResults.getTable().getColumnKey(fieldName);
+    }
+
+    private static boolean containsNull(Object[] values) {
+        for (Object value : values) {
+            if (value == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long getColumnKeyForBulkRead(String fieldName, RealmFieldType expectedFieldType) {
+        checkNonEmptyFieldName(fieldName);
+        baseRealm.checkIfValid();
+        fieldName = mapFieldNameToInternalName(fieldName);
+        checkType(fieldName, expectedFieldType);
+        return osResults.getTable().getColumnKey(fieldName);
+    }
+
+    private static void checkBulkReadRange(int length, int offset, int count) {
+        if (offset < 0 || count < 0 || offset > length - count) {
+            throw new IndexOutOfBoundsException(String.format(Locale.US,
+                    "Cannot copy %d values to offset %d of an array of length %d.", count, offset, length));
+        }
+    }
+
+    private static void checkBulkReadBuffer(ByteBuffer buffer, int count, int valueSize) {
+        if (!buffer.isDirect()) {
+            throw new IllegalArgumentException("Only direct ByteBuffers are supported.");
+        }
+        if (count < 0 || (long) count * valueSize > buffer.remaining()) {
+            throw new IndexOutOfBoundsException(String.format(Locale.US,
+                    "Cannot copy %d values to a buffer with %d bytes remaining.", count, buffer.remaining()));
+        }
+    }
+
+    /**
+     * Returns a {@link RealmCursor} reading the objects of this collection through a single object which is moved
+     * from object to object, instead of creating an object for each of them. The cursor iterates a snapshot of the
+     * collection taken when this method is called.
+     *
+     * @return a cursor positioned before the first object.
+     * @throws UnsupportedOperationException if this collection doesn't contain Realm objects.
+     * @throws IllegalStateException if the Realm is closed or the method is called from the wrong thread.
+     * @see RealmCursor
+     */
+    public RealmCursor<E> cursor() {
+        baseRealm.checkIfValid();
+        if (!(operator instanceof ModelCollectionOperator)) {
+            throw new UnsupportedOperationException("cursor() is only supported for collections of Realm objects.");
+        }
+        return new RealmCursor<>(baseRealm, osResults.createSnapshot(), classSpec, className);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -19,6 +19,7 @@ package io.realm;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -50,6 +51,10 @@ public abstract class RealmSchema {
     private final Map<Class<? extends RealmModel>, RealmObjectSchema> classToSchema = new HashMap<>();
     // Caches Class Strings to their Schema object
     private final Map<String, RealmObjectSchema> dynamicClassToSchema = new HashMap<>();
+    // Caches class names to the column details of the fields accessed through DynamicRealmObject. Frozen objects of
+    // the same Realm can be read from multiple threads, so both levels of the cache are concurrent.
+    private final ConcurrentHashMap<String, Map<String, ColumnInfo.ColumnDetails>> dynamicClassToColumnDetails =
+            new ConcurrentHashMap<>();
     // Native pointer
     private OsKeyPathMapping keyPathMapping = null;
     final BaseRealm realm;
@@ -248,6 +253,34 @@ public abstract class RealmSchema {
         return dynamicClassToSchema.remove(name);
     }
 
+    /**
+     * Returns the cache of column details, by field name, of the given class. The returned map is shared by all
+     * {@link DynamicRealmObject}s of the class and emptied when the schema changes.
+     */
+    final Map<String, ColumnInfo.ColumnDetails> getDynamicColumnDetails(String className) {
+        Map<String, ColumnInfo.ColumnDetails> columnDetails = dynamicClassToColumnDetails.get(className);
+        if (columnDetails == null) {
+            Map<String, ColumnInfo.ColumnDetails> newColumnDetails = new ConcurrentHashMap<>();
+            columnDetails = dynamicClassToColumnDetails.putIfAbsent(className, newColumnDetails);
+            if (columnDetails == null) {
+                columnDetails = newColumnDetails;
+            }
+        }
+        return columnDetails;
+    }
+
+    /**
+     * Empties the column details cached for {@link DynamicRealmObject}s. Must be called whenever a field is removed,
+     * renamed or changes column.
+     */
+    final void clearDynamicColumnDetails() {
+        // Dynamic objects keep a reference to the map of their class, so these must be emptied as well.
+        for (Map<String, ColumnInfo.ColumnDetails> columnDetails : dynamicClassToColumnDetails.values()) {
+            columnDetails.clear();
+        }
+        dynamicClassToColumnDetails.clear();
+    }
+
     final OsKeyPathMapping getKeyPathMapping() {
         return keyPathMapping;
     }
@@ -276,5 +309,6 @@ public abstract class RealmSchema {
         classToTable.clear();
         classToSchema.clear();
         dynamicClassToSchema.clear();
+        clearDynamicColumnDetails();
     }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * An update to apply to a field of every object in a {@link RealmResults} with
+ * {@link RealmResults#update(String, UpdateExpression)}.
+ * <p>
+ * The update is evaluated in native code for all objects at once, so e.g. marking all notifications as read or decaying
+ * all scores only costs a single call instead of one setter per object:
+ *
+ * <pre>
+ * {@code
+ * realm.executeTransaction(r -> {
+ *     r.where(Player.class).findAll().update("score", UpdateExpression.multiply(0.9));
+ *     r.where(Notification.class).equalTo("read", false).findAll().update("readAt", UpdateExpression.now());
+ * });
+ * }
+ * </pre>
+ *
+ * Arithmetic, append and prepend updates leave {@code null} values unchanged.
+ */
+public final class UpdateExpression {
+
+    /**
+     * The kind of update.
+     */
+    public enum Type {
+        /**
+         * Adds a number to an int, float or double field.
+         */
+        INCREMENT,
+        /**
+         * Multiplies an int, float or double field by a number.
+         */
+        MULTIPLY,
+        /**
+         * Sets the field to the value of another field of the same type.
+         */
+        COPY_FROM,
+        /**
+         * Sets a Date field to the current time.
+         */
+        NOW,
+        /**
+         * Appends a string to a String field.
+         */
+        APPEND,
+        /**
+         * Prepends a string to a String field.
+         */
+        PREPEND
+    }
+
+    /**
+     * Adds {@code delta} to an int, float or double field. Int fields wrap around on overflow like
+     * {@link MutableRealmInteger#increment(long)}.
+     *
+     * @param delta the value to add.
+     */
+    public static UpdateExpression increment(long delta) {
+        return new UpdateExpression(Type.INCREMENT, delta, 0, false, null);
+    }
+
+    /**
+     * Adds {@code delta} to an int, float or double field. The result is rounded to the nearest integer for int
+     * fields.
+     *
+     * @param delta the value to add.
+     */
+    public static UpdateExpression increment(double delta) {
+        return new UpdateExpression(Type.INCREMENT, 0, delta, true, null);
+    }
+
+    /**
+     * Subtracts {@code delta} from an int, float or double field.
+     *
+     * @param delta the value to subtract.
+     * @see #increment(long)
+     */
+    public static UpdateExpression decrement(long delta) {
+        return increment(-delta);
+    }
+
+    /**
+     * Subtracts {@code delta} from an int, float or double field.
+     *
+     * @param delta the value to subtract.
+     * @see #increment(double)
+     */
+    public static UpdateExpression decrement(double delta) {
+        return increment(-delta);
+    }
+
+    /**
+     * Multiplies an int, float or double field by {@code factor}. The result is rounded to the nearest integer for int
+     * fields.
+     *
+     * @param factor the value to multiply with.
+     */
+    public static UpdateExpression multiply(double factor) {
+        return new UpdateExpression(Type.MULTIPLY, 0, factor, true, null);
+    }
+
+    /**
+     * Sets the field to the value of another field of the same object. Both fields must have the same type, and the
+     * other field can only be nullable if the updated field is. Dotted field names are not supported.
+     *
+     * @param fieldName the field to copy the value from.
+     */
+    public static UpdateExpression copyFrom(String fieldName) {
+        //noinspection ConstantConditions
+        if (fieldName == null || fieldName.isEmpty()) {
+            throw new IllegalArgumentException("Non-empty 'fieldName' required.");
+        }
+        return new UpdateExpression(Type.COPY_FROM, 0, 0, false, fieldName);
+    }
+
+    /**
+     * Sets a Date field to the current time. All objects get the same value.
+     */
+    public static UpdateExpression now() {
+        return new UpdateExpression(Type.NOW, 0, 0, false, null);
+    }
+
+    /**
+     * Appends {@code suffix} to a String field. {@code null} values are left unchanged.
+     *
+     * @param suffix the string to append.
+     */
+    public static UpdateExpression append(String suffix) {
+        return new UpdateExpression(Type.APPEND, 0, 0, false, checkString(suffix));
+    }
+
+    /**
+     * Prepends {@code prefix} to a String field. {@code null} values are left unchanged.
+     *
+     * @param prefix the string to prepend.
+     */
+    public static UpdateExpression prepend(String prefix) {
+        return new UpdateExpression(Type.PREPEND, 0, 0, false, checkString(prefix));
+    }
+
+    private static String checkString(String value) {
+        //noinspection ConstantConditions
+        if (value == null) {
+            throw new IllegalArgumentException("Non-null 'value' required.");
+        }
+        return value;
+    }
+
+    private final Type type;
+    private final long longValue;
+    private final double doubleValue;
+    private final boolean isDouble;
+    @Nullable
+    private final String stringValue;
+
+    private UpdateExpression(Type type, long longValue, double doubleValue, boolean isDouble,
+            @Nullable String stringValue) {
+        this.type = type;
+        this.longValue = longValue;
+        this.doubleValue = doubleValue;
+        this.isDouble = isDouble;
+        this.stringValue = stringValue;
+    }
+
+    /**
+     * Returns the kind of update.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    long getLongValue() {
+        return longValue;
+    }
+
+    double getDoubleValue() {
+        return doubleValue;
+    }
+
+    boolean isDouble() {
+        return isDouble;
+    }
+
+    @Nullable
+    String getStringValue() {
+        return stringValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        UpdateExpression that = (UpdateExpression) o;
+        return type == that.type
+                && longValue == that.longValue
+                && Double.compare(doubleValue, that.doubleValue) == 0
+                && isDouble == that.isDouble
+                && (stringValue != null ? stringValue.equals(that.stringValue) : that.stringValue == null);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = type.hashCode();
+        result = 31 * result + (int) (longValue ^ (longValue >>> 32));
+        long doubleBits = Double.doubleToLongBits(doubleValue);
+        result = 31 * result + (int) (doubleBits ^ (doubleBits >>> 32));
+        result = 31 * result + (isDouble ? 1 : 0);
+        result = 31 * result + (stringValue != null ? stringValue.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case INCREMENT:
+            case MULTIPLY:
+                return String.format(Locale.US, "%s(%s)", type.name(), isDouble ? doubleValue : longValue);
+            case NOW:
+                return type.name();
+            default:
+                return String.format(Locale.US, "%s(%s)", type.name(), stringValue);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package io.realm.internal;
 
+import java.nio.ByteBuffer;
 import java.util.Locale;
 
 import io.realm.RealmFieldType;
@@ -214,6 +215,9 @@ public class CheckedRow extends UncheckedRow {
     @Override
     protected native byte[] nativeGetByteArray(long nativePtr, long columnIndex);
 
+    @Override
+    protected native ByteBuffer nativeGetBinaryBuffer(long nativePtr, long columnIndex);
+
     @Override
     protected native void nativeSetLong(long nativeRowPtr, long columnIndex, long value);
 
@@ -238,6 +242,9 @@ public class CheckedRow extends UncheckedRow {
     @Override
     protected native void nativeSetByteArray(long nativePtr, long columnIndex, byte[] data);
 
+    @Override
+    protected native void nativeSetBinaryBuffer(long nativePtr, long columnIndex, ByteBuffer data, int position, int length);
+
     @Override
     protected native void nativeSetLink(long nativeRowPtr, long columnIndex, long value);
 
@@ -248,11 +255,11 @@ public class CheckedRow extends UncheckedRow {
     protected native long[] nativeGetDecimal128(long nativePtr, long columnKey);
 
     @Override
-    protected native String nativeGetObjectId(long nativePtr, long columnKey);
+    protected native byte[] nativeGetObjectId(long nativePtr, long columnKey);
 
     @Override
     protected native void nativeSetDecimal128(long nativePtr, long columnKey, long low, long high);
 
     @Override
-    protected native void nativeSetObjectId(long nativePtr, long columnKey, String value);
+    protected native void nativeSetObjectId(long nativePtr, long columnKey, byte[] value);
 }
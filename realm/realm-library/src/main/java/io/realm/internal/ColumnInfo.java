@@ -68,7 +68,7 @@ public abstract class ColumnInfo {
         public final RealmFieldType columnType;
         public final String linkedClassName;
 
-        private ColumnDetails(long columnKey, RealmFieldType columnType, @Nullable String linkedClassName) {
+        public ColumnDetails(long columnKey, RealmFieldType columnType, @Nullable String linkedClassName) {
             // invariant: (columnType == OBJECT || columnType == LIST || columnType == LINKING_OBJECTS) == (linkedClassName != null)
             this.columnKey = columnKey;
             this.columnType = columnType;
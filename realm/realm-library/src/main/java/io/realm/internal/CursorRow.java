@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal;
+
+import io.realm.RealmFieldType;
+
+
+/**
+ * An {@link UncheckedRow} which is moved between the objects of an {@link OsResults} by
+ * {@link OsResults#moveCursorRow(CursorRow, int)} instead of a new row being created for each object.
+ * <p>
+ * Proxies cache the collections they return, and a cached collection would keep pointing to the object the row was
+ * positioned on when it was created. Collections can therefore not be read through this row.
+ */
+public class CursorRow extends UncheckedRow {
+
+    public static final String COLLECTIONS_NOT_SUPPORTED_MESSAGE = "Collection and linking objects fields cannot be " +
+            "read through a RealmCursor. Use RealmResults.get(int) to read these fields.";
+
+    CursorRow(NativeContext context, Table parent, long nativePtr) {
+        super(context, parent, nativePtr);
+    }
+
+    @Override
+    public OsList getModelList(long columnKey) {
+        throw new UnsupportedOperationException(COLLECTIONS_NOT_SUPPORTED_MESSAGE);
+    }
+
+    @Override
+    public OsList getValueList(long columnKey, RealmFieldType fieldType) {
+        throw new UnsupportedOperationException(COLLECTIONS_NOT_SUPPORTED_MESSAGE);
+    }
+
+    @Override
+    public OsMap getRealmAnyMap(long columnKey) {
+        throw new UnsupportedOperationException(COLLECTIONS_NOT_SUPPORTED_MESSAGE);
+    }
+
+    @Override
+    public OsMap getModelMap(long columnKey) {
+        throw new UnsupportedOperationException(COLLECTIONS_NOT_SUPPORTED_MESSAGE);
+    }
+
+    @Override
+    public OsMap getValueMap(long columnKey, RealmFieldType fieldType) {
+        throw new UnsupportedOperationException(COLLECTIONS_NOT_SUPPORTED_MESSAGE);
+    }
+
+    @Override
+    public OsSet getRealmAnySet(long columnKey) {
+        throw new UnsupportedOperationException(COLLECTIONS_NOT_SUPPORTED_MESSAGE);
+    }
+
+    @Override
+    public OsSet getModelSet(long columnKey) {
+        throw new UnsupportedOperationException(COLLECTIONS_NOT_SUPPORTED_MESSAGE);
+    }
+
+    @Override
+    public OsSet getValueSet(long columnKey, RealmFieldType fieldType) {
+        throw new UnsupportedOperationException(COLLECTIONS_NOT_SUPPORTED_MESSAGE);
+    }
+}
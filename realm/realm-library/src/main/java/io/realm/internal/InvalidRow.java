@@ -19,6 +19,7 @@ package io.realm.internal;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.UUID;
 
@@ -100,6 +101,11 @@ public enum InvalidRow implements Row {
         throw getStubException();
     }
 
+    @Override
+    public ByteBuffer getBinaryBuffer(long columnKey) {
+        throw getStubException();
+    }
+
     @Override
     public Decimal128 getDecimal128(long columnKey) {
         throw getStubException();
@@ -205,6 +211,11 @@ public enum InvalidRow implements Row {
         throw getStubException();
     }
 
+    @Override
+    public void setBinaryBuffer(long columnKey, ByteBuffer data) {
+        throw getStubException();
+    }
+
     @Override
     public void setLink(long columnKey, long value) {
         throw getStubException();
@@ -10,6 +10,7 @@ import javax.annotation.Nullable;
 
 import io.realm.OrderedRealmCollectionChangeListener;
 import io.realm.RealmChangeListener;
+import io.realm.internal.core.NativeRealmAnyCollection;
 
 /**
  * Java wrapper of Object Store List class. This backs managed versions of RealmList.
@@ -269,6 +270,59 @@ public class OsList implements NativeObject, ObservableCollection, OsCollection
         return nativeGetValue(nativePtr, pos);
     }
 
+    /**
+     * Returns the element at the given position of a list of integers without boxing it. {@code null} is returned
+     * as {@code 0}.
+     */
+    public long getLong(long pos) {
+        return nativeGetLong(nativePtr, pos);
+    }
+
+    /**
+     * Returns the element at the given position of a list of doubles without boxing it. {@code null} is returned
+     * as {@link Double#NaN}.
+     */
+    public double getDouble(long pos) {
+        return nativeGetDouble(nativePtr, pos);
+    }
+
+    /**
+     * Copies {@code count} elements of a list of integers, starting at {@code start}, into {@code dest} at
+     * {@code offset} using a single JNI call. {@code null} elements are copied as {@code 0}.
+     */
+    public void getLongs(long start, long[] dest, int offset, int count) {
+        nativeGetLongs(nativePtr, start, dest, offset, count);
+    }
+
+    /**
+     * Copies {@code count} elements of a list of doubles, starting at {@code start}, into {@code dest} at
+     * {@code offset} using a single JNI call. {@code null} elements are copied as {@link Double#NaN}.
+     */
+    public void getDoubles(long start, double[] dest, int offset, int count) {
+        nativeGetDoubles(nativePtr, start, dest, offset, count);
+    }
+
+    /**
+     * Appends {@code count} values of {@code values}, starting at {@code offset}, using a single JNI call.
+     */
+    public void addLongs(long[] values, int offset, int count) {
+        nativeAddLongs(nativePtr, values, offset, count);
+    }
+
+    /**
+     * Appends {@code count} values of {@code values}, starting at {@code offset}, using a single JNI call.
+     */
+    public void addDoubles(double[] values, int offset, int count) {
+        nativeAddDoubles(nativePtr, values, offset, count);
+    }
+
+    /**
+     * Inserts all values of the collection at the given position using a single JNI call.
+     */
+    public void insertAll(long pos, NativeRealmAnyCollection values) {
+        nativeInsertAll(nativePtr, pos, values.getNativePtr());
+    }
+
     public void move(long sourceIndex, long targetIndex) {
         nativeMove(nativePtr, sourceIndex, targetIndex);
     }
@@ -476,6 +530,20 @@ public class OsList implements NativeObject, ObservableCollection, OsCollection
 
     private static native Object nativeGetValue(long nativePtr, long pos);
 
+    private static native long nativeGetLong(long nativePtr, long pos);
+
+    private static native double nativeGetDouble(long nativePtr, long pos);
+
+    private static native void nativeGetLongs(long nativePtr, long start, long[] dest, int offset, int count);
+
+    private static native void nativeGetDoubles(long nativePtr, long start, double[] dest, int offset, int count);
+
+    private static native void nativeAddLongs(long nativePtr, long[] values, int offset, int count);
+
+    private static native void nativeAddDoubles(long nativePtr, double[] values, int offset, int count);
+
+    private static native void nativeInsertAll(long nativePtr, long pos, long realmAnyCollectionPtr);
+
     private native void nativeStartListening(long nativePtr);
 
     private native void nativeStopListening(long nativePtr);
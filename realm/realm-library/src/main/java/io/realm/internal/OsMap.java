@@ -26,6 +26,7 @@ import javax.annotation.Nullable;
 
 import io.realm.internal.android.TypeUtils;
 import io.realm.internal.core.NativeRealmAny;
+import io.realm.internal.core.NativeRealmAnyCollection;
 import io.realm.internal.util.Pair;
 
 /**
@@ -210,6 +211,22 @@ public class OsMap implements NativeObject {
         nativePutRealmAny(nativePtr, (String) key, nativeRealmAnyPtr);
     }
 
+    /**
+     * Puts all values with the corresponding keys using a single JNI call. {@code values} must contain one value per
+     * key, in the same order.
+     */
+    public void putAll(String[] keys, NativeRealmAnyCollection values) {
+        try {
+            nativePutAll(nativePtr, keys, values.getNativePtr());
+        } catch (IllegalArgumentException e) {
+            if (e.getMessage().contains("Value cannot be null")) {
+                throw new NullPointerException(e.getMessage());
+            } else {
+                throw e;
+            }
+        }
+    }
+
     // TODO: add more put methods for different value types ad-hoc
 
     public void remove(Object key) {
@@ -311,6 +328,8 @@ public class OsMap implements NativeObject {
 
     private static native void nativePutRow(long nativePtr, String key, long objKey);
 
+    private static native void nativePutAll(long nativePtr, String[] keys, long realmAnyCollectionPtr);
+
     private static native long nativeSize(long nativePtr);
 
     private static native boolean nativeContainsKey(long nativePtr, String key);
@@ -209,15 +209,18 @@ public class OsObject implements NativeObject {
                     nativeCreateNewObjectWithLongPrimaryKey(sharedRealm.getNativePtr(), table.getNativePtr(),
                             primaryKeyColumnKey, value, primaryKeyValue == null));
         } else if (type == RealmFieldType.OBJECT_ID) {
-            String objectIdValue = primaryKeyValue == null ? null : primaryKeyValue.toString();
+            byte[] objectIdValue = primaryKeyValue == null ? null : toObjectId(primaryKeyValue).toByteArray();
             return new UncheckedRow(sharedRealm.context, table,
                     nativeCreateNewObjectWithObjectIdPrimaryKey(sharedRealm.getNativePtr(), table.getNativePtr(),
                             primaryKeyColumnKey, objectIdValue));
         } else if (type == RealmFieldType.UUID) {
-            String uuidValue = primaryKeyValue == null ? null : primaryKeyValue.toString();
+            UUID uuidValue = primaryKeyValue == null ? null : toUUID(primaryKeyValue);
             return new UncheckedRow(sharedRealm.context, table,
                     nativeCreateNewObjectWithUUIDPrimaryKey(sharedRealm.getNativePtr(), table.getNativePtr(),
-                            primaryKeyColumnKey, uuidValue));
+                            primaryKeyColumnKey,
+                            uuidValue == null ? 0 : uuidValue.getMostSignificantBits(),
+                            uuidValue == null ? 0 : uuidValue.getLeastSignificantBits(),
+                            uuidValue == null));
         } else {
             throw new RealmException("Cannot check for duplicate rows for unsupported primary key type: " + type);
         }
@@ -253,21 +256,32 @@ public class OsObject implements NativeObject {
             if (primaryKeyValue != null && !(primaryKeyValue instanceof ObjectId)) {
                 throw new IllegalArgumentException("Primary key value is not an ObjectId: " + primaryKeyValue);
             }
-            String objectIdValue = primaryKeyValue == null ? null : primaryKeyValue.toString();
+            byte[] objectIdValue = primaryKeyValue == null ? null : ((ObjectId) primaryKeyValue).toByteArray();
             return nativeCreateRowWithObjectIdPrimaryKey(sharedRealm.getNativePtr(), table.getNativePtr(),
                     primaryKeyColumnIndex, objectIdValue);
         } else if (type == RealmFieldType.UUID) {
             if (primaryKeyValue != null && !(primaryKeyValue instanceof UUID)) {
                 throw new IllegalArgumentException("Primary key value is not an UUID: " + primaryKeyValue);
             }
-            String uuidValue = primaryKeyValue == null ? null : primaryKeyValue.toString();
+            UUID uuidValue = (UUID) primaryKeyValue;
             return nativeCreateRowWithUUIDPrimaryKey(sharedRealm.getNativePtr(), table.getNativePtr(),
-                    primaryKeyColumnIndex, uuidValue);
+                    primaryKeyColumnIndex,
+                    uuidValue == null ? 0 : uuidValue.getMostSignificantBits(),
+                    uuidValue == null ? 0 : uuidValue.getLeastSignificantBits(),
+                    uuidValue == null);
         } else {
             throw new RealmException("Cannot check for duplicate rows for unsupported primary key type: " + type);
         }
     }
 
+    private static ObjectId toObjectId(Object primaryKeyValue) {
+        return (primaryKeyValue instanceof ObjectId) ? (ObjectId) primaryKeyValue : new ObjectId(primaryKeyValue.toString());
+    }
+
+    private static UUID toUUID(Object primaryKeyValue) {
+        return (primaryKeyValue instanceof UUID) ? (UUID) primaryKeyValue : UUID.fromString(primaryKeyValue.toString());
+    }
+
     public static long createEmbeddedObject(Table parentTable, long parentObjectKey, long parentColumnKey) {
         return nativeCreateEmbeddedObject(parentTable.getNativePtr(), parentObjectKey, parentColumnKey);
     }
@@ -313,19 +327,21 @@ public class OsObject implements NativeObject {
 
     private static native long nativeCreateRowWithObjectIdPrimaryKey(long sharedRealmPtr,
                                                                      long tableRefPtr, long pk_column_index,
-                                                                     @Nullable String primaryKeyValue);
+                                                                     @Nullable byte[] primaryKeyValue);
 
     private static native long nativeCreateNewObjectWithObjectIdPrimaryKey(long sharedRealmPtr,
                                                                            long tableRefPtr, long pk_column_index,
-                                                                           @Nullable String data);
+                                                                           @Nullable byte[] data);
 
     private static native long nativeCreateRowWithUUIDPrimaryKey(long sharedRealmPtr,
-                                                                     long tableRefPtr, long pk_column_index,
-                                                                     @Nullable String primaryKeyValue);
+                                                                 long tableRefPtr, long pk_column_index,
+                                                                 long mostSigBits, long leastSigBits,
+                                                                 boolean isNullValue);
 
     private static native long nativeCreateNewObjectWithUUIDPrimaryKey(long sharedRealmPtr,
-                                                                           long tableRefPtr, long pk_column_index,
-                                                                           @Nullable String data);
+                                                                       long tableRefPtr, long pk_column_index,
+                                                                       long mostSigBits, long leastSigBits,
+                                                                       boolean isNullValue);
 
     private static native long nativeCreateEmbeddedObject(long parentTablePtr, long parentObjectKey, long parentObjectColumnKey);
 
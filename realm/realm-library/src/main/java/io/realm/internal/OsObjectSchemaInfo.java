@@ -72,8 +72,25 @@ public class OsObjectSchemaInfo implements NativeObject {
          */
         public Builder addPersistedProperty(String publicName, String internalName, RealmFieldType type, boolean isPrimaryKey, boolean isIndexed,
                 boolean isRequired) {
+            return addPersistedProperty(publicName, internalName, type, isPrimaryKey, isIndexed, isRequired, !Property.FULLTEXT_INDEXED);
+        }
+
+        /**
+         * Adds a persisted non-link, non value list property to this builder.
+         *
+         * @param publicName the name of the property as defined in the Java/Kotlin model class.
+         * @param internalName the internal name of the property if different from the public name, otherwise "".
+         * @param type the type of the property.
+         * @param isPrimaryKey set to true if this property is the primary key.
+         * @param isIndexed set to true if this property needs an index.
+         * @param isRequired set to true if this property is not nullable.
+         * @param isFullTextIndexed set to true if this property needs a full-text index. Only valid for strings.
+         * @return this {@code OsObjectSchemaInfo}.
+         */
+        public Builder addPersistedProperty(String publicName, String internalName, RealmFieldType type, boolean isPrimaryKey, boolean isIndexed,
+                boolean isRequired, boolean isFullTextIndexed) {
             long propertyPtr = Property.nativeCreatePersistedProperty(internalName, publicName,
-                    Property.convertFromRealmFieldType(type, isRequired), isPrimaryKey, isIndexed);
+                    Property.convertFromRealmFieldType(type, isRequired), isPrimaryKey, isIndexed, isFullTextIndexed);
             persistedPropertyPtrArray[persistedPropertyPtrCurPos] = propertyPtr;
             persistedPropertyPtrCurPos++;
             return this;
@@ -93,7 +110,8 @@ public class OsObjectSchemaInfo implements NativeObject {
                     publicName,
                     Property.convertFromRealmFieldType(type, isRequired),
                     !Property.PRIMARY_KEY,
-                    !Property.INDEXED);
+                    !Property.INDEXED,
+                    !Property.FULLTEXT_INDEXED);
             persistedPropertyPtrArray[persistedPropertyPtrCurPos] = propertyPtr;
             persistedPropertyPtrCurPos++;
             return this;
@@ -113,7 +131,8 @@ public class OsObjectSchemaInfo implements NativeObject {
                     publicName,
                     Property.convertFromRealmFieldType(type, isRequired),
                     !Property.PRIMARY_KEY,
-                    !Property.INDEXED);
+                    !Property.INDEXED,
+                    !Property.FULLTEXT_INDEXED);
             persistedPropertyPtrArray[persistedPropertyPtrCurPos] = propertyPtr;
             persistedPropertyPtrCurPos++;
             return this;
@@ -135,7 +154,8 @@ public class OsObjectSchemaInfo implements NativeObject {
                     publicName,
                     Property.convertFromRealmFieldType(type, isRequired),
                     !Property.PRIMARY_KEY,
-                    !Property.INDEXED);
+                    !Property.INDEXED,
+                    !Property.FULLTEXT_INDEXED);
             persistedPropertyPtrArray[persistedPropertyPtrCurPos] = propertyPtr;
             persistedPropertyPtrCurPos++;
             return this;
@@ -19,6 +19,7 @@ package io.realm.internal;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.Date;
@@ -50,12 +51,30 @@ public class OsResults implements NativeObject, ObservableCollection {
         protected OsResults iteratorOsResults;
         protected int pos = -1;
 
+        // Object keys fetched ahead when the iterator fetches its rows in batches. The array is reused for every
+        // batch, and the rows and objects are only created from the keys when they are returned.
+        @Nullable
+        private final long[] objectKeyBatch;
+        private int rowBatchStart = 0;
+        private int rowBatchCount = 0;
+
         public Iterator(OsResults osResults) {
+            this(osResults, 0);
+        }
+
+        /**
+         * Creates an iterator fetching {@code batchSize} rows with a single native call.
+         *
+         * @param osResults the results to iterate.
+         * @param batchSize the number of rows to fetch at once, or {@code 0} to fetch each row when it is accessed.
+         */
+        public Iterator(OsResults osResults, int batchSize) {
             if (osResults.sharedRealm.isClosed()) {
                 throw new IllegalStateException(CLOSED_REALM_MESSAGE);
             }
 
             this.iteratorOsResults = osResults;
+            this.objectKeyBatch = (batchSize > 0) ? new long[batchSize] : null;
 
             if (osResults.isSnapshot) {
                 // No need to detach a snapshot.
@@ -75,7 +94,7 @@ public class OsResults implements NativeObject, ObservableCollection {
         @Override
         public boolean hasNext() {
             checkValid();
-            return pos + 1 < iteratorOsResults.size();
+            return isInRowBatch(pos + 1) || pos + 1 < iteratorOsResults.size();
         }
 
         /**
@@ -86,7 +105,7 @@ public class OsResults implements NativeObject, ObservableCollection {
         public T next() {
             checkValid();
             pos++;
-            if (pos >= iteratorOsResults.size()) {
+            if (!isInRowBatch(pos) && pos >= iteratorOsResults.size()) {
                 throw new NoSuchElementException("Cannot access index " + pos + " when size is " + iteratorOsResults.size() +
                         ". Remember to check hasNext() before using next().");
             }
@@ -123,7 +142,21 @@ public class OsResults implements NativeObject, ObservableCollection {
 
         @Nullable
         T get(int pos) {
-            return getInternal(pos, iteratorOsResults);
+            if (objectKeyBatch == null) {
+                return getInternal(pos, iteratorOsResults);
+            }
+            if (!isInRowBatch(pos)) {
+                rowBatchCount = iteratorOsResults.getObjectKeys(pos, objectKeyBatch);
+                rowBatchStart = pos;
+            }
+            long objectKey = objectKeyBatch[pos - rowBatchStart];
+            return convertRowToObject(iteratorOsResults.getTable().getUncheckedRow(objectKey));
+        }
+
+        // The size of the results cannot change while the iterator is valid, so positions in the current batch don't
+        // have to be checked against it.
+        private boolean isInRowBatch(int pos) {
+            return objectKeyBatch != null && pos >= rowBatchStart && pos < rowBatchStart + rowBatchCount;
         }
 
         // Returns the RealmModel by given row in this list. This has to be implemented in the upper layer since
@@ -229,6 +262,9 @@ public class OsResults implements NativeObject, ObservableCollection {
     public static final byte AGGREGATE_FUNCTION_AVERAGE = 3;
     @SuppressWarnings("WeakerAccess")
     public static final byte AGGREGATE_FUNCTION_SUM = 4;
+    // Only valid for aggregate(long[], byte[]), counts the rows and ignores the column.
+    @SuppressWarnings("WeakerAccess")
+    public static final byte AGGREGATE_FUNCTION_COUNT = 5;
 
     public enum Aggregate {
         MINIMUM(AGGREGATE_FUNCTION_MINIMUM),
@@ -247,6 +283,32 @@ public class OsResults implements NativeObject, ObservableCollection {
         }
     }
 
+    // Value types for getColumn(long, byte, ByteBuffer, int, int).
+    @SuppressWarnings("WeakerAccess")
+    public static final byte COLUMN_VALUE_LONG = 0;
+    @SuppressWarnings("WeakerAccess")
+    public static final byte COLUMN_VALUE_DOUBLE = 1;
+    @SuppressWarnings("WeakerAccess")
+    public static final byte COLUMN_VALUE_FLOAT = 2;
+    @SuppressWarnings("WeakerAccess")
+    public static final byte COLUMN_VALUE_TIMESTAMP = 3;
+
+    // Operations for update(long, byte, long, double, String, long).
+    @SuppressWarnings("WeakerAccess")
+    public static final byte UPDATE_ADD_LONG = 0;
+    @SuppressWarnings("WeakerAccess")
+    public static final byte UPDATE_ADD_DOUBLE = 1;
+    @SuppressWarnings("WeakerAccess")
+    public static final byte UPDATE_MULTIPLY = 2;
+    @SuppressWarnings("WeakerAccess")
+    public static final byte UPDATE_COPY = 3;
+    @SuppressWarnings("WeakerAccess")
+    public static final byte UPDATE_SET_TIMESTAMP = 4;
+    @SuppressWarnings("WeakerAccess")
+    public static final byte UPDATE_APPEND = 5;
+    @SuppressWarnings("WeakerAccess")
+    public static final byte UPDATE_PREPEND = 6;
+
     @SuppressWarnings("WeakerAccess")
     public static final byte MODE_EMPTY = 0;
     @SuppressWarnings("WeakerAccess")
@@ -331,6 +393,15 @@ public class OsResults implements NativeObject, ObservableCollection {
         return osResults;
     }
 
+    /**
+     * Returns new results over the same rows as these results, copying the rows already evaluated instead of running
+     * the query again. The copy has its own native results, so its listeners, snapshots and lifecycle are
+     * independent of these results.
+     */
+    public OsResults copy() {
+        return new OsResults(sharedRealm, table, nativeCopy(nativePtr));
+    }
+
     public OsResults freeze(OsSharedRealm frozenRealm) {
         OsResults results = new OsResults(frozenRealm, table.freeze(frozenRealm), nativeFreeze(nativePtr, frozenRealm.getNativePtr()));
         if (isLoaded()) {
@@ -357,6 +428,34 @@ public class OsResults implements NativeObject, ObservableCollection {
         return table.getUncheckedRowByPointer(nativeGetRow(nativePtr, index));
     }
 
+    /**
+     * Fetches the object keys of the rows starting at {@code start} into {@code dest} with a single native call. Fewer
+     * keys than {@code dest.length} are fetched if the end of the results is reached.
+     *
+     * @param start the index of the first row to fetch.
+     * @param dest the array to store the object keys in.
+     * @return the number of object keys fetched.
+     * @throws IndexOutOfBoundsException if {@code start} is not a valid index.
+     */
+    public int getObjectKeys(int start, long[] dest) {
+        return nativeGetObjectKeys(nativePtr, start, dest);
+    }
+
+    /**
+     * Creates a row positioned on the object at {@code index} which can later be moved to other objects with
+     * {@link #moveCursorRow(CursorRow, int)}.
+     */
+    public CursorRow getCursorRow(int index) {
+        return new CursorRow(context, table, nativeGetRow(nativePtr, index));
+    }
+
+    /**
+     * Moves a row created by {@link #getCursorRow(int)} to the object at {@code index} without allocating a new row.
+     */
+    public void moveCursorRow(CursorRow row, int index) {
+        nativeMoveRow(nativePtr, row.getNativePtr(), index);
+    }
+
     public UncheckedRow firstUncheckedRow() {
         long rowPtr = nativeFirstRow(nativePtr);
         if (rowPtr != 0) {
@@ -402,6 +501,92 @@ public class OsResults implements NativeObject, ObservableCollection {
         }
     }
 
+    /**
+     * Computes multiple aggregates over the rows of these results in a single native pass. The results are only
+     * evaluated once, and each row is read once and fed to all aggregates.
+     *
+     * @param columnKeys the column of each aggregate. Ignored for {@link #AGGREGATE_FUNCTION_COUNT}.
+     * @param aggregateFunctions the {@code AGGREGATE_FUNCTION_*} constant of each aggregate.
+     * @return one value per aggregate. Minimum and maximum are {@code null} if there are no non-null values.
+     */
+    public Object[] aggregate(long[] columnKeys, byte[] aggregateFunctions) {
+        if (columnKeys.length != aggregateFunctions.length) {
+            throw new IllegalArgumentException("Column keys and aggregate functions must have the same length.");
+        }
+        try {
+            return nativeAggregateMultiple(nativePtr, columnKeys, aggregateFunctions);
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("Illegal Argument: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Groups the rows of these results by the value at the end of a key path and computes multiple aggregates per
+     * group in a single native pass.
+     *
+     * @param keyPath the column keys leading to the group key. All but the last must be object links.
+     * @param bucketMillis if positive, Date keys are truncated to a multiple of this many milliseconds.
+     * @param columnKeys the column of each aggregate. Ignored for {@link #AGGREGATE_FUNCTION_COUNT}.
+     * @param aggregateFunctions the {@code AGGREGATE_FUNCTION_*} constant of each aggregate.
+     * @return the groups ordered by key, each stored as the key followed by one value per aggregate.
+     */
+    public Object[] groupBy(long[] keyPath, long bucketMillis, long[] columnKeys, byte[] aggregateFunctions) {
+        if (columnKeys.length != aggregateFunctions.length) {
+            throw new IllegalArgumentException("Column keys and aggregate functions must have the same length.");
+        }
+        try {
+            return nativeGroupBy(nativePtr, keyPath, bucketMillis, columnKeys, aggregateFunctions);
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("Illegal Argument: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copies the values of an integer column for the rows {@code [start, start + count)} into {@code dest}, starting
+     * at {@code offset}, in a single native call. {@code null} values are copied as {@code 0}.
+     */
+    public void getLongColumn(long columnKey, long[] dest, int offset, int start, int count) {
+        nativeGetLongColumn(nativePtr, columnKey, dest, offset, start, count);
+    }
+
+    /**
+     * Copies the values of a double column. {@code null} values are copied as {@link Double#NaN}.
+     *
+     * @see #getLongColumn(long, long[], int, int, int)
+     */
+    public void getDoubleColumn(long columnKey, double[] dest, int offset, int start, int count) {
+        nativeGetDoubleColumn(nativePtr, columnKey, dest, offset, start, count);
+    }
+
+    /**
+     * Copies the values of a float column. {@code null} values are copied as {@link Float#NaN}.
+     *
+     * @see #getLongColumn(long, long[], int, int, int)
+     */
+    public void getFloatColumn(long columnKey, float[] dest, int offset, int start, int count) {
+        nativeGetFloatColumn(nativePtr, columnKey, dest, offset, start, count);
+    }
+
+    /**
+     * Copies the values of a date column as milliseconds since the epoch. {@code null} values are copied as
+     * {@code 0}.
+     *
+     * @see #getLongColumn(long, long[], int, int, int)
+     */
+    public void getTimestampColumn(long columnKey, long[] dest, int offset, int start, int count) {
+        nativeGetTimestampColumn(nativePtr, columnKey, dest, offset, start, count);
+    }
+
+    /**
+     * Copies the values of a column for the rows {@code [start, start + count)} into a direct buffer, starting at its
+     * current position, in native byte order. The position of the buffer is not changed.
+     *
+     * @param valueType one of the {@code COLUMN_VALUE_*} constants matching the type of the column.
+     */
+    public void getColumn(long columnKey, byte valueType, ByteBuffer dest, int start, int count) {
+        nativeGetColumnIntoBuffer(nativePtr, columnKey, valueType, dest, dest.position(), start, count);
+    }
+
     public long size() {
         return nativeSize(nativePtr);
     }
@@ -533,6 +718,49 @@ public class OsResults implements NativeObject, ObservableCollection {
         }
     }
 
+    /**
+     * Sets value {@code i} of {@code values} on row {@code i} of these results in a single native call. Must be called
+     * inside a write transaction and {@code values} must contain one value per row.
+     */
+    public void setLongColumn(long columnKey, long[] values) {
+        nativeSetLongColumn(nativePtr, columnKey, values);
+    }
+
+    public void setDoubleColumn(long columnKey, double[] values) {
+        nativeSetDoubleColumn(nativePtr, columnKey, values);
+    }
+
+    public void setFloatColumn(long columnKey, float[] values) {
+        nativeSetFloatColumn(nativePtr, columnKey, values);
+    }
+
+    public void setBooleanColumn(long columnKey, boolean[] values) {
+        nativeSetBooleanColumn(nativePtr, columnKey, values);
+    }
+
+    public void setTimestampColumn(long columnKey, long[] values) {
+        nativeSetTimestampColumn(nativePtr, columnKey, values);
+    }
+
+    public void setStringColumn(long columnKey, String[] values) {
+        nativeSetStringColumn(nativePtr, columnKey, values);
+    }
+
+    /**
+     * Updates a column of every row of these results in a single native call. Must be called inside a write
+     * transaction.
+     *
+     * @param operation one of the {@code UPDATE_*} constants.
+     * @param longValue the operand of {@link #UPDATE_ADD_LONG} or the milliseconds of {@link #UPDATE_SET_TIMESTAMP}.
+     * @param doubleValue the operand of {@link #UPDATE_ADD_DOUBLE} and {@link #UPDATE_MULTIPLY}.
+     * @param stringValue the operand of {@link #UPDATE_APPEND} and {@link #UPDATE_PREPEND}.
+     * @param otherColumnKey the column copied by {@link #UPDATE_COPY}.
+     */
+    public void update(long columnKey, byte operation, long longValue, double doubleValue, @Nullable String stringValue,
+            long otherColumnKey) {
+        nativeUpdate(nativePtr, columnKey, operation, longValue, doubleValue, stringValue, otherColumnKey);
+    }
+
     // Interface wrapping adding the specific list type
     private interface AddListTypeDelegate<T> {
         void addList(OsObjectBuilder builder, RealmList<T> list);
@@ -762,6 +990,20 @@ public class OsResults implements NativeObject, ObservableCollection {
         notifyChangeListeners(0);
     }
 
+    /**
+     * Loads the results like {@link #load()} and returns how long evaluating the query took.
+     *
+     * @return the duration of the evaluation in nanoseconds, or {@code 0} if the results were already loaded.
+     */
+    public long loadAndMeasure() {
+        if (loaded) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        load();
+        return System.nanoTime() - start;
+    }
+
     private static long stringDescriptor(long nativePtr, String descriptor, long mapping){
         try {
             return nativeStringDescriptor(nativePtr, descriptor, mapping);
@@ -780,10 +1022,16 @@ public class OsResults implements NativeObject, ObservableCollection {
 
     private static native long nativeCreateSnapshot(long nativePtr);
 
+    private static native long nativeCopy(long nativePtr);
+
     private static native long nativeFreeze(long nativePtr, long frozenRealmNativePtr);
 
     private static native long nativeGetRow(long nativePtr, int index);
 
+    private static native int nativeGetObjectKeys(long nativePtr, int start, long[] dest);
+
+    private static native void nativeMoveRow(long nativePtr, long rowPtr, int index);
+
     private static native long nativeFirstRow(long nativePtr);
 
     private static native long nativeLastRow(long nativePtr);
@@ -794,8 +1042,23 @@ public class OsResults implements NativeObject, ObservableCollection {
 
     private static native long nativeSize(long nativePtr);
 
+    private static native void nativeGetLongColumn(long nativePtr, long columnKey, long[] dest, int offset, int start, int count);
+
+    private static native void nativeGetDoubleColumn(long nativePtr, long columnKey, double[] dest, int offset, int start, int count);
+
+    private static native void nativeGetFloatColumn(long nativePtr, long columnKey, float[] dest, int offset, int start, int count);
+
+    private static native void nativeGetTimestampColumn(long nativePtr, long columnKey, long[] dest, int offset, int start, int count);
+
+    private static native void nativeGetColumnIntoBuffer(long nativePtr, long columnKey, byte valueType, ByteBuffer dest,
+                                                         int byteOffset, int start, int count);
+
     private static native Object nativeAggregate(long nativePtr, long columnIndex, byte aggregateFunc);
 
+    private static native Object[] nativeAggregateMultiple(long nativePtr, long[] columnKeys, byte[] aggregateFuncs);
+
+    private static native Object[] nativeGroupBy(long nativePtr, long[] keyPath, long bucketMillis, long[] columnKeys, byte[] aggregateFuncs);
+
     private static native long nativeStringDescriptor(long nativePtr, String descriptor, long mapping);
 
     private static native boolean nativeDeleteFirst(long nativePtr);
@@ -826,6 +1089,21 @@ public class OsResults implements NativeObject, ObservableCollection {
 
     private static native void nativeSetUUID(long nativePtr, String fieldName, String data);
 
+    private static native void nativeSetLongColumn(long nativePtr, long columnKey, long[] values);
+
+    private static native void nativeSetDoubleColumn(long nativePtr, long columnKey, double[] values);
+
+    private static native void nativeSetFloatColumn(long nativePtr, long columnKey, float[] values);
+
+    private static native void nativeSetBooleanColumn(long nativePtr, long columnKey, boolean[] values);
+
+    private static native void nativeSetTimestampColumn(long nativePtr, long columnKey, long[] values);
+
+    private static native void nativeSetStringColumn(long nativePtr, long columnKey, String[] values);
+
+    private static native void nativeUpdate(long nativePtr, long columnKey, byte operation, long longValue,
+                                            double doubleValue, @Nullable String stringValue, long otherColumnKey);
+
     private static native void nativeSetObject(long nativePtr, String fieldName, long rowNativePtr);
 
     private static native void nativeSetList(long nativePtr, String fieldName, long builderNativePtr);
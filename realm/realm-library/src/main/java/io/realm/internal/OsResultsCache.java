@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * Least recently used cache of evaluated {@link OsResults}, keyed by a normalized description of the query that
+ * created them. All cached results belong to the same version of the Realm, the cache is cleared as soon as it is
+ * accessed with a different version. Cached results are only used as the source of {@link OsResults#copy()}, they
+ * are never handed out themselves.
+ * <p>
+ * Like the {@link OsSharedRealm} owning it, the cache is confined to a single thread.
+ */
+public class OsResultsCache {
+
+    private final int maxSize;
+    private final LinkedHashMap<String, OsResults> results;
+    @Nullable private OsSharedRealm.VersionID version;
+
+    OsResultsCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.results = new LinkedHashMap<String, OsResults>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OsResults> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns {@code true} if results can be cached, {@code false} if the cache has size 0.
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Returns the results cached for the given query at the given version or {@code null} if none are cached.
+     */
+    @Nullable
+    public OsResults get(String query, OsSharedRealm.VersionID version) {
+        invalidateIfNeeded(version);
+        return results.get(query);
+    }
+
+    /**
+     * Caches the results for the given query at the given version.
+     */
+    public void put(String query, OsSharedRealm.VersionID version, OsResults osResults) {
+        if (!isEnabled()) {
+            return;
+        }
+        invalidateIfNeeded(version);
+        results.put(query, osResults);
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public void clear() {
+        results.clear();
+        version = null;
+    }
+
+    private void invalidateIfNeeded(OsSharedRealm.VersionID version) {
+        if (!version.equals(this.version)) {
+            results.clear();
+            this.version = version;
+        }
+    }
+}
@@ -164,6 +164,9 @@ public final class OsSharedRealm implements Closeable, NativeObject {
     // Package protected for testing
     final List<WeakReference<OsResults.Iterator>> iterators = new ArrayList<>();
 
+    // Evaluated query results shared by identical queries, see RealmConfiguration.Builder#queryResultCacheSize(int).
+    private final OsResultsCache resultsCache;
+
     private OsSharedRealm(OsRealmConfig osRealmConfig, VersionID version) {
         Capabilities capabilities = new AndroidCapabilities();
         RealmNotifier realmNotifier = new AndroidRealmNotifier(this, capabilities);
@@ -191,6 +194,7 @@ public final class OsSharedRealm implements Closeable, NativeObject {
 
         this.capabilities = capabilities;
         this.realmNotifier = realmNotifier;
+        this.resultsCache = new OsResultsCache(osRealmConfig.getRealmConfiguration().getQueryResultCacheSize());
         if (version.equals(VersionID.LIVE)) {
             nativeSetAutoRefresh(nativePtr, capabilities.canDeliverNotification());
         }
@@ -234,6 +238,7 @@ public final class OsSharedRealm implements Closeable, NativeObject {
         this.capabilities = new AndroidCapabilities();
         // This instance should never need notifications.
         this.realmNotifier = null;
+        this.resultsCache = new OsResultsCache(0);
         nativeSetAutoRefresh(nativePtr, false);
     }
 
@@ -443,6 +448,10 @@ public final class OsSharedRealm implements Closeable, NativeObject {
         return osRealmConfig.getRealmConfiguration();
     }
 
+    public OsResultsCache getResultsCache() {
+        return resultsCache;
+    }
+
     public long getNumberOfVersions() {
         return nativeNumberOfVersions(nativePtr);
     }
@@ -452,6 +461,7 @@ public final class OsSharedRealm implements Closeable, NativeObject {
         if (realmNotifier != null) {
             realmNotifier.close();
         }
+        resultsCache.clear();
         synchronized (context) {
             nativeCloseSharedRealm(nativePtr);
             // Don't reset the nativePtr since we still rely on Object Store to check if the given OsSharedRealm ptr
@@ -4,6 +4,7 @@ import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
 import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.UUID;
 
@@ -127,6 +128,11 @@ public class PendingRow implements Row {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
     }
 
+    @Override
+    public ByteBuffer getBinaryBuffer(long columnKey) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
     @Override
     public Decimal128 getDecimal128(long columnKey) {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
@@ -237,6 +243,11 @@ public class PendingRow implements Row {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
     }
 
+    @Override
+    public void setBinaryBuffer(long columnKey, ByteBuffer data) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
     @Override
     public void setLink(long columnKey, long value) {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
@@ -66,6 +66,7 @@ public class Property implements NativeObject {
     public static final boolean PRIMARY_KEY = true;
     public static final boolean REQUIRED = true;
     public static final boolean INDEXED = true;
+    public static final boolean FULLTEXT_INDEXED = true;
 
     @SuppressWarnings("WeakerAccess")
     public static final int TYPE_INT = 0;
@@ -411,7 +412,8 @@ public class Property implements NativeObject {
                                                      String publicName,
                                                      int type,
                                                      boolean isPrimary,
-                                                     boolean isIndexed);
+                                                     boolean isIndexed,
+                                                     boolean isFullTextIndexed);
 
     static native long nativeCreatePersistedLinkProperty(String internalName, String publicName, int type, String linkedToName);
 
@@ -28,4 +28,6 @@ public interface RealmAnyNativeFunctions {
     void handleItem(long listPtr, Map.Entry<String, RealmAny> realmAny);
 
     void callRawPredicate(TableQuery query, @Nullable OsKeyPathMapping mapping, String predicate, RealmAny... arguments);
+
+    void callCondition(TableQuery query, @Nullable OsKeyPathMapping mapping, long condition, String fieldName, RealmAny argument);
 }
@@ -19,6 +19,7 @@ package io.realm.internal;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.UUID;
 
@@ -84,6 +85,17 @@ public interface Row {
 
     byte[] getBinaryByteArray(long columnKey);
 
+    /**
+     * Returns a read-only direct buffer over a binary value without copying it. The buffer points into the Realm file
+     * and is only valid until the Realm advances to another version, is written to, or is closed. Public APIs hand it
+     * out wrapped in a {@link io.realm.RealmBinaryBuffer}, which checks the version on access.
+     *
+     * @param columnKey the column key of the binary field.
+     * @return the buffer or {@code null} if the value is {@code null}.
+     */
+    @Nullable
+    ByteBuffer getBinaryBuffer(long columnKey);
+
     Decimal128 getDecimal128(long columnKey);
 
     ObjectId getObjectId(long columnKey);
@@ -126,6 +138,15 @@ public interface Row {
 
     void setBinaryByteArray(long columnKey, @Nullable byte[] data);
 
+    /**
+     * Sets a binary value to the bytes between the position and the limit of a buffer. Direct buffers are read by
+     * native code without an intermediate copy. The position of the buffer is not changed.
+     *
+     * @param columnKey the column key of the binary field.
+     * @param data the buffer or {@code null}.
+     */
+    void setBinaryBuffer(long columnKey, @Nullable ByteBuffer data);
+
     void setLink(long columnKey, long value);
 
     void nullifyLink(long columnKey);
@@ -549,7 +549,7 @@ public class Table implements NativeObject {
         if (value == null) {
             nativeSetNull(nativeTableRefPtr, columnKey, rowKey, isDefault);
         } else {
-            nativeSetObjectId(nativeTableRefPtr, columnKey, rowKey, value.toString(), isDefault);
+            nativeSetObjectId(nativeTableRefPtr, columnKey, rowKey, value.toByteArray(), isDefault);
         }
     }
 
@@ -558,7 +558,8 @@ public class Table implements NativeObject {
         if (value == null) {
             nativeSetNull(nativeTableRefPtr, columnKey, rowKey, isDefault);
         } else {
-            nativeSetUUID(nativeTableRefPtr, columnKey, rowKey, value.toString(), isDefault);
+            nativeSetUUID(nativeTableRefPtr, columnKey, rowKey, value.getMostSignificantBits(),
+                    value.getLeastSignificantBits(), isDefault);
         }
     }
 
@@ -591,6 +592,18 @@ public class Table implements NativeObject {
         return nativeHasSearchIndex(nativeTableRefPtr, columnKey);
     }
 
+    /**
+     * Adds a full-text index to a string column. The index is removed with {@link #removeSearchIndex(long)}.
+     */
+    public void addFullTextIndex(long columnKey) {
+        checkImmutable();
+        nativeAddFullTextIndex(nativeTableRefPtr, columnKey);
+    }
+
+    public boolean hasFullTextIndex(long columnKey) {
+        return nativeHasFullTextIndex(nativeTableRefPtr, columnKey);
+    }
+
     public boolean isNullLink(long columnKey, long rowKey) {
         return nativeIsNullLink(nativeTableRefPtr, columnKey, rowKey);
     }
@@ -681,14 +694,15 @@ public class Table implements NativeObject {
         if (value == null) {
             throw new IllegalArgumentException("null is not supported");
         }
-        return nativeFindFirstObjectId(nativeTableRefPtr, columnKey, value.toString());
+        return nativeFindFirstObjectId(nativeTableRefPtr, columnKey, value.toByteArray());
     }
 
     public long findFirstUUID(long columnKey, UUID value) {
         if (value == null) {
             throw new IllegalArgumentException("null is not supported");
         }
-        return nativeFindFirstUUID(nativeTableRefPtr, columnKey, value.toString());
+        return nativeFindFirstUUID(nativeTableRefPtr, columnKey, value.getMostSignificantBits(),
+                value.getLeastSignificantBits());
     }
 
     /**
@@ -884,7 +898,7 @@ public class Table implements NativeObject {
 
     private native long[] nativeGetDecimal128(long nativePtr, long columnKey, long rowKey);
 
-    private native String nativeGetObjectId(long nativePtr, long columnKey, long rowKey);
+    private native byte[] nativeGetObjectId(long nativePtr, long columnKey, long rowKey);
 
     private native boolean nativeIsNull(long nativePtr, long columnKey, long rowKey);
 
@@ -910,9 +924,9 @@ public class Table implements NativeObject {
 
     public static native void nativeSetDecimal128(long nativeTableRefPtr, long columnKey, long rowKey, long low, long high, boolean isDefault);
 
-    public static native void nativeSetObjectId(long nativeTableRefPtr, long columnKey, long rowKey, String data, boolean isDefault);
+    public static native void nativeSetObjectId(long nativeTableRefPtr, long columnKey, long rowKey, byte[] data, boolean isDefault);
 
-    public static native void nativeSetUUID(long nativeTableRefPtr, long columnKey, long rowKey, String data, boolean isDefault);
+    public static native void nativeSetUUID(long nativeTableRefPtr, long columnKey, long rowKey, long mostSigBits, long leastSigBits, boolean isDefault);
 
     public static native void nativeSetLink(long nativeTableRefPtr, long columnKey, long rowKey, long value, boolean isDefault);
 
@@ -924,6 +938,10 @@ public class Table implements NativeObject {
 
     private native boolean nativeHasSearchIndex(long nativePtr, long columnKey);
 
+    private native void nativeAddFullTextIndex(long nativePtr, long columnKey);
+
+    private native boolean nativeHasFullTextIndex(long nativePtr, long columnKey);
+
     private native boolean nativeIsNullLink(long nativePtr, long columnKey, long rowKey);
 
     public static native void nativeNullifyLink(long nativePtr, long columnKey, long rowKey);
@@ -952,9 +970,9 @@ public class Table implements NativeObject {
 
     public static native long nativeFindFirstDecimal128(long nativeTableRefPtr, long columnKey, long low, long high);
 
-    public static native long nativeFindFirstObjectId(long nativeTableRefPtr, long columnKey, String value);
+    public static native long nativeFindFirstObjectId(long nativeTableRefPtr, long columnKey, byte[] value);
 
-    public static native long nativeFindFirstUUID(long nativeTableRefPtr, long columnKey, String value);
+    public static native long nativeFindFirstUUID(long nativeTableRefPtr, long columnKey, long mostSigBits, long leastSigBits);
 
     public static native long nativeFindFirstNull(long nativeTableRefPtr, long columnKey);
 
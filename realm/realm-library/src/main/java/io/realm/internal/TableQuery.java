@@ -17,8 +17,13 @@
 package io.realm.internal;
 
 import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
 
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
 
 import javax.annotation.Nullable;
 
@@ -42,6 +47,49 @@ public class TableQuery implements NativeObject {
 
     private boolean queryValidated = true;
 
+    private static final int OBJECT_ID_BYTES = 12;
+
+    // Columns and directions of the last sort added through this class if all sorted fields are direct columns. The
+    // first rows can then be selected with a bounded heap instead of a full sort, if the native ordering of the query
+    // turns out to be only this sort, optionally followed by a limit.
+    @Nullable private long[] topKColumnKeys;
+    @Nullable private boolean[] topKAscending;
+
+    // Columns of the typed conditions, reported by query plans. Conditions added through the query parser are not
+    // resolved to columns in Java and are not included.
+    private final Set<Long> conditionColumnKeys = new LinkedHashSet<>();
+
+    // Condition codes used by applyConditions() and the typed conditions. Public for static checking in JNI.
+    public static final long CONDITION_EQUAL = 1;
+    public static final long CONDITION_EQUAL_INSENSITIVE = 2;
+    public static final long CONDITION_NOT_EQUAL = 3;
+    public static final long CONDITION_NOT_EQUAL_INSENSITIVE = 4;
+    public static final long CONDITION_GREATER = 5;
+    public static final long CONDITION_GREATER_EQUAL = 6;
+    public static final long CONDITION_LESS = 7;
+    public static final long CONDITION_LESS_EQUAL = 8;
+    public static final long CONDITION_BETWEEN = 9;
+    public static final long CONDITION_BEGINS_WITH = 10;
+    public static final long CONDITION_BEGINS_WITH_INSENSITIVE = 11;
+    public static final long CONDITION_ENDS_WITH = 12;
+    public static final long CONDITION_ENDS_WITH_INSENSITIVE = 13;
+    public static final long CONDITION_CONTAINS = 14;
+    public static final long CONDITION_CONTAINS_INSENSITIVE = 15;
+    public static final long CONDITION_LIKE = 16;
+    public static final long CONDITION_LIKE_INSENSITIVE = 17;
+    public static final long CONDITION_IS_NULL = 18;
+    public static final long CONDITION_IS_NOT_NULL = 19;
+    public static final long CONDITION_BEGIN_GROUP = 20;
+    public static final long CONDITION_END_GROUP = 21;
+    public static final long CONDITION_OR = 22;
+    public static final long CONDITION_NOT = 23;
+
+    // Stage types returned by explain(). Public for static checking in JNI.
+    public static final long EXPLAIN_STAGE_FILTER = 0;
+    public static final long EXPLAIN_STAGE_SORT = 1;
+    public static final long EXPLAIN_STAGE_DISTINCT = 2;
+    public static final long EXPLAIN_STAGE_LIMIT = 3;
+
     private static String escapeFieldName(@Nullable String fieldName) {
         if (fieldName == null) { return null; }
         return fieldName.replace(" ", "\\ ");
@@ -73,6 +121,14 @@ public class TableQuery implements NativeObject {
         return table;
     }
 
+    /**
+     * Returns the keys of the columns the typed conditions of this query were resolved to, in the order they were
+     * first used.
+     */
+    public Set<Long> getConditionColumnKeys() {
+        return Collections.unmodifiableSet(conditionColumnKeys);
+    }
+
     /**
      * Checks in core if query syntax is valid. Throws exception, if not.
      */
@@ -132,8 +188,30 @@ public class TableQuery implements NativeObject {
     }
 
     public TableQuery sort(@Nullable OsKeyPathMapping mapping, String[] fieldNames, Sort[] sortOrders) {
+        return sort(mapping, fieldNames, sortOrders, null);
+    }
+
+    /**
+     * Adds a sort descriptor. If the column keys of all sorted fields are known, they are used by {@link #find()} and
+     * {@link #findFirstRows(long)} to select the first rows without sorting all matches, as long as this sort is the
+     * only sort, distinct or limit of the query apart from a following limit.
+     *
+     * @param columnKeys the column keys of the sorted fields, or {@code null} if not all fields are direct columns.
+     */
+    public TableQuery sort(@Nullable OsKeyPathMapping mapping, String[] fieldNames, Sort[] sortOrders,
+            @Nullable long[] columnKeys) {
         String descriptor = buildSortDescriptor(fieldNames, sortOrders);
         rawDescriptor(mapping, descriptor);
+        if (columnKeys != null) {
+            topKColumnKeys = columnKeys;
+            topKAscending = new boolean[sortOrders.length];
+            for (int i = 0; i < sortOrders.length; i++) {
+                topKAscending[i] = (sortOrders[i] == Sort.ASCENDING);
+            }
+        } else {
+            topKColumnKeys = null;
+            topKAscending = null;
+        }
         return this;
     }
 
@@ -272,6 +350,12 @@ public class TableQuery implements NativeObject {
         return this;
     }
 
+    public TableQuery textMatches(@Nullable OsKeyPathMapping mapping, String fieldName, RealmAny terms) {
+        realmAnyNativeFunctions.callRawPredicate(this, mapping, escapeFieldName(fieldName) + " TEXT $0", terms);
+        queryValidated = false;
+        return this;
+    }
+
     public TableQuery like(@Nullable OsKeyPathMapping mapping, String fieldName, RealmAny value) {
         realmAnyNativeFunctions.callRawPredicate(this, mapping, escapeFieldName(fieldName) + " LIKE $0", value);
         queryValidated = false;
@@ -383,6 +467,147 @@ public class TableQuery implements NativeObject {
         return this;
     }
 
+    // Set membership on already resolved columns. All values are passed to JNI in one array.
+
+    public TableQuery in(long columnKey, long[] values) {
+        nativeInLong(nativePtr, columnKey, values);
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    public TableQuery in(long columnKey, ObjectId[] values) {
+        byte[] packed = new byte[values.length * OBJECT_ID_BYTES];
+        for (int i = 0; i < values.length; i++) {
+            System.arraycopy(values[i].toByteArray(), 0, packed, i * OBJECT_ID_BYTES, OBJECT_ID_BYTES);
+        }
+        nativeInObjectId(nativePtr, columnKey, packed);
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    public TableQuery in(long columnKey, String[] values) {
+        nativeInString(nativePtr, columnKey, values);
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    /**
+     * Adds conditions on already resolved columns directly to the core query, bypassing the query parser.
+     *
+     * @param conditions   pairs of a {@code CONDITION_*} code and the column key it applies to. Grouping
+     *                     conditions use {@code 0} as column key.
+     * @param argumentPtrs native pointers to the {@link RealmAny} arguments, consumed in order by the conditions.
+     */
+    public TableQuery applyConditions(long[] conditions, long[] argumentPtrs) {
+        nativeApplyConditions(nativePtr, conditions, argumentPtrs);
+        for (int i = 0; i + 1 < conditions.length; i += 2) {
+            if (conditions[i] < CONDITION_BEGIN_GROUP) {
+                conditionColumnKeys.add(conditions[i + 1]);
+            }
+        }
+        queryValidated = false;
+        return this;
+    }
+
+    /**
+     * Adds a condition by its {@code CONDITION_*} code through the query parser. This is used when the typed
+     * conditions cannot be used, e.g. for link queries.
+     */
+    public TableQuery condition(@Nullable OsKeyPathMapping mapping, long condition, String fieldName, RealmAny value) {
+        realmAnyNativeFunctions.callCondition(this, mapping, condition, escapeFieldName(fieldName), value);
+        queryValidated = false;
+        return this;
+    }
+
+    public void conditionWithPointer(@Nullable OsKeyPathMapping mapping, long condition, String fieldName, long value) {
+        nativeCondition(nativePtr,
+                condition,
+                fieldName,
+                value,
+                (mapping != null) ? mapping.getNativePtr() : 0);
+    }
+
+    // Typed conditions on already resolved columns. The value is passed directly to JNI instead of being boxed
+    // in a native RealmAny and the condition is added without going through the query parser.
+
+    public TableQuery longCondition(long condition, long columnKey, long value) {
+        nativeLongCondition(nativePtr, condition, columnKey, value);
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    public TableQuery doubleCondition(long condition, long columnKey, double value) {
+        nativeDoubleCondition(nativePtr, condition, columnKey, value);
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    public TableQuery floatCondition(long condition, long columnKey, float value) {
+        nativeFloatCondition(nativePtr, condition, columnKey, value);
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    public TableQuery booleanCondition(long condition, long columnKey, boolean value) {
+        nativeBooleanCondition(nativePtr, condition, columnKey, value);
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    public TableQuery dateCondition(long condition, long columnKey, Date value) {
+        nativeTimestampCondition(nativePtr, condition, columnKey, value.getTime());
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    public TableQuery stringCondition(long condition, long columnKey, String value) {
+        nativeStringCondition(nativePtr, condition, columnKey, value);
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    public TableQuery objectIdCondition(long condition, long columnKey, ObjectId value) {
+        nativeObjectIdCondition(nativePtr, condition, columnKey, value.toByteArray());
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    public TableQuery uuidCondition(long condition, long columnKey, UUID value) {
+        nativeUUIDCondition(nativePtr, condition, columnKey, value.getMostSignificantBits(),
+                value.getLeastSignificantBits());
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    public TableQuery decimal128Condition(long condition, long columnKey, Decimal128 value) {
+        nativeDecimal128Condition(nativePtr, condition, columnKey, value.getLow(), value.getHigh());
+        conditionColumnKeys.add(columnKey);
+        queryValidated = false;
+        return this;
+    }
+
+    /**
+     * Runs the query one stage at a time and measures each stage.
+     *
+     * @return the size of the table followed by the stage type, number of input rows, number of output rows and
+     * duration in nanoseconds of each stage. The first stage is always {@link #EXPLAIN_STAGE_FILTER}.
+     */
+    public long[] explain() {
+        validateQuery();
+        return nativeExplain(nativePtr);
+    }
+
     // Searching methods.
 
     /**
@@ -390,9 +615,49 @@ public class TableQuery implements NativeObject {
      */
     public long find() {
         validateQuery();
+        if (topKColumnKeys != null) {
+            long[] keys = findFirstRows(1);
+            if (keys != null) {
+                return (keys.length == 0) ? Table.NO_MATCH : keys[0];
+            }
+        }
         return nativeFind(nativePtr);
     }
 
+    /**
+     * Returns the object keys of the first {@code count} rows of a query ordered by a sort on direct columns,
+     * optionally followed by a limit. The rows are selected with a bounded heap, which is O(n log count) instead of
+     * sorting all n matches.
+     * <p>
+     * Whether the heap can be used is decided natively from the actual ordering of the query, which also contains
+     * the descriptors added through {@link #rawPredicate(OsKeyPathMapping, String, RealmAny...)}.
+     *
+     * @return the keys in sort order, or {@code null} if the ordering of the query does not allow it.
+     */
+    @Nullable
+    public long[] findFirstRows(long count) {
+        validateQuery();
+        if (topKColumnKeys == null) {
+            return null;
+        }
+        //noinspection ConstantConditions
+        return nativeFindTopK(nativePtr, topKColumnKeys, topKAscending, count);
+    }
+
+    /**
+     * Returns the object keys of a page of keyset pagination. Rows are ordered by the given column and then by object
+     * key, in the same direction. Only rows ordered after {@code afterValue} and {@code afterKey} are returned, so
+     * any page costs the same as the first one. The ordering of this query is ignored.
+     *
+     * @param afterValuePtr the native pointer of a {@link RealmAny} holding the value of the last row of the previous
+     * page, or {@code 0} for the first page.
+     * @param afterKey the object key of the last row of the previous page.
+     */
+    public long[] findPage(long columnKey, boolean ascending, long afterValuePtr, long afterKey, long pageSize) {
+        validateQuery();
+        return nativeFindPage(nativePtr, columnKey, ascending, afterValuePtr, afterKey, pageSize);
+    }
+
     //
     // Aggregation methods
     //
@@ -559,10 +824,29 @@ public class TableQuery implements NativeObject {
         return nativeCount(nativePtr);
     }
 
+    /**
+     * Counts the matches of the query, respecting its sort, distinct and limit descriptors, but stops counting at
+     * {@code max}.
+     */
+    public long countUpTo(long max) {
+        validateQuery();
+        return nativeCountUpTo(nativePtr, max);
+    }
+
     public long remove() {
+        return remove(-1);
+    }
+
+    /**
+     * Deletes the matches of the query, respecting its sort, distinct and limit descriptors, without creating a
+     * {@link OsResults}. At most {@code maxRows} objects are deleted, or all matches if {@code maxRows} is negative.
+     *
+     * @return the number of deleted objects.
+     */
+    public long remove(long maxRows) {
         validateQuery();
         if (table.isImmutable()) { throwImmutable(); }
-        return nativeRemove(nativePtr);
+        return nativeRemove(nativePtr, maxRows);
     }
 
     private void throwImmutable() {
@@ -571,6 +855,12 @@ public class TableQuery implements NativeObject {
 
     private native long nativeFind(long nativeQueryPtr);
 
+    private native long[] nativeFindPage(long nativeQueryPtr, long columnKey, boolean ascending, long afterValuePtr, long afterKey, long pageSize);
+
+    private native long[] nativeFindTopK(long nativeQueryPtr, long[] columnKeys, boolean[] ascending, long count);
+
+    private native long[] nativeExplain(long nativeQueryPtr);
+
     private native long nativeSumInt(long nativeQueryPtr, long columnKey);
 
     private native Long nativeMaximumInt(long nativeQueryPtr, long columnKey);
@@ -617,10 +907,40 @@ public class TableQuery implements NativeObject {
 
     private native long nativeCount(long nativeQueryPtr);
 
-    private native long nativeRemove(long nativeQueryPtr);
+    private native long nativeCountUpTo(long nativeQueryPtr, long max);
+
+    private native long nativeRemove(long nativeQueryPtr, long maxRows);
 
     private native void nativeRawPredicate(long nativeQueryPtr, String filter, long[] argsPtr, long mappingPtr);
 
+    private native void nativeApplyConditions(long nativeQueryPtr, long[] conditions, long[] argsPtr);
+
+    private native void nativeCondition(long nativeQueryPtr, long condition, String fieldName, long argPtr, long mappingPtr);
+
+    private native void nativeLongCondition(long nativeQueryPtr, long condition, long columnKey, long value);
+
+    private native void nativeDoubleCondition(long nativeQueryPtr, long condition, long columnKey, double value);
+
+    private native void nativeFloatCondition(long nativeQueryPtr, long condition, long columnKey, float value);
+
+    private native void nativeBooleanCondition(long nativeQueryPtr, long condition, long columnKey, boolean value);
+
+    private native void nativeTimestampCondition(long nativeQueryPtr, long condition, long columnKey, long value);
+
+    private native void nativeStringCondition(long nativeQueryPtr, long condition, long columnKey, String value);
+
+    private native void nativeObjectIdCondition(long nativeQueryPtr, long condition, long columnKey, byte[] value);
+
+    private native void nativeUUIDCondition(long nativeQueryPtr, long condition, long columnKey, long mostSigBits, long leastSigBits);
+
+    private native void nativeDecimal128Condition(long nativeQueryPtr, long condition, long columnKey, long low, long high);
+
+    private native void nativeInLong(long nativeQueryPtr, long columnKey, long[] values);
+
+    private native void nativeInObjectId(long nativeQueryPtr, long columnKey, byte[] values);
+
+    private native void nativeInString(long nativeQueryPtr, long columnKey, String[] values);
+
     private native void nativeRawDescriptor(long nativeQueryPtr, String descriptor, long mappingPtr);
 
     private native void nativeBeginGroup(long nativeQueryPtr);
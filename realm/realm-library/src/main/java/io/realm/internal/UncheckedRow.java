@@ -19,12 +19,14 @@ package io.realm.internal;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.UUID;
 
 import javax.annotation.Nullable;
 
 import io.realm.RealmFieldType;
+import io.realm.internal.android.TypeUtils;
 import io.realm.internal.core.NativeRealmAny;
 
 
@@ -166,6 +168,14 @@ public class UncheckedRow implements NativeObject, Row {
         return nativeGetByteArray(nativePtr, columnKey);
     }
 
+    @Nullable
+    @Override
+    public ByteBuffer getBinaryBuffer(long columnKey) {
+        ByteBuffer buffer = nativeGetBinaryBuffer(nativePtr, columnKey);
+        // The buffer maps memory which is read-only, writing to it must not be possible.
+        return (buffer == null) ? null : buffer.asReadOnlyBuffer();
+    }
+
     @Override
     public Decimal128 getDecimal128(long columnKey) {
         long[] data = nativeGetDecimal128(nativePtr, columnKey);
@@ -183,7 +193,7 @@ public class UncheckedRow implements NativeObject, Row {
 
     @Override
     public UUID getUUID(long columnKey) {
-        return UUID.fromString(nativeGetUUID(nativePtr, columnKey));
+        return TypeUtils.uuidFromBytes(nativeGetUUID(nativePtr, columnKey));
     }
 
     @Override
@@ -306,6 +316,20 @@ public class UncheckedRow implements NativeObject, Row {
         nativeSetByteArray(nativePtr, columnKey, data);
     }
 
+    @Override
+    public void setBinaryBuffer(long columnKey, @Nullable ByteBuffer data) {
+        parent.checkImmutable();
+        if (data == null) {
+            nativeSetByteArray(nativePtr, columnKey, null);
+        } else if (data.isDirect()) {
+            nativeSetBinaryBuffer(nativePtr, columnKey, data, data.position(), data.remaining());
+        } else {
+            byte[] bytes = new byte[data.remaining()];
+            data.duplicate().get(bytes);
+            nativeSetByteArray(nativePtr, columnKey, bytes);
+        }
+    }
+
     @Override
     public void setLink(long columnKey, long value) {
         parent.checkImmutable();
@@ -350,7 +374,7 @@ public class UncheckedRow implements NativeObject, Row {
         if (value == null) {
             nativeSetNull(nativePtr, columnKey);
         } else {
-            nativeSetObjectId(nativePtr, columnKey, value.toString());
+            nativeSetObjectId(nativePtr, columnKey, value.toByteArray());
         }
     }
 
@@ -360,7 +384,7 @@ public class UncheckedRow implements NativeObject, Row {
         if (value == null) {
             nativeSetNull(nativePtr, columnKey);
         } else {
-            nativeSetUUID(nativePtr, columnKey, value.toString());
+            nativeSetUUID(nativePtr, columnKey, value.getMostSignificantBits(), value.getLeastSignificantBits());
         }
     }
 
@@ -442,12 +466,14 @@ public class UncheckedRow implements NativeObject, Row {
 
     protected native byte[] nativeGetByteArray(long nativePtr, long columnKey);
 
+    protected native ByteBuffer nativeGetBinaryBuffer(long nativePtr, long columnKey);
+
     // Returns String representation for Decimal128()
     protected native long[] nativeGetDecimal128(long nativePtr, long columnKey);
 
-    protected native String nativeGetObjectId(long nativePtr, long columnKey);
+    protected native byte[] nativeGetObjectId(long nativePtr, long columnKey);
 
-    protected native String nativeGetUUID(long nativePtr, long columnKey);
+    protected native byte[] nativeGetUUID(long nativePtr, long columnKey);
 
     protected native long nativeGetRealmAny(long nativePtr, long columnKey);
 
@@ -467,11 +493,13 @@ public class UncheckedRow implements NativeObject, Row {
 
     protected native void nativeSetByteArray(long nativePtr, long columnKey, @Nullable byte[] data);
 
+    protected native void nativeSetBinaryBuffer(long nativePtr, long columnKey, ByteBuffer data, int position, int length);
+
     protected native void nativeSetDecimal128(long nativePtr, long columnKey, long low, long high);
 
-    protected native void nativeSetObjectId(long nativePtr, long columnKey, String value);
+    protected native void nativeSetObjectId(long nativePtr, long columnKey, byte[] value);
 
-    protected native void nativeSetUUID(long nativePtr, long columnKey, String value);
+    protected native void nativeSetUUID(long nativePtr, long columnKey, long mostSigBits, long leastSigBits);
 
     protected native void nativeSetRealmAny(long nativeRowPtr, long columnKey, long nativePtr);
 
@@ -16,6 +16,8 @@
 
 package io.realm.internal.android;
 
+import java.util.UUID;
+
 public class TypeUtils {
     public static byte[] convertNonPrimitiveBinaryToPrimitive(Byte[] bytes) {
         byte[] transfer = new byte[bytes.length];
@@ -35,4 +37,17 @@ public class TypeUtils {
         }
         return transfer;
     }
+
+    /**
+     * Creates a {@link UUID} from its 16 bytes in big endian order, as returned by native code.
+     */
+    public static UUID uuidFromBytes(byte[] bytes) {
+        long mostSigBits = 0;
+        long leastSigBits = 0;
+        for (int i = 0; i < 8; i++) {
+            mostSigBits = (mostSigBits << 8) | (bytes[i] & 0xff);
+            leastSigBits = (leastSigBits << 8) | (bytes[8 + i] & 0xff);
+        }
+        return new UUID(mostSigBits, leastSigBits);
+    }
 }
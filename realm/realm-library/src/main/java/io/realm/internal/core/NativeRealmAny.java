@@ -32,6 +32,7 @@ import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.RealmProxyMediator;
 import io.realm.internal.Row;
 import io.realm.internal.Table;
+import io.realm.internal.android.TypeUtils;
 
 @Keep
 public class NativeRealmAny implements NativeObject {
@@ -73,7 +74,7 @@ public class NativeRealmAny implements NativeObject {
     }
 
     public NativeRealmAny(ObjectId value) {
-        this(nativeCreateObjectId(value.toString()));
+        this(nativeCreateObjectId(value.toByteArray()));
     }
 
     public NativeRealmAny(Decimal128 value) {
@@ -81,7 +82,7 @@ public class NativeRealmAny implements NativeObject {
     }
 
     public NativeRealmAny(UUID value) {
-        this(nativeCreateUUID(value.toString()));
+        this(nativeCreateUUID(value.getMostSignificantBits(), value.getLeastSignificantBits()));
     }
 
     public NativeRealmAny(RealmObjectProxy model) {
@@ -153,7 +154,7 @@ public class NativeRealmAny implements NativeObject {
     }
 
     public UUID asUUID() {
-        return UUID.fromString(nativeAsUUID(nativePtr));
+        return TypeUtils.uuidFromBytes(nativeAsUUID(nativePtr));
     }
 
     public <T extends RealmModel> Class<T> getModelClass(OsSharedRealm osSharedRealm, RealmProxyMediator mediator) {
@@ -203,17 +204,17 @@ public class NativeRealmAny implements NativeObject {
 
     private static native long nativeAsDate(long nativePtr);
 
-    private static native long nativeCreateObjectId(String value);
+    private static native long nativeCreateObjectId(byte[] value);
 
-    private static native String nativeAsObjectId(long nativePtr);
+    private static native byte[] nativeAsObjectId(long nativePtr);
 
     private static native long nativeCreateDecimal128(long low, long high);
 
     private static native long[] nativeAsDecimal128(long nativePtr);
 
-    private static native long nativeCreateUUID(String value);
+    private static native long nativeCreateUUID(long mostSigBits, long leastSigBits);
 
-    private static native String nativeAsUUID(long nativePtr);
+    private static native byte[] nativeAsUUID(long nativePtr);
 
     private static native long nativeCreateLink(long targetTablePtr, long targetObjectKey);
 
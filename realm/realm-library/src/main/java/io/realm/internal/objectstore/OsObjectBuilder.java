@@ -185,14 +185,14 @@ public class OsObjectBuilder implements Closeable {
     private static ItemCallback<ObjectId> objectIdItemCallback = new ItemCallback<ObjectId>() {
         @Override
         public void handleItem(long containerPtr, ObjectId item) {
-            nativeAddObjectIdListItem(containerPtr, item.toString());
+            nativeAddObjectIdListItem(containerPtr, item.toByteArray());
         }
     };
 
     private static ItemCallback<UUID> uuidItemCallback = new ItemCallback<UUID>() {
         @Override
         public void handleItem(long containerPtr, UUID item) {
-            nativeAddUUIDListItem(containerPtr, item.toString());
+            nativeAddUUIDListItem(containerPtr, item.getMostSignificantBits(), item.getLeastSignificantBits());
         }
     };
 
@@ -280,14 +280,15 @@ public class OsObjectBuilder implements Closeable {
     private static ItemCallback<Map.Entry<String, ObjectId>> objectIdMapItemCallback = new ItemCallback<Map.Entry<String, ObjectId>>() {
         @Override
         public void handleItem(long containerPtr, Map.Entry<String, ObjectId> item) {
-            nativeAddObjectIdDictionaryEntry(containerPtr, item.getKey(), item.getValue().toString());
+            nativeAddObjectIdDictionaryEntry(containerPtr, item.getKey(), item.getValue().toByteArray());
         }
     };
 
     private static ItemCallback<Map.Entry<String, UUID>> uuidMapItemCallback = new ItemCallback<Map.Entry<String, UUID>>() {
         @Override
         public void handleItem(long containerPtr, Map.Entry<String, UUID> item) {
-            nativeAddUUIDDictionaryEntry(containerPtr, item.getKey(), item.getValue().toString());
+            nativeAddUUIDDictionaryEntry(containerPtr, item.getKey(), item.getValue().getMostSignificantBits(),
+                    item.getValue().getLeastSignificantBits());
         }
     };
 
@@ -427,7 +428,7 @@ public class OsObjectBuilder implements Closeable {
         if (val == null) {
             nativeAddNull(builderPtr, columnKey);
         } else {
-            nativeAddObjectId(builderPtr, columnKey, val.toString());
+            nativeAddObjectId(builderPtr, columnKey, val.toByteArray());
         }
     }
 
@@ -435,7 +436,7 @@ public class OsObjectBuilder implements Closeable {
         if (val == null) {
             nativeAddNull(builderPtr, columnKey);
         } else {
-            nativeAddUUID(builderPtr, columnKey, val.toString());
+            nativeAddUUID(builderPtr, columnKey, val.getMostSignificantBits(), val.getLeastSignificantBits());
         }
     }
 
@@ -741,14 +742,14 @@ public class OsObjectBuilder implements Closeable {
     private static ItemCallback<ObjectId> objectIdSetItemCallback = new ItemCallback<ObjectId>() {
         @Override
         public void handleItem(long containerPtr, ObjectId item) {
-            nativeAddObjectIdSetItem(containerPtr, item.toString());
+            nativeAddObjectIdSetItem(containerPtr, item.toByteArray());
         }
     };
 
     private static ItemCallback<UUID> uuidSetItemCallback = new ItemCallback<UUID>() {
         @Override
         public void handleItem(long containerPtr, UUID item) {
-            nativeAddUUIDSetItem(containerPtr, item.toString());
+            nativeAddUUIDSetItem(containerPtr, item.getMostSignificantBits(), item.getLeastSignificantBits());
         }
     };
 
@@ -783,9 +784,9 @@ public class OsObjectBuilder implements Closeable {
 
     private static native void nativeAddDecimal128SetItem(long setPtr, long lowVal, long highVal);
 
-    private static native void nativeAddObjectIdSetItem(long setPtr, String val);
+    private static native void nativeAddObjectIdSetItem(long setPtr, byte[] val);
 
-    private static native void nativeAddUUIDSetItem(long setPtr, String val);
+    private static native void nativeAddUUIDSetItem(long setPtr, long mostSigBits, long leastSigBits);
 
     private void addEmptySet(long columnKey) {
         nativeStopSet(builderPtr, columnKey, nativeStartSet(0));
@@ -992,9 +993,9 @@ public class OsObjectBuilder implements Closeable {
 
     private static native void nativeAddDecimal128(long builderPtr, long columnKey, long low, long high);
 
-    private static native void nativeAddObjectId(long builderPtr, long columnKey, String data);
+    private static native void nativeAddObjectId(long builderPtr, long columnKey, byte[] data);
 
-    private static native void nativeAddUUID(long builderPtr, long columnKey, String data);
+    private static native void nativeAddUUID(long builderPtr, long columnKey, long mostSigBits, long leastSigBits);
 
     private static native void nativeAddRealmAny(long builderPtr, long columnKey, long realmAnyPtr);
 
@@ -1022,9 +1023,9 @@ public class OsObjectBuilder implements Closeable {
 
     private static native void nativeAddDecimal128ListItem(long listPtr, long low, long high);
 
-    private static native void nativeAddObjectIdListItem(long listPtr, String data);
+    private static native void nativeAddObjectIdListItem(long listPtr, byte[] data);
 
-    private static native void nativeAddUUIDListItem(long listPtr, String data);
+    private static native void nativeAddUUIDListItem(long listPtr, long mostSigBits, long leastSigBits);
 
     public static native void nativeAddRealmAnyListItem(long listPtr, long realmAnyPtr);
 
@@ -1055,9 +1056,9 @@ public class OsObjectBuilder implements Closeable {
 
     private static native void nativeAddDecimal128DictionaryEntry(long dictionaryPtr, String key, long high, long low);
 
-    private static native void nativeAddObjectIdDictionaryEntry(long dictionaryPtr, String key, String value);
+    private static native void nativeAddObjectIdDictionaryEntry(long dictionaryPtr, String key, byte[] value);
 
-    private static native void nativeAddUUIDDictionaryEntry(long dictionaryPtr, String key, String value);
+    private static native void nativeAddUUIDDictionaryEntry(long dictionaryPtr, String key, long mostSigBits, long leastSigBits);
 
     private static native void nativeAddObjectDictionaryEntry(long dictionaryPtr, String key, long rowPtr);
 
@@ -130,6 +130,7 @@ public class SyncConfiguration extends RealmConfiguration {
                               long maxNumberOfActiveVersions,
                               boolean allowWritesOnUiThread,
                               boolean allowQueriesOnUiThread,
+                              int queryResultCacheSize,
                               User user,
                               URI serverUrl,
                               SyncSession.ErrorHandler errorHandler,
@@ -161,7 +162,8 @@ public class SyncConfiguration extends RealmConfiguration {
                 false,
                 maxNumberOfActiveVersions,
                 allowWritesOnUiThread,
-                allowQueriesOnUiThread
+                allowQueriesOnUiThread,
+                queryResultCacheSize
         );
 
         this.user = user;
@@ -636,6 +638,7 @@ public class SyncConfiguration extends RealmConfiguration {
         private CompactOnLaunchCallback compactOnLaunch;
         private String syncUrlPrefix = null;
         private long maxNumberOfActiveVersions = Long.MAX_VALUE;
+        private int queryResultCacheSize = 0;
         private boolean allowWritesOnUiThread;
         private boolean allowQueriesOnUiThread;
         @Nullable
@@ -1339,6 +1342,22 @@ public class SyncConfiguration extends RealmConfiguration {
             return this;
         }
 
+        /**
+         * Enables a cache of query results on each Realm instance. See
+         * {@link RealmConfiguration.Builder#queryResultCacheSize(int)} for details.
+         *
+         * @param size the maximum number of cached results per Realm instance. {@code 0}, the default, disables the
+         * cache.
+         * @throws IllegalArgumentException if the size is negative.
+         */
+        public Builder queryResultCacheSize(int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("Only positive numbers or 0 are allowed. Yours was: " + size);
+            }
+            this.queryResultCacheSize = size;
+            return this;
+        }
+
         /**
          * Creates the RealmConfiguration based on the builder parameters.
          *
@@ -1410,6 +1429,7 @@ public class SyncConfiguration extends RealmConfiguration {
                     maxNumberOfActiveVersions,
                     allowWritesOnUiThread,
                     allowQueriesOnUiThread,
+                    queryResultCacheSize,
 
                     // Sync Configuration specific
                     user,